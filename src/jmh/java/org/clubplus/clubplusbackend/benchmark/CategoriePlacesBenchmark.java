@@ -0,0 +1,80 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import org.clubplus.clubplusbackend.model.Categorie;
+import org.clubplus.clubplusbackend.model.Reservation;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare le calcul des places réservées d'une catégorie :
+ * <ul>
+ * <li>{@code counter} : {@link Categorie#getPlaceReserve()}, lecture du compteur persisté {@code placesReservees} ;</li>
+ * <li>{@code scan} : parcours de la collection {@code reservations} en filtrant le statut CONFIRME (chemin d'origine,
+ * sans compter le chargement de la collection depuis la base).</li>
+ * </ul>
+ * Un quart des réservations générées est annulé.
+ * <p>
+ * Lancement : {@code mvn -Pjmh verify -Djmh.include=CategoriePlacesBenchmark} (voir le profil {@code jmh} du pom).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CategoriePlacesBenchmark {
+
+    @Param({"100", "10000"})
+    public int reservations;
+
+    private Categorie categorie;
+
+    @Setup
+    public void setUp() {
+        categorie = new Categorie();
+        categorie.setId(1);
+        categorie.setNom("Catégorie Benchmark");
+        categorie.setCapacite(reservations);
+        List<Reservation> liste = new ArrayList<>(reservations);
+        int confirmees = 0;
+        for (int i = 0; i < reservations; i++) {
+            Reservation reservation = new Reservation();
+            reservation.setId(i + 1);
+            reservation.setCategorie(categorie);
+            reservation.setStatus(i % 4 == 0 ? ReservationStatus.ANNULE : ReservationStatus.CONFIRME);
+            if (reservation.getStatus() == ReservationStatus.CONFIRME) {
+                confirmees++;
+            }
+            liste.add(reservation);
+        }
+        categorie.setReservations(liste);
+        categorie.setPlacesReservees(confirmees);
+    }
+
+    @Benchmark
+    public int counter() {
+        return categorie.getPlaceReserve();
+    }
+
+    @Benchmark
+    public long scan() {
+        return categorie.getReservations().stream()
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.CONFIRME)
+                .count();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CategoriePlacesBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
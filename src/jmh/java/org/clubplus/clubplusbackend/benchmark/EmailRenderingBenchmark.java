@@ -0,0 +1,107 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.clubplus.clubplusbackend.service.EmailRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare la préparation des emails de vérification d'un lot de destinataires :
+ * <ul>
+ * <li>{@code legacy} : chemin d'origine (nouveau {@link Context} et {@code process} par email, message multipart) ;</li>
+ * <li>{@code renderer} : {@link EmailRenderer#renderBatch} (un passage, tampon réutilisé) et message HTML simple.</li>
+ * </ul>
+ * Aucun email n'est envoyé : seuls le rendu et la construction du message MIME sont mesurés.
+ * <p>
+ * Lancement : {@code mvn -Pjmh verify -Djmh.include=EmailRenderingBenchmark} (voir le profil {@code jmh} du pom).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailRenderingBenchmark {
+
+    private static final String TEMPLATE = "verification-email.html";
+
+    @Param({"1", "100"})
+    public int destinataires;
+
+    private TemplateEngine templateEngine;
+    private EmailRenderer emailRenderer;
+    private Session session;
+    private List<Map<String, Object>> variables;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        emailRenderer = new EmailRenderer(templateEngine);
+        session = Session.getInstance(new Properties());
+
+        variables = new ArrayList<>(destinataires);
+        for (int i = 0; i < destinataires; i++) {
+            variables.add(Map.of(
+                    "prenom", "Membre" + i,
+                    "verificationLink", "http://localhost:8080/auth/verify-email?token=" + i));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) throws MessagingException {
+        for (int i = 0; i < destinataires; i++) {
+            Context context = new Context();
+            context.setVariables(variables.get(i));
+            String html = templateEngine.process(TEMPLATE, context);
+            blackhole.consume(buildMessage(html, true, i));
+        }
+    }
+
+    @Benchmark
+    public void renderer(Blackhole blackhole) throws MessagingException {
+        List<String> contenus = emailRenderer.renderBatch(TEMPLATE, variables);
+        for (int i = 0; i < contenus.size(); i++) {
+            blackhole.consume(buildMessage(contenus.get(i), false, i));
+        }
+    }
+
+    private MimeMessage buildMessage(String html, boolean multipart, int index) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        MimeMessageHelper helper = new MimeMessageHelper(message, multipart, "UTF-8");
+        helper.setFrom("club.plus@example.com");
+        helper.setTo("membre" + index + "@example.com");
+        helper.setSubject("Bienvenue sur Club Plus - Veuillez vérifier votre adresse email");
+        helper.setText(html, true);
+        message.saveChanges();
+        return message;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EmailRenderingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
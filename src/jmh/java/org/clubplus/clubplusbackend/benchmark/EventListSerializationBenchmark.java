@@ -0,0 +1,124 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.clubplus.clubplusbackend.dto.CategorieSummaryDto;
+import org.clubplus.clubplusbackend.dto.EventSummaryDto;
+import org.clubplus.clubplusbackend.model.Categorie;
+import org.clubplus.clubplusbackend.model.Club;
+import org.clubplus.clubplusbackend.model.Event;
+import org.clubplus.clubplusbackend.view.GlobalView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare la sérialisation JSON d'une page de la liste des événements :
+ * <ul>
+ * <li>{@code entities} : entités {@link Event} filtrées par {@link GlobalView.EventView} (chemin d'origine) ;</li>
+ * <li>{@code projections} : records {@link EventSummaryDto} lus par projection JPQL.</li>
+ * </ul>
+ * Seule la sérialisation est mesurée ; le nombre de requêtes SQL de chaque chemin est vérifié par
+ * {@code EventDaoTest}. Les allocations par opération sont données par le profileur {@code gc}
+ * ({@code gc.alloc.rate.norm}).
+ * <p>
+ * Lancement : {@code mvn -Pjmh verify -Djmh.include=EventListSerializationBenchmark} (voir le profil {@code jmh} du pom).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventListSerializationBenchmark {
+
+    private static final int CATEGORIES_PAR_EVENEMENT = 3;
+
+    @Param({"50", "200"})
+    public int evenements;
+
+    private ObjectWriter entityWriter;
+    private ObjectWriter projectionWriter;
+    private List<Event> entities;
+    private List<EventSummaryDto> projections;
+
+    @Setup
+    public void setUp() {
+        // Même configuration que le ObjectMapper de Spring Boot pour les vues.
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .build();
+        entityWriter = objectMapper.writerWithView(GlobalView.EventView.class);
+        projectionWriter = objectMapper.writer();
+
+        Club club = new Club();
+        club.setId(1);
+        club.setNom("Club Benchmark");
+        club.setVille("Lyon");
+        club.setCodeClub("CLUB-0001");
+
+        Instant debut = Instant.parse("2030-01-01T10:00:00Z");
+        entities = new ArrayList<>(evenements);
+        projections = new ArrayList<>(evenements);
+        for (int i = 1; i <= evenements; i++) {
+            Event event = new Event();
+            event.setId(i);
+            event.setNom("Événement " + i);
+            event.setStartTime(debut.plus(i, ChronoUnit.HOURS));
+            event.setEndTime(debut.plus(i + 2, ChronoUnit.HOURS));
+            event.setDescription("Description de l'événement " + i);
+            event.setLocation("Gymnase " + i);
+            event.setActif(true);
+            event.setOrganisateur(club);
+            List<CategorieSummaryDto> categories = new ArrayList<>(CATEGORIES_PAR_EVENEMENT);
+            for (int j = 1; j <= CATEGORIES_PAR_EVENEMENT; j++) {
+                Categorie categorie = new Categorie();
+                categorie.setId(i * CATEGORIES_PAR_EVENEMENT + j);
+                categorie.setNom("Catégorie " + j);
+                categorie.setCapacite(20);
+                categorie.setPlacesReservees(j);
+                categorie.setEvent(event);
+                event.getCategories().add(categorie);
+                categories.add(new CategorieSummaryDto(i, categorie.getId(), categorie.getNom(), 20, j));
+            }
+            event.setPlaceTotal(20 * CATEGORIES_PAR_EVENEMENT);
+            event.setPlacesReservees(6);
+            entities.add(event);
+            projections.add(new EventSummaryDto(i, event.getNom(), event.getStartTime(), event.getEndTime(),
+                    event.getDescription(), event.getLocation(), true, false, event.getPlaceTotal(), 6,
+                    club.getId(), club.getNom(), club.getVille(), club.getCodeClub())
+                    .withCategories(categories));
+        }
+    }
+
+    @Benchmark
+    public byte[] entities() throws JsonProcessingException {
+        return entityWriter.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] projections() throws JsonProcessingException {
+        return projectionWriter.writeValueAsBytes(projections);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EventListSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,60 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.clubplus.clubplusbackend.model.Role;
+import org.clubplus.clubplusbackend.security.AppUserDetails;
+import org.clubplus.clubplusbackend.security.SecurityUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure le coût des jetons JWT sur le chemin d'authentification :
+ * <ul>
+ * <li>{@code generate} : {@link SecurityUtils#generateToken} (connexion) ;</li>
+ * <li>{@code verify} : {@link SecurityUtils#getSubjectFromJwt} (vérification de la signature à chaque requête).</li>
+ * </ul>
+ * <p>
+ * Lancement : {@code mvn -Pjmh verify -Djmh.include=JwtBenchmark} (voir le profil {@code jmh} du pom).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private SecurityUtils securityUtils;
+    private AppUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        securityUtils = new SecurityUtils("cle-secrete-du-benchmark-de-256-bits-minimum", 86_400_000L,
+                new SimpleMeterRegistry());
+        userDetails = AppUserDetails.fromClaims(42, "bob.membre@email.com", Role.MEMBRE, null, 0);
+        token = securityUtils.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generate() {
+        return securityUtils.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String verify() {
+        return securityUtils.getSubjectFromJwt(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
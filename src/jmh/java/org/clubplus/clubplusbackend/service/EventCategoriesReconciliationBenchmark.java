@@ -0,0 +1,84 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.*;
+import org.clubplus.clubplusbackend.dto.UpdateCategorieDto;
+import org.clubplus.clubplusbackend.model.Categorie;
+import org.clubplus.clubplusbackend.model.Event;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Mesure la réconciliation des catégories lors de la mise à jour d'un événement
+ * ({@link EventService#reconcileCategories}), pour un formulaire renvoyant toutes les catégories existantes
+ * avec les mêmes noms et capacités : l'opération ne modifie pas l'événement et peut être répétée.
+ * <p>
+ * Les dépendances du service sont des mocks Mockito : aucune n'est appelée quand les capacités sont inchangées.
+ * Placé dans le package {@code service} pour accéder à la méthode, visible dans le package seulement.
+ * <p>
+ * Lancement : {@code mvn -Pjmh verify -Djmh.include=EventCategoriesReconciliationBenchmark}
+ * (voir le profil {@code jmh} du pom).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCategoriesReconciliationBenchmark {
+
+    @Param({"3", "20"})
+    public int categories;
+
+    private EventService eventService;
+    private Event event;
+    private List<UpdateCategorieDto> categoryDtos;
+
+    @Setup
+    public void setUp() {
+        eventService = new EventService(mock(EventDao.class), mock(CategorieDao.class), mock(AdhesionDao.class),
+                mock(MembreDao.class), mock(ClubDao.class), mock(SecurityService.class),
+                mock(RatingRollupService.class), mock(EventParticipationService.class), mock(FriendGraph.class));
+
+        event = new Event();
+        event.setId(1);
+        event.setNom("Événement Benchmark");
+        categoryDtos = new ArrayList<>(categories);
+        for (int i = 1; i <= categories; i++) {
+            Categorie categorie = new Categorie();
+            categorie.setId(i);
+            categorie.setNom("Catégorie " + i);
+            categorie.setCapacite(20);
+            categorie.setEvent(event);
+            event.getCategories().add(categorie);
+
+            UpdateCategorieDto dto = new UpdateCategorieDto();
+            dto.setId(i);
+            dto.setNom(categorie.getNom());
+            dto.setCapacite(20);
+            categoryDtos.add(dto);
+        }
+    }
+
+    @Benchmark
+    public Event reconcile() {
+        eventService.reconcileCategories(event, categoryDtos);
+        return event;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EventCategoriesReconciliationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,57 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure la mise en forme des adhésions mensuelles du tableau de bord ({@link StatsService#formatMonthlyCounts}) :
+ * 12 mois pour le tableau de bord, 120 mois pour l'intervalle maximal de l'endpoint dédié
+ * ({@link StatsService#MAX_MONTHS_RANGE}).
+ * <p>
+ * Placé dans le package {@code service} pour accéder à la méthode, visible dans le package seulement.
+ * <p>
+ * Lancement : {@code mvn -Pjmh verify -Djmh.include=StatsFormattingBenchmark} (voir le profil {@code jmh} du pom).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatsFormattingBenchmark {
+
+    @Param({"12", "120"})
+    public int mois;
+
+    private Map<YearMonth, Long> monthlyCounts;
+
+    @Setup
+    public void setUp() {
+        monthlyCounts = new LinkedHashMap<>();
+        YearMonth debut = YearMonth.of(2030, 1);
+        for (int i = 0; i < mois; i++) {
+            monthlyCounts.put(debut.plusMonths(i), (long) i * 3);
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> format() {
+        return StatsService.formatMonthlyCounts(monthlyCounts);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(StatsFormattingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
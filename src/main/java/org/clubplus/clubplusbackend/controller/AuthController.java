@@ -2,7 +2,6 @@ package org.clubplus.clubplusbackend.controller;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.annotation.PostConstruct;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import org.clubplus.clubplusbackend.dto.*;
 import org.clubplus.clubplusbackend.model.Club;
@@ -11,20 +10,24 @@ import org.clubplus.clubplusbackend.security.AppUserDetails;
 import org.clubplus.clubplusbackend.security.SecurityUtils;
 import org.clubplus.clubplusbackend.security.annotation.IsConnected;
 import org.clubplus.clubplusbackend.service.ClubService;
+import org.clubplus.clubplusbackend.service.HomepageStatsCache;
 import org.clubplus.clubplusbackend.service.MembreService;
-import org.clubplus.clubplusbackend.service.StatsService;
 import org.clubplus.clubplusbackend.view.GlobalView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.view.RedirectView;
 
+import java.time.Duration;
+
 /**
  * Contrôleur REST gérant les points d'accès publics relatifs à l'authentification
  * et à l'inscription des utilisateurs.
@@ -44,16 +47,19 @@ public class AuthController {
     private String frontendEmailVerifiedSuccessPage;
     private String frontendEmailVerifiedFailurePage;
 
+    @Value("${app.stats.homepage.cache-max-age-s:60}")
+    private long homepageStatsMaxAgeSeconds;
+
     private final ClubService clubService;
     private final MembreService membreService;
-    private final StatsService statsService;
+    private final HomepageStatsCache homepageStatsCache;
     private final AuthenticationProvider authenticationProvider;
     private final SecurityUtils jwtUtils;
 
-    public AuthController(ClubService clubService, MembreService membreService, StatsService statsService, AuthenticationProvider authenticationProvider, SecurityUtils jwtUtils) {
+    public AuthController(ClubService clubService, MembreService membreService, HomepageStatsCache homepageStatsCache, AuthenticationProvider authenticationProvider, SecurityUtils jwtUtils) {
         this.clubService = clubService;
         this.membreService = membreService;
-        this.statsService = statsService;
+        this.homepageStatsCache = homepageStatsCache;
         this.authenticationProvider = authenticationProvider;
         this.jwtUtils = jwtUtils;
         logger.info("AuthController a été initialisé.");
@@ -140,13 +146,28 @@ public class AuthController {
      * Récupère des statistiques agrégées pour la page d'accueil publique.
      * <p>
      * Endpoint: GET /auth/stats
+     * <p>
+     * Les statistiques sont servies depuis un cache rafraîchi en arrière-plan. La réponse porte un {@code ETag}
+     * et un {@code Cache-Control} public afin que les navigateurs et CDN puissent la réutiliser ;
+     * une requête conditionnelle ({@code If-None-Match}) dont la version est à jour reçoit un 304 sans corps.
      *
-     * @return Un DTO avec les statistiques (200 OK).
+     * @param request La requête, utilisée pour la vérification conditionnelle.
+     * @return Un DTO avec les statistiques (200 OK), ou 304 Not Modified.
      */
     @GetMapping("/stats")
-    public ResponseEntity<HomepageStatsDTO> getStats() {
-        HomepageStatsDTO stats = statsService.getHomepageStats();
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<HomepageStatsDTO> getStats(WebRequest request) {
+        HomepageStatsCache.Snapshot snapshot = homepageStatsCache.get();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(homepageStatsMaxAgeSeconds)).cachePublic();
+        if (request.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(snapshot.stats());
     }
 
     /**
@@ -181,13 +202,8 @@ public class AuthController {
      */
     @PostMapping("/mail-password-reset")
     public ResponseEntity<String> requestPasswordReset(@RequestParam("email") String email) {
-        try {
-            membreService.requestPasswordReset(email);
-            return ResponseEntity.ok("Si un compte est associé à cet email, un lien de réinitialisation a été envoyé.");
-        } catch (MessagingException e) {
-            logger.error("Échec de l'envoi de l'email de réinitialisation pour {}", email, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erreur lors de l'envoi de l'email.");
-        }
+        membreService.requestPasswordReset(email);
+        return ResponseEntity.ok("Si un compte est associé à cet email, un lien de réinitialisation a été envoyé.");
     }
 
     /**
@@ -3,21 +3,26 @@ package org.clubplus.clubplusbackend.controller;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dto.EventSummaryDto;
+import org.clubplus.clubplusbackend.dto.MembreImportResultDto;
 import org.clubplus.clubplusbackend.dto.UpdateClubDto;
 import org.clubplus.clubplusbackend.model.Club;
-import org.clubplus.clubplusbackend.model.Event;
 import org.clubplus.clubplusbackend.model.Membre;
 import org.clubplus.clubplusbackend.security.annotation.IsAdmin;
 import org.clubplus.clubplusbackend.security.annotation.IsConnected;
 import org.clubplus.clubplusbackend.security.annotation.IsReservation;
 import org.clubplus.clubplusbackend.service.ClubService;
 import org.clubplus.clubplusbackend.service.EventService;
+import org.clubplus.clubplusbackend.service.MembreImportService;
 import org.clubplus.clubplusbackend.view.GlobalView;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -34,6 +39,7 @@ public class ClubController {
 
     private final ClubService clubService;
     private final EventService eventService;
+    private final MembreImportService membreImportService;
 
     /**
      * Récupère les détails d'un club par son ID.
@@ -112,6 +118,34 @@ public class ClubController {
         return ResponseEntity.ok(membresList);
     }
 
+    /**
+     * Importe en masse des membres dans un club (intégration d'un nouveau club).
+     * <p>
+     * Endpoint: POST /clubs/{id}/membres/import?envoyerEmails=true
+     * <p>
+     * Le corps est un fichier UTF-8, soit CSV ({@code Content-Type: text/csv}, en-tête
+     * {@code nom,prenom,date_naissance,telephone,email,password}, séparateur {@code ,} ou {@code ;}),
+     * soit JSON lines ({@code Content-Type: application/x-ndjson}, un objet par ligne avec les mêmes clés).
+     * Accès réservé à l'administrateur du club.
+     *
+     * @param id            L'ID du club.
+     * @param envoyerEmails (Optionnel, vrai par défaut) Planifier l'email de vérification de chaque membre créé.
+     * @param contentType   Le type du contenu, qui détermine le format.
+     * @param contenu       Le fichier à importer.
+     * @return Le résultat de l'import, ligne par ligne (200 OK).
+     */
+    @PostMapping(value = "/{id}/membres/import", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    @IsAdmin
+    public ResponseEntity<MembreImportResultDto> importMembres(@PathVariable Integer id,
+                                                               @RequestParam(defaultValue = "true") boolean envoyerEmails,
+                                                               @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                               InputStream contenu) {
+        MembreImportService.Format format = contentType.toLowerCase(Locale.ROOT).contains("csv")
+                ? MembreImportService.Format.CSV
+                : MembreImportService.Format.JSONL;
+        return ResponseEntity.ok(membreImportService.importMembres(id, contenu, format, envoyerEmails));
+    }
+
     /**
      * Récupère les événements d'un club, avec un filtre optionnel sur le statut.
      * <p>
@@ -121,14 +155,17 @@ public class ClubController {
      *
      * @param id     L'ID du club organisateur.
      * @param status (Optionnel) Filtre sur le statut des événements ('active', 'inactive', 'all').
-     * @return La liste des événements (200 OK).
+     * @param cursor (Optionnel) Le curseur de page (en-tête {@code X-Next-Cursor} de la réponse précédente).
+     * @param limit  (Optionnel) La taille de page (50 par défaut, 200 au maximum).
+     * @return La page d'événements (200 OK), avec le curseur de la page suivante en en-tête.
      */
     @GetMapping("/{id}/events")
     @IsConnected
-    @JsonView(GlobalView.Base.class)
-    public ResponseEntity<List<Event>> getClubEvents(@PathVariable Integer id, @RequestParam(required = false) String status) {
-        List<Event> events = eventService.findEventsByOrganisateurWithSecurityCheck(id, status);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventSummaryDto>> getClubEvents(@PathVariable Integer id,
+                                                               @RequestParam(required = false) String status,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.ok(eventService.findEventsByOrganisateurWithSecurityCheck(id, status, cursor, limit));
     }
 
     /**
@@ -140,13 +177,16 @@ public class ClubController {
      *
      * @param id     L'ID du club organisateur.
      * @param status (Optionnel) Filtre sur le statut ('active', 'inactive', 'all').
-     * @return La liste des événements futurs (200 OK).
+     * @param cursor (Optionnel) Le curseur de page (en-tête {@code X-Next-Cursor} de la réponse précédente).
+     * @param limit  (Optionnel) La taille de page (50 par défaut, 200 au maximum).
+     * @return La page d'événements futurs (200 OK), avec le curseur de la page suivante en en-tête.
      */
     @GetMapping("/{id}/events/upcoming")
     @IsConnected
-    @JsonView(GlobalView.Base.class)
-    public ResponseEntity<List<Event>> getClubUpcomingEvents(@PathVariable Integer id, @RequestParam(required = false) String status) {
-        List<Event> upcomingEvents = eventService.findUpcomingEventsByOrganisateurWithSecurityCheck(id, status);
-        return ResponseEntity.ok(upcomingEvents);
+    public ResponseEntity<List<EventSummaryDto>> getClubUpcomingEvents(@PathVariable Integer id,
+                                                                       @RequestParam(required = false) String status,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.ok(eventService.findUpcomingEventsByOrganisateurWithSecurityCheck(id, status, cursor, limit));
     }
 }
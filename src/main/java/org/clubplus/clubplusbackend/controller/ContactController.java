@@ -3,7 +3,7 @@ package org.clubplus.clubplusbackend.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dto.ContactFormDto;
-import org.clubplus.clubplusbackend.service.EmailService;
+import org.clubplus.clubplusbackend.service.EmailOutboxService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -25,7 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ContactController {
 
     private static final Logger logger = LoggerFactory.getLogger(ContactController.class);
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
 
     /**
      * Gère la soumission d'un formulaire de contact.
@@ -33,7 +33,7 @@ public class ContactController {
      * Endpoint: POST /contact
      * <p>
      * Ce point d'accès est public. Il valide les données du formulaire,
-     * puis délègue l'envoi de l'email au service compétent.
+     * puis enregistre l'email dans la file d'envoi ; il est transmis en arrière-plan.
      *
      * @param contactFormDto Le DTO contenant les données du formulaire (nom, email, message).
      * @return Une réponse de succès (200 OK) ou une erreur serveur (500) si l'envoi échoue.
@@ -41,7 +41,7 @@ public class ContactController {
     @PostMapping
     public ResponseEntity<String> handleContactForm(@Valid @RequestBody ContactFormDto contactFormDto) {
         try {
-            emailService.sendContactFormEmail(contactFormDto);
+            emailOutboxService.enqueueContactFormEmail(contactFormDto);
             return ResponseEntity.ok("Message de contact envoyé avec succès.");
         } catch (Exception e) {
             logger.error("Échec de l'envoi de l'email de contact de la part de {}", contactFormDto.getEmail(), e);
@@ -0,0 +1,36 @@
+package org.clubplus.clubplusbackend.controller;
+
+import org.clubplus.clubplusbackend.dto.CursorPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Construit les réponses des listes paginées par curseur.
+ * <p>
+ * Le corps reste un tableau JSON des éléments de la page, comme avant la pagination. Tant qu'il reste des
+ * éléments, le curseur de la page suivante est transmis dans l'en-tête {@value #NEXT_CURSOR_HEADER}, et l'URL
+ * de la page suivante dans un en-tête {@code Link} ({@code rel="next"}). Sur la dernière page, ces en-têtes sont absents.
+ */
+final class CursorPageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CursorPageResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(page.items());
+        }
+        String nextUrl = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.nextCursor())
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, page.nextCursor())
+                .header(HttpHeaders.LINK, "<" + nextUrl + ">; rel=\"next\"")
+                .body(page.items());
+    }
+}
@@ -2,10 +2,12 @@ package org.clubplus.clubplusbackend.controller;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dto.FriendSuggestionDto;
 import org.clubplus.clubplusbackend.model.DemandeAmi;
 import org.clubplus.clubplusbackend.model.Membre;
 import org.clubplus.clubplusbackend.security.annotation.IsMembre;
 import org.clubplus.clubplusbackend.service.DemandeAmiService;
+import org.clubplus.clubplusbackend.service.FriendSuggestionService;
 import org.clubplus.clubplusbackend.view.GlobalView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +28,7 @@ import java.util.List;
 public class DemandeAmiController {
 
     private final DemandeAmiService demandeAmiService;
+    private final FriendSuggestionService friendSuggestionService;
 
     /**
      * Envoie une demande d'ami via le code unique d'un autre membre.
@@ -165,4 +168,20 @@ public class DemandeAmiController {
         List<Membre> amis = demandeAmiService.getFriends();
         return ResponseEntity.ok(amis);
     }
+
+    /**
+     * Récupère des suggestions d'amis, classées par amis, clubs et événements en commun.
+     * <p>
+     * Endpoint: GET /amis/suggestions?limit={limit}
+     * <p>
+     * Accès réservé à l'utilisateur authentifié.
+     *
+     * @param limit (Optionnel) Le nombre de suggestions (20 par défaut, 50 au maximum).
+     * @return La liste des suggestions, la plus pertinente en premier (200 OK).
+     */
+    @GetMapping("/suggestions")
+    @IsMembre
+    public ResponseEntity<List<FriendSuggestionDto>> getSuggestions(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(friendSuggestionService.getSuggestions(limit));
+    }
 }
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dto.CreateEventWithCategoriesDto;
+import org.clubplus.clubplusbackend.dto.EventSummaryDto;
 import org.clubplus.clubplusbackend.dto.EventWithFriendsDto;
 import org.clubplus.clubplusbackend.dto.UpdateEventWithCategoriesDto;
+import org.clubplus.clubplusbackend.metrics.SqlBudget;
 import org.clubplus.clubplusbackend.model.Event;
 import org.clubplus.clubplusbackend.security.annotation.IsConnected;
 import org.clubplus.clubplusbackend.security.annotation.IsMembre;
@@ -33,42 +35,48 @@ public class EventController {
     private final EventService eventService;
 
     /**
-     * Récupère les événements futurs des clubs de l'utilisateur.
+     * Récupère une page d'événements futurs des clubs de l'utilisateur.
      * <p>
-     * Endpoint: GET /events
+     * Endpoint: GET /events?cursor={cursor}&limit={limit}
      * <p>
      * Accès réservé aux utilisateurs avec un rôle de gestion (RESERVATION ou ADMIN).
      *
      * @param status (Optionnel) Filtre sur le statut des événements ('active', 'inactive', 'all').
-     * @return La liste des événements (200 OK).
+     * @param cursor (Optionnel) Le curseur de page (en-tête {@code X-Next-Cursor} de la réponse précédente).
+     * @param limit  (Optionnel) La taille de page (50 par défaut, 200 au maximum).
+     * @return La page d'événements (200 OK), avec le curseur de la page suivante en en-tête.
      */
     @GetMapping
     @IsReservation
-    @JsonView(GlobalView.EventView.class)
-    public ResponseEntity<List<Event>> getAllEventsForMyClubs(@RequestParam(required = false) String status) {
-        List<Event> events = eventService.findAllEventsForMemberClubs(status);
-        return ResponseEntity.ok(events);
+    @SqlBudget(10)
+    public ResponseEntity<List<EventSummaryDto>> getAllEventsForMyClubs(@RequestParam(required = false) String status,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.ok(eventService.findAllEventsForMemberClubs(status, cursor, limit));
     }
 
     /**
-     * Récupère les événements futurs des clubs de l'utilisateur, en incluant les amis participants.
+     * Récupère une page d'événements futurs des clubs de l'utilisateur, en incluant les amis participants.
      * <p>
-     * Endpoint: GET /events/withfriend
+     * Endpoint: GET /events/withfriend?cursor={cursor}&limit={limit}
      * <p>
      * Accès réservé aux membres authentifiés.
      *
      * @param status      (Optionnel) Filtre sur le statut des événements.
      * @param withFriends (Optionnel) Si true, filtre les événements où au moins un ami participe.
-     * @return La liste des événements avec les informations sur les amis (200 OK).
+     * @param cursor      (Optionnel) Le curseur de page (en-tête {@code X-Next-Cursor} de la réponse précédente).
+     * @param limit       (Optionnel) La taille de page (50 par défaut, 200 au maximum).
+     * @return La page d'événements avec les informations sur les amis (200 OK), avec le curseur de la page suivante en en-tête.
      */
     @GetMapping("/withfriend")
     @IsMembre
-    @JsonView(GlobalView.EventView.class)
+    @SqlBudget(10)
     public ResponseEntity<List<EventWithFriendsDto>> getAllEventsForMyClubsWithFriend(
             @RequestParam(required = false) String status,
-            @RequestParam(required = false, defaultValue = "false") boolean withFriends) {
-        List<EventWithFriendsDto> eventDtos = eventService.findMemberEventsFiltered(status, withFriends);
-        return ResponseEntity.ok(eventDtos);
+            @RequestParam(required = false, defaultValue = "false") boolean withFriends,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.ok(eventService.findMemberEventsFiltered(status, withFriends, cursor, limit));
     }
 
     /**
@@ -90,21 +98,24 @@ public class EventController {
     }
 
     /**
-     * Récupère les événements futurs des clubs de l'utilisateur.
+     * Récupère une page d'événements futurs des clubs de l'utilisateur.
      * <p>
-     * Endpoint: GET /events/my-clubs/upcoming
+     * Endpoint: GET /events/my-clubs/upcoming?cursor={cursor}&limit={limit}
      * <p>
      * Accès réservé aux utilisateurs connectés.
      *
      * @param status (Optionnel) Filtre sur le statut des événements.
-     * @return La liste des événements futurs (200 OK).
+     * @param cursor (Optionnel) Le curseur de page (en-tête {@code X-Next-Cursor} de la réponse précédente).
+     * @param limit  (Optionnel) La taille de page (50 par défaut, 200 au maximum).
+     * @return La page d'événements futurs (200 OK), avec le curseur de la page suivante en en-tête.
      */
     @GetMapping("/my-clubs/upcoming")
     @IsConnected
-    @JsonView(GlobalView.EventView.class)
-    public ResponseEntity<List<Event>> getMyClubsUpcomingEvents(@RequestParam(required = false) String status) {
-        List<Event> events = eventService.findUpcomingEventsForMemberClubs(status);
-        return ResponseEntity.ok(events);
+    @SqlBudget(10)
+    public ResponseEntity<List<EventSummaryDto>> getMyClubsUpcomingEvents(@RequestParam(required = false) String status,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.ok(eventService.findUpcomingEventsForMemberClubs(status, cursor, limit));
     }
 
     /**
@@ -124,6 +135,24 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Active ou désactive le mode "drop" d'un événement très demandé.
+     * <p>
+     * Endpoint: PATCH /events/{id}/drop-mode?enabled={enabled}
+     * <p>
+     * Accès réservé aux utilisateurs avec un rôle de gestion (RESERVATION ou ADMIN) du club organisateur.
+     *
+     * @param id      L'ID de l'événement.
+     * @param enabled {@code true} pour placer les réservations en file d'attente.
+     * @return Une réponse vide (204 No Content) en cas de succès.
+     */
+    @PatchMapping("/{id}/drop-mode")
+    @IsReservation
+    public ResponseEntity<Void> setDropMode(@PathVariable Integer id, @RequestParam boolean enabled) {
+        eventService.setDropMode(id, enabled);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Récupère les 5 prochains événements actifs du club géré par l'utilisateur.
      * <p>
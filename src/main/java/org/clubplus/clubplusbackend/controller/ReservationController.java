@@ -2,10 +2,13 @@ package org.clubplus.clubplusbackend.controller;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dto.ReservationTicketDto;
+import org.clubplus.clubplusbackend.metrics.SqlBudget;
 import org.clubplus.clubplusbackend.model.Reservation;
 import org.clubplus.clubplusbackend.security.annotation.IsConnected;
 import org.clubplus.clubplusbackend.security.annotation.IsMembre;
 import org.clubplus.clubplusbackend.security.annotation.IsReservation;
+import org.clubplus.clubplusbackend.service.ReservationDropService;
 import org.clubplus.clubplusbackend.service.ReservationService;
 import org.clubplus.clubplusbackend.view.GlobalView;
 import org.slf4j.Logger;
@@ -30,6 +33,7 @@ public class ReservationController {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationController.class);
     private final ReservationService reservationService;
+    private final ReservationDropService reservationDropService;
 
     /**
      * Crée une nouvelle réservation pour l'utilisateur authentifié.
@@ -51,6 +55,50 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(newReservation);
     }
 
+    /**
+     * Dépose une demande de réservation pour un événement en mode drop (file d'attente par catégorie).
+     * <p>
+     * Endpoint: POST /reservations/drop?eventId={eventId}&amp;categorieId={categorieId}&amp;waitMs={waitMs}
+     * <p>
+     * Accès réservé aux membres.
+     *
+     * @param eventId     L'ID de l'événement.
+     * @param categorieId L'ID de la catégorie à réserver.
+     * @param waitMs      (Optionnel) Durée maximale d'attente de la décision, en millisecondes.
+     * @return Le ticket décidé (200 OK) ou encore en attente (202 Accepted).
+     */
+    @PostMapping("/drop")
+    @IsMembre
+    public ResponseEntity<ReservationTicketDto> submitDropReservation(@RequestParam Integer eventId,
+                                                                      @RequestParam Integer categorieId,
+                                                                      @RequestParam(required = false) Long waitMs) {
+        ReservationTicketDto ticket = reservationDropService.submit(eventId, categorieId, waitMs);
+        return ResponseEntity.status(ticketHttpStatus(ticket)).body(ticket);
+    }
+
+    /**
+     * Consulte un ticket de réservation en mode drop.
+     * <p>
+     * Endpoint: GET /reservations/tickets/{ticketId}?waitMs={waitMs}
+     * <p>
+     * Accès réservé au membre ayant déposé la demande.
+     *
+     * @param ticketId L'identifiant du ticket.
+     * @param waitMs   (Optionnel) Durée maximale d'attente de la décision, en millisecondes.
+     * @return Le ticket décidé (200 OK) ou encore en attente (202 Accepted).
+     */
+    @GetMapping("/tickets/{ticketId}")
+    @IsMembre
+    public ResponseEntity<ReservationTicketDto> getDropTicket(@PathVariable String ticketId,
+                                                              @RequestParam(required = false) Long waitMs) {
+        ReservationTicketDto ticket = reservationDropService.getTicket(ticketId, waitMs);
+        return ResponseEntity.status(ticketHttpStatus(ticket)).body(ticket);
+    }
+
+    private static HttpStatus ticketHttpStatus(ReservationTicketDto ticket) {
+        return ticket.getStatut() == ReservationTicketDto.StatutTicket.EN_ATTENTE ? HttpStatus.ACCEPTED : HttpStatus.OK;
+    }
+
     /**
      * Récupère les réservations de l'utilisateur authentifié, avec un filtre optionnel par statut.
      * <p>
@@ -58,11 +106,12 @@ public class ReservationController {
      * <p>
      * Accès réservé à l'utilisateur authentifié.
      *
-     * @param status (Optionnel) Filtre sur le statut ('CONFIRME', 'UTILISE', 'ANNULE').
+     * @param status (Optionnel) Filtre sur le statut ('CONFIRME', 'UTILISE', 'ABSENT', 'ANNULE').
      * @return La liste des réservations de l'utilisateur (200 OK).
      */
     @GetMapping("/me")
     @IsMembre
+    @SqlBudget(10)
     @JsonView(GlobalView.ReservationView.class)
     public ResponseEntity<List<Reservation>> getMyReservations(@RequestParam(required = false) String status) {
         List<Reservation> reservations = reservationService.findMyReservations(status);
@@ -102,6 +151,7 @@ public class ReservationController {
      */
     @GetMapping("/event/{eventId}")
     @IsReservation
+    @SqlBudget(10)
     @JsonView(GlobalView.ReservationView.class)
     public ResponseEntity<List<Reservation>> getReservationsByEvent(@PathVariable Integer eventId,
                                                                     @RequestParam(required = false) String status) {
@@ -121,6 +171,7 @@ public class ReservationController {
      */
     @GetMapping("/categorie/{categorieId}")
     @IsReservation
+    @SqlBudget(10)
     @JsonView(GlobalView.ReservationView.class)
     public ResponseEntity<List<Reservation>> getReservationsByCategorie(@PathVariable Integer categorieId) {
         List<Reservation> reservations = reservationService.findReservationsByCategorieIdWithSecurityCheck(categorieId);
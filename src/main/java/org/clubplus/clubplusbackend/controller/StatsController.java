@@ -4,9 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dto.DashboardSummaryDto;
 import org.clubplus.clubplusbackend.security.annotation.IsReservation;
 import org.clubplus.clubplusbackend.service.StatsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 
@@ -28,17 +31,29 @@ public class StatsController {
     private final StatsService statsService;
 
     /**
-     * Récupère le nombre d'inscriptions mensuelles pour le club sur les 12 derniers mois.
+     * Récupère le nombre d'inscriptions mensuelles pour le club.
      * <p>
-     * Endpoint: GET /stats/clubs/{clubId}/registrations-monthly
+     * Endpoint: GET /stats/clubs/{clubId}/registrations-monthly?from=2025-01&to=2025-12
+     * <p>
+     * Sans paramètre, la série couvre les 12 derniers mois. Si un seul des deux paramètres est fourni,
+     * l'autre borne est le mois courant ({@code to}) ou 11 mois avant {@code to} ({@code from}).
      *
      * @param clubId L'ID du club.
+     * @param from   (Optionnel) Le premier mois (inclus), au format {@code yyyy-MM}.
+     * @param to     (Optionnel) Le dernier mois (inclus), au format {@code yyyy-MM}.
      * @return Une liste de maps, chaque map représentant un mois et son nombre d'inscriptions (200 OK).
      */
     @GetMapping("/registrations-monthly")
-    public ResponseEntity<List<Map<String, Object>>> getClubMonthlyRegistrations(@PathVariable Integer clubId) {
-        List<Map<String, Object>> registrations = statsService.getClubMonthlyRegistrations(clubId);
-        return ResponseEntity.ok(registrations);
+    public ResponseEntity<List<Map<String, Object>>> getClubMonthlyRegistrations(
+            @PathVariable Integer clubId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        if (from == null && to == null) {
+            return ResponseEntity.ok(statsService.getClubMonthlyRegistrations(clubId));
+        }
+        YearMonth fin = (to != null) ? to : YearMonth.now(ZoneOffset.UTC);
+        YearMonth debut = (from != null) ? from : fin.minusMonths(11);
+        return ResponseEntity.ok(statsService.getClubMonthlyRegistrations(clubId, debut, fin));
     }
 
     /**
@@ -9,7 +9,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,20 +47,6 @@ public interface AdhesionDao extends JpaRepository<Adhesion, Integer> {
      */
     long countByMembreId(Integer membreId);
 
-    /**
-     * Calcule le décompte mensuel des nouvelles adhésions pour un club depuis une date donnée.
-     *
-     * @param clubId    L'ID du club.
-     * @param startDate La date de début pour le calcul.
-     * @return Une liste de tableaux d'objets [année (Integer), mois (Integer), nombre (Number)].
-     */
-    @Query("SELECT FUNCTION('YEAR', a.dateAdhesion), FUNCTION('MONTH', a.dateAdhesion), COUNT(a.id) " +
-            "FROM Adhesion a " +
-            "WHERE a.club.id = :clubId AND a.dateAdhesion >= :startDate " +
-            "GROUP BY FUNCTION('YEAR', a.dateAdhesion), FUNCTION('MONTH', a.dateAdhesion) " +
-            "ORDER BY FUNCTION('YEAR', a.dateAdhesion) ASC, FUNCTION('MONTH', a.dateAdhesion) ASC")
-    List<Object[]> findMonthlyAdhesionsToClubSince(@Param("clubId") Integer clubId, @Param("startDate") Instant startDate);
-
     /**
      * Récupère les IDs de tous les clubs auxquels un membre adhère.
      * <p>
@@ -91,6 +76,16 @@ public interface AdhesionDao extends JpaRepository<Adhesion, Integer> {
     @Query("SELECT a.club.id FROM Adhesion a WHERE a.membre.id = :membreId AND a.club.actif = true")
     List<Integer> findActiveClubIdsByMembreId(@Param("membreId") Integer membreId);
 
+    /**
+     * Récupère les couples (membre, club) de toutes les adhésions de membres actifs à des clubs actifs.
+     * <p>
+     * Utilisé pour charger l'index des affinités des suggestions d'amis en une seule requête.
+     *
+     * @return Une liste de tableaux d'objets : [membreId, clubId].
+     */
+    @Query("SELECT a.membre.id, a.club.id FROM Adhesion a WHERE a.membre.actif = true AND a.club.actif = true")
+    List<Object[]> findActiveMembreClubIdPairs();
+
     /**
      * Récupère les adhésions les plus récentes de membres actifs pour un club, avec une limite.
      * <p>
@@ -0,0 +1,28 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.CategorieArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository pour l'entité {@link CategorieArchive}.
+ */
+@Repository
+public interface CategorieArchiveDao extends JpaRepository<CategorieArchive, Integer> {
+
+    /**
+     * Copie les catégories des événements donnés dans la table d'archive, en une requête.
+     *
+     * @param eventIds Les IDs des événements archivés.
+     * @return Le nombre de catégories copiées.
+     */
+    @Modifying
+    @Query("INSERT INTO CategorieArchive (id, eventId, nom, capacite) " +
+            "SELECT c.id, c.event.id, c.nom, c.capacite FROM Categorie c WHERE c.event.id IN :eventIds")
+    int archiveByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+}
@@ -1,12 +1,15 @@
 package org.clubplus.clubplusbackend.dao;
 
+import org.clubplus.clubplusbackend.dto.CategorieSummaryDto;
 import org.clubplus.clubplusbackend.model.Categorie;
 import org.clubplus.clubplusbackend.model.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +47,19 @@ public interface CategorieDao extends JpaRepository<Categorie, Integer> {
      */
     Optional<Categorie> findByIdAndEventId(Integer id, Integer eventId);
 
+    /**
+     * Lit, en une seule requête, les catégories d'un ensemble d'événements sous forme de projection.
+     * <p>
+     * Utilisé pour compléter une page de listes d'événements ({@link org.clubplus.clubplusbackend.dto.EventSummaryDto}).
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Les catégories de ces événements, triées par événement puis par ID.
+     */
+    @Query("SELECT new org.clubplus.clubplusbackend.dto.CategorieSummaryDto(" +
+            "c.event.id, c.id, c.nom, c.capacite, c.placesReservees) " +
+            "FROM Categorie c WHERE c.event.id IN :eventIds ORDER BY c.event.id, c.id")
+    List<CategorieSummaryDto> findSummariesByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+
     /**
      * Recherche une catégorie et charge simultanément ses réservations associées.
      * <p>
@@ -65,4 +81,97 @@ public interface CategorieDao extends JpaRepository<Categorie, Integer> {
      */
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.categorie.id = :categorieId AND r.status = 'CONFIRME'")
     int countConfirmedReservations(@Param("categorieId") Integer categorieId);
+
+    /**
+     * Réserve atomiquement une place dans une catégorie, uniquement s'il en reste.
+     * <p>
+     * La condition {@code placesReservees < capacite} est évaluée par la base au moment de la mise à jour :
+     * deux réservations concurrentes ne peuvent donc pas dépasser la capacité.
+     *
+     * @param categorieId L'ID de la catégorie.
+     * @return 1 si la place a été réservée, 0 si la catégorie est complète (ou introuvable).
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.placesReservees = c.placesReservees + 1 WHERE c.id = :categorieId AND c.placesReservees < c.capacite")
+    int reservePlace(@Param("categorieId") Integer categorieId);
+
+    /**
+     * Libère atomiquement une place dans une catégorie (annulation ou utilisation d'une réservation confirmée).
+     *
+     * @param categorieId L'ID de la catégorie.
+     * @return 1 si le compteur a été décrémenté, 0 s'il était déjà à zéro (dérive) ou si la catégorie est introuvable.
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.placesReservees = c.placesReservees - 1 WHERE c.id = :categorieId AND c.placesReservees > 0")
+    int releasePlace(@Param("categorieId") Integer categorieId);
+
+    /**
+     * Liste les catégories dont le compteur {@code placesReservees} diffère du nombre réel de réservations confirmées.
+     * <p>
+     * Chaque ligne contient {@code [Integer categorieId, Integer placesReservees, Long reservationsConfirmees]}.
+     *
+     * @return Les catégories en dérive.
+     */
+    @Query("SELECT c.id, c.placesReservees, " +
+            "(SELECT COUNT(r) FROM Reservation r WHERE r.categorie.id = c.id AND r.status = 'CONFIRME') " +
+            "FROM Categorie c " +
+            "WHERE c.placesReservees <> (SELECT COUNT(r2) FROM Reservation r2 WHERE r2.categorie.id = c.id AND r2.status = 'CONFIRME')")
+    List<Object[]> findPlacesReserveesDrift();
+
+    /**
+     * Recalcule le compteur {@code placesReservees} d'une catégorie à partir de ses réservations confirmées.
+     * Le comptage est effectué dans la même instruction que la mise à jour.
+     *
+     * @param categorieId L'ID de la catégorie.
+     * @return Le nombre de lignes mises à jour (0 ou 1).
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.placesReservees = " +
+            "(SELECT COUNT(r) FROM Reservation r WHERE r.categorie.id = c.id AND r.status = 'CONFIRME') " +
+            "WHERE c.id = :categorieId")
+    int recomputePlacesReservees(@Param("categorieId") Integer categorieId);
+
+    /**
+     * Réserve atomiquement plusieurs places dans une catégorie, uniquement si toutes sont disponibles.
+     * Utilisé par le traitement par lots du mode drop.
+     *
+     * @param categorieId L'ID de la catégorie.
+     * @param places      Le nombre de places à réserver.
+     * @return 1 si les places ont été réservées, 0 sinon.
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.placesReservees = c.placesReservees + :places " +
+            "WHERE c.id = :categorieId AND c.placesReservees + :places <= c.capacite")
+    int reservePlaces(@Param("categorieId") Integer categorieId, @Param("places") int places);
+
+    /**
+     * Charge les informations nécessaires à la validation d'une demande en mode drop, sans charger les entités.
+     * <p>
+     * La ligne contient {@code [Integer eventId, Integer organisateurId, Instant startTime, Boolean actif, Boolean dropMode]}.
+     *
+     * @param categorieId L'ID de la catégorie.
+     * @return Une liste vide si la catégorie n'existe pas, sinon une unique ligne.
+     */
+    @Query("SELECT e.id, e.organisateur.id, e.startTime, e.actif, e.dropMode FROM Categorie c JOIN c.event e WHERE c.id = :categorieId")
+    List<Object[]> findDropInfoById(@Param("categorieId") Integer categorieId);
+
+    /**
+     * Remet à zéro les compteurs de places réservées des catégories d'événements clôturés.
+     *
+     * @param eventIds Les IDs des événements clôturés.
+     * @return Le nombre de catégories modifiées.
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.placesReservees = 0 WHERE c.event.id IN :eventIds")
+    int resetPlacesReserveesByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+
+    /**
+     * Supprime en une requête les catégories des événements donnés (archivage).
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre de catégories supprimées.
+     */
+    @Modifying
+    @Query("DELETE FROM Categorie c WHERE c.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
 }
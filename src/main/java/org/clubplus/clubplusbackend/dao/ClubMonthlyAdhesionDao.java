@@ -0,0 +1,71 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.ClubMonthlyAdhesion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository pour l'entité {@link ClubMonthlyAdhesion}.
+ * Les compteurs sont modifiés par des mises à jour atomiques pour supporter les adhésions concurrentes.
+ */
+@Repository
+public interface ClubMonthlyAdhesionDao extends JpaRepository<ClubMonthlyAdhesion, ClubMonthlyAdhesion.Key> {
+
+    /**
+     * Ajoute atomiquement un delta au compteur d'un mois, sans le rendre négatif.
+     *
+     * @param clubId    L'ID du club.
+     * @param anneeMois Le mois, au format {@code AAAAMM}.
+     * @param delta     +1 pour une adhésion, -1 pour un départ.
+     * @return 1 si le compteur a été modifié, 0 s'il n'existe pas encore (ou deviendrait négatif).
+     */
+    @Modifying
+    @Query("UPDATE ClubMonthlyAdhesion c SET c.nombreAdhesions = c.nombreAdhesions + :delta " +
+            "WHERE c.clubId = :clubId AND c.anneeMois = :anneeMois AND c.nombreAdhesions + :delta >= 0")
+    int addToCount(@Param("clubId") Integer clubId, @Param("anneeMois") Integer anneeMois, @Param("delta") long delta);
+
+    /**
+     * Ajoute atomiquement des adhésions au compteur d'un mois, en créant le compteur s'il n'existe pas
+     * encore. L'upsert est fait en une instruction pour que deux premières adhésions concurrentes
+     * du mois ne tentent pas toutes deux d'insérer la ligne.
+     *
+     * @param clubId    L'ID du club.
+     * @param anneeMois Le mois, au format {@code AAAAMM}.
+     * @param nombre    Le nombre d'adhésions ajoutées (strictement positif).
+     * @return Le nombre de lignes affectées (1 pour une création, 2 pour une mise à jour sous MySQL).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO club_monthly_adhesions (club_id, annee_mois, nombre_adhesions) " +
+            "VALUES (:clubId, :anneeMois, :nombre) " +
+            "ON DUPLICATE KEY UPDATE nombre_adhesions = nombre_adhesions + :nombre", nativeQuery = true)
+    int upsertCount(@Param("clubId") Integer clubId, @Param("anneeMois") Integer anneeMois, @Param("nombre") long nombre);
+
+    /**
+     * Récupère les compteurs d'un club sur un intervalle de mois (bornes incluses), triés chronologiquement.
+     * Seuls les mois ayant au moins une ligne sont renvoyés.
+     */
+    @Query("SELECT c FROM ClubMonthlyAdhesion c " +
+            "WHERE c.clubId = :clubId AND c.anneeMois BETWEEN :debut AND :fin " +
+            "ORDER BY c.anneeMois ASC")
+    List<ClubMonthlyAdhesion> findByClubIdAndRange(@Param("clubId") Integer clubId,
+                                                   @Param("debut") Integer debut,
+                                                   @Param("fin") Integer fin);
+
+    /**
+     * Recalcule tous les compteurs à partir de la table des adhésions (mois calculés en UTC par la base).
+     * Les lignes existantes doivent avoir été supprimées au préalable.
+     *
+     * @return Le nombre de compteurs créés.
+     */
+    @Modifying
+    @Query("INSERT INTO ClubMonthlyAdhesion (clubId, anneeMois, nombreAdhesions) " +
+            "SELECT a.club.id, YEAR(a.dateAdhesion) * 100 + MONTH(a.dateAdhesion), COUNT(a) " +
+            "FROM Adhesion a " +
+            "GROUP BY a.club.id, YEAR(a.dateAdhesion) * 100 + MONTH(a.dateAdhesion)")
+    int insertFromAdhesions();
+}
@@ -0,0 +1,79 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.ClubRatingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository pour l'entité {@link ClubRatingRollup}.
+ * Les mises à jour sont atomiques (upsert et décréments en base) pour supporter les notations concurrentes.
+ */
+@Repository
+public interface ClubRatingRollupDao extends JpaRepository<ClubRatingRollup, Integer> {
+
+    /**
+     * Ajoute atomiquement les notes d'une notation à l'agrégat d'un club, en créant la ligne
+     * s'il s'agit de la première notation du club (voir {@link EventRatingRollupDao#upsertNotation}).
+     *
+     * @return Le nombre de lignes affectées (1 pour une création, 2 pour une mise à jour sous MySQL).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO club_rating_rollups (club_id, somme_ambiance, somme_proprete, somme_organisation, " +
+            "somme_fair_play, somme_niveau_joueurs, nombre_notations) " +
+            "VALUES (:clubId, :ambiance, :proprete, :organisation, :fairPlay, :niveauJoueurs, 1) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "somme_ambiance = somme_ambiance + :ambiance, " +
+            "somme_proprete = somme_proprete + :proprete, " +
+            "somme_organisation = somme_organisation + :organisation, " +
+            "somme_fair_play = somme_fair_play + :fairPlay, " +
+            "somme_niveau_joueurs = somme_niveau_joueurs + :niveauJoueurs, " +
+            "nombre_notations = nombre_notations + 1", nativeQuery = true)
+    int upsertNotation(@Param("clubId") Integer clubId,
+                       @Param("ambiance") long ambiance,
+                       @Param("proprete") long proprete,
+                       @Param("organisation") long organisation,
+                       @Param("fairPlay") long fairPlay,
+                       @Param("niveauJoueurs") long niveauJoueurs);
+
+    /**
+     * Retire atomiquement de l'agrégat d'un club les sommes et le nombre de notations d'un événement.
+     * Utilisé lorsqu'un événement noté est annulé.
+     *
+     * @return 1 si l'agrégat a été mis à jour, 0 s'il n'existe pas.
+     */
+    @Modifying
+    @Query("UPDATE ClubRatingRollup r SET " +
+            "r.sommeAmbiance = r.sommeAmbiance - :ambiance, " +
+            "r.sommeProprete = r.sommeProprete - :proprete, " +
+            "r.sommeOrganisation = r.sommeOrganisation - :organisation, " +
+            "r.sommeFairPlay = r.sommeFairPlay - :fairPlay, " +
+            "r.sommeNiveauJoueurs = r.sommeNiveauJoueurs - :niveauJoueurs, " +
+            "r.nombreNotations = r.nombreNotations - :nombreNotations " +
+            "WHERE r.clubId = :clubId AND r.nombreNotations >= :nombreNotations")
+    int subtract(@Param("clubId") Integer clubId,
+                 @Param("ambiance") long ambiance,
+                 @Param("proprete") long proprete,
+                 @Param("organisation") long organisation,
+                 @Param("fairPlay") long fairPlay,
+                 @Param("niveauJoueurs") long niveauJoueurs,
+                 @Param("nombreNotations") long nombreNotations);
+
+    /**
+     * Recalcule tous les agrégats de clubs en sommant les agrégats des événements non annulés,
+     * qu'ils soient encore dans la table des événements ou archivés.
+     * Les lignes existantes doivent avoir été supprimées et les agrégats d'événements reconstruits au préalable.
+     *
+     * @return Le nombre d'agrégats créés.
+     */
+    @Modifying
+    @Query("INSERT INTO ClubRatingRollup (clubId, sommeAmbiance, sommeProprete, sommeOrganisation, sommeFairPlay, sommeNiveauJoueurs, nombreNotations) " +
+            "SELECT r.clubId, SUM(r.sommeAmbiance), SUM(r.sommeProprete), SUM(r.sommeOrganisation), SUM(r.sommeFairPlay), SUM(r.sommeNiveauJoueurs), SUM(r.nombreNotations) " +
+            "FROM EventRatingRollup r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM Event e WHERE e.id = r.eventId AND e.actif = false) " +
+            "AND NOT EXISTS (SELECT 1 FROM EventArchive a WHERE a.id = r.eventId AND a.actif = false) " +
+            "GROUP BY r.clubId")
+    int insertFromEventRollups();
+}
@@ -0,0 +1,132 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} qui borne le nombre de connexions empruntées simultanément par un sémaphore équitable.
+ * <p>
+ * Un jeton est pris à l'obtention de la connexion et rendu à sa fermeture : tous les DAO (et les transactions qui
+ * les englobent) passent par cette limite. Les threads en surnombre attendent leur tour dans l'ordre d'arrivée,
+ * au plus {@code acquireTimeoutMs} ; au-delà, l'appel échoue avec une {@link SQLTransientConnectionException},
+ * comme le ferait le pool lui-même.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+
+    /**
+     * @param target           La source de données réelle (le pool de connexions).
+     * @param maxPermits       Le nombre maximal de connexions empruntées simultanément.
+     * @param acquireTimeoutMs Le délai d'attente maximal d'un jeton, en millisecondes.
+     */
+    public ConcurrencyLimitedDataSource(DataSource target, int maxPermits, long acquireTimeoutMs) {
+        super(target);
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("Le nombre d'accès concurrents à la base doit être supérieur ou égal à 1.");
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Le nombre maximal de connexions empruntées simultanément.
+     */
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    /**
+     * @return Le nombre de connexions actuellement empruntées à travers la limite.
+     */
+    public int getActivePermits() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    /**
+     * @return Une estimation du nombre de threads en attente d'un jeton.
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    // --- Méthodes privées ---
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Limite d'accès concurrents à la base atteinte (" + maxPermits
+                        + ") : aucune connexion obtenue après " + acquireTimeoutMs + " ms.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompu en attente d'un accès à la base.", e);
+        }
+    }
+
+    /**
+     * Enveloppe la connexion pour rendre le jeton à sa première fermeture (les fermetures suivantes sont
+     * transmises sans effet sur le sémaphore).
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
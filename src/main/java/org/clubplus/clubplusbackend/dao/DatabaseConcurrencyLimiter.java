@@ -0,0 +1,60 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Place un {@link ConcurrencyLimitedDataSource} devant la source de données de l'application.
+ * <p>
+ * Activé par {@code app.db.concurrency.limit-enabled=true} (profil {@code virtual-threads}). Avec des threads
+ * virtuels, le nombre de requêtes HTTP traitées simultanément n'est plus borné par le pool de Tomcat : sans cette
+ * limite, des milliers de threads s'accumuleraient dans l'attente du pool de connexions. Ils attendent ici, dans une
+ * file équitable, avec un délai configurable ({@code app.db.concurrency.acquire-timeout-ms}).
+ */
+@Component
+@ConditionalOnProperty(name = "app.db.concurrency.limit-enabled", havingValue = "true")
+public class DatabaseConcurrencyLimiter implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseConcurrencyLimiter.class);
+
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+
+    /**
+     * Construit le limiteur avec sa configuration.
+     *
+     * @param maxPermits       Le nombre maximal de connexions empruntées simultanément
+     *                         (au plus la taille du pool de connexions).
+     * @param acquireTimeoutMs Le délai d'attente maximal d'un accès à la base.
+     * @param virtualThreads   Indique si les requêtes sont servies par des threads virtuels.
+     */
+    public DatabaseConcurrencyLimiter(@Value("${app.db.concurrency.max-permits:10}") int maxPermits,
+                                      @Value("${app.db.concurrency.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("app.db.concurrency.max-permits doit être supérieur ou égal à 1.");
+        }
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled est ignoré : les threads virtuels nécessitent Java 21 (version actuelle : {}).",
+                    Runtime.version().feature());
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+            log.info("Accès à la base limité à {} connexion(s) simultanée(s) pour '{}' (attente maximale : {} ms).",
+                    maxPermits, beanName, acquireTimeoutMs);
+            return new ConcurrencyLimitedDataSource(dataSource, maxPermits, acquireTimeoutMs);
+        }
+        return bean;
+    }
+}
@@ -89,6 +89,17 @@ public interface DemandeAmiDao extends JpaRepository<DemandeAmi, Integer> {
             "FROM DemandeAmi d WHERE d.statut = :statut AND (d.envoyeur.id = :userId OR d.recepteur.id = :userId)")
     List<Integer> findFriendIdsOfUser(@Param("userId") Integer userId, @Param("statut") Statut statut);
 
+    /**
+     * Récupère les couples (envoyeur, destinataire) de toutes les demandes d'un statut donné.
+     * <p>
+     * Utilisé pour charger le graphe d'amitié en mémoire en une seule requête.
+     *
+     * @param statut Le statut des demandes (ex: ACCEPTEE).
+     * @return Une liste de tableaux d'objets : [envoyeurId, recepteurId].
+     */
+    @Query("SELECT d.envoyeur.id, d.recepteur.id FROM DemandeAmi d WHERE d.statut = :statut")
+    List<Object[]> findMemberIdPairsByStatut(@Param("statut") Statut statut);
+
     /**
      * Méthode de commodité pour trouver les demandes reçues en attente.
      *
@@ -108,4 +119,15 @@ public interface DemandeAmiDao extends JpaRepository<DemandeAmi, Integer> {
     default List<DemandeAmi> findPendingSentRequests(Integer envoyeurId) {
         return findByEnvoyeurIdAndStatut(envoyeurId, Statut.ATTENTE);
     }
+
+    /**
+     * Méthode de commodité pour trouver les IDs des membres avec qui une demande est en attente,
+     * qu'elle ait été envoyée ou reçue.
+     *
+     * @param userId L'ID du membre.
+     * @return Une liste d'IDs des autres membres concernés.
+     */
+    default List<Integer> findPendingRequestCounterpartIds(Integer userId) {
+        return findFriendIdsOfUser(userId, Statut.ATTENTE);
+    }
 }
@@ -0,0 +1,80 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.EmailOutboxMessage;
+import org.clubplus.clubplusbackend.model.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository pour l'entité {@link EmailOutboxMessage}.
+ * Les changements d'état sont des mises à jour conditionnelles, pour qu'un message ne soit traité
+ * que par un seul dispatcher à la fois.
+ */
+@Repository
+public interface EmailOutboxDao extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Récupère les IDs des messages en attente dont la date de prochaine tentative est atteinte,
+     * les plus anciens en premier.
+     */
+    @Query("SELECT m.id FROM EmailOutboxMessage m " +
+            "WHERE m.statut = org.clubplus.clubplusbackend.model.EmailOutboxStatus.EN_ATTENTE " +
+            "AND m.prochaineTentative <= :now " +
+            "ORDER BY m.prochaineTentative ASC, m.id ASC")
+    List<Long> findDueIds(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Réserve un message pour l'envoi en repoussant sa prochaine tentative jusqu'à la fin du bail, et compte
+     * la tentative. Si l'application s'arrête pendant l'envoi, le message redevient disponible à l'expiration
+     * du bail, avec cette tentative déjà comptée : il ne peut pas être repris indéfiniment.
+     *
+     * @return 1 si le message a été réservé, 0 s'il a déjà été pris par un autre dispatcher.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.prochaineTentative = :bailJusqua, m.tentatives = m.tentatives + 1 " +
+            "WHERE m.id = :id AND m.statut = org.clubplus.clubplusbackend.model.EmailOutboxStatus.EN_ATTENTE " +
+            "AND m.prochaineTentative <= :now")
+    int claim(@Param("id") Long id, @Param("now") Instant now, @Param("bailJusqua") Instant bailJusqua);
+
+    /**
+     * Marque un message comme envoyé.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.statut = org.clubplus.clubplusbackend.model.EmailOutboxStatus.ENVOYE, " +
+            "m.dateEnvoi = :now, m.derniereErreur = NULL WHERE m.id = :id")
+    int markSent(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Enregistre un échec d'envoi en appliquant le nouvel état ({@code EN_ATTENTE} avec une nouvelle date
+     * de tentative, ou {@code ECHEC}). La tentative a déjà été comptée par {@link #claim}.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.statut = :statut, " +
+            "m.prochaineTentative = :prochaineTentative, m.derniereErreur = :erreur WHERE m.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("statut") EmailOutboxStatus statut,
+                   @Param("prochaineTentative") Instant prochaineTentative,
+                   @Param("erreur") String erreur);
+
+    /**
+     * Compte les messages dans un état donné.
+     */
+    long countByStatut(EmailOutboxStatus statut);
+
+    /**
+     * Supprime les messages envoyés avant la date donnée.
+     *
+     * @return Le nombre de messages supprimés.
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.statut = org.clubplus.clubplusbackend.model.EmailOutboxStatus.ENVOYE " +
+            "AND m.dateEnvoi < :limite")
+    int deleteSentBefore(@Param("limite") Instant limite);
+}
@@ -0,0 +1,29 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.EventArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository pour l'entité {@link EventArchive}.
+ */
+@Repository
+public interface EventArchiveDao extends JpaRepository<EventArchive, Integer> {
+
+    /**
+     * Copie des événements dans la table d'archive, en une requête.
+     *
+     * @param eventIds Les IDs des événements à archiver.
+     * @return Le nombre d'événements copiés.
+     */
+    @Modifying
+    @Query("INSERT INTO EventArchive (id, nom, startTime, endTime, description, location, actif, desactivationDate, organisateurId, placeTotal) " +
+            "SELECT e.id, e.nom, e.startTime, e.endTime, e.description, e.location, e.actif, e.desactivationDate, e.organisateur.id, e.placeTotal " +
+            "FROM Event e WHERE e.id IN :eventIds")
+    int archiveByIdIn(@Param("eventIds") Collection<Integer> eventIds);
+}
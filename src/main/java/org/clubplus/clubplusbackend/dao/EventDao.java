@@ -1,10 +1,13 @@
 package org.clubplus.clubplusbackend.dao;
 
+import org.clubplus.clubplusbackend.dto.EventSummaryDto;
 import org.clubplus.clubplusbackend.model.Event;
 import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +16,6 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Repository pour l'entité {@link Event}.
@@ -23,25 +25,19 @@ import java.util.Set;
 public interface EventDao extends JpaRepository<Event, Integer> {
 
     /**
-     * Recherche les événements organisés par un club.
+     * Début commun des projections {@link EventSummaryDto} (jointure externe : l'organisateur peut être filtré
+     * par {@code @Where} s'il est désactivé).
      */
-    List<Event> findByOrganisateurId(Integer clubId);
+    String SELECT_SUMMARY = "SELECT new org.clubplus.clubplusbackend.dto.EventSummaryDto(" +
+            "e.id, e.nom, e.startTime, e.endTime, e.description, e.location, e.actif, e.dropMode, " +
+            "e.placeTotal, e.placesReservees, o.id, o.nom, o.ville, o.codeClub) " +
+            "FROM Event e LEFT JOIN e.organisateur o ";
 
     /**
      * Recherche les événements qui commencent après une date/heure donnée.
      */
     List<Event> findByStartTimeAfter(Instant dateTime);
 
-    /**
-     * Recherche les événements futurs pour une collection de clubs.
-     */
-    List<Event> findByOrganisateurIdInAndStartTimeAfter(Collection<Integer> clubIds, Instant now);
-
-    /**
-     * Recherche les événements futurs pour un club spécifique.
-     */
-    List<Event> findByOrganisateurIdAndStartTimeAfter(Integer clubId, Instant now);
-
     /**
      * Recherche les 5 prochains événements actifs d'un club, triés par date de début.
      */
@@ -89,26 +85,6 @@ public interface EventDao extends JpaRepository<Event, Integer> {
     @Query("SELECT e FROM Event e LEFT JOIN FETCH e.categories LEFT JOIN FETCH e.organisateur WHERE e.id = :id")
     Optional<Event> findByIdFetchingCategoriesWithJoinFetch(@Param("id") Integer id);
 
-    /**
-     * Recherche les événements par leur statut actif/inactif.
-     */
-    List<Event> findByActif(boolean actif);
-
-    /**
-     * Recherche les événements d'un organisateur, filtrés par statut actif.
-     */
-    List<Event> findByOrganisateurIdAndActif(Integer organisateurId, boolean actif);
-
-    /**
-     * Recherche les événements futurs et actifs d'un organisateur.
-     */
-    List<Event> findByOrganisateurIdAndActifAndStartTimeAfter(Integer organisateurId, boolean actif, Instant startTime);
-
-    /**
-     * Recherche les événements futurs et actifs pour une liste de clubs.
-     */
-    List<Event> findByOrganisateurIdInAndActifAndStartTimeAfter(Collection<Integer> clubIds, boolean actif, Instant now);
-
     /**
      * Recherche les événements futurs, filtrés par statut actif.
      */
@@ -119,6 +95,18 @@ public interface EventDao extends JpaRepository<Event, Integer> {
      */
     long countByOrganisateurIdAndActifAndStartTimeBetween(Integer clubId, boolean actif, Instant start, Instant end);
 
+    /**
+     * Compte, en une seule requête, les événements actifs d'un club et ceux d'entre eux qui débutent dans un intervalle.
+     * <p>
+     * La ligne contient {@code [Long totalActifs, Long actifsDansIntervalle]} (valeurs null si le club n'a aucun événement).
+     */
+    @Query("SELECT SUM(CASE WHEN e.actif = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN e.actif = true AND e.startTime BETWEEN :start AND :end THEN 1 ELSE 0 END) " +
+            "FROM Event e WHERE e.organisateur.id = :clubId")
+    List<Object[]> countActiveAndActiveBetweenByOrganisateurId(@Param("clubId") Integer clubId,
+                                                               @Param("start") Instant start,
+                                                               @Param("end") Instant end);
+
     /**
      * Recherche une page d'événements pour un club dans un intervalle de dates.
      */
@@ -128,48 +116,171 @@ public interface EventDao extends JpaRepository<Event, Integer> {
                                             @Param("dateEnd") Instant dateEnd,
                                             Pageable pageable);
 
+    // --- Listes paginées par clé sur (startTime, id) : voir EventCursor ---
+    // Les curseurs de première page (EventCursor.FIRST ou EventCursor.startingAfter) portent aussi la borne de date
+    // des listes d'événements futurs ; l'index idx_events_organisateur_start couvre le filtre et le tri.
+    // Les lignes sont des projections (EventSummaryDto) : seules les colonnes affichées de l'événement et de son
+    // organisateur sont lues, sans entité ni proxy. Les catégories de la page sont lues par
+    // CategorieDao.findSummariesByEventIdIn.
+
     /**
-     * Recherche les événements futurs et inactifs pour un ensemble de clubs.
+     * Recherche une page d'événements, tous clubs confondus, avec un filtre optionnel sur le statut actif.
+     *
+     * @param actif       Le statut recherché, ou {@code null} pour tous les événements.
+     * @param cursorStart La date de début du dernier événement de la page précédente.
+     * @param cursorId    L'ID du dernier événement de la page précédente.
+     * @param limit       Le nombre maximal d'événements.
+     * @return Les événements suivant le curseur, triés par date de début puis ID (sans catégories).
      */
-    List<Event> findByOrganisateurIdInAndActifIsFalseAndStartTimeAfter(Set<Integer> memberClubIds, Instant now);
+    @Query(SELECT_SUMMARY +
+            "WHERE (:actif IS NULL OR e.actif = :actif) " +
+            "AND (e.startTime > :cursorStart OR (e.startTime = :cursorStart AND e.id > :cursorId)) " +
+            "ORDER BY e.startTime ASC, e.id ASC")
+    List<EventSummaryDto> findSummaryPage(@Param("actif") Boolean actif,
+                                          @Param("cursorStart") Instant cursorStart,
+                                          @Param("cursorId") Integer cursorId,
+                                          Limit limit);
 
     /**
-     * Recherche les événements futurs et actifs pour un ensemble de clubs.
+     * Recherche une page d'événements organisés par un ensemble de clubs, avec un filtre optionnel sur le statut actif.
+     *
+     * @param clubIds     Les IDs des clubs organisateurs.
+     * @param actif       Le statut recherché, ou {@code null} pour tous les événements.
+     * @param cursorStart La date de début du dernier événement de la page précédente.
+     * @param cursorId    L'ID du dernier événement de la page précédente.
+     * @param limit       Le nombre maximal d'événements.
+     * @return Les événements suivant le curseur, triés par date de début puis ID (sans catégories).
      */
-    List<Event> findByOrganisateurIdInAndActifIsTrueAndStartTimeAfter(Set<Integer> memberClubIds, Instant now);
+    @Query(SELECT_SUMMARY +
+            "WHERE e.organisateur.id IN :clubIds " +
+            "AND (:actif IS NULL OR e.actif = :actif) " +
+            "AND (e.startTime > :cursorStart OR (e.startTime = :cursorStart AND e.id > :cursorId)) " +
+            "ORDER BY e.startTime ASC, e.id ASC")
+    List<EventSummaryDto> findSummaryPageByOrganisateurIdIn(@Param("clubIds") Collection<Integer> clubIds,
+                                                            @Param("actif") Boolean actif,
+                                                            @Param("cursorStart") Instant cursorStart,
+                                                            @Param("cursorId") Integer cursorId,
+                                                            Limit limit);
 
     /**
-     * Recherche les événements futurs pour des clubs, avec un statut optionnel et la participation d'amis.
+     * Recherche une page d'événements organisés par un ensemble de clubs auxquels participe au moins un des
+     * membres donnés (les amis de l'utilisateur).
      * <p>
-     * Utilise JOIN FETCH pour optimiser le chargement des données.
+     * La participation est lue dans l'index {@code event_participations} : une lecture de clé
+     * (événement, membre) par ami, sans jointure sur les catégories ni les réservations.
+     *
+     * @param clubIds     Les IDs des clubs organisateurs.
+     * @param actif       Le statut recherché, ou {@code null} pour tous les événements.
+     * @param friendIds   Les IDs des membres participants recherchés.
+     * @param cursorStart La date de début du dernier événement de la page précédente.
+     * @param cursorId    L'ID du dernier événement de la page précédente.
+     * @param limit       Le nombre maximal d'événements.
+     * @return Les événements suivant le curseur, triés par date de début puis ID (sans catégories).
      */
-    @Query("SELECT DISTINCT e FROM Event e " +
-            "LEFT JOIN FETCH e.categories cat " +
-            "LEFT JOIN FETCH e.organisateur org " +
-            "LEFT JOIN cat.reservations r LEFT JOIN r.membre m " +
+    @Query(SELECT_SUMMARY +
             "WHERE e.organisateur.id IN :clubIds " +
-            "AND e.startTime > :after " +
-            "AND (:actifStatus IS NULL OR e.actif = :actifStatus) " +
-            "AND m.id IN :friendIds")
-    List<Event> findUpcomingEventsInClubsWithStatusAndFriends(
-            @Param("clubIds") Collection<Integer> clubIds,
-            @Param("after") Instant after,
-            @Param("actifStatus") Boolean actifStatus,
-            @Param("friendIds") Collection<Integer> friendIds);
+            "AND (:actif IS NULL OR e.actif = :actif) " +
+            "AND EXISTS (SELECT p.membreId FROM EventParticipation p WHERE p.eventId = e.id AND p.membreId IN :friendIds) " +
+            "AND (e.startTime > :cursorStart OR (e.startTime = :cursorStart AND e.id > :cursorId)) " +
+            "ORDER BY e.startTime ASC, e.id ASC")
+    List<EventSummaryDto> findSummaryPageByOrganisateurIdInWithFriends(@Param("clubIds") Collection<Integer> clubIds,
+                                                                       @Param("actif") Boolean actif,
+                                                                       @Param("friendIds") Collection<Integer> friendIds,
+                                                                       @Param("cursorStart") Instant cursorStart,
+                                                                       @Param("cursorId") Integer cursorId,
+                                                                       Limit limit);
+
+    /**
+     * Ajoute atomiquement un delta (positif ou négatif) au compteur dénormalisé {@code placesReservees} de l'événement.
+     * Appelé en même temps que la mise à jour du compteur de la catégorie concernée.
+     *
+     * @param eventId L'ID de l'événement.
+     * @param delta   Le nombre de places réservées (positif) ou libérées (négatif).
+     * @return 1 si le compteur a été modifié, 0 si l'événement est introuvable ou si le compteur deviendrait négatif.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.placesReservees = e.placesReservees + :delta " +
+            "WHERE e.id = :eventId AND e.placesReservees + :delta >= 0")
+    int addPlacesReservees(@Param("eventId") Integer eventId, @Param("delta") int delta);
 
     /**
-     * Recherche les événements futurs pour des clubs, avec un statut optionnel, sans filtre sur les amis.
+     * Recalcule la capacité totale dénormalisée ({@code placeTotal}) d'un événement à partir de ses catégories.
      * <p>
-     * Utilise JOIN FETCH pour optimiser le chargement des données.
+     * Les modifications de catégories en attente sont envoyées à la base avant l'exécution de la mise à jour.
+     *
+     * @param eventId L'ID de l'événement.
+     * @return Le nombre de lignes modifiées (0 ou 1).
      */
-    @Query("SELECT DISTINCT e FROM Event e " +
-            "LEFT JOIN FETCH e.categories cat " +
-            "LEFT JOIN FETCH e.organisateur org " +
-            "WHERE e.organisateur.id IN :clubIds " +
-            "AND e.startTime > :after " +
-            "AND (:actifStatus IS NULL OR e.actif = :actifStatus)")
-    List<Event> findUpcomingEventsInClubsWithStatus(
-            @Param("clubIds") Collection<Integer> clubIds,
-            @Param("after") Instant after,
-            @Param("actifStatus") Boolean actifStatus);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Event e SET e.placeTotal = " +
+            "(SELECT COALESCE(SUM(c.capacite), 0) FROM Categorie c WHERE c.event.id = e.id) " +
+            "WHERE e.id = :eventId")
+    int recomputePlaceTotal(@Param("eventId") Integer eventId);
+
+    /**
+     * Recalcule les totaux dénormalisés ({@code placeTotal}, {@code placesReservees}) des événements
+     * dont les valeurs diffèrent de celles de leurs catégories. Utilisé par la tâche de réconciliation.
+     *
+     * @return Le nombre d'événements corrigés.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET " +
+            "e.placeTotal = (SELECT COALESCE(SUM(c.capacite), 0) FROM Categorie c WHERE c.event.id = e.id), " +
+            "e.placesReservees = (SELECT COALESCE(SUM(c.placesReservees), 0) FROM Categorie c WHERE c.event.id = e.id) " +
+            "WHERE e.placeTotal <> (SELECT COALESCE(SUM(c.capacite), 0) FROM Categorie c WHERE c.event.id = e.id) " +
+            "OR e.placesReservees <> (SELECT COALESCE(SUM(c.placesReservees), 0) FROM Categorie c WHERE c.event.id = e.id)")
+    int reconcileSeatTotals();
+
+    // --- Cycle de vie des événements terminés (voir EventLifecycleService) ---
+
+    /**
+     * Récupère un lot d'IDs d'événements terminés et pas encore clôturés, du plus ancien au plus récent.
+     *
+     * @param now   L'instant de référence.
+     * @param limit La taille du lot.
+     * @return Les IDs des événements à clôturer.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.cloture = false AND e.endTime < :now ORDER BY e.endTime, e.id")
+    List<Integer> findIdsToClose(@Param("now") Instant now, Limit limit);
+
+    /**
+     * Filtre, parmi des IDs d'événements, ceux des événements annulés ({@code actif = false}).
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Les IDs des événements annulés.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.id IN :eventIds AND e.actif = false")
+    List<Integer> findInactiveIdsIn(@Param("eventIds") Collection<Integer> eventIds);
+
+    /**
+     * Marque des événements comme clôturés et remet leurs compteurs de places réservées à zéro
+     * (plus aucune de leurs réservations n'est au statut CONFIRME).
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre d'événements modifiés.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.cloture = true, e.placesReservees = 0 WHERE e.id IN :eventIds")
+    int markClosed(@Param("eventIds") Collection<Integer> eventIds);
+
+    /**
+     * Récupère un lot d'IDs d'événements clôturés terminés avant une date, du plus ancien au plus récent.
+     *
+     * @param cutoff La date limite (horizon d'archivage).
+     * @param limit  La taille du lot.
+     * @return Les IDs des événements à archiver.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.cloture = true AND e.endTime < :cutoff ORDER BY e.endTime, e.id")
+    List<Integer> findIdsToArchive(@Param("cutoff") Instant cutoff, Limit limit);
+
+    /**
+     * Supprime des événements en une requête, sans cascade JPA : leurs catégories, réservations et notations
+     * doivent avoir été supprimées au préalable.
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre d'événements supprimés.
+     */
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :eventIds")
+    int deleteByIdIn(@Param("eventIds") Collection<Integer> eventIds);
 }
@@ -0,0 +1,125 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.EventParticipation;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository pour l'entité {@link EventParticipation}.
+ * Les compteurs sont modifiés par des mises à jour atomiques pour supporter les réservations concurrentes.
+ */
+@Repository
+public interface EventParticipationDao extends JpaRepository<EventParticipation, EventParticipation.Key> {
+
+    /**
+     * Ajoute atomiquement un delta au compteur de réservations d'un membre pour un événement, sans le rendre négatif.
+     *
+     * @param eventId  L'ID de l'événement.
+     * @param membreId L'ID du membre.
+     * @param delta    Le nombre de réservations ajoutées (positif) ou annulées (négatif).
+     * @return 1 si le compteur a été modifié, 0 s'il n'existe pas encore (ou deviendrait négatif).
+     */
+    @Modifying
+    @Query("UPDATE EventParticipation p SET p.nombreReservations = p.nombreReservations + :delta " +
+            "WHERE p.eventId = :eventId AND p.membreId = :membreId AND p.nombreReservations + :delta >= 0")
+    int addToCount(@Param("eventId") Integer eventId, @Param("membreId") Integer membreId, @Param("delta") long delta);
+
+    /**
+     * Ajoute atomiquement des réservations au compteur d'un membre pour un événement, en créant la
+     * participation si elle n'existe pas encore. L'upsert est fait en une instruction pour que deux
+     * premières réservations concurrentes ne tentent pas toutes deux d'insérer la ligne.
+     *
+     * @param eventId  L'ID de l'événement.
+     * @param membreId L'ID du membre.
+     * @param nombre   Le nombre de réservations ajoutées (strictement positif).
+     * @return Le nombre de lignes affectées (1 pour une création, 2 pour une mise à jour sous MySQL).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO event_participations (event_id, membre_id, nombre_reservations) " +
+            "VALUES (:eventId, :membreId, :nombre) " +
+            "ON DUPLICATE KEY UPDATE nombre_reservations = nombre_reservations + :nombre", nativeQuery = true)
+    int upsertCount(@Param("eventId") Integer eventId, @Param("membreId") Integer membreId, @Param("nombre") long nombre);
+
+    /**
+     * Supprime la participation d'un membre à un événement si son compteur est tombé à zéro.
+     *
+     * @return Le nombre de lignes supprimées (0 ou 1).
+     */
+    @Modifying
+    @Query("DELETE FROM EventParticipation p " +
+            "WHERE p.eventId = :eventId AND p.membreId = :membreId AND p.nombreReservations <= 0")
+    int deleteIfEmpty(@Param("eventId") Integer eventId, @Param("membreId") Integer membreId);
+
+    /**
+     * Récupère, en une requête, les noms des membres donnés qui participent à chacun des événements donnés.
+     * <p>
+     * Chaque couple (événement, membre) est une lecture de clé primaire ; les membres inactifs sont exclus.
+     *
+     * @param eventIds  Les IDs des événements.
+     * @param membreIds Les IDs des membres recherchés (les amis de l'utilisateur).
+     * @return Une liste de tableaux d'objets : [eventId, prenom, nom], triée par événement puis par nom.
+     */
+    @Query("SELECT p.eventId, m.prenom, m.nom FROM EventParticipation p " +
+            "JOIN Membre m ON m.id = p.membreId " +
+            "WHERE p.eventId IN :eventIds AND p.membreId IN :membreIds " +
+            "ORDER BY p.eventId, m.nom, m.prenom")
+    List<Object[]> findParticipantNames(@Param("eventIds") Collection<Integer> eventIds,
+                                        @Param("membreIds") Collection<Integer> membreIds);
+
+    /**
+     * Recalcule toutes les participations à partir de la table des réservations.
+     * Les lignes existantes doivent avoir été supprimées au préalable.
+     *
+     * @param annule Le statut des réservations à ignorer ({@link ReservationStatus#ANNULE}).
+     * @return Le nombre de participations créées.
+     */
+    @Modifying
+    @Query("INSERT INTO EventParticipation (eventId, membreId, nombreReservations) " +
+            "SELECT r.event.id, r.membre.id, COUNT(r) " +
+            "FROM Reservation r WHERE r.status <> :annule " +
+            "GROUP BY r.event.id, r.membre.id")
+    int insertFromReservations(@Param("annule") ReservationStatus annule);
+
+    /**
+     * Retire en une requête, des participations aux événements donnés, les réservations d'un statut
+     * (réservations confirmées d'événements annulés, sur le point de passer au statut ANNULE).
+     * À appeler avant le changement de statut, puis {@link #deleteEmptyByEventIdIn(Collection)}.
+     *
+     * @param eventIds Les IDs des événements.
+     * @param status   Le statut des réservations à retirer.
+     * @return Le nombre de participations modifiées.
+     */
+    @Modifying
+    @Query("UPDATE EventParticipation p SET p.nombreReservations = p.nombreReservations - " +
+            "(SELECT COUNT(r) FROM Reservation r WHERE r.event.id = p.eventId AND r.membre.id = p.membreId AND r.status = :status) " +
+            "WHERE p.eventId IN :eventIds")
+    int subtractReservationsByEventIdIn(@Param("eventIds") Collection<Integer> eventIds,
+                                        @Param("status") ReservationStatus status);
+
+    /**
+     * Supprime en une requête les participations tombées à zéro des événements donnés.
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre de participations supprimées.
+     */
+    @Modifying
+    @Query("DELETE FROM EventParticipation p WHERE p.eventId IN :eventIds AND p.nombreReservations <= 0")
+    int deleteEmptyByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+
+    /**
+     * Supprime en une requête les participations aux événements donnés (archivage).
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre de participations supprimées.
+     */
+    @Modifying
+    @Query("DELETE FROM EventParticipation p WHERE p.eventId IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+}
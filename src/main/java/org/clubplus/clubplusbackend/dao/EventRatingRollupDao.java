@@ -0,0 +1,68 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.EventRatingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository pour l'entité {@link EventRatingRollup}.
+ * Les mises à jour sont atomiques (upsert en base) pour supporter les notations concurrentes.
+ */
+@Repository
+public interface EventRatingRollupDao extends JpaRepository<EventRatingRollup, Integer> {
+
+    /**
+     * Ajoute atomiquement les notes d'une notation à l'agrégat d'un événement, en créant la ligne
+     * s'il s'agit de la première notation. L'upsert est fait en une instruction pour que deux premières
+     * notations concurrentes ne tentent pas toutes deux d'insérer la ligne.
+     *
+     * @return Le nombre de lignes affectées (1 pour une création, 2 pour une mise à jour sous MySQL).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO event_rating_rollups (event_id, club_id, somme_ambiance, somme_proprete, somme_organisation, " +
+            "somme_fair_play, somme_niveau_joueurs, nombre_notations) " +
+            "VALUES (:eventId, :clubId, :ambiance, :proprete, :organisation, :fairPlay, :niveauJoueurs, 1) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "somme_ambiance = somme_ambiance + :ambiance, " +
+            "somme_proprete = somme_proprete + :proprete, " +
+            "somme_organisation = somme_organisation + :organisation, " +
+            "somme_fair_play = somme_fair_play + :fairPlay, " +
+            "somme_niveau_joueurs = somme_niveau_joueurs + :niveauJoueurs, " +
+            "nombre_notations = nombre_notations + 1", nativeQuery = true)
+    int upsertNotation(@Param("eventId") Integer eventId,
+                       @Param("clubId") Integer clubId,
+                       @Param("ambiance") long ambiance,
+                       @Param("proprete") long proprete,
+                       @Param("organisation") long organisation,
+                       @Param("fairPlay") long fairPlay,
+                       @Param("niveauJoueurs") long niveauJoueurs);
+
+    /**
+     * Recalcule tous les agrégats d'événements (actifs ou non) à partir des notations.
+     * Les lignes existantes doivent avoir été supprimées au préalable.
+     *
+     * @return Le nombre d'agrégats créés.
+     */
+    @Modifying
+    @Query("INSERT INTO EventRatingRollup (eventId, clubId, sommeAmbiance, sommeProprete, sommeOrganisation, sommeFairPlay, sommeNiveauJoueurs, nombreNotations) " +
+            "SELECT e.id, e.organisateur.id, SUM(n.ambiance), SUM(n.proprete), SUM(n.organisation), SUM(n.fairPlay), SUM(n.niveauJoueurs), COUNT(n) " +
+            "FROM Notation n JOIN n.event e " +
+            "GROUP BY e.id, e.organisateur.id")
+    int insertFromNotations();
+
+    /**
+     * Recalcule les agrégats des événements archivés à partir des notations archivées.
+     * À appeler après {@link #insertFromNotations()} : un événement est soit actif, soit archivé.
+     *
+     * @return Le nombre d'agrégats créés.
+     */
+    @Modifying
+    @Query("INSERT INTO EventRatingRollup (eventId, clubId, sommeAmbiance, sommeProprete, sommeOrganisation, sommeFairPlay, sommeNiveauJoueurs, nombreNotations) " +
+            "SELECT n.eventId, n.clubId, SUM(n.ambiance), SUM(n.proprete), SUM(n.organisation), SUM(n.fairPlay), SUM(n.niveauJoueurs), COUNT(n) " +
+            "FROM NotationArchive n " +
+            "GROUP BY n.eventId, n.clubId")
+    int insertFromArchivedNotations();
+}
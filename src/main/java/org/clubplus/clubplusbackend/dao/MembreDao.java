@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -90,4 +91,50 @@ public interface MembreDao extends JpaRepository<Membre, Integer> {
      * @return Un {@link Optional} contenant le membre associé au token.
      */
     Optional<Membre> findByResetPasswordToken(String resetPasswordToken);
+
+    /**
+     * Récupère uniquement la version de sécurité d'un membre actif.
+     * <p>
+     * Utilisé par le filtre JWT pour valider un token sans charger l'entité complète.
+     *
+     * @param id L'ID du membre.
+     * @return Un {@link Optional} contenant la version, vide si le membre est introuvable ou inactif.
+     */
+    @Query("SELECT m.securityVersion FROM Membre m WHERE m.id = :id")
+    Optional<Integer> findSecurityVersionById(@Param("id") Integer id);
+
+    /**
+     * Charge en une seule requête le rôle d'un membre actif et les IDs des clubs dont il est adhérent.
+     * <p>
+     * Chaque ligne contient {@code [Role role, Integer clubId]} ; {@code clubId} est null si le membre
+     * n'a aucune adhésion. Aucune ligne n'est retournée si le membre est introuvable ou inactif.
+     * Utilisé pour construire le contexte d'autorisation d'une requête.
+     *
+     * @param id L'ID du membre.
+     * @return La liste des couples (rôle, ID de club).
+     */
+    @Query("SELECT m.role, a.club.id FROM Membre m LEFT JOIN m.adhesions a WHERE m.id = :id")
+    List<Object[]> findRoleAndClubIdsById(@Param("id") Integer id);
+
+    /**
+     * Parmi les emails donnés, retourne ceux déjà utilisés par un compte, actif ou non.
+     * <p>
+     * Requête native pour ne pas appliquer le filtre {@code actif = true} : la contrainte d'unicité
+     * de l'email porte sur tous les comptes. Utilisé par l'import de membres.
+     *
+     * @param emails Les emails à vérifier (normalisés en minuscules).
+     * @return Les emails déjà présents en base.
+     */
+    @Query(value = "SELECT m.email FROM membre m WHERE m.email IN (:emails)", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Récupère les IDs des membres correspondant aux emails donnés.
+     * Chaque ligne contient {@code [Integer id, String email]}.
+     *
+     * @param emails Les emails recherchés.
+     * @return Les couples (ID, email) trouvés.
+     */
+    @Query(value = "SELECT m.id, m.email FROM membre m WHERE m.email IN (:emails)", nativeQuery = true)
+    List<Object[]> findIdAndEmailByEmailIn(@Param("emails") Collection<String> emails);
 }
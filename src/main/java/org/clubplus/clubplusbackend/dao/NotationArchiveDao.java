@@ -0,0 +1,29 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.NotationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository pour l'entité {@link NotationArchive}.
+ */
+@Repository
+public interface NotationArchiveDao extends JpaRepository<NotationArchive, Integer> {
+
+    /**
+     * Copie les notations des événements donnés dans la table d'archive, en une requête.
+     *
+     * @param eventIds Les IDs des événements archivés.
+     * @return Le nombre de notations copiées.
+     */
+    @Modifying
+    @Query("INSERT INTO NotationArchive (id, eventId, clubId, membreId, ambiance, proprete, organisation, fairPlay, niveauJoueurs, dateNotation) " +
+            "SELECT n.id, e.id, e.organisateur.id, n.membre.id, n.ambiance, n.proprete, n.organisation, n.fairPlay, n.niveauJoueurs, n.dateNotation " +
+            "FROM Notation n JOIN n.event e WHERE e.id IN :eventIds")
+    int archiveByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+}
@@ -4,12 +4,13 @@ import org.clubplus.clubplusbackend.model.Event;
 import org.clubplus.clubplusbackend.model.Membre;
 import org.clubplus.clubplusbackend.model.Notation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -49,50 +50,13 @@ public interface NotationDao extends JpaRepository<Notation, Integer> {
      */
     boolean existsByEventIdAndMembreId(Integer eventId, Integer membreId);
 
-    // --- Méthodes pour Statistiques ---
-
-    /**
-     * Calcule la note moyenne pour le critère 'ambiance' sur une liste d'événements.
-     *
-     * @param eventIds La liste des IDs d'événements.
-     * @return Un {@link Optional<Double>} contenant la moyenne.
-     */
-    @Query("SELECT AVG(n.ambiance) FROM Notation n WHERE n.event.id IN :eventIds")
-    Optional<Double> findAverageAmbianceForEventIds(@Param("eventIds") List<Integer> eventIds);
-
-    /**
-     * Calcule la note moyenne pour le critère 'proprete' sur une liste d'événements.
-     *
-     * @param eventIds La liste des IDs d'événements.
-     * @return Un {@link Optional<Double>} contenant la moyenne.
-     */
-    @Query("SELECT AVG(n.proprete) FROM Notation n WHERE n.event.id IN :eventIds")
-    Optional<Double> findAveragePropreteForEventIds(@Param("eventIds") List<Integer> eventIds);
-
-    /**
-     * Calcule la note moyenne pour le critère 'organisation' sur une liste d'événements.
-     *
-     * @param eventIds La liste des IDs d'événements.
-     * @return Un {@link Optional<Double>} contenant la moyenne.
-     */
-    @Query("SELECT AVG(n.organisation) FROM Notation n WHERE n.event.id IN :eventIds")
-    Optional<Double> findAverageOrganisationForEventIds(@Param("eventIds") List<Integer> eventIds);
-
-    /**
-     * Calcule la note moyenne pour le critère 'fairPlay' sur une liste d'événements.
-     *
-     * @param eventIds La liste des IDs d'événements.
-     * @return Un {@link Optional<Double>} contenant la moyenne.
-     */
-    @Query("SELECT AVG(n.fairPlay) FROM Notation n WHERE n.event.id IN :eventIds")
-    Optional<Double> findAverageFairPlayForEventIds(@Param("eventIds") List<Integer> eventIds);
-
     /**
-     * Calcule la note moyenne pour le critère 'niveauJoueurs' sur une liste d'événements.
+     * Supprime en une requête les notations des événements donnés (archivage).
      *
-     * @param eventIds La liste des IDs d'événements.
-     * @return Un {@link Optional<Double>} contenant la moyenne.
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre de notations supprimées.
      */
-    @Query("SELECT AVG(n.niveauJoueurs) FROM Notation n WHERE n.event.id IN :eventIds")
-    Optional<Double> findAverageNiveauJoueursForEventIds(@Param("eventIds") List<Integer> eventIds);
+    @Modifying
+    @Query("DELETE FROM Notation n WHERE n.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
 }
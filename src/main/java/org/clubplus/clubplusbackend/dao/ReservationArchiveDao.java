@@ -0,0 +1,29 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.ReservationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository pour l'entité {@link ReservationArchive}.
+ */
+@Repository
+public interface ReservationArchiveDao extends JpaRepository<ReservationArchive, Integer> {
+
+    /**
+     * Copie les réservations des événements donnés dans la table d'archive, en une requête.
+     *
+     * @param eventIds Les IDs des événements archivés.
+     * @return Le nombre de réservations copiées.
+     */
+    @Modifying
+    @Query("INSERT INTO ReservationArchive (id, reservationUuid, membreId, eventId, categorieId, dateReservation, status) " +
+            "SELECT r.id, r.reservationUuid, r.membre.id, r.event.id, r.categorie.id, r.dateReservation, r.status " +
+            "FROM Reservation r WHERE r.event.id IN :eventIds")
+    int archiveByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
+}
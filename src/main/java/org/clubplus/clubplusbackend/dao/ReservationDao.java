@@ -3,6 +3,7 @@ package org.clubplus.clubplusbackend.dao;
 import org.clubplus.clubplusbackend.model.Reservation;
 import org.clubplus.clubplusbackend.model.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -95,4 +96,57 @@ public interface ReservationDao extends JpaRepository<Reservation, Integer> {
      * Trouve toutes les réservations futures d'un membre.
      */
     List<Reservation> findByMembreIdAndEvent_EndTimeAfter(Integer membreId, Instant currentTime);
+
+    /**
+     * Compte, pour un événement, les réservations d'un statut donné de chacun des membres fournis.
+     * <p>
+     * Chaque ligne contient {@code [Integer membreId, Long nombre]} ; les membres sans réservation sont absents.
+     * Utilisé par le traitement par lots du mode drop pour appliquer la limite par membre en une requête.
+     *
+     * @param eventId   L'ID de l'événement.
+     * @param membreIds Les IDs des membres concernés.
+     * @param status    Le statut des réservations à compter.
+     * @return Les couples (ID du membre, nombre de réservations).
+     */
+    @Query("SELECT r.membre.id, COUNT(r) FROM Reservation r " +
+            "WHERE r.event.id = :eventId AND r.membre.id IN :membreIds AND r.status = :status " +
+            "GROUP BY r.membre.id")
+    List<Object[]> countByEventIdAndMembreIdsGroupByMembre(@Param("eventId") Integer eventId,
+                                                          @Param("membreIds") Collection<Integer> membreIds,
+                                                          @Param("status") ReservationStatus status);
+
+    /**
+     * Récupère les couples distincts (membre, événement) des réservations d'un statut donné.
+     * <p>
+     * Utilisé pour charger l'index des affinités des suggestions d'amis en une seule requête.
+     *
+     * @param status Le statut des réservations (ex: UTILISE).
+     * @return Une liste de tableaux d'objets : [membreId, eventId].
+     */
+    @Query("SELECT DISTINCT r.membre.id, r.event.id FROM Reservation r WHERE r.status = :status")
+    List<Object[]> findDistinctMembreEventIdPairsByStatus(@Param("status") ReservationStatus status);
+
+    /**
+     * Fait passer en une requête les réservations des événements donnés d'un statut à un autre.
+     *
+     * @param eventIds Les IDs des événements.
+     * @param from     Le statut actuel des réservations concernées.
+     * @param to       Le nouveau statut.
+     * @return Le nombre de réservations modifiées.
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :to WHERE r.event.id IN :eventIds AND r.status = :from")
+    int updateStatusByEventIdIn(@Param("eventIds") Collection<Integer> eventIds,
+                                @Param("from") ReservationStatus from,
+                                @Param("to") ReservationStatus to);
+
+    /**
+     * Supprime en une requête les réservations des événements donnés (archivage).
+     *
+     * @param eventIds Les IDs des événements.
+     * @return Le nombre de réservations supprimées.
+     */
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
 }
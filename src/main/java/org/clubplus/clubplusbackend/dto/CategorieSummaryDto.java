@@ -0,0 +1,32 @@
+package org.clubplus.clubplusbackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Catégorie d'un événement telle qu'affichée dans les listes d'événements.
+ * <p>
+ * Construite directement par une requête JPQL ({@code SELECT new ...}) : aucune entité {@code Categorie}
+ * n'est chargée et la collection des réservations n'est jamais parcourue.
+ *
+ * @param eventId         L'ID de l'événement parent (sert au regroupement, non sérialisé).
+ * @param id              L'ID de la catégorie.
+ * @param nom             Le nom de la catégorie.
+ * @param capacite        La capacité de la catégorie.
+ * @param placeReserve    Le nombre de places réservées (compteur dénormalisé).
+ * @param placeDisponible Le nombre de places encore disponibles.
+ */
+public record CategorieSummaryDto(@JsonIgnore Integer eventId,
+                                  Integer id,
+                                  String nom,
+                                  Integer capacite,
+                                  int placeReserve,
+                                  int placeDisponible) {
+
+    /**
+     * Constructeur utilisé par la projection JPQL.
+     */
+    public CategorieSummaryDto(Integer eventId, Integer id, String nom, Integer capacite, int placesReservees) {
+        this(eventId, id, nom, capacite, placesReservees,
+                capacite == null || capacite < 0 ? 0 : Math.max(0, capacite - placesReservees));
+    }
+}
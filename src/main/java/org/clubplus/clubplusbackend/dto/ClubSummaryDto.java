@@ -0,0 +1,14 @@
+package org.clubplus.clubplusbackend.dto;
+
+/**
+ * Club organisateur tel qu'affiché dans les listes d'événements.
+ * <p>
+ * Reprend les champs de la vue {@code GlobalView.Base} du club.
+ *
+ * @param id       L'ID du club.
+ * @param nom      Le nom du club.
+ * @param ville    La ville du club.
+ * @param codeClub Le code unique du club.
+ */
+public record ClubSummaryDto(Integer id, String nom, String ville, String codeClub) {
+}
@@ -0,0 +1,17 @@
+package org.clubplus.clubplusbackend.dto;
+
+import java.util.List;
+
+/**
+ * Page d'une liste paginée par curseur.
+ *
+ * @param items      Les éléments de la page, dans l'ordre de la liste.
+ * @param nextCursor Le curseur opaque de la page suivante, ou {@code null} s'il s'agit de la dernière page.
+ * @param <T>        Le type des éléments.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -3,6 +3,7 @@ package org.clubplus.clubplusbackend.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -51,4 +52,32 @@ public class DashboardSummaryDto {
      */
     private Map<String, Double> averageEventRatings;
 
+    /**
+     * Métadonnées de calcul du résumé (date de génération et durées par section).
+     */
+    private Metadata metadata;
+
+    /**
+     * Métadonnées de calcul du tableau de bord, utiles au suivi des performances.
+     */
+    @Data
+    @Builder
+    public static class Metadata {
+
+        /**
+         * L'instant de génération du résumé.
+         */
+        private Instant generatedAt;
+
+        /**
+         * La durée totale du calcul, en millisecondes.
+         */
+        private long totalMs;
+
+        /**
+         * La durée de calcul de chaque section, en millisecondes.
+         * La clé est le nom de la section (ex: "evenements", "notes").
+         */
+        private Map<String, Long> sectionsMs;
+    }
 }
@@ -0,0 +1,84 @@
+package org.clubplus.clubplusbackend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position dans une liste d'événements triée par {@code (startTime, id)}, pour la pagination par clé (keyset).
+ * <p>
+ * Le curseur désigne le dernier événement d'une page : la page suivante contient les événements strictement
+ * postérieurs dans l'ordre de tri. Contrairement à un numéro de page, il reste stable quand des événements
+ * sont ajoutés et son coût ne dépend pas de la profondeur de la page. Le client le reçoit sous forme opaque
+ * (Base64 URL-safe) et le renvoie tel quel.
+ *
+ * @param startTime La date de début du dernier événement vu.
+ * @param id        L'ID du dernier événement vu (départage les événements commençant au même instant).
+ */
+public record EventCursor(Instant startTime, Integer id) implements Comparable<EventCursor> {
+
+    /**
+     * Curseur de la première page d'une liste sans borne de date.
+     */
+    public static final EventCursor FIRST = new EventCursor(Instant.EPOCH, 0);
+
+    private static final String VERSION = "v1";
+    private static final Comparator<EventCursor> ORDER =
+            Comparator.comparing(EventCursor::startTime).thenComparing(EventCursor::id);
+
+    /**
+     * Curseur de la première page d'une liste limitée aux événements débutant strictement après {@code instant}.
+     */
+    public static EventCursor startingAfter(Instant instant) {
+        return new EventCursor(instant, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Curseur positionné sur un événement.
+     */
+    public static EventCursor of(EventSummaryDto event) {
+        return new EventCursor(event.startTime(), event.id());
+    }
+
+    /**
+     * Décode un curseur reçu du client.
+     *
+     * @param cursor Le curseur opaque (null ou vide pour la première page).
+     * @param floor  Le curseur de la première page, qui sert aussi de borne basse.
+     * @return Le curseur décodé, ou {@code floor} s'il est absent ou antérieur à la borne.
+     * @throws IllegalArgumentException si le curseur est mal formé.
+     */
+    public static EventCursor decode(String cursor, EventCursor floor) {
+        if (cursor == null || cursor.isBlank()) {
+            return floor;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Curseur de pagination invalide.");
+            }
+            EventCursor decoded = new EventCursor(
+                    Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2])),
+                    Integer.valueOf(parts[3]));
+            return decoded.compareTo(floor) < 0 ? floor : decoded;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // NumberFormatException et erreurs Base64 sont des IllegalArgumentException.
+            throw new IllegalArgumentException("Curseur de pagination invalide.", e);
+        }
+    }
+
+    /**
+     * Encode le curseur sous sa forme opaque.
+     */
+    public String encode() {
+        String raw = VERSION + ":" + startTime.getEpochSecond() + ":" + startTime.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(EventCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
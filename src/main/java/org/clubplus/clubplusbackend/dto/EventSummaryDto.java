@@ -0,0 +1,64 @@
+package org.clubplus.clubplusbackend.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Événement tel qu'affiché dans les listes d'événements (lecture seule).
+ * <p>
+ * Construit directement par une requête JPQL ({@code SELECT new ...}) qui ne lit que les colonnes affichées :
+ * aucune entité ni proxy Hibernate n'est sérialisé, et rien n'est chargé paresseusement après la fin de la
+ * transaction du service. Les catégories sont ajoutées ensuite par {@link #withCategories(List)}, à partir d'une
+ * seule requête pour toute la page. Les noms des champs JSON sont ceux de la vue {@code GlobalView.EventView}
+ * de l'entité {@code Event}.
+ *
+ * @param id              L'ID de l'événement.
+ * @param nom             Le nom de l'événement.
+ * @param startTime       La date de début.
+ * @param endTime         La date de fin.
+ * @param description     La description.
+ * @param location        Le lieu.
+ * @param actif           {@code true} si l'événement est actif, {@code false} s'il est annulé.
+ * @param dropMode        {@code true} si les réservations passent par la file d'attente.
+ * @param placeTotal      La capacité totale (compteur dénormalisé).
+ * @param placeReserve    Le nombre de places réservées (compteur dénormalisé).
+ * @param placeDisponible Le nombre de places encore disponibles.
+ * @param organisateur    Le club organisateur.
+ * @param categories      Les catégories de l'événement.
+ */
+public record EventSummaryDto(Integer id,
+                              String nom,
+                              Instant startTime,
+                              Instant endTime,
+                              String description,
+                              String location,
+                              Boolean actif,
+                              boolean dropMode,
+                              int placeTotal,
+                              int placeReserve,
+                              int placeDisponible,
+                              ClubSummaryDto organisateur,
+                              List<CategorieSummaryDto> categories) {
+
+    /**
+     * Constructeur utilisé par la projection JPQL (une ligne par événement, sans les catégories).
+     */
+    public EventSummaryDto(Integer id, String nom, Instant startTime, Instant endTime, String description,
+                           String location, Boolean actif, boolean dropMode, int placeTotal, int placesReservees,
+                           Integer organisateurId, String organisateurNom, String organisateurVille,
+                           String organisateurCodeClub) {
+        this(id, nom, startTime, endTime, description, location, actif, dropMode, placeTotal, placesReservees,
+                Math.max(0, placeTotal - placesReservees),
+                organisateurId == null ? null
+                        : new ClubSummaryDto(organisateurId, organisateurNom, organisateurVille, organisateurCodeClub),
+                List.of());
+    }
+
+    /**
+     * Retourne une copie de cet événement avec les catégories données.
+     */
+    public EventSummaryDto withCategories(List<CategorieSummaryDto> categories) {
+        return new EventSummaryDto(id, nom, startTime, endTime, description, location, actif, dropMode,
+                placeTotal, placeReserve, placeDisponible, organisateur, List.copyOf(categories));
+    }
+}
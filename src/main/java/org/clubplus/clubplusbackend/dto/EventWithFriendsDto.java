@@ -5,8 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.clubplus.clubplusbackend.model.Categorie;
-import org.clubplus.clubplusbackend.model.Club;
 import org.clubplus.clubplusbackend.view.GlobalView;
 
 import java.time.Instant;
@@ -92,17 +90,15 @@ public class EventWithFriendsDto {
 
     /**
      * Liste des catégories de l'événement.
-     * Note: Pour une meilleure isolation, l'utilisation d'un DTO simple (ex: CategorieBasicDto) serait préférable.
      */
     @JsonView(GlobalView.Base.class)
-    private List<Categorie> categories;
+    private List<CategorieSummaryDto> categories;
 
     /**
      * Le club qui organise l'événement.
-     * Note: Pour une meilleure isolation, l'utilisation d'un DTO simple (ex: ClubBasicDto) serait préférable.
      */
     @JsonView(GlobalView.Base.class)
-    private Club organisateur;
+    private ClubSummaryDto organisateur;
 
     // --- Champ spécifique à ce DTO ---
 
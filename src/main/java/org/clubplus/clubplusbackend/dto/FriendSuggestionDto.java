@@ -0,0 +1,16 @@
+package org.clubplus.clubplusbackend.dto;
+
+/**
+ * Membre suggéré comme ami, avec les affinités qui justifient la suggestion.
+ *
+ * @param id                L'ID du membre suggéré.
+ * @param nom               Le nom du membre.
+ * @param prenom            Le prénom du membre.
+ * @param codeAmi           Le code ami du membre, pour lui envoyer une demande.
+ * @param amisCommuns       Le nombre d'amis en commun avec l'utilisateur courant.
+ * @param clubsCommuns      Le nombre de clubs en commun.
+ * @param evenementsCommuns Le nombre d'événements auxquels les deux membres ont participé.
+ */
+public record FriendSuggestionDto(Integer id, String nom, String prenom, String codeAmi,
+                                  int amisCommuns, int clubsCommuns, int evenementsCommuns) {
+}
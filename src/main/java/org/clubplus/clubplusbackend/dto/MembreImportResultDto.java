@@ -0,0 +1,81 @@
+package org.clubplus.clubplusbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) décrivant le résultat d'un import de membres dans un club.
+ * Contient les totaux et le résultat de chaque ligne du fichier importé.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MembreImportResultDto {
+
+    /**
+     * Résultat possible pour une ligne importée.
+     */
+    public enum StatutLigne {
+        /**
+         * Le membre a été créé et ajouté au club.
+         */
+        CREE,
+        /**
+         * L'email est déjà utilisé (par un compte existant ou une ligne précédente du fichier) : ligne ignorée.
+         */
+        DOUBLON,
+        /**
+         * La ligne est incomplète ou invalide : ligne ignorée.
+         */
+        INVALIDE
+    }
+
+    /**
+     * Résultat d'une ligne du fichier.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LigneResultat {
+        /**
+         * Le numéro de la ligne dans le fichier (l'en-tête d'un CSV est la ligne 1).
+         */
+        private int ligne;
+        private String email;
+        private StatutLigne statut;
+        /**
+         * L'ID du membre créé (statut CREE uniquement).
+         */
+        private Integer membreId;
+        /**
+         * Le motif de rejet (statuts DOUBLON et INVALIDE).
+         */
+        private String message;
+    }
+
+    private int total;
+    private int crees;
+    private int doublons;
+    private int invalides;
+    private long dureeMs;
+    private List<LigneResultat> lignes = new ArrayList<>();
+
+    /**
+     * Ajoute le résultat d'une ligne et met à jour les totaux.
+     */
+    public void addLigne(LigneResultat resultat) {
+        lignes.add(resultat);
+        total++;
+        switch (resultat.getStatut()) {
+            case CREE -> crees++;
+            case DOUBLON -> doublons++;
+            case INVALIDE -> invalides++;
+        }
+    }
+}
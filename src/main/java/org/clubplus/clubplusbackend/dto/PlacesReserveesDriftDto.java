@@ -0,0 +1,42 @@
+package org.clubplus.clubplusbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO (Data Transfer Object) décrivant l'écart constaté, pour une catégorie, entre le compteur
+ * persisté {@code placesReservees} et le nombre réel de réservations confirmées.
+ * Produit par la tâche de réconciliation des compteurs de places.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacesReserveesDriftDto {
+
+    /**
+     * L'ID de la catégorie concernée.
+     */
+    private Integer categorieId;
+
+    /**
+     * La valeur du compteur avant correction.
+     */
+    private int compteur;
+
+    /**
+     * Le nombre réel de réservations confirmées, nouvelle valeur du compteur.
+     */
+    private long reservationsConfirmees;
+
+    /**
+     * Retourne l'écart (positif si le compteur surestimait les places réservées).
+     *
+     * @return compteur - réservations confirmées.
+     */
+    public long getEcart() {
+        return compteur - reservationsConfirmees;
+    }
+}
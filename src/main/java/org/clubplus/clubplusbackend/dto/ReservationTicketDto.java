@@ -0,0 +1,80 @@
+package org.clubplus.clubplusbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO (Data Transfer Object) représentant un ticket de réservation en mode drop.
+ * <p>
+ * Le ticket est remis immédiatement au membre lors de sa demande ; il peut ensuite être
+ * consulté jusqu'à ce que la demande soit acceptée (réservation créée) ou refusée.
+ */
+@Data
+@Builder
+public class ReservationTicketDto {
+
+    /**
+     * États possibles d'un ticket.
+     */
+    public enum StatutTicket {
+        /**
+         * La demande est dans la file d'attente de la catégorie.
+         */
+        EN_ATTENTE,
+        /**
+         * La demande a été acceptée : la réservation est créée.
+         */
+        ACCEPTEE,
+        /**
+         * La demande a été refusée (catégorie complète, limite atteinte, événement annulé...).
+         */
+        REFUSEE
+    }
+
+    /**
+     * L'identifiant opaque du ticket, à utiliser pour le consulter.
+     */
+    private String ticketId;
+
+    /**
+     * L'ID de l'événement demandé.
+     */
+    private Integer eventId;
+
+    /**
+     * L'ID de la catégorie demandée.
+     */
+    private Integer categorieId;
+
+    /**
+     * L'état actuel du ticket.
+     */
+    private StatutTicket statut;
+
+    /**
+     * L'ID de la réservation créée, renseigné lorsque le ticket est accepté.
+     */
+    private Integer reservationId;
+
+    /**
+     * L'UUID de la réservation créée (données du QR code), renseigné lorsque le ticket est accepté.
+     */
+    private String reservationUuid;
+
+    /**
+     * Le motif du refus, renseigné lorsque le ticket est refusé.
+     */
+    private String message;
+
+    /**
+     * L'instant de dépôt de la demande.
+     */
+    private Instant dateDemande;
+
+    /**
+     * L'instant de la décision, null tant que le ticket est en attente.
+     */
+    private Instant dateDecision;
+}
@@ -0,0 +1,41 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.clubplus.clubplusbackend.dao.ConcurrencyLimitedDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Expose l'occupation du limiteur d'accès à la base ({@link ConcurrencyLimitedDataSource}) lorsqu'il est actif.
+ * <p>
+ * Les métriques du pool lui-même ({@code hikaricp.connections.*} : actives, en attente, délais d'obtention)
+ * sont publiées par Spring Boot.
+ */
+@Component
+public class DatabaseConcurrencyMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+
+    public DatabaseConcurrencyMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(dataSource instanceof ConcurrencyLimitedDataSource limiter)) {
+            return;
+        }
+        Gauge.builder("clubplus.db.concurrency.active", limiter, ConcurrencyLimitedDataSource::getActivePermits)
+                .description("Connexions empruntées à travers le limiteur")
+                .register(registry);
+        Gauge.builder("clubplus.db.concurrency.waiting", limiter, ConcurrencyLimitedDataSource::getWaitingThreads)
+                .description("Threads en attente d'un accès à la base")
+                .register(registry);
+        Gauge.builder("clubplus.db.concurrency.max", limiter, ConcurrencyLimitedDataSource::getMaxPermits)
+                .description("Nombre maximal de connexions simultanées autorisées")
+                .register(registry);
+    }
+}
@@ -0,0 +1,22 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import java.lang.annotation.*;
+
+/**
+ * Déclare le nombre maximal de requêtes SQL qu'un endpoint peut exécuter pour une requête HTTP.
+ * <p>
+ * Placée sur une méthode de contrôleur (ou sur le contrôleur pour toutes ses méthodes), elle remplace
+ * le budget par défaut {@code app.sql.budget.default-max-statements}. Le budget couvre toute la requête HTTP,
+ * lectures de l'authentification comprises (voir {@link SqlBudgetResolver}). Le dépassement est journalisé,
+ * ou fait échouer la requête en mode {@code FAIL} (voir {@link SqlStatementCounter}).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SqlBudget {
+
+    /**
+     * @return Le nombre maximal de requêtes SQL par requête HTTP.
+     */
+    int value();
+}
@@ -0,0 +1,11 @@
+package org.clubplus.clubplusbackend.metrics;
+
+/**
+ * Levée en mode {@code FAIL} lorsqu'une requête HTTP dépasse son budget de requêtes SQL (voir {@link SqlBudget}).
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
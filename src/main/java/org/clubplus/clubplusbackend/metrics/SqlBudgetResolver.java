@@ -0,0 +1,98 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retrouve le budget déclaré par {@link SqlBudget} sur l'endpoint d'une requête HTTP (méthode du contrôleur ou,
+ * à défaut, contrôleur), avant que la requête n'atteigne Spring MVC.
+ * <p>
+ * Utilisé par {@link SqlStatementMetricsFilter}, placé avant les filtres de sécurité : le budget de l'endpoint
+ * s'applique dès la première requête SQL, y compris aux lectures faites pendant l'authentification.
+ * La recherche du handler se fait sur une vue de la requête dont les attributs sont isolés, pour ne rien laisser
+ * à {@code DispatcherServlet}.
+ */
+@Component
+public class SqlBudgetResolver {
+
+    private final HandlerMapping handlerMapping;
+    private final Map<Method, OptionalInt> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * @param handlerMapping Le mapping des contrôleurs annotés ({@code @RequestMapping}).
+     */
+    public SqlBudgetResolver(@Lazy @Qualifier("requestMappingHandlerMapping") HandlerMapping handlerMapping) {
+        this.handlerMapping = handlerMapping;
+    }
+
+    /**
+     * @param request La requête HTTP.
+     * @return Le budget de l'endpoint, ou vide si l'endpoint n'en déclare pas (ou si aucun endpoint ne correspond).
+     */
+    public OptionalInt resolve(HttpServletRequest request) {
+        HandlerExecutionChain chain;
+        try {
+            AttributsIsoles vue = new AttributsIsoles(request);
+            ServletRequestPathUtils.parseAndCache(vue);
+            chain = handlerMapping.getHandler(vue);
+        } catch (Exception e) {
+            // Méthode non supportée, type de contenu refusé... : la requête n'atteindra pas d'endpoint annoté.
+            return OptionalInt.empty();
+        }
+        if (chain == null || !(chain.getHandler() instanceof HandlerMethod handlerMethod)) {
+            return OptionalInt.empty();
+        }
+        return budgets.computeIfAbsent(handlerMethod.getMethod(), method -> {
+            SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(method, SqlBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+            }
+            return budget != null ? OptionalInt.of(budget.value()) : OptionalInt.empty();
+        });
+    }
+
+    /**
+     * Vue de la requête dont les attributs posés pendant la recherche du handler restent locaux.
+     */
+    private static final class AttributsIsoles extends HttpServletRequestWrapper {
+
+        private final Map<String, Object> attributs = new HashMap<>();
+        private final Set<String> retires = new HashSet<>();
+
+        private AttributsIsoles(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            if (attributs.containsKey(name)) {
+                return attributs.get(name);
+            }
+            return retires.contains(name) ? null : super.getAttribute(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            retires.remove(name);
+            attributs.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributs.remove(name);
+            retires.add(name);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Compte les requêtes SQL préparées par Hibernate sur le thread courant et repère les requêtes répétées.
+ * <p>
+ * Enregistré comme {@link StatementInspector} de la fabrique de sessions : chaque requête passe par
+ * {@link #inspect(String)}, qui l'ajoute au comptage du thread s'il a été démarré par {@link #start()}.
+ * Les requêtes exécutées hors d'un comptage (tâches planifiées, sections de tableau de bord calculées
+ * sur un autre thread) ne sont pas comptées.
+ * <p>
+ * Chaque comptage a un budget ({@link SqlBudget}, sinon {@code app.sql.budget.default-max-statements}).
+ * Selon {@code app.sql.budget.mode} :
+ * <ul>
+ * <li>{@code OFF} : ni comptage, ni contrôle du budget, ni détection des N+1 ({@link #inspect(String)}
+ * rend la main sans aucun traitement) ;</li>
+ * <li>{@code LOG} : le dépassement est journalisé en fin de requête ({@link SqlStatementMetricsFilter}) ;</li>
+ * <li>{@code FAIL} : la requête SQL qui dépasse le budget lève une {@link SqlBudgetExceededException}
+ * (pour les environnements de test et de développement).</li>
+ * </ul>
+ * Une même forme de requête (paramètres et listes {@code IN} confondus) exécutée au moins
+ * {@code app.sql.n-plus-one.threshold} fois au cours d'une requête HTTP est signalée comme N+1 probable.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    /**
+     * Mode de contrôle du budget de requêtes SQL.
+     */
+    public enum Mode {OFF, LOG, FAIL}
+
+    /**
+     * Liste de paramètres d'une clause {@code IN (?, ?, ...)}, dont la longueur varie d'un appel à l'autre.
+     */
+    private static final Pattern LISTE_PARAMETRES = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern ESPACES = Pattern.compile("\\s+");
+
+    private static final class Comptage {
+        private int total;
+        private int budget;
+        private final Map<String, Integer> formes = new HashMap<>();
+
+        private Comptage(int budget) {
+            this.budget = budget;
+        }
+    }
+
+    private final ThreadLocal<Comptage> comptage = new ThreadLocal<>();
+    private final Mode mode;
+    private final int defaultBudget;
+    private final int nPlusOneThreshold;
+
+    /**
+     * Construit le compteur avec sa configuration.
+     *
+     * @param mode              Le mode de contrôle du budget.
+     * @param defaultBudget     Le budget des endpoints sans {@link SqlBudget}.
+     * @param nPlusOneThreshold Le nombre d'exécutions d'une même requête à partir duquel un N+1 est signalé.
+     */
+    public SqlStatementCounter(@Value("${app.sql.budget.mode:LOG}") Mode mode,
+                               @Value("${app.sql.budget.default-max-statements:50}") int defaultBudget,
+                               @Value("${app.sql.n-plus-one.threshold:5}") int nPlusOneThreshold) {
+        if (defaultBudget < 0 || nPlusOneThreshold < 2) {
+            throw new IllegalArgumentException("app.sql.budget.default-max-statements doit être positif "
+                    + "et app.sql.n-plus-one.threshold supérieur ou égal à 2.");
+        }
+        this.mode = mode;
+        this.defaultBudget = defaultBudget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (mode == Mode.OFF) {
+            return sql;
+        }
+        Comptage courant = comptage.get();
+        if (courant == null) {
+            return sql;
+        }
+        courant.total++;
+        courant.formes.merge(forme(sql), 1, Integer::sum);
+        if (mode == Mode.FAIL && courant.total > courant.budget) {
+            throw new SqlBudgetExceededException("Budget de requêtes SQL dépassé : " + courant.total
+                    + " requêtes pour un budget de " + courant.budget + ".");
+        }
+        return sql;
+    }
+
+    /**
+     * Démarre le comptage sur le thread courant, avec le budget par défaut.
+     */
+    public void start() {
+        comptage.set(new Comptage(defaultBudget));
+    }
+
+    /**
+     * Fixe le budget du comptage en cours sur le thread courant (sans effet hors comptage).
+     *
+     * @param budget Le nombre maximal de requêtes SQL.
+     */
+    public void setBudget(int budget) {
+        Comptage courant = comptage.get();
+        if (courant != null) {
+            courant.budget = budget;
+        }
+    }
+
+    /**
+     * Arrête le comptage sur le thread courant.
+     *
+     * @return Le bilan des requêtes SQL préparées depuis {@link #start()} (vide si le comptage n'était pas démarré).
+     */
+    public SqlStatementReport stop() {
+        Comptage courant = comptage.get();
+        comptage.remove();
+        if (courant == null) {
+            return new SqlStatementReport(0, defaultBudget, Collections.emptyMap());
+        }
+        Map<String, Integer> repetitions = new LinkedHashMap<>();
+        courant.formes.entrySet().stream()
+                .filter(forme -> forme.getValue() >= nPlusOneThreshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(forme -> repetitions.put(forme.getKey(), forme.getValue()));
+        return new SqlStatementReport(courant.total, courant.budget, repetitions);
+    }
+
+    /**
+     * @return Le mode de contrôle du budget.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    // --- Méthodes privées ---
+
+    private static String forme(String sql) {
+        String compacte = ESPACES.matcher(sql.trim()).replaceAll(" ");
+        return LISTE_PARAMETRES.matcher(compacte).replaceAll("(?)");
+    }
+}
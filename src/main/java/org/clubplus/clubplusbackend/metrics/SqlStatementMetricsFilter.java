@@ -0,0 +1,99 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Compte les requêtes SQL de chaque requête HTTP ({@link SqlStatementCounter}) et publie le bilan.
+ * <ul>
+ * <li>Distribution {@code clubplus.http.sql.statements}, étiquetée par méthode et par modèle d'URI
+ * (ex. {@code /events/{id}}).</li>
+ * <li>Dépassement du budget ({@link SqlBudget}) : avertissement journalisé et compteur
+ * {@code clubplus.http.sql.budget.exceeded}.</li>
+ * <li>Requêtes répétées (N+1 probable) : avertissement journalisé avec les requêtes concernées et compteur
+ * {@code clubplus.http.sql.n-plus-one}.</li>
+ * </ul>
+ * Le bilan est aussi déposé dans l'attribut de requête {@link #REPORT_ATTRIBUTE}, pour les tests.
+ * En mode {@code OFF}, le filtre ne compte rien et ne publie rien.
+ * Placé avant les filtres de sécurité, le filtre compte aussi les lectures faites pendant l'authentification :
+ * le budget de l'endpoint est donc résolu dès l'entrée dans le filtre ({@link SqlBudgetResolver}) et couvre
+ * toute la requête HTTP.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    static final String METRIQUE = "clubplus.http.sql.statements";
+
+    /**
+     * Attribut de requête contenant le {@link SqlStatementReport} de la requête, une fois celle-ci traitée.
+     */
+    public static final String REPORT_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".REPORT";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final SqlBudgetResolver sqlBudgetResolver;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsFilter(SqlStatementCounter sqlStatementCounter, SqlBudgetResolver sqlBudgetResolver,
+                                     MeterRegistry meterRegistry) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.sqlBudgetResolver = sqlBudgetResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (sqlStatementCounter.getMode() == SqlStatementCounter.Mode.OFF) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        sqlStatementCounter.start();
+        sqlBudgetResolver.resolve(request).ifPresent(sqlStatementCounter::setBudget);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementReport report = sqlStatementCounter.stop();
+            request.setAttribute(REPORT_ATTRIBUTE, report);
+            publish(request, report);
+        }
+    }
+
+    private void publish(HttpServletRequest request, SqlStatementReport report) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(METRIQUE)
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(report.total());
+
+        if (report.overBudget()) {
+            log.warn("Budget SQL dépassé pour {} {} : {} requêtes (budget : {}).", method, uri, report.total(), report.budget());
+            meterRegistry.counter("clubplus.http.sql.budget.exceeded", "method", method, "uri", uri).increment();
+        }
+        if (report.suspectedNPlusOne()) {
+            log.warn("N+1 probable pour {} {} : {}", method, uri, report.repetitions());
+            meterRegistry.counter("clubplus.http.sql.n-plus-one", "method", method, "uri", uri).increment();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import java.util.Map;
+
+/**
+ * Bilan des requêtes SQL d'une requête HTTP.
+ *
+ * @param total       Le nombre de requêtes SQL exécutées.
+ * @param budget      Le budget applicable (voir {@link SqlBudget}).
+ * @param repetitions Les formes de requête répétées au moins {@code app.sql.n-plus-one.threshold} fois,
+ *                    avec leur nombre d'exécutions, de la plus répétée à la moins répétée.
+ */
+public record SqlStatementReport(int total, int budget, Map<String, Integer> repetitions) {
+
+    /**
+     * @return {@code true} si le nombre de requêtes dépasse le budget.
+     */
+    public boolean overBudget() {
+        return total > budget;
+    }
+
+    /**
+     * @return {@code true} si une même requête a été répétée assez de fois pour évoquer un problème N+1.
+     */
+    public boolean suspectedNPlusOne() {
+        return !repetitions.isEmpty();
+    }
+}
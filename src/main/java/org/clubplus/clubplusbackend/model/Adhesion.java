@@ -35,7 +35,9 @@ public class Adhesion {
      * Identifiant unique de l'adhésion, généré automatiquement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "adhesion_id")
+    @TableGenerator(name = "adhesion_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "adhesion", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @JsonView(GlobalView.Base.class)
     private Integer id;
 
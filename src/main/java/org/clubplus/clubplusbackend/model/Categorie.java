@@ -1,5 +1,6 @@
 package org.clubplus.clubplusbackend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
@@ -11,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.clubplus.clubplusbackend.view.GlobalView;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,7 +36,9 @@ public class Categorie {
      * Identifiant unique de la catégorie, généré automatiquement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "categories_id")
+    @TableGenerator(name = "categories_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "categories", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @JsonView(GlobalView.Base.class)
     private Integer id;
 
@@ -57,6 +61,18 @@ public class Categorie {
     @JsonView(GlobalView.Base.class)
     private Integer capacite;
 
+    /**
+     * Compteur persisté des réservations confirmées (statut CONFIRME) de cette catégorie.
+     * <p>
+     * Il n'est jamais écrit lors de la sauvegarde de l'entité : seules les mises à jour atomiques
+     * de {@code CategorieDao} (réservation, annulation, réconciliation) le modifient, ce qui évite
+     * qu'une sauvegarde concurrente n'écrase sa valeur.
+     */
+    @Column(name = "places_reservees", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private int placesReservees = 0;
+
     /**
      * L'événement parent auquel cette catégorie est rattachée.
      * La relation est obligatoire et chargée paresseusement (LAZY) pour des raisons de performance.
@@ -80,21 +96,17 @@ public class Categorie {
 
 
     /**
-     * Calcule le nombre de places réservées (statut CONFIRME) pour cette catégorie.
+     * Retourne le nombre de places réservées (statut CONFIRME) pour cette catégorie.
      * <p>
-     * Ce champ n'est pas persisté en base de données.
+     * La valeur provient du compteur {@code placesReservees} : la collection {@code reservations}
+     * n'est pas chargée.
      *
      * @return Le nombre de réservations confirmées.
      */
     @Transient
     @JsonView({GlobalView.EventView.class, GlobalView.CategorieView.class})
     public int getPlaceReserve() {
-        if (this.reservations == null) {
-            return 0;
-        }
-        return (int) this.reservations.stream()
-                .filter(r -> r != null && r.getStatus() == ReservationStatus.CONFIRME)
-                .count();
+        return this.placesReservees;
     }
 
     /**
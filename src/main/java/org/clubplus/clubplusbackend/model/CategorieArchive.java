@@ -0,0 +1,34 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Catégorie d'un événement archivé (voir {@link EventArchive}).
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "categories_archive", indexes = {
+        @Index(name = "idx_categories_archive_event", columnList = "event_id")
+})
+public class CategorieArchive {
+
+    /**
+     * L'ID d'origine de la catégorie.
+     */
+    @Id
+    private Integer id;
+
+    @Column(name = "event_id", nullable = false)
+    private Integer eventId;
+
+    @Column(nullable = false, length = 100)
+    private String nom;
+
+    @Column(nullable = false)
+    private Integer capacite;
+}
@@ -0,0 +1,73 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+
+/**
+ * Compteur mensuel des adhésions d'un {@link Club}, indexé par (club, mois).
+ * <p>
+ * Le mois est stocké sous la forme d'un entier {@code AAAAMM} (ex: 202604) afin que les séries temporelles
+ * soient lues par une simple recherche d'intervalle sur la clé primaire. Le compteur reflète les adhésions
+ * existantes : il est incrémenté à chaque adhésion et décrémenté (sur le mois d'origine) lorsqu'un membre quitte le club.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "club_monthly_adhesions")
+@IdClass(ClubMonthlyAdhesion.Key.class)
+public class ClubMonthlyAdhesion {
+
+    @Id
+    @Column(name = "club_id")
+    private Integer clubId;
+
+    /**
+     * Le mois, au format {@code AAAAMM}.
+     */
+    @Id
+    @Column(name = "annee_mois")
+    private Integer anneeMois;
+
+    /**
+     * Le nombre d'adhésions du mois.
+     */
+    @Column(nullable = false)
+    private long nombreAdhesions;
+
+    public ClubMonthlyAdhesion(Integer clubId, YearMonth mois, long nombreAdhesions) {
+        this.clubId = clubId;
+        this.anneeMois = toAnneeMois(mois);
+        this.nombreAdhesions = nombreAdhesions;
+    }
+
+    /**
+     * Convertit un mois en entier {@code AAAAMM}.
+     */
+    public static int toAnneeMois(YearMonth mois) {
+        return mois.getYear() * 100 + mois.getMonthValue();
+    }
+
+    /**
+     * Convertit un entier {@code AAAAMM} en mois.
+     */
+    public static YearMonth toYearMonth(int anneeMois) {
+        return YearMonth.of(anneeMois / 100, anneeMois % 100);
+    }
+
+    /**
+     * Clé composite (club, mois).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Integer clubId;
+        private Integer anneeMois;
+    }
+}
@@ -0,0 +1,35 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Agrégat des notations des événements actifs d'un {@link Club}, indexé par l'ID du club.
+ * <p>
+ * Maintenu dans la transaction de chaque nouvelle notation et lors de l'annulation d'un événement noté,
+ * il permet de calculer les moyennes du club par une lecture sur clé primaire.
+ * Reconstruit intégralement par {@code RatingRollupService#rebuild()}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "club_rating_rollups")
+public class ClubRatingRollup extends RatingRollup {
+
+    /**
+     * L'ID du club agrégé (pas de relation JPA : l'agrégat ne charge jamais le club).
+     */
+    @Id
+    @Column(name = "club_id")
+    private Integer clubId;
+
+    public ClubRatingRollup(Integer clubId) {
+        this.clubId = clubId;
+    }
+}
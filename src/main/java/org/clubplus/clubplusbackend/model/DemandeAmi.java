@@ -30,7 +30,9 @@ public class DemandeAmi {
      * Identifiant unique de la demande d'amitié, généré automatiquement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "demande_ami_id")
+    @TableGenerator(name = "demande_ami_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "demande_ami", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @JsonView({GlobalView.DemandeView.class})
     private Integer id;
 
@@ -0,0 +1,93 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Email transactionnel en attente d'envoi ("outbox").
+ * <p>
+ * Le message est enregistré dans la même transaction que l'opération métier qui le déclenche
+ * (inscription, création de club, demande de réinitialisation...) : il n'existe que si cette transaction
+ * est validée. Il est ensuite envoyé hors transaction par {@code EmailOutboxDispatcher}, avec nouvelles
+ * tentatives espacées exponentiellement, puis passé à l'état {@link EmailOutboxStatus#ECHEC} après
+ * le nombre maximal de tentatives.
+ * <p>
+ * Seules les variables du template sont stockées ; le contenu HTML est généré au moment de l'envoi.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_statut_prochaine", columnList = "statut, prochaine_tentative")
+})
+public class EmailOutboxMessage {
+
+    /**
+     * Longueur maximale conservée pour le message de la dernière erreur.
+     */
+    public static final int MAX_ERREUR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "email_outbox_id")
+    @TableGenerator(name = "email_outbox_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "email_outbox", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private EmailType type;
+
+    /**
+     * L'adresse du destinataire.
+     */
+    @Column(nullable = false, length = 254)
+    private String destinataire;
+
+    /**
+     * Les variables du template (prénom, token, contenu du formulaire de contact...), sérialisées en JSON.
+     * Stockées en TEXT : un message de contact de 2000 caractères peut dépasser 4000 caractères une fois échappé.
+     */
+    @Convert(converter = EmailVariablesConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private Map<String, String> variables = new LinkedHashMap<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus statut = EmailOutboxStatus.EN_ATTENTE;
+
+    /**
+     * Le nombre de tentatives d'envoi commencées (comptées à la réservation du message par un dispatcher).
+     */
+    @Column(nullable = false)
+    private int tentatives;
+
+    /**
+     * L'instant à partir duquel le message peut être (re)tenté. Repoussé pendant un envoi en cours
+     * pour qu'un autre dispatcher ne le prenne pas en parallèle.
+     */
+    @Column(name = "prochaine_tentative", nullable = false)
+    private Instant prochaineTentative;
+
+    @Column(nullable = false, updatable = false)
+    private Instant dateCreation;
+
+    private Instant dateEnvoi;
+
+    @Column(length = MAX_ERREUR_LENGTH)
+    private String derniereErreur;
+
+    public EmailOutboxMessage(EmailType type, String destinataire, Map<String, String> variables) {
+        this.type = type;
+        this.destinataire = destinataire;
+        this.variables = new LinkedHashMap<>(variables);
+        this.dateCreation = Instant.now();
+        this.prochaineTentative = this.dateCreation;
+    }
+}
@@ -0,0 +1,22 @@
+package org.clubplus.clubplusbackend.model;
+
+/**
+ * Les états d'un {@link EmailOutboxMessage} dans la file d'envoi.
+ */
+public enum EmailOutboxStatus {
+    /**
+     * Le message attend son (nouvel) envoi, à partir de sa date de prochaine tentative.
+     */
+    EN_ATTENTE,
+
+    /**
+     * Le message a été accepté par le serveur SMTP.
+     */
+    ENVOYE,
+
+    /**
+     * Le message a échoué après le nombre maximal de tentatives et n'est plus retenté ("dead letter").
+     * Il peut être remis en attente manuellement après correction du problème.
+     */
+    ECHEC
+}
@@ -0,0 +1,22 @@
+package org.clubplus.clubplusbackend.model;
+
+/**
+ * Les types d'emails transactionnels envoyés par l'application.
+ * Chaque type correspond à un template et à un jeu de variables de {@link EmailOutboxMessage}.
+ */
+public enum EmailType {
+    /**
+     * Email de vérification de l'adresse d'un nouveau compte (variables : prenom, token).
+     */
+    VERIFICATION,
+
+    /**
+     * Email de réinitialisation du mot de passe (variables : prenom, token).
+     */
+    REINITIALISATION_MOT_DE_PASSE,
+
+    /**
+     * Message du formulaire de contact transmis à l'équipe (variables : name, email, subject, message).
+     */
+    CONTACT
+}
@@ -0,0 +1,42 @@
+package org.clubplus.clubplusbackend.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stocke les variables d'un {@link EmailOutboxMessage} sous forme d'objet JSON.
+ */
+@Converter
+public class EmailVariablesConverter implements AttributeConverter<Map<String, String>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, String> variables) {
+        try {
+            return MAPPER.writeValueAsString(variables == null ? Map.of() : variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Variables d'email non sérialisables.", e);
+        }
+    }
+
+    @Override
+    public Map<String, String> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Variables d'email illisibles en base.", e);
+        }
+    }
+}
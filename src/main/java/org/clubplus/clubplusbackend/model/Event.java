@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.clubplus.clubplusbackend.view.GlobalView;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -30,14 +31,22 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Pagination par clé des listes d'événements (voir EventDao#findSummaryPageByOrganisateurIdIn).
+        @Index(name = "idx_events_organisateur_start", columnList = "organisateur_id, start_time, id"),
+        @Index(name = "idx_events_start", columnList = "start_time, id"),
+        // Recherche des événements terminés à clôturer ou à archiver (voir EventLifecycleService).
+        @Index(name = "idx_events_cloture_end", columnList = "cloture, end_time, id")
+})
 public class Event {
 
     /**
      * Identifiant unique et auto-généré de l'événement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "events_id")
+    @TableGenerator(name = "events_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "events", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @JsonView(GlobalView.Base.class)
     private Integer id;
 
@@ -103,6 +112,45 @@ public class Event {
     @Column(name = "desactivation_date")
     private Instant desactivationDate;
 
+    /**
+     * Active le mode "drop" pour les événements très demandés : les réservations sont placées
+     * dans une file d'attente par catégorie et traitées par lots (voir {@code ReservationDropService}).
+     */
+    @Column(name = "drop_mode", nullable = false)
+    @ColumnDefault("false")
+    @JsonView(GlobalView.EventView.class)
+    private boolean dropMode = false;
+
+    /**
+     * Indique que l'événement terminé a été clôturé : ses réservations encore confirmées sont passées au statut
+     * {@link ReservationStatus#ABSENT} et ses compteurs de places remis à zéro (voir {@code EventLifecycleService}).
+     */
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @JsonIgnore
+    private boolean cloture = false;
+
+    /**
+     * Capacité totale de l'événement (somme des capacités de ses catégories), dénormalisée.
+     * <p>
+     * Colonne en lecture seule pour l'entité : elle est recalculée par {@code EventDao#recomputePlaceTotal}
+     * lors de chaque modification des catégories, afin que les listes d'événements n'aient pas à charger les catégories.
+     */
+    @Column(name = "place_total", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int placeTotal = 0;
+
+    /**
+     * Nombre de places réservées (statut CONFIRME) sur l'ensemble des catégories, dénormalisé.
+     * <p>
+     * Colonne en lecture seule pour l'entité : elle est maintenue par des mises à jour atomiques
+     * ({@code EventDao#addPlacesReservees}) en même temps que le compteur de la catégorie concernée.
+     */
+    @Column(name = "places_reservees", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private int placesReservees = 0;
+
     // --- Relations ---
 
     /**
@@ -150,39 +198,42 @@ public class Event {
         this.desactivationDate = Instant.now();
     }
 
+    /**
+     * Recalcule en mémoire la capacité totale à partir des catégories chargées.
+     * <p>
+     * La colonne n'étant pas modifiable par l'entité, cet appel sert uniquement à renvoyer une valeur
+     * à jour après une modification des catégories ; la base est mise à jour par {@code EventDao#recomputePlaceTotal}.
+     */
+    public void refreshPlaceTotalFromCategories() {
+        this.placeTotal = this.categories == null ? 0 : this.categories.stream()
+                .mapToInt(cat -> (cat != null && cat.getCapacite() != null) ? cat.getCapacite() : 0)
+                .sum();
+    }
+
     // --- Champs Calculés ---
 
     /**
-     * Calcule la capacité totale de l'événement en sommant la capacité de ses catégories.
+     * Retourne la capacité totale de l'événement (somme des capacités de ses catégories).
+     * <p>
+     * Lue depuis la colonne dénormalisée : aucune catégorie n'est chargée.
      *
      * @return La capacité totale.
      */
-    @Transient
     @JsonView({GlobalView.Base.class, GlobalView.EventView.class})
     public int getPlaceTotal() {
-        if (this.categories == null) {
-            return 0;
-        }
-        return this.categories.stream()
-                .mapToInt(cat -> (cat != null && cat.getCapacite() != null) ? cat.getCapacite() : 0)
-                .sum();
+        return this.placeTotal;
     }
 
     /**
-     * Calcule le nombre total de places réservées (statut CONFIRME) pour l'événement.
+     * Retourne le nombre total de places réservées (statut CONFIRME) pour l'événement.
+     * <p>
+     * Lu depuis la colonne dénormalisée : ni les catégories ni les réservations ne sont chargées.
      *
      * @return Le nombre total de réservations confirmées.
      */
-    @Transient
     @JsonView({GlobalView.Base.class, GlobalView.EventView.class})
     public int getPlaceReserve() {
-        if (this.categories == null) {
-            return 0;
-        }
-        return this.categories.stream()
-                .filter(Objects::nonNull)
-                .mapToInt(Categorie::getPlaceReserve)
-                .sum();
+        return this.placesReservees;
     }
 
     /**
@@ -190,7 +241,6 @@ public class Event {
      *
      * @return Le nombre de places disponibles.
      */
-    @Transient
     @JsonView({GlobalView.Base.class, GlobalView.EventView.class})
     public int getPlaceDisponible() {
         return Math.max(0, getPlaceTotal() - getPlaceReserve());
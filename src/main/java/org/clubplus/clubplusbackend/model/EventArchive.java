@@ -0,0 +1,57 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Événement terminé depuis plus longtemps que l'horizon d'archivage, déplacé hors de la table {@code events}.
+ * <p>
+ * Copie à plat de l'{@link Event} (les relations sont remplacées par des IDs, sans clé étrangère), conservée
+ * pour l'historique. Les lignes sont écrites par {@code EventArchiveDao#archiveByIdIn} et ne sont plus modifiées.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "events_archive", indexes = {
+        @Index(name = "idx_events_archive_organisateur_start", columnList = "organisateur_id, start_time")
+})
+public class EventArchive {
+
+    /**
+     * L'ID d'origine de l'événement.
+     */
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, length = 150)
+    private String nom;
+
+    @Column(nullable = false)
+    private Instant startTime;
+
+    @Column(nullable = false)
+    private Instant endTime;
+
+    @Column(nullable = false, length = 2000)
+    private String description;
+
+    @Column(length = 255)
+    private String location;
+
+    @Column(nullable = false)
+    private Boolean actif;
+
+    @Column(name = "desactivation_date")
+    private Instant desactivationDate;
+
+    @Column(name = "organisateur_id", nullable = false)
+    private Integer organisateurId;
+
+    @Column(name = "place_total", nullable = false)
+    private int placeTotal;
+}
@@ -0,0 +1,54 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Index de participation d'un {@link Membre} à un {@link Event}, indexé par (membre, événement).
+ * <p>
+ * Une ligne existe tant que le membre a au moins une réservation non annulée (CONFIRME, UTILISE ou ABSENT) pour
+ * l'événement ; le compteur permet de gérer plusieurs réservations par membre. La table sert à retrouver
+ * les événements auxquels participent les amis d'un membre par des lectures de clé, sans parcourir les
+ * catégories et les réservations.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "event_participations", indexes = {
+        // La clé primaire couvre les recherches par événement ; cet index couvre les recherches par membre.
+        @Index(name = "idx_event_participations_membre", columnList = "membre_id, event_id")
+})
+@IdClass(EventParticipation.Key.class)
+public class EventParticipation {
+
+    @Id
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Id
+    @Column(name = "membre_id")
+    private Integer membreId;
+
+    /**
+     * Le nombre de réservations non annulées du membre pour l'événement.
+     */
+    @Column(nullable = false)
+    private long nombreReservations;
+
+    /**
+     * Clé composite (événement, membre).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Integer eventId;
+        private Integer membreId;
+    }
+}
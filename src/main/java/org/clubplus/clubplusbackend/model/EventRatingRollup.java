@@ -0,0 +1,39 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Agrégat des notations d'un {@link Event}, indexé par l'ID de l'événement.
+ * <p>
+ * Maintenu dans la transaction de chaque nouvelle notation. Il conserve l'ID du club organisateur
+ * afin de pouvoir retirer les notes d'un événement annulé de l'agrégat du club ({@link ClubRatingRollup}).
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "event_rating_rollups",
+        indexes = @Index(name = "idx_event_rating_rollup_club", columnList = "club_id"))
+public class EventRatingRollup extends RatingRollup {
+
+    /**
+     * L'ID de l'événement agrégé.
+     */
+    @Id
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    /**
+     * L'ID du club organisateur de l'événement.
+     */
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    public EventRatingRollup(Integer eventId, Integer clubId) {
+        this.eventId = eventId;
+        this.clubId = clubId;
+    }
+}
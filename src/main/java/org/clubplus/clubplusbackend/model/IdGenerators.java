@@ -0,0 +1,24 @@
+package org.clubplus.clubplusbackend.model;
+
+/**
+ * Paramètres communs des générateurs d'identifiants par table ({@link jakarta.persistence.TableGenerator}).
+ * <p>
+ * Avec {@code GenerationType.IDENTITY}, l'identifiant n'est connu qu'après l'INSERT, ce qui oblige Hibernate
+ * à exécuter chaque insertion immédiatement et désactive le regroupement en lots JDBC. Ici, les identifiants
+ * sont réservés par blocs de {@link #ALLOCATION_SIZE} (optimiseur {@code pooled}) : une seule mise à jour de la
+ * table {@link #TABLE} par bloc, et les INSERT peuvent être regroupés ({@code hibernate.jdbc.batch_size}).
+ * <p>
+ * La table contient une ligne par entité ({@link #PK_COLUMN}) dont la valeur ({@link #VALUE_COLUMN}) est la
+ * borne haute du dernier bloc réservé. Après une insertion manuelle d'identifiants (jeu de données), elle doit
+ * être portée à au moins {@code MAX(id) + ALLOCATION_SIZE}.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generateurs";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
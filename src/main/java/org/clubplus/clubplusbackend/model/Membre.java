@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.clubplus.clubplusbackend.view.GlobalView;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Where;
 
 import java.time.Instant;
@@ -34,6 +35,10 @@ public class Membre {
 
     /**
      * Identifiant unique du membre, généré automatiquement.
+     * <p>
+     * Reste en {@code IDENTITY} (contrairement aux entités de {@link IdGenerators}) : le code ami est dérivé de
+     * l'identifiant par {@link #generateCodeAmi()} juste après l'INSERT, et les créations en masse passent par
+     * les lots JDBC de l'import de membres.
      */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -164,6 +169,16 @@ public class Membre {
      */
     private Instant resetPasswordTokenExpiryDate;
 
+    /**
+     * Version de sécurité du compte, embarquée dans les tokens JWT (claim "sv").
+     * Elle est incrémentée à chaque changement invalidant les tokens déjà émis
+     * (mot de passe, rôle, email, anonymisation).
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private int securityVersion = 0;
+
 
     // --- Relations ---
 
@@ -274,6 +289,7 @@ public class Membre {
         this.codeAmi = "ANON-" + this.id;
         this.role = Role.ANONYME;
         this.anonymizeDate = Instant.now();
+        incrementSecurityVersion();
 
         // Nettoyer les relations sociales
         if (this.demandesEnvoyees != null) this.demandesEnvoyees.clear();
@@ -283,6 +299,15 @@ public class Membre {
         }
     }
 
+    /**
+     * Incrémente la version de sécurité, ce qui invalide tous les tokens JWT émis auparavant.
+     *
+     * @return La nouvelle version de sécurité.
+     */
+    public int incrementSecurityVersion() {
+        return ++this.securityVersion;
+    }
+
     /**
      * L'égalité est basée sur l'ID. Deux membres sont égaux si leurs IDs sont les mêmes.
      */
@@ -35,7 +35,9 @@ public class Notation {
      * Identifiant unique de la notation, généré automatiquement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notations_id")
+    @TableGenerator(name = "notations_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "notations", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @JsonView({GlobalView.Base.class, GlobalView.EventView.class, GlobalView.NotationView.class})
     private Integer id;
 
@@ -0,0 +1,60 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Notation d'un événement archivé (voir {@link EventArchive}).
+ * <p>
+ * Les notes restent prises en compte par les agrégats de notations : {@code RatingRollupService#rebuild()}
+ * relit aussi cette table.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "notations_archive", indexes = {
+        @Index(name = "idx_notations_archive_event", columnList = "event_id")
+})
+public class NotationArchive {
+
+    /**
+     * L'ID d'origine de la notation.
+     */
+    @Id
+    private Integer id;
+
+    @Column(name = "event_id", nullable = false)
+    private Integer eventId;
+
+    /**
+     * Le club organisateur de l'événement au moment de l'archivage.
+     */
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    @Column(name = "membre_id", nullable = false)
+    private Integer membreId;
+
+    @Column(nullable = false)
+    private int ambiance;
+
+    @Column(nullable = false)
+    private int proprete;
+
+    @Column(nullable = false)
+    private int organisation;
+
+    @Column(nullable = false)
+    private int fairPlay;
+
+    @Column(nullable = false)
+    private int niveauJoueurs;
+
+    @Column(nullable = false)
+    private Instant dateNotation;
+}
@@ -0,0 +1,65 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Base commune des agrégats de notations maintenus de façon incrémentale.
+ * <p>
+ * Stocke, pour chaque critère, la somme des notes ainsi que le nombre de notations agrégées.
+ * Les moyennes sont obtenues par une simple division, sans relire les {@link Notation}s.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class RatingRollup {
+
+    @Column(nullable = false)
+    private long sommeAmbiance;
+
+    @Column(nullable = false)
+    private long sommeProprete;
+
+    @Column(nullable = false)
+    private long sommeOrganisation;
+
+    @Column(nullable = false)
+    private long sommeFairPlay;
+
+    @Column(nullable = false)
+    private long sommeNiveauJoueurs;
+
+    /**
+     * Nombre de notations agrégées.
+     */
+    @Column(nullable = false)
+    private long nombreNotations;
+
+    /**
+     * Ajoute les notes d'une notation à l'agrégat (utilisé lors de la création de la première ligne).
+     *
+     * @param notation La notation à ajouter.
+     */
+    public void add(Notation notation) {
+        this.sommeAmbiance += notation.getAmbiance();
+        this.sommeProprete += notation.getProprete();
+        this.sommeOrganisation += notation.getOrganisation();
+        this.sommeFairPlay += notation.getFairPlay();
+        this.sommeNiveauJoueurs += notation.getNiveauJoueurs();
+        this.nombreNotations++;
+    }
+
+    /**
+     * Calcule la moyenne d'un critère à partir de sa somme.
+     *
+     * @param somme La somme des notes du critère.
+     * @return La moyenne, ou 0.0 si aucune notation n'est agrégée.
+     */
+    public double moyenne(long somme) {
+        return nombreNotations == 0 ? 0.0 : (double) somme / nombreNotations;
+    }
+}
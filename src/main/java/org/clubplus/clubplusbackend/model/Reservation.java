@@ -37,7 +37,9 @@ public class Reservation {
      * Identifiant unique interne de la réservation, généré automatiquement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reservations_id")
+    @TableGenerator(name = "reservations_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "reservations", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @JsonView(GlobalView.Base.class)
     private Integer id;
 
@@ -0,0 +1,48 @@
+package org.clubplus.clubplusbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Réservation d'un événement archivé (voir {@link EventArchive}), dans son statut final
+ * ({@code UTILISE}, {@code ABSENT} ou {@code ANNULE}).
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "reservations_archive", indexes = {
+        @Index(name = "idx_reservations_archive_membre", columnList = "membre_id"),
+        @Index(name = "idx_reservations_archive_event", columnList = "event_id")
+})
+public class ReservationArchive {
+
+    /**
+     * L'ID d'origine de la réservation.
+     */
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, length = 36)
+    private String reservationUuid;
+
+    @Column(name = "membre_id", nullable = false)
+    private Integer membreId;
+
+    @Column(name = "event_id", nullable = false)
+    private Integer eventId;
+
+    @Column(name = "categorie_id", nullable = false)
+    private Integer categorieId;
+
+    @Column(nullable = false)
+    private Instant dateReservation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+}
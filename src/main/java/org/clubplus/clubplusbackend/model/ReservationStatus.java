@@ -19,6 +19,12 @@ public enum ReservationStatus {
      */
     UTILISE,
 
+    /**
+     * La réservation était encore confirmée à la fin de l'événement : le membre ne s'est pas présenté.
+     * Statut posé par le traitement de clôture des événements terminés ({@code EventLifecycleService}).
+     */
+    ABSENT,
+
     /**
      * La réservation a été annulée par l'utilisateur ou un gestionnaire.
      * La place n'est plus considérée comme réservée.
@@ -22,12 +22,24 @@ import java.util.Set;
  * Cette classe fait le pont entre l'entité {@link Membre} de notre application et le framework Spring Security.
  * Elle fournit les informations essentielles (nom d'utilisateur, mot de passe, rôles, statut du compte)
  * nécessaires à Spring pour gérer l'authentification et l'autorisation.
+ * <p>
+ * Deux modes de construction coexistent :
+ * <ul>
+ *     <li>à partir d'une entité {@link Membre} chargée en base (connexion, tokens sans claims étendus) ;</li>
+ *     <li>à partir des claims d'un token JWT vérifié ({@link #fromClaims}), sans aucun accès à la base.
+ *     Dans ce cas {@link #getMembre()} retourne {@code null}.</li>
+ * </ul>
  */
 @Getter
 public class AppUserDetails implements UserDetails {
 
     private static final Logger logger = LoggerFactory.getLogger(AppUserDetails.class);
     private final Membre membre;
+    private final Integer id;
+    private final String email;
+    private final Role role;
+    private final int securityVersion;
+    private final Integer claimedManagedClubId;
 
     /**
      * Construit une instance de {@code AppUserDetails} à partir d'une entité {@link Membre}.
@@ -37,29 +49,61 @@ public class AppUserDetails implements UserDetails {
     public AppUserDetails(Membre membre) {
         Objects.requireNonNull(membre, "L'entité Membre ne peut pas être null pour créer AppUserDetails.");
         this.membre = membre;
+        this.id = membre.getId();
+        this.email = membre.getEmail();
+        this.role = membre.getRole();
+        this.securityVersion = membre.getSecurityVersion();
+        this.claimedManagedClubId = null;
+    }
+
+    private AppUserDetails(Integer id, String email, Role role, Integer managedClubId, int securityVersion) {
+        this.membre = null;
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.securityVersion = securityVersion;
+        this.claimedManagedClubId = managedClubId;
+    }
+
+    /**
+     * Construit un principal léger à partir des claims d'un token JWT dont la signature
+     * et la version de sécurité ont déjà été vérifiées.
+     *
+     * @param id              L'ID du membre (claim "uid").
+     * @param email           L'email du membre (sujet du token).
+     * @param role            Le rôle du membre (claim "role", sans le préfixe "ROLE_").
+     * @param managedClubId   L'ID du club géré (claim "managedClubId"), peut être null.
+     * @param securityVersion La version de sécurité du token (claim "sv").
+     * @return Un {@code AppUserDetails} ne référençant aucune entité.
+     */
+    public static AppUserDetails fromClaims(Integer id, String email, Role role, Integer managedClubId, int securityVersion) {
+        Objects.requireNonNull(id, "L'ID du membre est requis pour créer AppUserDetails depuis un token.");
+        Objects.requireNonNull(email, "L'email du membre est requis pour créer AppUserDetails depuis un token.");
+        return new AppUserDetails(id, email, role, managedClubId, securityVersion);
     }
 
     /**
      * Retourne les autorités (rôles) accordées à l'utilisateur.
-     * Le rôle de l'entité Membre est converti en {@link GrantedAuthority} avec le préfixe "ROLE_".
+     * Le rôle du membre est converti en {@link GrantedAuthority} avec le préfixe "ROLE_".
      *
      * @return Une collection contenant l'autorité de l'utilisateur (ex: "ROLE_ADMIN").
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        if (this.membre == null || this.membre.getRole() == null) {
+        if (this.role == null) {
             return Collections.emptyList();
         }
-        String roleName = "ROLE_" + this.membre.getRole().name();
+        String roleName = "ROLE_" + this.role.name();
         return Collections.singletonList(new SimpleGrantedAuthority(roleName));
     }
 
     /**
      * Retourne le mot de passe de l'utilisateur (doit être le hash stocké).
+     * Un principal construit depuis un token n'en possède pas et retourne {@code null}.
      */
     @Override
     public String getPassword() {
-        return this.membre.getPassword();
+        return this.membre != null ? this.membre.getPassword() : null;
     }
 
     /**
@@ -67,51 +111,49 @@ public class AppUserDetails implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return this.membre.getEmail();
+        return this.email;
     }
 
     /**
-     * Méthode utilitaire pour récupérer l'ID de l'entité {@link Membre}.
+     * Méthode utilitaire pour récupérer l'ID du membre.
      *
      * @return L'ID de l'utilisateur.
      */
     public Integer getId() {
-        if (this.membre == null) {
-            throw new IllegalStateException("Impossible de récupérer l'ID : l'entité Membre est null.");
+        if (this.id == null) {
+            throw new IllegalStateException("Impossible de récupérer l'ID : aucun membre associé.");
         }
-        return membre.getId();
+        return this.id;
     }
 
     /**
      * Méthode utilitaire pour récupérer l'ID du club géré par l'utilisateur (s'il a un rôle ADMIN ou RESERVATION).
      * <p>
      * <b>Hypothèse :</b> Un gestionnaire (ADMIN/RESERVATION) ne gère qu'un seul club.
-     * La méthode retourne l'ID du club de la première adhésion trouvée.
+     * La méthode retourne l'ID du club de la première adhésion trouvée, ou la valeur
+     * du claim "managedClubId" pour un principal construit depuis un token.
      *
      * @return L'ID du club géré, ou {@code null} si l'utilisateur n'est pas un gestionnaire ou en cas d'anomalie.
      */
     public Integer getManagedClubId() {
-        if (this.membre == null || this.membre.getRole() == null) {
+        if (this.role != Role.ADMIN && this.role != Role.RESERVATION) {
             return null;
         }
+        if (this.membre == null) {
+            return this.claimedManagedClubId;
+        }
 
-        Role userRole = this.membre.getRole();
-
-        if (userRole == Role.ADMIN || userRole == Role.RESERVATION) {
-            Set<Adhesion> adhesions = this.membre.getAdhesions();
-
-            if (adhesions != null && !adhesions.isEmpty()) {
-                return adhesions.stream()
-                        .filter(Objects::nonNull)
-                        .map(Adhesion::getClub)
-                        .filter(Objects::nonNull)
-                        .map(Club::getId)
-                        .findFirst()
-                        .orElse(null); // Retourne null si aucune adhésion n'a de club valide
-            }
-            logger.warn("ANOMALIE: Utilisateur {} ({}) avec un rôle de gestion mais sans adhésion valide.", getUsername(), userRole);
-            return null;
+        Set<Adhesion> adhesions = this.membre.getAdhesions();
+        if (adhesions != null && !adhesions.isEmpty()) {
+            return adhesions.stream()
+                    .filter(Objects::nonNull)
+                    .map(Adhesion::getClub)
+                    .filter(Objects::nonNull)
+                    .map(Club::getId)
+                    .findFirst()
+                    .orElse(null); // Retourne null si aucune adhésion n'a de club valide
         }
+        logger.warn("ANOMALIE: Utilisateur {} ({}) avec un rôle de gestion mais sans adhésion valide.", getUsername(), this.role);
         return null;
     }
 
@@ -150,10 +192,13 @@ public class AppUserDetails implements UserDetails {
     /**
      * Indique si l'utilisateur est activé. Un utilisateur désactivé ne peut pas s'authentifier.
      *
+     * Un principal construit depuis un token est considéré comme activé : le token n'a pu être
+     * émis qu'après une connexion réussie, donc sur un compte vérifié.
+     *
      * @return {@code true} si le compte de l'utilisateur a été vérifié par email, {@code false} sinon.
      */
     @Override
     public boolean isEnabled() {
-        return this.membre.isVerified();
+        return this.membre == null || this.membre.isVerified();
     }
 }
@@ -0,0 +1,46 @@
+package org.clubplus.clubplusbackend.security;
+
+import lombok.Getter;
+import org.clubplus.clubplusbackend.model.Role;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Instantané immuable des informations d'autorisation de l'utilisateur courant :
+ * son rôle et les IDs des clubs dont il est adhérent.
+ * <p>
+ * Construit une seule fois par requête HTTP par {@link AuthorizationContextCache},
+ * il permet à {@link SecurityService} de répondre à toutes ses vérifications sans
+ * interroger de nouveau la base de données.
+ */
+@Getter
+public final class AuthorizationContext {
+
+    private final Integer membreId;
+    private final Role role;
+    private final Set<Integer> clubIds;
+    private final boolean membreFound;
+
+    AuthorizationContext(Integer membreId, Role role, Set<Integer> clubIds, boolean membreFound) {
+        this.membreId = membreId;
+        this.role = role;
+        this.clubIds = Collections.unmodifiableSet(clubIds);
+        this.membreFound = membreFound;
+    }
+
+    /**
+     * @return {@code true} si le membre a un rôle de gestion (ADMIN ou RESERVATION).
+     */
+    public boolean hasManagerRole() {
+        return role == Role.ADMIN || role == Role.RESERVATION;
+    }
+
+    /**
+     * @param clubId L'ID du club.
+     * @return {@code true} si le membre est adhérent du club.
+     */
+    public boolean isMemberOf(Integer clubId) {
+        return clubId != null && clubIds.contains(clubId);
+    }
+}
@@ -0,0 +1,104 @@
+package org.clubplus.clubplusbackend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.model.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache, à l'échelle d'une requête HTTP, du {@link AuthorizationContext} de l'utilisateur courant.
+ * <p>
+ * Le contexte est stocké dans les attributs de la requête ({@link RequestContextHolder}) et chargé
+ * au premier besoin par une unique requête de projection ({@link MembreDao#findRoleAndClubIdsById}).
+ * Hors d'une requête HTTP (tâches planifiées, tests unitaires), le contexte est rechargé à chaque appel.
+ * <p>
+ * Les compteurs de succès/échecs ({@link #getHitCount()}, {@link #getMissCount()}) permettent de vérifier
+ * le nombre de chargements effectivement évités.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorizationContextCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationContextCache.class);
+
+    private static final String ATTRIBUTE_NAME = AuthorizationContextCache.class.getName() + ".CONTEXT";
+
+    private final MembreDao membreRepository;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Retourne le contexte d'autorisation du membre, en le chargeant si nécessaire.
+     *
+     * @param membreId L'ID du membre authentifié.
+     * @return Le contexte d'autorisation (jamais null).
+     */
+    public AuthorizationContext get(Integer membreId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST) instanceof AuthorizationContext cached
+                && cached.getMembreId().equals(membreId)) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        AuthorizationContext context = load(membreId);
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE_NAME, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    /**
+     * Supprime le contexte de la requête courante. À appeler lorsque le rôle ou les adhésions
+     * de l'utilisateur courant sont modifiés pendant la requête.
+     */
+    public void invalidate() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * @return Le nombre de vérifications servies depuis le cache de la requête.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return Le nombre de chargements du contexte depuis la base de données.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private AuthorizationContext load(Integer membreId) {
+        List<Object[]> rows = membreRepository.findRoleAndClubIdsById(membreId);
+        if (rows.isEmpty()) {
+            log.debug("Contexte d'autorisation : membre ID {} introuvable ou inactif.", membreId);
+            return new AuthorizationContext(membreId, null, Set.of(), false);
+        }
+
+        Role role = (Role) rows.get(0)[0];
+        Set<Integer> clubIds = new HashSet<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                clubIds.add((Integer) row[1]);
+            }
+        }
+        return new AuthorizationContext(membreId, role, clubIds, true);
+    }
+}
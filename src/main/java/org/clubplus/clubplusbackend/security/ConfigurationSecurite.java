@@ -1,5 +1,7 @@
 package org.clubplus.clubplusbackend.security;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,6 +38,8 @@ public class ConfigurationSecurite {
     private final UserDetailsService userDetailsService;
     private final JwtFilter jwtFilter;
     private final PasswordEncoder passwordEncoder;
+    private final int serverPort;
+    private final int managementPort;
 
     /**
      * Construit l'instance de configuration de sécurité avec les dépendances requises.
@@ -43,11 +47,17 @@ public class ConfigurationSecurite {
      * @param userDetailsService Le service pour charger les détails de l'utilisateur.
      * @param jwtFilter          Le filtre personnalisé pour valider les tokens JWT.
      * @param passwordEncoder    Le bean pour encoder et vérifier les mots de passe.
+     * @param serverPort         Le port de l'API.
+     * @param managementPort     Le port dédié aux endpoints Actuator (-1 ou égal à {@code serverPort} s'il n'y en a pas).
      */
-    public ConfigurationSecurite(UserDetailsService userDetailsService, JwtFilter jwtFilter, PasswordEncoder passwordEncoder) {
+    public ConfigurationSecurite(UserDetailsService userDetailsService, JwtFilter jwtFilter, PasswordEncoder passwordEncoder,
+                                 @Value("${server.port:8080}") int serverPort,
+                                 @Value("${management.server.port:-1}") int managementPort) {
         this.userDetailsService = userDetailsService;
         this.jwtFilter = jwtFilter;
         this.passwordEncoder = passwordEncoder;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     /**
@@ -87,6 +97,10 @@ public class ConfigurationSecurite {
      * <li>Activation de CORS.</li>
      * <li>Gestion de session en mode STATELESS.</li>
      * <li>Autorisation des requêtes publiques pour /auth/** et /contact.</li>
+     * <li>Accès libre à {@code /actuator/health}.</li>
+     * <li>Accès libre aux autres endpoints Actuator (Prometheus) uniquement sur le port de management,
+     * qui n'est pas exposé publiquement ; sur le port de l'API, ils sont refusés à tous (le rôle ADMIN
+     * s'obtient par l'inscription publique d'un club et ne désigne pas un exploitant).</li>
      * <li>Authentification requise pour toutes les autres requêtes.</li>
      * <li>Ajout du filtre JWT avant le filtre d'authentification standard.</li>
      * </ul>
@@ -104,6 +118,9 @@ public class ConfigurationSecurite {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/contact").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers(this::isManagementPortRequest).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         .requestMatchers("/**").authenticated()
                         .anyRequest().denyAll()
                 )
@@ -112,6 +129,14 @@ public class ConfigurationSecurite {
         return http.build();
     }
 
+    /**
+     * Indique si la requête arrive sur le port de management, distinct du port de l'API.
+     * Seuls les endpoints Actuator sont servis sur ce port.
+     */
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
 
     /**
      * Définit la configuration CORS (Cross-Origin Resource Sharing).
@@ -128,6 +153,8 @@ public class ConfigurationSecurite {
         configuration.setAllowedOrigins(List.of("http://localhost:4200", "http://localhost:3000", "https://club-plus.netlify.app", "https://club-plus.onrender.com", "http://192.168.137.1:8080", "http://172.16.1.124:8080"));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        // En-têtes de pagination par curseur des listes d'événements, lisibles par le front-end.
+        configuration.setExposedHeaders(List.of("X-Next-Cursor", "Link"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
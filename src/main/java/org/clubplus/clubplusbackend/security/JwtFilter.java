@@ -1,14 +1,17 @@
 package org.clubplus.clubplusbackend.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.clubplus.clubplusbackend.model.Role;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +29,11 @@ import java.io.IOException;
  * Ce filtre recherche un token dans l'en-tête "Authorization", le valide, et si le token est correct,
  * il authentifie l'utilisateur pour la durée de la requête en configurant le contexte de sécurité de Spring.
  * Il s'assure d'être exécuté une seule fois par requête.
+ * <p>
+ * Lorsque le mode sans état est actif ({@code jwt.stateless.enabled}), le principal est construit
+ * directement à partir des claims du token (ID, rôle, club géré) : seule la version de sécurité
+ * est contrôlée, via le cache {@link SecurityVersionRegistry}. Les tokens ne portant pas ces claims
+ * (émis avant leur introduction) sont traités en chargeant le membre depuis la base.
  */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
@@ -34,17 +42,26 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final SecurityUtils jwtUtils;
     private final AppUserDetailService appUserDetailService;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final boolean statelessEnabled;
 
     /**
      * Construit le filtre JWT avec les dépendances nécessaires.
      *
-     * @param jwtUtils             L'utilitaire pour la manipulation des tokens JWT.
-     * @param appUserDetailService Le service pour charger les détails de l'utilisateur.
+     * @param jwtUtils                L'utilitaire pour la manipulation des tokens JWT.
+     * @param appUserDetailService    Le service pour charger les détails de l'utilisateur.
+     * @param securityVersionRegistry Le cache des versions de sécurité des membres.
+     * @param statelessEnabled        Active la construction du principal à partir des claims du token.
      */
     @Autowired
-    public JwtFilter(SecurityUtils jwtUtils, AppUserDetailService appUserDetailService) {
+    public JwtFilter(SecurityUtils jwtUtils,
+                     AppUserDetailService appUserDetailService,
+                     SecurityVersionRegistry securityVersionRegistry,
+                     @Value("${jwt.stateless.enabled:true}") boolean statelessEnabled) {
         this.jwtUtils = jwtUtils;
         this.appUserDetailService = appUserDetailService;
+        this.securityVersionRegistry = securityVersionRegistry;
+        this.statelessEnabled = statelessEnabled;
     }
 
     /**
@@ -81,14 +98,15 @@ public class JwtFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            // Valide le token et en extrait l'email (le "sujet").
-            userEmail = jwtUtils.getSubjectFromJwt(jwt);
+            // Valide le token et en extrait les claims, dont l'email (le "sujet").
+            Claims claims = jwtUtils.parseClaims(jwt);
+            userEmail = claims.getSubject();
 
             // Si l'email est extrait et que l'utilisateur n'est pas déjà authentifié dans le contexte actuel...
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // On charge les détails de l'utilisateur depuis la base de données.
-                UserDetails userDetails = this.appUserDetailService.loadUserByUsername(userEmail);
+                // On construit les détails de l'utilisateur (depuis les claims ou depuis la base).
+                UserDetails userDetails = resolveUserDetails(claims, userEmail);
 
                 // On crée un objet d'authentification pour Spring Security.
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -114,4 +132,46 @@ public class JwtFilter extends OncePerRequestFilter {
         // On passe la main au filtre suivant dans tous les cas.
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Construit le principal correspondant à un token dont la signature a été vérifiée.
+     * <p>
+     * Si le mode sans état est actif et que le token porte les claims "uid", "sv" et "role",
+     * le principal est construit sans accès à l'entité Membre. Sinon, le membre est chargé
+     * depuis la base et sa version de sécurité est comparée à celle du token (si présente).
+     *
+     * @param claims    Les claims du token.
+     * @param userEmail L'email (sujet) du token.
+     * @return Les détails de l'utilisateur authentifié.
+     * @throws JwtException si le token a été révoqué (version de sécurité obsolète).
+     */
+    private UserDetails resolveUserDetails(Claims claims, String userEmail) {
+        Integer userId = getInteger(claims, SecurityUtils.CLAIM_USER_ID);
+        Integer tokenVersion = getInteger(claims, SecurityUtils.CLAIM_SECURITY_VERSION);
+        String roleClaim = claims.get(SecurityUtils.CLAIM_ROLE, String.class);
+
+        if (statelessEnabled && userId != null && tokenVersion != null && roleClaim != null) {
+            if (!securityVersionRegistry.isCurrent(userId, tokenVersion)) {
+                throw new JwtException("Token révoqué pour le membre ID " + userId + " (version de sécurité obsolète).");
+            }
+            Role role = Role.valueOf(roleClaim.startsWith("ROLE_") ? roleClaim.substring(5) : roleClaim);
+            return AppUserDetails.fromClaims(userId, userEmail, role,
+                    getInteger(claims, SecurityUtils.CLAIM_MANAGED_CLUB_ID), tokenVersion);
+        }
+
+        AppUserDetails userDetails = (AppUserDetails) this.appUserDetailService.loadUserByUsername(userEmail);
+        if (tokenVersion != null && tokenVersion != userDetails.getSecurityVersion()) {
+            throw new JwtException("Token révoqué pour l'utilisateur '" + userEmail + "' (version de sécurité obsolète).");
+        }
+        securityVersionRegistry.record(userDetails.getId(), userDetails.getSecurityVersion());
+        return userDetails;
+    }
+
+    /**
+     * Lit un claim numérique entier, quel que soit le type numérique produit par le parseur JSON.
+     */
+    private static Integer getInteger(Claims claims, String name) {
+        Object value = claims.get(name);
+        return value instanceof Number number ? number.intValue() : null;
+    }
 }
@@ -2,7 +2,6 @@ package org.clubplus.clubplusbackend.security;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.clubplus.clubplusbackend.dao.AdhesionDao;
 import org.clubplus.clubplusbackend.dao.EventDao;
 import org.clubplus.clubplusbackend.dao.MembreDao;
 import org.clubplus.clubplusbackend.model.*;
@@ -15,7 +14,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Service centralisant les vérifications de sécurité réutilisables.
@@ -23,6 +21,9 @@ import java.util.Set;
  * Fournit des méthodes pour vérifier les droits de l'utilisateur courant, son appartenance à des clubs,
  * et la propriété de ressources. Ce service peut être utilisé dans les expressions SpEL
  * des annotations de sécurité (ex: @PreAuthorize).
+ * <p>
+ * Les vérifications d'appartenance et de rôle s'appuient sur le {@link AuthorizationContext} de la requête,
+ * chargé une seule fois par {@link AuthorizationContextCache}.
  */
 @Component("securityService")
 @RequiredArgsConstructor
@@ -30,9 +31,9 @@ public class SecurityService {
 
     private static final Logger log = LoggerFactory.getLogger(SecurityService.class);
 
-    private final AdhesionDao adhesionRepository;
     private final MembreDao membreRepository;
     private final EventDao eventRepository;
+    private final AuthorizationContextCache authorizationContextCache;
 
     // --- Méthodes d'accès à l'utilisateur courant ---
 
@@ -96,6 +97,25 @@ public class SecurityService {
         return getCurrentUserIdOptional().flatMap(membreRepository::findById);
     }
 
+    /**
+     * Récupère le contexte d'autorisation (rôle et clubs) de l'utilisateur courant.
+     *
+     * @return Un {@code Optional} contenant le contexte, ou vide si non authentifié ou membre introuvable.
+     */
+    private Optional<AuthorizationContext> getCurrentAuthorizationContextOptional() {
+        return getCurrentUserIdOptional()
+                .map(authorizationContextCache::get)
+                .filter(AuthorizationContext::isMembreFound);
+    }
+
+    /**
+     * Invalide le contexte d'autorisation mis en cache pour la requête courante.
+     * À appeler après une modification du rôle ou des adhésions de l'utilisateur courant.
+     */
+    public void invalidateAuthorizationContext() {
+        authorizationContextCache.invalidate();
+    }
+
     // --- Vérifications de propriété ---
 
     /**
@@ -132,8 +152,8 @@ public class SecurityService {
     @Transactional(readOnly = true)
     public boolean isCurrentUserMemberOfClub(Integer clubId) {
         if (clubId == null) return false;
-        return getCurrentUserIdOptional()
-                .map(userId -> adhesionRepository.existsByMembreIdAndClubId(userId, clubId))
+        return getCurrentAuthorizationContextOptional()
+                .map(context -> context.isMemberOf(clubId))
                 .orElse(false);
     }
 
@@ -158,14 +178,9 @@ public class SecurityService {
     @Transactional(readOnly = true)
     public boolean isManagerOfClub(Integer clubId) {
         if (clubId == null) return false;
-        Optional<Membre> membreOpt = getCurrentMembreOptional();
-        if (membreOpt.isEmpty()) return false;
-
-        Membre membre = membreOpt.get();
-        Role userRole = membre.getRole();
-
-        boolean isManagerRole = userRole == Role.ADMIN || userRole == Role.RESERVATION;
-        return isManagerRole && adhesionRepository.existsByMembreIdAndClubId(membre.getId(), clubId);
+        return getCurrentAuthorizationContextOptional()
+                .map(context -> context.hasManagerRole() && context.isMemberOf(clubId))
+                .orElse(false);
     }
 
     /**
@@ -189,11 +204,9 @@ public class SecurityService {
     @Transactional(readOnly = true)
     public boolean isActualAdminOfClub(Integer clubId) {
         if (clubId == null) return false;
-        Optional<Membre> membreOpt = getCurrentMembreOptional();
-        if (membreOpt.isEmpty()) return false;
-
-        Membre membre = membreOpt.get();
-        return membre.getRole() == Role.ADMIN && adhesionRepository.existsByMembreIdAndClubId(membre.getId(), clubId);
+        return getCurrentAuthorizationContextOptional()
+                .map(context -> context.getRole() == Role.ADMIN && context.isMemberOf(clubId))
+                .orElse(false);
     }
 
     /**
@@ -356,29 +369,27 @@ public class SecurityService {
      */
     @Transactional(readOnly = true)
     public Integer getCurrentUserManagedClubIdOrThrow() {
-        Membre currentUser = getCurrentMembreOrThrow();
-        Role userRole = currentUser.getRole();
+        Integer userId = getCurrentUserIdOrThrow();
+        AuthorizationContext context = authorizationContextCache.get(userId);
+        if (!context.isMembreFound()) {
+            log.error("Incohérence critique : Membre authentifié (ID: {}) non trouvé en BDD.", userId);
+            throw new EntityNotFoundException("Membre authentifié (ID: " + userId + ") introuvable.");
+        }
 
-        if (userRole != Role.ADMIN && userRole != Role.RESERVATION) {
+        if (!context.hasManagerRole()) {
             throw new AccessDeniedException("Accès refusé : Rôle ADMIN ou RESERVATION requis.");
         }
 
-        Set<Adhesion> adhesions = currentUser.getAdhesions();
-        if (adhesions == null || adhesions.isEmpty()) {
-            log.error("Incohérence : Utilisateur gestionnaire {} (ID: {}) n'a aucune adhésion.", currentUser.getEmail(), currentUser.getId());
+        if (context.getClubIds().isEmpty()) {
+            log.error("Incohérence : Utilisateur gestionnaire (ID: {}) n'a aucune adhésion.", userId);
             throw new AccessDeniedException("Accès refusé : L'utilisateur gestionnaire n'est associé à aucun club.");
         }
-        if (adhesions.size() > 1) {
-            log.error("Incohérence : Utilisateur gestionnaire {} (ID: {}) est associé à {} clubs. Le modèle suppose un seul club géré.",
-                    currentUser.getEmail(), currentUser.getId(), adhesions.size());
+        if (context.getClubIds().size() > 1) {
+            log.error("Incohérence : Utilisateur gestionnaire (ID: {}) est associé à {} clubs. Le modèle suppose un seul club géré.",
+                    userId, context.getClubIds().size());
             throw new IllegalStateException("Configuration invalide : Un gestionnaire ne peut être associé qu'à un seul club.");
         }
 
-        Adhesion managedAdhesion = adhesions.iterator().next();
-        if (managedAdhesion.getClub() == null || managedAdhesion.getClub().getId() == null) {
-            log.error("Incohérence : L'adhésion (ID: {}) du gestionnaire {} ne référence pas un club valide.", managedAdhesion.getId(), currentUser.getEmail());
-            throw new EntityNotFoundException("Incohérence des données : Le club associé à la gestion est introuvable.");
-        }
-        return managedAdhesion.getClub().getId();
+        return context.getClubIds().iterator().next();
     }
 }
@@ -1,6 +1,8 @@
 package org.clubplus.clubplusbackend.security;
 
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,24 +19,50 @@ import java.util.Map;
  * Ce service utilise la bibliothèque {@code io.jsonwebtoken} pour créer des tokens signés
  * et pour valider les tokens entrants. La clé secrète et la durée d'expiration sont
  * configurées via les propriétés de l'application.
+ * <p>
+ * La durée de génération et de vérification des tokens est mesurée par le timer {@code clubplus.jwt}
+ * (tags {@code operation} et {@code outcome}).
  */
 @Service
 public class SecurityUtils {
 
     private static final Logger log = LoggerFactory.getLogger(SecurityUtils.class);
 
+    /**
+     * Nom du claim contenant l'ID du membre.
+     */
+    public static final String CLAIM_USER_ID = "uid";
+    /**
+     * Nom du claim contenant le rôle du membre (ex: "ROLE_ADMIN").
+     */
+    public static final String CLAIM_ROLE = "role";
+    /**
+     * Nom du claim contenant l'ID du club géré (gestionnaires uniquement).
+     */
+    public static final String CLAIM_MANAGED_CLUB_ID = "managedClubId";
+    /**
+     * Nom du claim contenant la version de sécurité du membre à l'émission du token.
+     */
+    public static final String CLAIM_SECURITY_VERSION = "sv";
+
+    private static final String TIMER_JWT = "clubplus.jwt";
+
     private final String secretKey;
     private final long jwtExpirationMs;
+    private final MeterRegistry meterRegistry;
+    private final Timer generateTimer;
 
     /**
      * Construit une instance de SecurityUtils en injectant la configuration JWT.
      *
      * @param secretKey       La clé secrète pour signer les tokens, injectée via {@code @Value("${jwt.secret}")}.
      * @param jwtExpirationMs La durée d'expiration en millisecondes, injectée via {@code @Value("${jwt.expiration.ms}")}.
+     * @param meterRegistry   Le registre des métriques.
      * @throws IllegalArgumentException si la clé secrète est nulle ou vide.
      */
     public SecurityUtils(@Value("${jwt.secret}") String secretKey,
-                         @Value("${jwt.expiration.ms}") long jwtExpirationMs) {
+                         @Value("${jwt.expiration.ms}") long jwtExpirationMs,
+                         MeterRegistry meterRegistry) {
         if (secretKey == null || secretKey.isBlank()) {
             log.error("ERREUR CRITIQUE : La propriété 'jwt.secret' ne peut pas être vide. L'application ne peut pas démarrer de manière sécurisée.");
             throw new IllegalArgumentException("La clé secrète JWT ne peut pas être vide.");
@@ -45,6 +73,11 @@ public class SecurityUtils {
 
         this.secretKey = secretKey;
         this.jwtExpirationMs = jwtExpirationMs;
+        this.meterRegistry = meterRegistry;
+        this.generateTimer = Timer.builder(TIMER_JWT)
+                .tag("operation", "generate")
+                .tag("outcome", "success")
+                .register(meterRegistry);
         log.info("SecurityUtils initialisé avec une expiration JWT de {} ms.", jwtExpirationMs);
     }
 
@@ -52,7 +85,9 @@ public class SecurityUtils {
      * Génère un token JWT pour un utilisateur donné.
      * <p>
      * Le token contient l'email de l'utilisateur comme sujet ('sub'), ainsi que des informations
-     * supplémentaires (claims) comme le rôle et, pour les gestionnaires, l'ID du club géré.
+     * supplémentaires (claims) : l'ID du membre, le rôle, la version de sécurité et, pour les
+     * gestionnaires, l'ID du club géré. Ces claims permettent au {@link JwtFilter} d'authentifier
+     * les requêtes suivantes sans recharger le membre depuis la base.
      * Le token est signé avec la clé secrète et a une durée de validité définie.
      *
      * @param userDetails L'objet {@link AppUserDetails} représentant l'utilisateur authentifié.
@@ -66,9 +101,11 @@ public class SecurityUtils {
 
         // Préparation des claims (informations à inclure dans le token)
         Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, userDetails.getId());
+        claims.put(CLAIM_SECURITY_VERSION, userDetails.getSecurityVersion());
         String role = getRole(userDetails);
         if (role != null) {
-            claims.put("role", role);
+            claims.put(CLAIM_ROLE, role);
         } else {
             log.warn("Aucun rôle trouvé pour l'utilisateur '{}' lors de la génération du JWT.", userDetails.getUsername());
         }
@@ -77,7 +114,7 @@ public class SecurityUtils {
         if ("ROLE_ADMIN".equals(role) || "ROLE_RESERVATION".equals(role)) {
             Integer managedClubId = userDetails.getManagedClubId();
             if (managedClubId != null) {
-                claims.put("managedClubId", managedClubId);
+                claims.put(CLAIM_MANAGED_CLUB_ID, managedClubId);
             } else {
                 log.warn("Utilisateur gestionnaire '{}' (rôle {}) sans managedClubId défini. Le claim 'managedClubId' ne sera pas ajouté au JWT.", userDetails.getUsername(), role);
             }
@@ -88,13 +125,13 @@ public class SecurityUtils {
         Date validity = new Date(nowMillis + jwtExpirationMs);
 
         // Construction du token
-        return Jwts.builder()
+        return generateTimer.record(() -> Jwts.builder()
                 .setSubject(userDetails.getUsername())
                 .addClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(SignatureAlgorithm.HS256, secretKey)
-                .compact();
+                .compact());
     }
 
 
@@ -110,11 +147,36 @@ public class SecurityUtils {
      * @throws JwtException        pour toute autre erreur de validation (signature, format...).
      */
     public String getSubjectFromJwt(String jwt) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(jwt)
-                .getBody();
-        return claims.getSubject();
+        return parseClaims(jwt).getSubject();
+    }
+
+    /**
+     * Valide un token JWT (signature et expiration) et retourne l'ensemble de ses claims.
+     *
+     * @param jwt La chaîne du token JWT.
+     * @return Les claims du token.
+     * @throws ExpiredJwtException si le token a expiré.
+     * @throws JwtException        pour toute autre erreur de validation (signature, format...).
+     */
+    public Claims parseClaims(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            Claims claims = Jwts.parser()
+                    .setSigningKey(secretKey)
+                    .parseClaimsJws(jwt)
+                    .getBody();
+            outcome = "success";
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_JWT)
+                    .tag("operation", "verify")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 
     /**
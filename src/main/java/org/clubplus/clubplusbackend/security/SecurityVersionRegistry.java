@@ -0,0 +1,94 @@
+package org.clubplus.clubplusbackend.security;
+
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache mémoire des versions de sécurité des membres (voir {@code Membre.securityVersion}).
+ * <p>
+ * Permet au {@link JwtFilter} de valider le claim "sv" d'un token sans interroger la base
+ * à chaque requête. Une entrée est rechargée depuis la base lorsqu'elle dépasse la durée
+ * de validité configurée ({@code jwt.stateless.version-cache-ttl-ms}), ce qui borne le délai
+ * de prise en compte d'une révocation effectuée sur une autre instance de l'application.
+ */
+@Component
+public class SecurityVersionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityVersionRegistry.class);
+
+    /**
+     * Version connue d'un membre et instant de son chargement.
+     * Une version négative signifie que le membre est introuvable ou inactif.
+     */
+    private record Entry(int version, long loadedAtMillis) {
+    }
+
+    private final Map<Integer, Entry> versions = new ConcurrentHashMap<>();
+    private final MembreDao membreDao;
+    private final long ttlMs;
+
+    /**
+     * Construit le registre.
+     *
+     * @param membreDao Le DAO utilisé pour charger les versions manquantes ou expirées.
+     * @param ttlMs     La durée de validité d'une entrée du cache, en millisecondes.
+     */
+    public SecurityVersionRegistry(MembreDao membreDao,
+                                   @Value("${jwt.stateless.version-cache-ttl-ms:30000}") long ttlMs) {
+        this.membreDao = membreDao;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Indique si la version portée par un token correspond à la version actuelle du membre.
+     *
+     * @param membreId     L'ID du membre (claim "uid").
+     * @param tokenVersion La version de sécurité du token (claim "sv").
+     * @return {@code true} si le token est toujours valide, {@code false} s'il a été révoqué
+     * ou si le membre n'existe plus (ou est inactif).
+     */
+    public boolean isCurrent(Integer membreId, int tokenVersion) {
+        long now = System.currentTimeMillis();
+        Entry entry = versions.get(membreId);
+        if (entry == null || now - entry.loadedAtMillis() > ttlMs) {
+            Optional<Integer> version = membreDao.findSecurityVersionById(membreId);
+            entry = new Entry(version.orElse(-1), now);
+            versions.put(membreId, entry);
+            log.debug("Version de sécurité du membre {} chargée depuis la base : {}", membreId, entry.version());
+        }
+        return entry.version() >= 0 && entry.version() == tokenVersion;
+    }
+
+    /**
+     * Enregistre la nouvelle version de sécurité d'un membre après une modification sensible
+     * (mot de passe, rôle, email, anonymisation). Les tokens portant une version antérieure
+     * sont immédiatement rejetés par cette instance.
+     *
+     * @param membreId L'ID du membre.
+     * @param version  La nouvelle version de sécurité.
+     */
+    public void record(Integer membreId, int version) {
+        if (membreId == null) {
+            return;
+        }
+        versions.put(membreId, new Entry(version, System.currentTimeMillis()));
+    }
+
+    /**
+     * Retire un membre du cache ; sa version sera rechargée depuis la base au prochain accès.
+     *
+     * @param membreId L'ID du membre.
+     */
+    public void evict(Integer membreId) {
+        if (membreId != null) {
+            versions.remove(membreId);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Report d'une action après la validation de la transaction courante.
+ * <p>
+ * Utilisé par les index tenus en mémoire ({@link FriendGraph}, {@link MemberAffinityIndex}) :
+ * une transaction annulée ne les modifie donc pas.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Exécute l'action après la validation de la transaction courante (immédiatement s'il n'y en a pas).
+     */
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
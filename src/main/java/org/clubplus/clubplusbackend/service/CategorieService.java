@@ -122,7 +122,9 @@ public class CategorieService {
         newCategorie.setCapacite(categorieDto.getCapacite());
         newCategorie.setEvent(event);
 
-        return categorieRepository.save(newCategorie);
+        Categorie savedCategorie = categorieRepository.save(newCategorie);
+        eventRepository.recomputePlaceTotal(eventId);
+        return savedCategorie;
     }
 
     /**
@@ -162,6 +164,7 @@ public class CategorieService {
         securityService.checkManagerOfClubOrThrow(event.getOrganisateur().getId());
 
         boolean updated = false;
+        boolean capaciteModifiee = false;
 
         // Mise à jour du nom
         String newNom = dto.getNom();
@@ -194,11 +197,16 @@ public class CategorieService {
                 }
                 existingCategorie.setCapacite(newCapacite);
                 updated = true;
+                capaciteModifiee = true;
             }
         }
 
         if (updated) {
-            return categorieRepository.save(existingCategorie);
+            Categorie savedCategorie = categorieRepository.save(existingCategorie);
+            if (capaciteModifiee) {
+                eventRepository.recomputePlaceTotal(eventId);
+            }
+            return savedCategorie;
         }
         return existingCategorie;
     }
@@ -245,5 +253,6 @@ public class CategorieService {
         }
 
         categorieRepository.delete(categorieToDelete);
+        eventRepository.recomputePlaceTotal(eventId);
     }
 }
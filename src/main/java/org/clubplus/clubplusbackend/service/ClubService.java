@@ -39,7 +39,8 @@ public class ClubService {
     private final MembreDao membreRepository;
     private final PasswordEncoder passwordEncoder;
     private final SecurityService securityService;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final MonthlyAdhesionService monthlyAdhesionService;
 
     /**
      * Récupère un club par son ID.
@@ -75,7 +76,7 @@ public class ClubService {
      * <b>Règles métier :</b>
      * <ul>
      * <li>Les emails du club et de l'administrateur doivent être uniques.</li>
-     * <li>Un email de vérification est envoyé à l'administrateur.</li>
+     * <li>Un email de vérification est planifié pour l'administrateur (envoyé après validation de la transaction).</li>
      * </ul>
      *
      * @param dto Le DTO contenant les informations du club et de l'administrateur.
@@ -118,14 +119,10 @@ public class ClubService {
 
         Adhesion adminAdhesion = new Adhesion(savedAdmin, savedClubWithId);
         adhesionRepository.save(adminAdhesion);
+        monthlyAdhesionService.recordAdhesion(adminAdhesion);
 
-        try {
-            emailService.sendVerificationEmail(savedAdmin);
-        } catch (Exception e) {
-            logger.error("CRITICAL: Échec de l'envoi de l'email de vérification pour l'admin {}. Le compte a été créé mais n'est pas vérifié. Détails: {}", savedAdmin.getEmail(), e.getMessage());
-            // Selon la politique, on pourrait vouloir annuler la transaction ici.
-            // throw new RuntimeException("Échec de l'envoi de l'email de vérification.", e);
-        }
+        // Envoyé après la validation de la transaction par EmailOutboxDispatcher.
+        emailOutboxService.enqueueVerificationEmail(savedAdmin);
         return savedClubWithId;
     }
 
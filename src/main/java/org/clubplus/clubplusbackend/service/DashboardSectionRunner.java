@@ -0,0 +1,131 @@
+package org.clubplus.clubplusbackend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exécute en parallèle les sections indépendantes d'un tableau de bord sur un pool de threads borné,
+ * et mesure la durée de chacune.
+ * <p>
+ * Chaque section s'exécute hors de la transaction de l'appelant : les appels aux DAO ouvrent leur propre
+ * transaction en lecture seule. Lorsque le pool et sa file sont saturés, la section est exécutée
+ * directement par le thread appelant, ce qui limite naturellement le nombre de connexions utilisées.
+ */
+@Component
+public class DashboardSectionRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardSectionRunner.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    /**
+     * Construit l'exécuteur avec sa configuration.
+     *
+     * @param threads       Le nombre maximal de sections calculées simultanément.
+     * @param queueCapacity La taille de la file des sections en attente.
+     * @param timeoutMs     Le délai maximal accordé à l'ensemble des sections d'un tableau de bord.
+     */
+    public DashboardSectionRunner(@Value("${app.stats.dashboard.threads:4}") int threads,
+                                  @Value("${app.stats.dashboard.queue-capacity:100}") int queueCapacity,
+                                  @Value("${app.stats.dashboard.timeout-ms:10000}") long timeoutMs) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-stats-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Résultats des sections d'un tableau de bord et leurs durées.
+     *
+     * @param values    La valeur calculée par section, dans l'ordre de soumission.
+     * @param timingsMs La durée d'exécution (ms) de chaque section.
+     * @param totalMs   La durée totale (ms), attente comprise.
+     */
+    public record SectionResults(Map<String, Object> values, Map<String, Long> timingsMs, long totalMs) {
+
+        /**
+         * @param section Le nom de la section.
+         * @return La valeur calculée pour cette section.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(String section) {
+            return (T) values.get(section);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Calcule toutes les sections en parallèle et attend leurs résultats.
+     *
+     * @param sections Les sections à calculer, indexées par nom (l'ordre est conservé).
+     * @return Les valeurs et durées de chaque section.
+     * @throws IllegalStateException si le délai global est dépassé ou si le calcul est interrompu.
+     * @throws RuntimeException      l'exception levée par une section, propagée telle quelle.
+     */
+    public SectionResults run(Map<String, Callable<?>> sections) {
+        long start = System.nanoTime();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        sections.forEach((name, section) -> futures.put(name, executor.submit(() -> {
+            long sectionStart = System.nanoTime();
+            try {
+                return section.call();
+            } finally {
+                timings.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sectionStart));
+            }
+        })));
+
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Map<String, Object> values = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+                long remaining = deadline - System.nanoTime();
+                values.put(entry.getKey(), entry.getValue().get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Erreur lors du calcul du tableau de bord.", e.getCause());
+        } catch (TimeoutException e) {
+            cancelAll(futures);
+            log.warn("Calcul du tableau de bord interrompu après {} ms (sections terminées : {}).", timeoutMs, timings.keySet());
+            throw new IllegalStateException("Le calcul du tableau de bord a dépassé le délai imparti. Veuillez réessayer.");
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Le calcul du tableau de bord a été interrompu.");
+        }
+
+        Map<String, Long> orderedTimings = new LinkedHashMap<>();
+        sections.keySet().forEach(name -> orderedTimings.put(name, timings.getOrDefault(name, 0L)));
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new SectionResults(Collections.unmodifiableMap(values), Collections.unmodifiableMap(orderedTimings), totalMs);
+    }
+
+    private void cancelAll(Map<String, Future<?>> futures) {
+        futures.values().forEach(future -> future.cancel(true));
+    }
+}
@@ -1,5 +1,6 @@
 package org.clubplus.clubplusbackend.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dao.DemandeAmiDao;
@@ -26,6 +27,7 @@ import java.util.Objects;
  * ou l'annulation de demandes d'ami, tout en appliquant les règles métier et de sécurité.
  */
 @Service
+@Timed("clubplus.service")
 @RequiredArgsConstructor
 @Transactional
 public class DemandeAmiService {
@@ -35,6 +37,7 @@ public class DemandeAmiService {
     private final DemandeAmiDao demandeAmiRepository;
     private final MembreDao membreRepository;
     private final SecurityService securityService;
+    private final FriendGraph friendGraph;
 
     /**
      * Envoie une demande d'amitié de l'utilisateur courant vers un autre membre via son code ami.
@@ -116,6 +119,7 @@ public class DemandeAmiService {
         membreRepository.save(recepteur);
         membreRepository.save(envoyeur);
         log.debug("Relation d'amitié @ManyToMany mise à jour entre {} et {}", envoyeur.getId(), recepteur.getId());
+        friendGraph.addFriendship(envoyeur.getId(), recepteur.getId());
 
         return savedDemande;
     }
@@ -201,6 +205,7 @@ public class DemandeAmiService {
         membreRepository.save(friendToRemove);
 
         demandeAmiRepository.delete(friendship);
+        friendGraph.removeFriendship(currentUserId, friendIdToRemove);
         log.info("Amitié (Demande ID: {}) entre les utilisateurs {} et {} supprimée.", friendship.getId(), currentUserId, friendIdToRemove);
     }
 
@@ -234,9 +239,9 @@ public class DemandeAmiService {
     @Transactional(readOnly = true)
     public List<Membre> getFriends() {
         Integer currentUserId = securityService.getCurrentUserIdOrThrow();
-        List<Integer> friendIds = demandeAmiRepository.findFriendIdsOfUser(currentUserId, Statut.ACCEPTEE);
+        List<Integer> friendIds = friendGraph.getFriendIds(currentUserId);
 
-        if (friendIds == null || friendIds.isEmpty()) {
+        if (friendIds.isEmpty()) {
             return Collections.emptyList();
         }
 
@@ -0,0 +1,179 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.model.EmailOutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Envoie en arrière-plan les emails de la file d'envoi ({@link EmailOutboxService}).
+ * <p>
+ * À chaque passage, les messages dus sont réservés un par un (bail), envoyés ensemble hors transaction via
+ * {@link EmailService#sendAll(List)}, puis marqués envoyés. En cas d'échec, le message est retenté après un délai
+ * doublé à chaque tentative (borné), puis abandonné à l'état {@code ECHEC} après le nombre maximal de tentatives.
+ * <p>
+ * Une tentative est comptée dès la réservation : un message dont le bail a expiré sans résultat (arrêt de
+ * l'application pendant l'envoi) a épuisé une tentative, et il est abandonné sans être renvoyé si le nombre
+ * maximal est déjà dépassé.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailService emailService;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final long retentionMs;
+
+    /**
+     * Construit le dispatcher avec sa configuration.
+     *
+     * @param emailOutboxService La file d'envoi.
+     * @param emailService       Le service d'envoi SMTP.
+     * @param enabled            {@code false} pour ne pas envoyer (les messages restent en attente).
+     * @param batchSize          Le nombre maximal de messages envoyés par passage.
+     * @param maxAttempts        Le nombre de tentatives avant abandon.
+     * @param initialBackoffMs   Le délai avant la deuxième tentative, doublé ensuite à chaque échec.
+     * @param maxBackoffMs       Le délai maximal entre deux tentatives.
+     * @param leaseMs            La durée de réservation d'un message en cours d'envoi.
+     * @param retentionMs        La durée de conservation des messages envoyés.
+     */
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService,
+                                 EmailService emailService,
+                                 @Value("${app.mail.outbox.enabled:true}") boolean enabled,
+                                 @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+                                 @Value("${app.mail.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${app.mail.outbox.initial-backoff-ms:30000}") long initialBackoffMs,
+                                 @Value("${app.mail.outbox.max-backoff-ms:3600000}") long maxBackoffMs,
+                                 @Value("${app.mail.outbox.lease-ms:120000}") long leaseMs,
+                                 @Value("${app.mail.outbox.retention-ms:2592000000}") long retentionMs) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailService = emailService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.retentionMs = retentionMs;
+    }
+
+    /**
+     * Passage planifié (par défaut toutes les 2 secondes).
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:2000}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatchPending();
+        } catch (RuntimeException e) {
+            log.error("Erreur inattendue lors de l'envoi des emails en attente.", e);
+        }
+    }
+
+    /**
+     * Suppression planifiée des messages envoyés plus anciens que la durée de conservation (par défaut chaque nuit à 4h).
+     */
+    @Scheduled(cron = "${app.mail.outbox.purge-cron:0 0 4 * * *}")
+    public void scheduledPurge() {
+        int supprimes = emailOutboxService.purgeSentBefore(Instant.now().minusMillis(retentionMs));
+        if (supprimes > 0) {
+            log.info("File d'envoi des emails : {} message(s) envoyé(s) supprimé(s).", supprimes);
+        }
+    }
+
+    /**
+     * Envoie un lot de messages dus : les messages sont d'abord réservés, puis envoyés ensemble
+     * (rendu groupé par template et une seule connexion SMTP par type).
+     *
+     * @return Le nombre de messages envoyés avec succès.
+     */
+    public int dispatchPending() {
+        List<Long> ids = emailOutboxService.findDueIds(batchSize);
+        Instant bailJusqua = Instant.now().plusMillis(leaseMs);
+        List<EmailOutboxMessage> claimed = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            emailOutboxService.claim(id, bailJusqua).ifPresent(message -> {
+                if (message.getTentatives() > maxAttempts) {
+                    abandon(message);
+                } else {
+                    claimed.add(message);
+                }
+            });
+        }
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Exception> echecs = emailService.sendAll(claimed);
+        int envoyes = 0;
+        for (EmailOutboxMessage message : claimed) {
+            Exception echec = echecs.get(message.getId());
+            if (echec == null) {
+                emailOutboxService.markSent(message.getId());
+                envoyes++;
+            } else {
+                handleFailure(message, echec);
+            }
+        }
+        return envoyes;
+    }
+
+    /**
+     * Abandonne un message dont les tentatives précédentes n'ont jamais abouti à un résultat (bail expiré).
+     */
+    private void abandon(EmailOutboxMessage message) {
+        String erreur = "Aucun résultat d'envoi après " + maxAttempts + " tentative(s) (bail expiré).";
+        emailOutboxService.markFailed(message.getId(), true, message.getProchaineTentative(), erreur);
+        log.error("Email {} (ID {}) pour {} abandonné : {}",
+                message.getType(), message.getId(), message.getDestinataire(), erreur);
+    }
+
+    private void handleFailure(EmailOutboxMessage message, Exception e) {
+        // La tentative en cours a été comptée à la réservation.
+        int tentatives = message.getTentatives();
+        String erreur = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (tentatives >= maxAttempts) {
+            emailOutboxService.markFailed(message.getId(), true, message.getProchaineTentative(), erreur);
+            log.error("Email {} (ID {}) pour {} abandonné après {} tentative(s) : {}",
+                    message.getType(), message.getId(), message.getDestinataire(), tentatives, erreur);
+        } else {
+            Instant prochaineTentative = Instant.now().plus(backoff(tentatives));
+            emailOutboxService.markFailed(message.getId(), false, prochaineTentative, erreur);
+            log.warn("Échec de l'envoi de l'email {} (ID {}) pour {} (tentative {}/{}), nouvelle tentative à {} : {}",
+                    message.getType(), message.getId(), message.getDestinataire(), tentatives, maxAttempts,
+                    prochaineTentative, erreur);
+        }
+    }
+
+    /**
+     * Calcule le délai avant la tentative suivante : {@code initialBackoffMs * 2^(tentatives - 1)}, borné par {@code maxBackoffMs}.
+     *
+     * @param tentatives Le nombre de tentatives déjà échouées (au moins 1).
+     */
+    Duration backoff(int tentatives) {
+        int exposant = Math.min(Math.max(tentatives - 1, 0), 30);
+        long delai = initialBackoffMs << exposant;
+        if (delai <= 0 || delai > maxBackoffMs) {
+            delai = maxBackoffMs;
+        }
+        return Duration.ofMillis(delai);
+    }
+}
@@ -0,0 +1,167 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.EmailOutboxDao;
+import org.clubplus.clubplusbackend.dto.ContactFormDto;
+import org.clubplus.clubplusbackend.model.EmailOutboxMessage;
+import org.clubplus.clubplusbackend.model.EmailOutboxStatus;
+import org.clubplus.clubplusbackend.model.EmailType;
+import org.clubplus.clubplusbackend.model.Membre;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service de la file d'envoi des emails transactionnels ("outbox").
+ * <p>
+ * Les méthodes {@code enqueue*} enregistrent l'email dans la transaction de l'appelant : l'email n'est envoyé
+ * que si l'opération métier est validée, et la requête HTTP n'attend plus le serveur SMTP.
+ * Les autres méthodes sont utilisées par {@link EmailOutboxDispatcher}, chacune dans sa propre courte transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmailOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    private final EmailOutboxDao emailOutboxRepository;
+
+    @Value("${app.contact.recipient-email}")
+    private String contactRecipientEmail;
+
+    /**
+     * Planifie l'envoi de l'email de vérification d'un nouveau membre.
+     *
+     * @param membre Le membre à qui envoyer l'email de vérification.
+     * @throws IllegalArgumentException si l'email ou le token de vérification du membre est null.
+     */
+    public void enqueueVerificationEmail(Membre membre) {
+        EmailOutboxMessage message = emailOutboxRepository.save(verificationMessage(membre));
+        log.debug("Email {} (ID {}) planifié pour {}", EmailType.VERIFICATION, message.getId(), membre.getEmail());
+    }
+
+    /**
+     * Planifie en une fois l'envoi des emails de vérification de plusieurs membres (import de membres).
+     *
+     * @param membres Les membres à qui envoyer l'email de vérification.
+     * @throws IllegalArgumentException si l'email ou le token de vérification d'un membre est null.
+     */
+    public void enqueueVerificationEmails(List<Membre> membres) {
+        emailOutboxRepository.saveAll(membres.stream().map(this::verificationMessage).toList());
+        log.debug("{} email(s) de vérification planifié(s).", membres.size());
+    }
+
+    private EmailOutboxMessage verificationMessage(Membre membre) {
+        if (membre.getEmail() == null || membre.getVerificationToken() == null) {
+            throw new IllegalArgumentException("L'email et le token de vérification du membre ne peuvent pas être nuls.");
+        }
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("prenom", membre.getPrenom());
+        variables.put("token", membre.getVerificationToken());
+        return new EmailOutboxMessage(EmailType.VERIFICATION, membre.getEmail(), variables);
+    }
+
+    /**
+     * Planifie l'envoi de l'email de réinitialisation de mot de passe.
+     *
+     * @param membre Le membre qui a demandé la réinitialisation.
+     * @param token  Le token de réinitialisation généré.
+     * @throws IllegalArgumentException si l'email ou le token est null.
+     */
+    public void enqueuePasswordResetEmail(Membre membre, String token) {
+        if (membre.getEmail() == null || token == null) {
+            throw new IllegalArgumentException("L'email du membre et le token ne peuvent pas être nuls.");
+        }
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("prenom", membre.getPrenom());
+        variables.put("token", token);
+        enqueue(EmailType.REINITIALISATION_MOT_DE_PASSE, membre.getEmail(), variables);
+    }
+
+    /**
+     * Planifie la transmission d'un formulaire de contact au destinataire configuré.
+     *
+     * @param contactFormDto Les données du formulaire de contact.
+     */
+    public void enqueueContactFormEmail(ContactFormDto contactFormDto) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("name", contactFormDto.getName());
+        variables.put("email", contactFormDto.getEmail());
+        variables.put("subject", contactFormDto.getSubject());
+        variables.put("message", contactFormDto.getMessage());
+        enqueue(EmailType.CONTACT, contactRecipientEmail, variables);
+    }
+
+    private void enqueue(EmailType type, String destinataire, Map<String, String> variables) {
+        EmailOutboxMessage message = emailOutboxRepository.save(new EmailOutboxMessage(type, destinataire, variables));
+        log.debug("Email {} (ID {}) planifié pour {}", type, message.getId(), destinataire);
+    }
+
+    /**
+     * Récupère les IDs des messages à envoyer maintenant.
+     *
+     * @param limit Le nombre maximal de messages.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(int limit) {
+        return emailOutboxRepository.findDueIds(Instant.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Réserve un message pour l'envoi jusqu'à la fin du bail et compte la tentative.
+     *
+     * @param id         L'ID du message.
+     * @param bailJusqua L'instant jusqu'auquel aucun autre dispatcher ne peut le prendre.
+     * @return Le message réservé (tentative en cours incluse), ou vide s'il a déjà été pris ou n'est plus à envoyer.
+     */
+    public Optional<EmailOutboxMessage> claim(Long id, Instant bailJusqua) {
+        if (emailOutboxRepository.claim(id, Instant.now(), bailJusqua) == 0) {
+            return Optional.empty();
+        }
+        return emailOutboxRepository.findById(id);
+    }
+
+    /**
+     * Marque un message comme envoyé.
+     */
+    public void markSent(Long id) {
+        emailOutboxRepository.markSent(id, Instant.now());
+    }
+
+    /**
+     * Enregistre l'échec d'une tentative d'envoi.
+     *
+     * @param id                 L'ID du message.
+     * @param deadLetter         {@code true} si le message ne doit plus être retenté.
+     * @param prochaineTentative L'instant de la prochaine tentative (ignoré pour un message abandonné).
+     * @param erreur             La description de l'erreur.
+     */
+    public void markFailed(Long id, boolean deadLetter, Instant prochaineTentative, String erreur) {
+        String erreurTronquee = (erreur != null && erreur.length() > EmailOutboxMessage.MAX_ERREUR_LENGTH)
+                ? erreur.substring(0, EmailOutboxMessage.MAX_ERREUR_LENGTH)
+                : erreur;
+        emailOutboxRepository.markFailed(id,
+                deadLetter ? EmailOutboxStatus.ECHEC : EmailOutboxStatus.EN_ATTENTE,
+                prochaineTentative,
+                erreurTronquee);
+    }
+
+    /**
+     * Supprime les messages envoyés avant la date donnée.
+     *
+     * @return Le nombre de messages supprimés.
+     */
+    public int purgeSentBefore(Instant limite) {
+        return emailOutboxRepository.deleteSentBefore(limite);
+    }
+}
@@ -0,0 +1,117 @@
+package org.clubplus.clubplusbackend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Génère le contenu HTML des emails à partir des templates Thymeleaf.
+ * <p>
+ * Les templates sont analysés une seule fois : le cache de templates de Thymeleaf (actif par défaut,
+ * {@code spring.thymeleaf.cache}) conserve leur forme analysée, fragments statiques compris, et
+ * {@link #warmUp()} les charge dès le démarrage. Les {@link TemplateSpec} sont partagées et le rendu
+ * s'effectue dans un tampon réutilisé par thread. {@link #renderBatch(String, List)} génère les emails
+ * de plusieurs destinataires d'un même template en un seul passage, avec un seul contexte.
+ */
+@Component
+public class EmailRenderer {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailRenderer.class);
+
+    /**
+     * Les templates d'emails de l'application, chargés au démarrage.
+     */
+    static final List<String> EMAIL_TEMPLATES = List.of(
+            "verification-email.html", "reset-password-email.html", "contact-email.html");
+
+    /**
+     * Au-delà de cette taille (en caractères), le tampon d'un thread n'est pas conservé pour le rendu suivant.
+     */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final TemplateEngine templateEngine;
+    private final Map<String, TemplateSpec> templateSpecs = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(4096));
+
+    public EmailRenderer(TemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * Analyse et met en cache les templates d'emails au démarrage, pour que le premier envoi ne paie pas ce coût.
+     * Un template en erreur est journalisé sans empêcher le démarrage.
+     */
+    @PostConstruct
+    void warmUp() {
+        for (String template : EMAIL_TEMPLATES) {
+            try {
+                render(template, Map.of());
+            } catch (RuntimeException e) {
+                log.warn("Préchargement du template d'email '{}' impossible : {}", template, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Génère le contenu d'un email.
+     *
+     * @param template  Le nom du template (ex: "verification-email.html").
+     * @param variables Les variables du template.
+     * @return Le HTML généré.
+     */
+    public String render(String template, Map<String, ?> variables) {
+        Context context = new Context();
+        context.setVariables(toObjectMap(variables));
+        return renderInto(templateSpec(template), context);
+    }
+
+    /**
+     * Génère en un seul passage le contenu d'un même template pour plusieurs destinataires.
+     *
+     * @param template             Le nom du template.
+     * @param variablesParMessage Les variables de chaque email, dans l'ordre souhaité.
+     * @return Le HTML généré pour chaque email, dans le même ordre.
+     */
+    public List<String> renderBatch(String template, List<? extends Map<String, ?>> variablesParMessage) {
+        TemplateSpec spec = templateSpec(template);
+        Context context = new Context();
+        List<String> contenus = new ArrayList<>(variablesParMessage.size());
+        for (Map<String, ?> variables : variablesParMessage) {
+            context.clearVariables();
+            context.setVariables(toObjectMap(variables));
+            contenus.add(renderInto(spec, context));
+        }
+        return contenus;
+    }
+
+    private TemplateSpec templateSpec(String template) {
+        return templateSpecs.computeIfAbsent(template, name -> new TemplateSpec(name, TemplateMode.HTML));
+    }
+
+    private String renderInto(TemplateSpec spec, Context context) {
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        templateEngine.process(spec, context, buffer);
+        String contenu = buffer.toString();
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return contenu;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toObjectMap(Map<String, ?> variables) {
+        return (Map<String, Object>) variables;
+    }
+}
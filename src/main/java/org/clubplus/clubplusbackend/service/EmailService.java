@@ -3,23 +3,29 @@ package org.clubplus.clubplusbackend.service;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.clubplus.clubplusbackend.dto.ContactFormDto;
-import org.clubplus.clubplusbackend.model.Membre;
+import org.clubplus.clubplusbackend.model.EmailOutboxMessage;
+import org.clubplus.clubplusbackend.model.EmailType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Service gérant l'envoi d'emails transactionnels pour l'application.
  * <p>
- * Ce service utilise {@link JavaMailSender} pour l'envoi et {@link TemplateEngine} (Thymeleaf)
+ * Ce service utilise {@link JavaMailSender} pour l'envoi et {@link EmailRenderer} (Thymeleaf)
  * pour générer le contenu HTML des emails à partir de templates.
+ * <p>
+ * Les services métier n'appellent pas ce service directement : ils enregistrent les emails via
+ * {@link EmailOutboxService}, et {@link EmailOutboxDispatcher} les envoie ensuite en arrière-plan.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,7 +34,7 @@ public class EmailService {
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailRenderer emailRenderer;
 
     @Value("${spring.mail.username}")
     private String fromEmailAddress;
@@ -36,9 +42,6 @@ public class EmailService {
     @Value("${app.backend.base.url}")
     private String backendBaseUrl;
 
-    @Value("${app.contact.recipient-email}")
-    private String contactRecipientEmail;
-
     @Value("${app.frontend.base.url}")
     private String frontendBaseUrl;
 
@@ -61,97 +64,112 @@ public class EmailService {
     }
 
     /**
-     * Envoie un email de vérification de compte à un nouveau membre.
-     * L'email est généré à partir du template HTML 'verification-email.html'.
+     * Envoie des messages de la file d'envoi ({@link EmailOutboxMessage}).
+     * <p>
+     * Les messages sont regroupés par type : le contenu HTML de chaque groupe est généré en un seul passage
+     * par {@link EmailRenderer}, puis le groupe est transmis au serveur SMTP en un seul appel (une seule connexion).
+     * Appelé par {@link EmailOutboxDispatcher}, hors de toute transaction.
      *
-     * @param membre Le membre à qui envoyer l'email de vérification.
-     * @throws MessagingException       si une erreur survient lors de la création ou de l'envoi de l'email.
-     * @throws IllegalArgumentException si l'email ou le token de vérification du membre est null.
+     * @param messages Les messages à envoyer (avec leur ID).
+     * @return Les erreurs des messages non envoyés, par ID de message (vide si tous ont été acceptés).
      */
-    public void sendVerificationEmail(Membre membre) throws MessagingException {
-        if (membre.getEmail() == null || membre.getVerificationToken() == null) {
-            throw new IllegalArgumentException("L'email et le token de vérification du membre ne peuvent pas être nuls.");
-        }
-        log.debug("Préparation de l'envoi de l'email de vérification à {}", membre.getEmail());
-        String verificationLink = backendBaseUrl + "/auth/verify-email?token=" + membre.getVerificationToken();
+    public Map<Long, Exception> sendAll(List<EmailOutboxMessage> messages) {
+        Map<Long, Exception> echecs = new HashMap<>();
+        Map<EmailType, List<EmailOutboxMessage>> parType = messages.stream()
+                .collect(Collectors.groupingBy(EmailOutboxMessage::getType, () -> new EnumMap<>(EmailType.class), Collectors.toList()));
+        parType.forEach((type, groupe) -> sendGroup(type, groupe, echecs));
+        return echecs;
+    }
 
-        Context context = new Context();
-        context.setVariable("prenom", membre.getPrenom());
-        context.setVariable("verificationLink", verificationLink);
+    private void sendGroup(EmailType type, List<EmailOutboxMessage> groupe, Map<Long, Exception> echecs) {
+        List<String> contenus;
+        try {
+            contenus = emailRenderer.renderBatch(templateName(type), groupe.stream().map(this::templateVariables).toList());
+        } catch (RuntimeException e) {
+            log.error("Échec de la génération des emails {} ({} message(s)) : {}", type, groupe.size(), e.getMessage());
+            groupe.forEach(message -> echecs.put(message.getId(), e));
+            return;
+        }
 
-        String htmlContent = templateEngine.process("verification-email.html", context);
+        Map<MimeMessage, EmailOutboxMessage> aEnvoyer = new IdentityHashMap<>();
+        for (int i = 0; i < groupe.size(); i++) {
+            EmailOutboxMessage message = groupe.get(i);
+            try {
+                aEnvoyer.put(buildMimeMessage(message, contenus.get(i)), message);
+            } catch (MessagingException e) {
+                echecs.put(message.getId(), e);
+            }
+        }
+        if (aEnvoyer.isEmpty()) {
+            return;
+        }
 
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setFrom(fromEmailAddress);
-        helper.setTo(membre.getEmail());
-        helper.setSubject("Bienvenue sur Club Plus - Veuillez vérifier votre adresse email");
-        helper.setText(htmlContent, true);
+        try {
+            mailSender.send(aEnvoyer.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                aEnvoyer.values().forEach(message -> echecs.put(message.getId(), e));
+            } else {
+                e.getFailedMessages().forEach((mimeMessage, cause) -> {
+                    EmailOutboxMessage message = aEnvoyer.get(mimeMessage);
+                    if (message != null) {
+                        echecs.put(message.getId(), cause);
+                    }
+                });
+            }
+        } catch (MailException e) {
+            aEnvoyer.values().forEach(message -> echecs.put(message.getId(), e));
+        }
+        long enEchec = groupe.stream().filter(message -> echecs.containsKey(message.getId())).count();
+        log.info("Emails {} : {} envoyé(s), {} en échec.", type, groupe.size() - enEchec, enEchec);
+    }
 
-        mailSender.send(message);
-        log.info("Email de vérification envoyé avec succès à {}", membre.getEmail());
+    /**
+     * @return Le template HTML d'un type d'email.
+     */
+    static String templateName(EmailType type) {
+        return switch (type) {
+            case VERIFICATION -> "verification-email.html";
+            case REINITIALISATION_MOT_DE_PASSE -> "reset-password-email.html";
+            case CONTACT -> "contact-email.html";
+        };
     }
 
     /**
-     * Envoie un email de réinitialisation de mot de passe à un membre.
-     * L'email est généré à partir du template HTML 'reset-password-email.html'.
-     *
-     * @param membre Le membre qui a demandé la réinitialisation.
-     * @param token  Le token de réinitialisation généré.
-     * @throws MessagingException       si une erreur survient lors de l'envoi de l'email.
-     * @throws IllegalArgumentException si l'email ou le token est null.
+     * Construit les variables du template à partir des variables stockées (ajout des liens absolus).
      */
-    public void sendPasswordResetEmail(Membre membre, String token) throws MessagingException {
-        if (membre.getEmail() == null || token == null) {
-            throw new IllegalArgumentException("L'email du membre et le token ne peuvent pas être nuls.");
+    private Map<String, Object> templateVariables(EmailOutboxMessage message) {
+        Map<String, String> variables = message.getVariables();
+        Map<String, Object> context = new HashMap<>(variables);
+        switch (message.getType()) {
+            case VERIFICATION ->
+                    context.put("verificationLink", backendBaseUrl + "/auth/verify-email?token=" + variables.get("token"));
+            case REINITIALISATION_MOT_DE_PASSE ->
+                    context.put("resetLink", frontendBaseUrl + "/reset-password?token=" + variables.get("token"));
+            case CONTACT -> {
+                // Les variables du formulaire sont utilisées telles quelles.
+            }
         }
-        log.debug("Préparation de l'envoi de l'email de réinitialisation à {}", membre.getEmail());
-        String resetLink = frontendBaseUrl + "/reset-password?token=" + token;
-
-        Context context = new Context();
-        context.setVariable("prenom", membre.getPrenom());
-        context.setVariable("resetLink", resetLink);
-
-        String htmlContent = templateEngine.process("reset-password-email.html", context);
-
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setFrom(fromEmailAddress);
-        helper.setTo(membre.getEmail());
-        helper.setSubject("Réinitialisation de votre mot de passe - Club Plus");
-        helper.setText(htmlContent, true);
-
-        mailSender.send(message);
-        log.info("Email de réinitialisation de mot de passe envoyé à {}", membre.getEmail());
+        return context;
     }
 
     /**
-     * Traite un formulaire de contact et envoie son contenu par email au destinataire configuré.
-     * L'email est généré à partir du template HTML 'contact-email.html'.
-     *
-     * @param contactFormDto Les données du formulaire de contact.
-     * @throws MessagingException si une erreur survient lors de l'envoi de l'email.
+     * Construit le message MIME. Le corps est un simple HTML sans pièce jointe : le message n'est pas multipart.
      */
-    public void sendContactFormEmail(ContactFormDto contactFormDto) throws MessagingException {
-        log.info("Réception d'un nouveau message de contact de la part de {}", contactFormDto.getEmail());
-        Context context = new Context();
-        context.setVariable("name", contactFormDto.getName());
-        context.setVariable("email", contactFormDto.getEmail());
-        context.setVariable("subject", contactFormDto.getSubject());
-        context.setVariable("message", contactFormDto.getMessage());
-
-        String emailBody = templateEngine.process("contact-email.html", context);
-
+    private MimeMessage buildMimeMessage(EmailOutboxMessage message, String htmlContent) throws MessagingException {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
         helper.setFrom(fromEmailAddress);
-        helper.setTo(contactRecipientEmail);
-        helper.setSubject("Nouveau message de contact : " + contactFormDto.getSubject());
-        helper.setText(emailBody, true);
-        helper.setReplyTo(contactFormDto.getEmail());
-
-        mailSender.send(mimeMessage);
-        log.info("Email de contact de {} envoyé avec succès à {}", contactFormDto.getEmail(), contactRecipientEmail);
+        helper.setTo(message.getDestinataire());
+        helper.setText(htmlContent, true);
+        switch (message.getType()) {
+            case VERIFICATION -> helper.setSubject("Bienvenue sur Club Plus - Veuillez vérifier votre adresse email");
+            case REINITIALISATION_MOT_DE_PASSE -> helper.setSubject("Réinitialisation de votre mot de passe - Club Plus");
+            case CONTACT -> {
+                helper.setSubject("Nouveau message de contact : " + message.getVariables().get("subject"));
+                helper.setReplyTo(message.getVariables().get("email"));
+            }
+        }
+        return mimeMessage;
     }
 }
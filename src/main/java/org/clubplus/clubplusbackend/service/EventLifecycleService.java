@@ -0,0 +1,113 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tâche planifiée de fin de vie des événements.
+ * <ul>
+ * <li><b>Clôture :</b> une fois un événement terminé, ses réservations encore confirmées (billet jamais scanné)
+ * passent au statut {@code ABSENT}.</li>
+ * <li><b>Archivage :</b> les événements terminés depuis plus de {@code app.events.lifecycle.archive-after-days}
+ * jours sont déplacés, avec leurs catégories, réservations et notations, dans les tables {@code *_archive}.
+ * Les tables courantes et leurs index ne contiennent ainsi que les événements récents ou à venir.</li>
+ * </ul>
+ * Les événements sont traités par lots de {@code app.events.lifecycle.batch-size}, chacun dans sa propre
+ * transaction ({@link EventLifecycleWriter}), jusqu'à épuisement.
+ */
+@Service
+public class EventLifecycleService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLifecycleService.class);
+
+    private final EventLifecycleWriter lifecycleWriter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration archiveAfter;
+
+    /**
+     * Construit le service avec sa configuration.
+     *
+     * @param lifecycleWriter  Le composant transactionnel qui traite les lots.
+     * @param enabled          {@code false} pour désactiver la tâche planifiée.
+     * @param batchSize        Le nombre maximal d'événements traités par transaction.
+     * @param archiveAfterDays Le nombre de jours après la fin d'un événement avant son archivage.
+     */
+    public EventLifecycleService(EventLifecycleWriter lifecycleWriter,
+                                 @Value("${app.events.lifecycle.enabled:true}") boolean enabled,
+                                 @Value("${app.events.lifecycle.batch-size:200}") int batchSize,
+                                 @Value("${app.events.lifecycle.archive-after-days:365}") int archiveAfterDays) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.events.lifecycle.batch-size doit être supérieur ou égal à 1.");
+        }
+        this.lifecycleWriter = lifecycleWriter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.archiveAfter = Duration.ofDays(archiveAfterDays);
+    }
+
+    /**
+     * Passage planifié (par défaut toutes les heures, une minute après le démarrage).
+     */
+    @Scheduled(initialDelayString = "${app.events.lifecycle.initial-delay-ms:60000}",
+            fixedDelayString = "${app.events.lifecycle.interval-ms:3600000}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("Erreur lors du traitement de fin de vie des événements.", e);
+        }
+    }
+
+    /**
+     * Clôture les événements terminés avant {@code now}, puis archive ceux terminés avant l'horizon d'archivage.
+     *
+     * @param now L'instant de référence.
+     */
+    public void run(Instant now) {
+        int clotures = closeFinishedEvents(now);
+        int archives = archiveOldEvents(now.minus(archiveAfter));
+        if (clotures > 0 || archives > 0) {
+            log.info("Fin de vie des événements : {} clôturé(s), {} archivé(s).", clotures, archives);
+        }
+    }
+
+    /**
+     * Clôture, lot par lot, tous les événements terminés avant {@code now}.
+     *
+     * @return Le nombre d'événements clôturés.
+     */
+    int closeFinishedEvents(Instant now) {
+        int total = 0;
+        int traites;
+        do {
+            traites = lifecycleWriter.closeFinishedEvents(now, batchSize);
+            total += traites;
+        } while (traites == batchSize);
+        return total;
+    }
+
+    /**
+     * Archive, lot par lot, tous les événements clôturés terminés avant {@code cutoff}.
+     *
+     * @return Le nombre d'événements archivés.
+     */
+    int archiveOldEvents(Instant cutoff) {
+        int total = 0;
+        int traites;
+        do {
+            traites = lifecycleWriter.archiveOldEvents(cutoff, batchSize);
+            total += traites;
+        } while (traites == batchSize);
+        return total;
+    }
+}
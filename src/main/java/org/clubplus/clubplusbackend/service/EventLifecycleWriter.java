@@ -0,0 +1,100 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.*;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Traite, en une transaction par lot, la clôture et l'archivage des événements terminés.
+ * <p>
+ * Appelé uniquement par {@link EventLifecycleService}. Chaque étape d'un lot est une requête ensembliste
+ * ({@code UPDATE}, {@code INSERT ... SELECT} ou {@code DELETE} sur la liste des IDs du lot) : le coût d'un lot
+ * ne dépend pas du nombre de réservations chargées en mémoire.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EventLifecycleWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLifecycleWriter.class);
+
+    private final EventDao eventRepository;
+    private final CategorieDao categorieRepository;
+    private final ReservationDao reservationRepository;
+    private final NotationDao notationRepository;
+    private final EventParticipationDao eventParticipationRepository;
+    private final EventArchiveDao eventArchiveRepository;
+    private final CategorieArchiveDao categorieArchiveRepository;
+    private final ReservationArchiveDao reservationArchiveRepository;
+    private final NotationArchiveDao notationArchiveRepository;
+
+    /**
+     * Clôture un lot d'événements terminés : leurs réservations encore confirmées passent au statut
+     * {@link ReservationStatus#ABSENT} et leurs compteurs de places réservées sont remis à zéro.
+     * Pour un événement annulé, les réservations confirmées passent au statut {@link ReservationStatus#ANNULE} :
+     * le membre n'est pas absent d'un événement qui n'a pas eu lieu. Ces réservations sont retirées de l'index
+     * de participation dans la même transaction.
+     *
+     * @param now       L'instant de référence (les événements terminés avant sont concernés).
+     * @param batchSize Le nombre maximal d'événements traités.
+     * @return Le nombre d'événements clôturés.
+     */
+    public int closeFinishedEvents(Instant now, int batchSize) {
+        List<Integer> eventIds = eventRepository.findIdsToClose(now, Limit.of(batchSize));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        List<Integer> annules = eventRepository.findInactiveIdsIn(eventIds);
+        List<Integer> termines = annules.isEmpty() ? eventIds
+                : eventIds.stream().filter(id -> !annules.contains(id)).toList();
+        int absents = termines.isEmpty() ? 0
+                : reservationRepository.updateStatusByEventIdIn(termines, ReservationStatus.CONFIRME, ReservationStatus.ABSENT);
+        if (!annules.isEmpty()) {
+            // L'index de participation ne compte pas les réservations annulées : il est mis à jour avant le statut.
+            eventParticipationRepository.subtractReservationsByEventIdIn(annules, ReservationStatus.CONFIRME);
+            eventParticipationRepository.deleteEmptyByEventIdIn(annules);
+            reservationRepository.updateStatusByEventIdIn(annules, ReservationStatus.CONFIRME, ReservationStatus.ANNULE);
+        }
+        categorieRepository.resetPlacesReserveesByEventIdIn(eventIds);
+        eventRepository.markClosed(eventIds);
+        log.debug("{} événement(s) clôturé(s), {} réservation(s) marquée(s) ABSENT.", eventIds.size(), absents);
+        return eventIds.size();
+    }
+
+    /**
+     * Archive un lot d'événements clôturés terminés avant {@code cutoff} : l'événement, ses catégories,
+     * ses réservations et ses notations sont copiés dans les tables d'archive puis supprimés des tables courantes.
+     * Les agrégats de notations ne changent pas (les notes archivées restent comptées).
+     *
+     * @param cutoff    L'horizon d'archivage.
+     * @param batchSize Le nombre maximal d'événements traités.
+     * @return Le nombre d'événements archivés.
+     */
+    public int archiveOldEvents(Instant cutoff, int batchSize) {
+        List<Integer> eventIds = eventRepository.findIdsToArchive(cutoff, Limit.of(batchSize));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        eventArchiveRepository.archiveByIdIn(eventIds);
+        categorieArchiveRepository.archiveByEventIdIn(eventIds);
+        int reservations = reservationArchiveRepository.archiveByEventIdIn(eventIds);
+        notationArchiveRepository.archiveByEventIdIn(eventIds);
+
+        // Ordre imposé par les clés étrangères : réservations et notations, puis catégories, puis événements.
+        reservationRepository.deleteByEventIdIn(eventIds);
+        notationRepository.deleteByEventIdIn(eventIds);
+        eventParticipationRepository.deleteByEventIdIn(eventIds);
+        categorieRepository.deleteByEventIdIn(eventIds);
+        eventRepository.deleteByIdIn(eventIds);
+        log.debug("{} événement(s) archivé(s) avec {} réservation(s).", eventIds.size(), reservations);
+        return eventIds.size();
+    }
+}
@@ -0,0 +1,98 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.EventParticipationDao;
+import org.clubplus.clubplusbackend.model.EventParticipation;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Service de maintenance de l'index de participation des membres aux événements ({@link EventParticipation}).
+ * <p>
+ * L'index est mis à jour dans la transaction qui crée ou annule la réservation. {@link #rebuild()} le
+ * recalcule à partir de la table des réservations (initialisation, correction de dérive).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EventParticipationService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventParticipationService.class);
+
+    private final EventParticipationDao eventParticipationRepository;
+
+    /**
+     * Comptabilise une nouvelle réservation d'un membre pour un événement.
+     *
+     * @param eventId  L'ID de l'événement.
+     * @param membreId L'ID du membre.
+     */
+    public void recordReservation(Integer eventId, Integer membreId) {
+        recordReservations(eventId, Map.of(membreId, 1L));
+    }
+
+    /**
+     * Comptabilise plusieurs réservations d'un même événement (lot du mode drop).
+     *
+     * @param eventId               L'ID de l'événement.
+     * @param reservationsParMembre Le nombre de réservations créées, par ID de membre.
+     */
+    public void recordReservations(Integer eventId, Map<Integer, Long> reservationsParMembre) {
+        reservationsParMembre.forEach((membreId, nombre) -> {
+            if (nombre > 0) {
+                eventParticipationRepository.upsertCount(eventId, membreId, nombre);
+            }
+        });
+    }
+
+    /**
+     * Retire une réservation annulée de l'index ; la participation disparaît avec la dernière réservation.
+     *
+     * @param eventId  L'ID de l'événement.
+     * @param membreId L'ID du membre.
+     */
+    public void removeReservation(Integer eventId, Integer membreId) {
+        if (eventParticipationRepository.addToCount(eventId, membreId, -1) == 0) {
+            log.warn("Participation absente ou nulle pour le membre {} à l'événement {} lors d'une annulation. Une reconstruction corrigera la dérive.",
+                    membreId, eventId);
+            return;
+        }
+        eventParticipationRepository.deleteIfEmpty(eventId, membreId);
+    }
+
+    /**
+     * Récupère, pour chaque événement, les noms des membres donnés qui y participent.
+     *
+     * @param eventIds  Les IDs des événements.
+     * @param membreIds Les IDs des membres recherchés (les amis de l'utilisateur).
+     * @return Une map des noms ("Prénom Nom") par ID d'événement ; les événements sans participant sont absents.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, List<String>> findParticipantNames(Collection<Integer> eventIds, Collection<Integer> membreIds) {
+        if (eventIds.isEmpty() || membreIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, List<String>> names = new HashMap<>();
+        for (Object[] row : eventParticipationRepository.findParticipantNames(eventIds, membreIds)) {
+            names.computeIfAbsent((Integer) row[0], id -> new ArrayList<>()).add(row[1] + " " + row[2]);
+        }
+        return names;
+    }
+
+    /**
+     * Reconstruit tout l'index à partir de la table des réservations.
+     *
+     * @return Le nombre de participations recréées.
+     */
+    public int rebuild() {
+        eventParticipationRepository.deleteAllInBatch();
+        int participations = eventParticipationRepository.insertFromReservations(ReservationStatus.ANNULE);
+        log.info("Index de participation aux événements reconstruit : {} ligne(s).", participations);
+        return participations;
+    }
+}
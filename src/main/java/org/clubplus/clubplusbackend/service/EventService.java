@@ -1,5 +1,6 @@
 package org.clubplus.clubplusbackend.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dao.*;
@@ -8,6 +9,7 @@ import org.clubplus.clubplusbackend.model.*;
 import org.clubplus.clubplusbackend.security.SecurityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
  * de sécurité relatives aux événements et à l'appartenance aux clubs.
  */
 @Service
+@Timed("clubplus.service")
 @RequiredArgsConstructor
 @Transactional
 public class EventService {
@@ -31,29 +34,41 @@ public class EventService {
     private static final Logger log = LoggerFactory.getLogger(EventService.class);
 
     private final EventDao eventRepository;
-    private final ReservationDao reservationRepository;
     private final CategorieDao categorieRepository;
-    private final DemandeAmiDao demandeAmiRepository;
     private final AdhesionDao adhesionRepository;
     private final MembreDao membreRepository;
     private final ClubDao clubRepository;
     private final SecurityService securityService;
+    private final RatingRollupService ratingRollupService;
+    private final EventParticipationService eventParticipationService;
+    private final FriendGraph friendGraph;
+    private final ReservationDropService reservationDropService;
 
     /**
-     * Récupère les événements en fonction d'un filtre de statut.
+     * Taille de page par défaut des listes d'événements.
+     */
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Taille de page maximale des listes d'événements : une valeur supérieure est ramenée à cette borne.
+     */
+    static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Récupère une page d'événements en fonction d'un filtre de statut.
      *
      * @param statusFilter Filtre "active", "inactive", ou "all". "active" par défaut.
-     * @return Une liste d'événements.
+     * @param cursor       (Optionnel) Le curseur renvoyé avec la page précédente.
+     * @param limit        (Optionnel) La taille de page souhaitée.
+     * @return Une page d'événements triés par date de début.
+     * @throws IllegalArgumentException si le curseur ou la taille de page est invalide.
      */
     @Transactional(readOnly = true)
-    public List<Event> findAllEvents(String statusFilter) {
-        if ("inactive".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByActif(false);
-        } else if ("all".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findAll();
-        } else {
-            return eventRepository.findByActif(true);
-        }
+    public CursorPage<EventSummaryDto> findAllEvents(String statusFilter, String cursor, Integer limit) {
+        EventCursor after = EventCursor.decode(cursor, EventCursor.FIRST);
+        int size = pageSize(limit);
+        return toPage(eventRepository.findSummaryPage(actifFilter(statusFilter, true),
+                after.startTime(), after.id(), Limit.of(size + 1)), size);
     }
 
     /**
@@ -85,85 +100,82 @@ public class EventService {
     }
 
     /**
-     * Récupère les événements d'un club, avec vérification des droits et filtre de statut.
+     * Récupère une page d'événements d'un club, avec vérification des droits et filtre de statut.
      * <p>
      * <b>Sécurité :</b> L'utilisateur courant doit être membre du club.
      *
      * @param clubId       L'ID du club organisateur.
      * @param statusFilter Filtre "active", "inactive", ou "all". "active" par défaut.
-     * @return Une liste filtrée d'événements.
+     * @param cursor       (Optionnel) Le curseur renvoyé avec la page précédente.
+     * @param limit        (Optionnel) La taille de page souhaitée.
+     * @return Une page d'événements triés par date de début.
+     * @throws IllegalArgumentException si le curseur ou la taille de page est invalide.
      */
     @Transactional(readOnly = true)
-    public List<Event> findEventsByOrganisateurWithSecurityCheck(Integer clubId, String statusFilter) {
+    public CursorPage<EventSummaryDto> findEventsByOrganisateurWithSecurityCheck(Integer clubId, String statusFilter,
+                                                                                 String cursor, Integer limit) {
         if (!clubRepository.existsById(clubId)) {
             throw new EntityNotFoundException("Club non trouvé avec l'ID : " + clubId);
         }
         securityService.checkIsCurrentUserMemberOfClubOrThrow(clubId);
 
-        if ("inactive".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByOrganisateurIdAndActif(clubId, false);
-        } else if ("all".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByOrganisateurId(clubId);
-        } else {
-            return eventRepository.findByOrganisateurIdAndActif(clubId, true);
-        }
+        return findPageForClubs(List.of(clubId), actifFilter(statusFilter, true),
+                EventCursor.decode(cursor, EventCursor.FIRST), limit);
     }
 
     /**
-     * Récupère les événements futurs d'un club, avec vérification des droits et filtre de statut.
+     * Récupère une page d'événements futurs d'un club, avec vérification des droits et filtre de statut.
      * <p>
      * <b>Sécurité :</b> L'utilisateur courant doit être membre du club.
      *
      * @param clubId       L'ID du club organisateur.
      * @param statusFilter Filtre "active", "inactive", ou "all". "active" par défaut.
-     * @return Une liste filtrée d'événements futurs.
+     * @param cursor       (Optionnel) Le curseur renvoyé avec la page précédente.
+     * @param limit        (Optionnel) La taille de page souhaitée.
+     * @return Une page d'événements futurs triés par date de début.
+     * @throws IllegalArgumentException si le curseur ou la taille de page est invalide.
      */
     @Transactional(readOnly = true)
-    public List<Event> findUpcomingEventsByOrganisateurWithSecurityCheck(Integer clubId, String statusFilter) {
+    public CursorPage<EventSummaryDto> findUpcomingEventsByOrganisateurWithSecurityCheck(Integer clubId,
+                                                                                         String statusFilter,
+                                                                                         String cursor,
+                                                                                         Integer limit) {
         if (!clubRepository.existsById(clubId)) {
             throw new EntityNotFoundException("Club non trouvé avec l'ID : " + clubId);
         }
         securityService.checkIsCurrentUserMemberOfClubOrThrow(clubId);
 
-        Instant now = Instant.now();
-        if ("inactive".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByOrganisateurIdAndActifAndStartTimeAfter(clubId, false, now);
-        } else if ("all".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByOrganisateurIdAndStartTimeAfter(clubId, now);
-        } else {
-            return eventRepository.findByOrganisateurIdAndActifAndStartTimeAfter(clubId, true, now);
-        }
+        return findPageForClubs(List.of(clubId), actifFilter(statusFilter, true),
+                EventCursor.decode(cursor, EventCursor.startingAfter(Instant.now())), limit);
     }
 
     /**
-     * Récupère les événements futurs des clubs auxquels l'utilisateur courant adhère.
+     * Récupère une page d'événements futurs des clubs auxquels l'utilisateur courant adhère.
      *
      * @param statusFilter Filtre "active", "inactive", ou "all". Par défaut, retourne tout.
-     * @return Une liste filtrée d'événements futurs.
+     * @param cursor       (Optionnel) Le curseur renvoyé avec la page précédente.
+     * @param limit        (Optionnel) La taille de page souhaitée.
+     * @return Une page d'événements futurs triés par date de début.
+     * @throws IllegalArgumentException si le curseur ou la taille de page est invalide.
      */
     @Transactional(readOnly = true)
-    public List<Event> findUpcomingEventsForMemberClubs(String statusFilter) {
+    public CursorPage<EventSummaryDto> findUpcomingEventsForMemberClubs(String statusFilter, String cursor, Integer limit) {
         Integer currentUserId = securityService.getCurrentUserIdOrThrow();
         List<Integer> memberClubIds = findClubIdsForMember(currentUserId);
 
         if (memberClubIds.isEmpty()) {
-            return Collections.emptyList();
+            return new CursorPage<>(Collections.emptyList(), null);
         }
 
-        Instant now = Instant.now();
-
-        if ("active".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByOrganisateurIdInAndActifAndStartTimeAfter(memberClubIds, true, now);
-        } else if ("inactive".equalsIgnoreCase(statusFilter)) {
-            return eventRepository.findByOrganisateurIdInAndActifAndStartTimeAfter(memberClubIds, false, now);
-        } else {
-            return eventRepository.findByOrganisateurIdInAndStartTimeAfter(memberClubIds, now);
-        }
+        return findPageForClubs(memberClubIds, actifFilter(statusFilter, null),
+                EventCursor.decode(cursor, EventCursor.startingAfter(Instant.now())), limit);
     }
 
     /**
      * Désactive un événement (annulation logique).
      * <p>
+     * Les notes de l'événement sont retirées des statistiques de notation du club.
+     * <p>
      * <b>Sécurité :</b> L'utilisateur doit être un gestionnaire du club organisateur.
      *
      * @param eventId L'ID de l'événement à désactiver.
@@ -181,16 +193,46 @@ public class EventService {
         eventToDeactivate.prepareForDeactivation();
         eventToDeactivate.setActif(false);
         eventRepository.save(eventToDeactivate);
+        ratingRollupService.excludeEvent(eventId);
+        reservationDropService.evictEvent(eventId);
     }
 
     /**
-     * Récupère tous les événements futurs des clubs d'un membre, avec un filtre de statut.
+     * Active ou désactive le mode "drop" (réservations en file d'attente) d'un événement.
+     * <p>
+     * <b>Sécurité :</b> L'utilisateur doit être un gestionnaire du club organisateur.
+     *
+     * @param eventId L'ID de l'événement.
+     * @param enabled {@code true} pour activer le mode drop, {@code false} pour revenir aux réservations directes.
+     * @return L'événement mis à jour.
+     * @throws IllegalStateException si l'événement est annulé.
+     */
+    public Event setDropMode(Integer eventId, boolean enabled) {
+        Event event = getEventByIdOrThrow(eventId);
+        securityService.checkManagerOfClubOrThrow(event.getOrganisateur().getId());
+
+        if (!event.getActif()) {
+            throw new IllegalStateException("Impossible de modifier le mode de réservation d'un événement annulé.");
+        }
+
+        event.setDropMode(enabled);
+        log.info("Mode drop {} pour l'événement ID {}.", enabled ? "activé" : "désactivé", eventId);
+        Event saved = eventRepository.save(event);
+        reservationDropService.evictEvent(eventId);
+        return saved;
+    }
+
+    /**
+     * Récupère une page d'événements futurs des clubs d'un membre, avec un filtre de statut.
      *
      * @param status Filtre "active", "inactive", ou "all". "active" par défaut.
-     * @return Une liste d'événements.
+     * @param cursor (Optionnel) Le curseur renvoyé avec la page précédente.
+     * @param limit  (Optionnel) La taille de page souhaitée.
+     * @return Une page d'événements triés par date de début.
+     * @throws IllegalArgumentException si le curseur ou la taille de page est invalide.
      */
     @Transactional(readOnly = true)
-    public List<Event> findAllEventsForMemberClubs(String status) {
+    public CursorPage<EventSummaryDto> findAllEventsForMemberClubs(String status, String cursor, Integer limit) {
         Membre currentUser = securityService.getCurrentMembreOrThrow();
 
         Set<Integer> memberClubIds = currentUser.getAdhesions().stream()
@@ -199,82 +241,85 @@ public class EventService {
                 .collect(Collectors.toSet());
 
         if (memberClubIds.isEmpty()) {
-            return Collections.emptyList();
+            return new CursorPage<>(Collections.emptyList(), null);
         }
 
-        Instant now = Instant.now();
-
-        if ("all".equalsIgnoreCase(status)) {
-            return eventRepository.findByOrganisateurIdInAndStartTimeAfter(memberClubIds, now);
-        } else if ("inactive".equalsIgnoreCase(status)) {
-            return eventRepository.findByOrganisateurIdInAndActifIsFalseAndStartTimeAfter(memberClubIds, now);
-        } else {
-            return eventRepository.findByOrganisateurIdInAndActifIsTrueAndStartTimeAfter(memberClubIds, now);
-        }
+        return findPageForClubs(memberClubIds, actifFilter(status, true),
+                EventCursor.decode(cursor, EventCursor.startingAfter(Instant.now())), limit);
     }
 
     /**
-     * Récupère les événements futurs des clubs d'un membre, enrichis avec les amis participants.
+     * Récupère une page d'événements futurs des clubs d'un membre, enrichis avec les amis participants.
      *
      * @param statusFilter      Filtre de statut de l'événement.
      * @param filterWithFriends Si true, ne retourne que les événements avec des amis participants.
-     * @return Une liste de DTOs {@link EventWithFriendsDto}.
+     * @param cursor            (Optionnel) Le curseur renvoyé avec la page précédente.
+     * @param limit             (Optionnel) La taille de page souhaitée.
+     * @return Une page de DTOs {@link EventWithFriendsDto} triés par date de début.
+     * @throws IllegalArgumentException si le curseur ou la taille de page est invalide.
      */
     @Transactional(readOnly = true)
-    public List<EventWithFriendsDto> findMemberEventsFiltered(String statusFilter, boolean filterWithFriends) {
+    public CursorPage<EventWithFriendsDto> findMemberEventsFiltered(String statusFilter, boolean filterWithFriends,
+                                                                    String cursor, Integer limit) {
         Integer currentUserId = securityService.getCurrentUserIdOrThrow();
+        EventCursor after = EventCursor.decode(cursor, EventCursor.startingAfter(Instant.now()));
+        int size = pageSize(limit);
 
         List<Integer> memberClubIds = findClubIdsForMember(currentUserId);
         if (memberClubIds.isEmpty()) {
             log.debug("Aucun club trouvé pour le membre {}", currentUserId);
-            return Collections.emptyList();
+            return new CursorPage<>(Collections.emptyList(), null);
         }
         log.debug("Membre {} appartient aux clubs: {}", currentUserId, memberClubIds);
 
-        Instant now = Instant.now();
         boolean actifStatus = !"inactive".equalsIgnoreCase(statusFilter);
 
         log.debug("Filtre statut appliqué (true=actif, false=inactif): {}", actifStatus);
         
-        List<Integer> friendIds = demandeAmiRepository.findFriendIdsOfUser(currentUserId, Statut.ACCEPTEE);
+        List<Integer> friendIds = friendGraph.getFriendIds(currentUserId);
         log.debug("Amis trouvés pour membre {}: {} amis", currentUserId, friendIds.size());
 
-        List<Event> events;
+        List<EventSummaryDto> rows;
         if (filterWithFriends) {
             log.debug("Application du filtre 'avec amis'.");
             if (friendIds.isEmpty()) {
-                return Collections.emptyList();
+                return new CursorPage<>(Collections.emptyList(), null);
             }
-            events = eventRepository.findUpcomingEventsInClubsWithStatusAndFriends(memberClubIds, now, actifStatus, friendIds);
+            rows = eventRepository.findSummaryPageByOrganisateurIdInWithFriends(memberClubIds, actifStatus, friendIds,
+                    after.startTime(), after.id(), Limit.of(size + 1));
         } else {
-            events = eventRepository.findUpcomingEventsInClubsWithStatus(memberClubIds, now, actifStatus);
+            rows = eventRepository.findSummaryPageByOrganisateurIdIn(memberClubIds, actifStatus,
+                    after.startTime(), after.id(), Limit.of(size + 1));
         }
+        CursorPage<EventSummaryDto> page = toPage(rows, size);
+        List<EventSummaryDto> events = page.items();
         log.debug("DAO a retourné {} événements.", events.size());
 
         if (events.isEmpty()) {
-            return Collections.emptyList();
+            return new CursorPage<>(Collections.emptyList(), null);
         }
 
-        List<Integer> eventIds = events.stream().map(Event::getId).toList();
-        Map<Integer, List<String>> friendsInEventsMap = findParticipatingFriendNamesForEvents(eventIds, friendIds);
+        List<Integer> eventIds = events.stream().map(EventSummaryDto::id).toList();
+        Map<Integer, List<String>> friendsInEventsMap = eventParticipationService.findParticipantNames(eventIds, friendIds);
 
-        return events.stream().map(event -> {
+        List<EventWithFriendsDto> dtos = events.stream().map(event -> {
             EventWithFriendsDto dto = new EventWithFriendsDto();
-            dto.setId(event.getId());
-            dto.setNom(event.getNom());
-            dto.setStartTime(event.getStartTime());
-            dto.setEndTime(event.getEndTime());
-            dto.setDescription(event.getDescription());
-            dto.setLocation(event.getLocation());
-            dto.setActif(event.getActif());
-            dto.setPlaceTotal(event.getPlaceTotal());
-            dto.setPlaceReserve(event.getPlaceReserve());
-            dto.setPlaceDisponible(event.getPlaceDisponible());
-            dto.setAmiParticipants(friendsInEventsMap.getOrDefault(event.getId(), Collections.emptyList()));
-            dto.setOrganisateur(event.getOrganisateur());
-            dto.setCategories(event.getCategories());
+            dto.setId(event.id());
+            dto.setNom(event.nom());
+            dto.setStartTime(event.startTime());
+            dto.setEndTime(event.endTime());
+            dto.setDescription(event.description());
+            dto.setLocation(event.location());
+            dto.setActif(event.actif());
+            dto.setPlaceTotal(event.placeTotal());
+            dto.setPlaceReserve(event.placeReserve());
+            dto.setPlaceDisponible(event.placeDisponible());
+            dto.setAmiParticipants(friendsInEventsMap.getOrDefault(event.id(), Collections.emptyList()));
+            dto.setOrganisateur(event.organisateur());
+            dto.setCategories(event.categories());
             return dto;
         }).toList();
+        return new CursorPage<>(dtos, page.nextCursor());
     }
 
     /**
@@ -331,7 +376,10 @@ public class EventService {
                 newEvent.getCategories().add(newCategory);
             }
         }
-        return eventRepository.save(newEvent);
+        Event savedEvent = eventRepository.save(newEvent);
+        eventRepository.recomputePlaceTotal(savedEvent.getId());
+        savedEvent.refreshPlaceTotalFromCategories();
+        return savedEvent;
     }
 
     /**
@@ -367,11 +415,69 @@ public class EventService {
 
         reconcileCategories(existingEvent, dto.getCategories());
 
-        return eventRepository.save(existingEvent);
+        Event savedEvent = eventRepository.save(existingEvent);
+        eventRepository.recomputePlaceTotal(eventId);
+        savedEvent.refreshPlaceTotalFromCategories();
+        return savedEvent;
     }
 
     // --- Méthodes privées ---
 
+    private CursorPage<EventSummaryDto> findPageForClubs(Collection<Integer> clubIds, Boolean actif,
+                                                         EventCursor after, Integer limit) {
+        int size = pageSize(limit);
+        return toPage(eventRepository.findSummaryPageByOrganisateurIdIn(clubIds, actif,
+                after.startTime(), after.id(), Limit.of(size + 1)), size);
+    }
+
+    /**
+     * Traduit le filtre de statut ("active", "inactive", "all") en filtre sur {@code actif} ({@code null} : tous).
+     */
+    private static Boolean actifFilter(String statusFilter, Boolean defaultFilter) {
+        if ("active".equalsIgnoreCase(statusFilter)) {
+            return true;
+        } else if ("inactive".equalsIgnoreCase(statusFilter)) {
+            return false;
+        } else if ("all".equalsIgnoreCase(statusFilter)) {
+            return null;
+        }
+        return defaultFilter;
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("La taille de page doit être supérieure ou égale à 1.");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Construit une page à partir de {@code size + 1} lignes au plus : la ligne supplémentaire indique
+     * seulement qu'une page suivante existe. Les catégories des événements retenus sont lues en une requête.
+     */
+    private CursorPage<EventSummaryDto> toPage(List<EventSummaryDto> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(withCategories(rows), null);
+        }
+        List<EventSummaryDto> items = withCategories(rows.subList(0, size));
+        return new CursorPage<>(items, EventCursor.of(items.get(size - 1)).encode());
+    }
+
+    private List<EventSummaryDto> withCategories(List<EventSummaryDto> events) {
+        if (events.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, List<CategorieSummaryDto>> categoriesByEvent = categorieRepository
+                .findSummariesByEventIdIn(events.stream().map(EventSummaryDto::id).toList()).stream()
+                .collect(Collectors.groupingBy(CategorieSummaryDto::eventId));
+        return events.stream()
+                .map(event -> event.withCategories(categoriesByEvent.getOrDefault(event.id(), Collections.emptyList())))
+                .toList();
+    }
+
     private List<Integer> findClubIdsForMember(Integer membreId) {
         Membre membre = membreRepository.findById(membreId).orElse(null);
         if (membre == null) {
@@ -380,26 +486,15 @@ public class EventService {
         return adhesionRepository.findClubIdsByMembreId(membreId);
     }
 
-    private Map<Integer, List<String>> findParticipatingFriendNamesForEvents(List<Integer> eventIds, List<Integer> friendIds) {
-        if (eventIds == null || eventIds.isEmpty() || friendIds == null || friendIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
 
-        List<Reservation> friendReservations = reservationRepository.findConfirmedReservationsByEventIdsAndMemberIdsFetchingMember(
-                eventIds, friendIds, ReservationStatus.CONFIRME);
-
-        return friendReservations.stream()
-                .filter(r -> r.getEvent() != null && r.getMembre() != null && r.getMembre().getPrenom() != null && r.getMembre().getNom() != null)
-                .collect(Collectors.groupingBy(
-                        r -> r.getEvent().getId(),
-                        Collectors.mapping(
-                                r -> r.getMembre().getPrenom() + " " + r.getMembre().getNom(),
-                                Collectors.toList()
-                        )
-                ));
-    }
-
-    private void reconcileCategories(Event event, List<UpdateCategorieDto> categoryDtos) {
+    /**
+     * Aligne les catégories de l'événement sur celles du DTO : suppression des absentes, ajout des nouvelles
+     * (sans ID), mise à jour des autres. Visible dans le package pour les benchmarks.
+     *
+     * @throws IllegalArgumentException si un nom de catégorie est dupliqué.
+     * @throws IllegalStateException    si une capacité devient inférieure aux places déjà confirmées.
+     */
+    void reconcileCategories(Event event, List<UpdateCategorieDto> categoryDtos) {
         Map<Integer, Categorie> existingCategoriesMap = event.getCategories().stream()
                 .collect(Collectors.toMap(Categorie::getId, Function.identity()));
 
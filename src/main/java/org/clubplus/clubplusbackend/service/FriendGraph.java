@@ -0,0 +1,247 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.DemandeAmiDao;
+import org.clubplus.clubplusbackend.model.Statut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Graphe d'amitié des membres, tenu en mémoire.
+ * <p>
+ * Pour chaque membre, les IDs de ses amis sont stockés dans un tableau {@code int[]} trié (ensemble primitif) :
+ * la liste d'amis, le test d'amitié (recherche dichotomique) et le nombre d'amis communs (fusion de deux
+ * tableaux triés) sont calculés sans requête SQL ni objet intermédiaire par ami.
+ * <p>
+ * Le graphe est chargé une fois depuis les demandes d'ami acceptées (au démarrage, ou au premier accès),
+ * puis tenu à jour par {@link DemandeAmiService} et {@link MembreService}. Les modifications sont appliquées
+ * après la validation de la transaction qui les porte. Les tableaux sont remplacés et jamais modifiés
+ * sur place : les lectures se font sans verrou. Un rechargement périodique complet reprend les modifications
+ * faites par les autres instances de l'application.
+ */
+@Component
+public class FriendGraph {
+
+    private static final Logger log = LoggerFactory.getLogger(FriendGraph.class);
+
+    /**
+     * Modification d'une arête, rejouée sur un graphe rechargé pendant qu'elle était appliquée.
+     */
+    private record Edit(int membreId, int autreId, boolean ajout) {
+    }
+
+    private final DemandeAmiDao demandeAmiRepository;
+
+    private volatile Map<Integer, int[]> adjacency;
+
+    /**
+     * Modifications appliquées pendant un rechargement en cours ({@code null} hors rechargement).
+     * Protégé par le verrou de l'instance.
+     */
+    private List<Edit> editsPendantRechargement;
+
+    public FriendGraph(DemandeAmiDao demandeAmiRepository) {
+        this.demandeAmiRepository = demandeAmiRepository;
+    }
+
+    /**
+     * Charge le graphe au démarrage, une fois l'application prête (données initiales chargées).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        adjacency();
+    }
+
+    /**
+     * Rechargement périodique (par défaut toutes les 10 minutes).
+     * Un échec est journalisé et le graphe courant reste servi.
+     */
+    @Scheduled(initialDelayString = "${app.amis.graph.refresh-interval-ms:600000}",
+            fixedDelayString = "${app.amis.graph.refresh-interval-ms:600000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Échec du rechargement du graphe d'amitié : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recharge tout le graphe depuis la base. Les modifications appliquées pendant la lecture sont rejouées
+     * sur le nouveau graphe avant qu'il ne remplace l'ancien.
+     */
+    public void reload() {
+        synchronized (this) {
+            editsPendantRechargement = new ArrayList<>();
+        }
+        Map<Integer, int[]> loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                editsPendantRechargement = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            for (Edit edit : editsPendantRechargement) {
+                apply(loaded, edit);
+            }
+            editsPendantRechargement = null;
+            adjacency = loaded;
+        }
+        log.info("Graphe d'amitié chargé : {} membre(s) avec au moins un ami.", loaded.size());
+    }
+
+    // --- Lectures ---
+
+    /**
+     * Retourne les IDs des amis d'un membre, triés par ordre croissant.
+     *
+     * @param membreId L'ID du membre.
+     * @return La liste des IDs (vide si le membre n'a pas d'ami).
+     */
+    public List<Integer> getFriendIds(Integer membreId) {
+        int[] amis = friendsOf(membreId);
+        List<Integer> ids = new ArrayList<>(amis.length);
+        for (int ami : amis) {
+            ids.add(ami);
+        }
+        return ids;
+    }
+
+    /**
+     * Retourne le nombre d'amis d'un membre.
+     */
+    public int countFriends(Integer membreId) {
+        return friendsOf(membreId).length;
+    }
+
+    /**
+     * Indique si deux membres sont amis.
+     */
+    public boolean areFriends(Integer membreId, Integer autreId) {
+        return autreId != null && SortedIntSets.contains(friendsOf(membreId), autreId);
+    }
+
+    /**
+     * Retourne le nombre d'amis communs à deux membres.
+     */
+    public int countMutualFriends(Integer membreId, Integer autreId) {
+        return SortedIntSets.countCommon(friendsOf(membreId), friendsOf(autreId));
+    }
+
+    // --- Modifications (appliquées après la validation de la transaction courante) ---
+
+    /**
+     * Enregistre une amitié acceptée entre deux membres.
+     */
+    public void addFriendship(Integer membreId, Integer autreId) {
+        AfterCommit.run(() -> edit(new Edit(membreId, autreId, true)));
+    }
+
+    /**
+     * Supprime l'amitié entre deux membres.
+     */
+    public void removeFriendship(Integer membreId, Integer autreId) {
+        AfterCommit.run(() -> edit(new Edit(membreId, autreId, false)));
+    }
+
+    /**
+     * Retire un membre du graphe (compte supprimé), ainsi que toutes ses amitiés.
+     */
+    public void removeMember(Integer membreId) {
+        AfterCommit.run(() -> {
+            for (int ami : friendsOf(membreId)) {
+                edit(new Edit(membreId, ami, false));
+            }
+        });
+    }
+
+    /**
+     * Retourne les IDs des amis d'un membre sous forme de tableau trié, à ne pas modifier.
+     * Évite la copie de {@link #getFriendIds(Integer)} pour les parcours du graphe.
+     */
+    int[] friendsOf(Integer membreId) {
+        if (membreId == null) {
+            return SortedIntSets.EMPTY;
+        }
+        return adjacency().getOrDefault(membreId, SortedIntSets.EMPTY);
+    }
+
+    // --- Méthodes privées ---
+
+    private Map<Integer, int[]> adjacency() {
+        Map<Integer, int[]> current = adjacency;
+        if (current == null) {
+            synchronized (this) {
+                current = adjacency;
+                if (current == null) {
+                    current = load();
+                    adjacency = current;
+                    log.info("Graphe d'amitié chargé : {} membre(s) avec au moins un ami.", current.size());
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Lit toutes les amitiés en une requête et construit les tableaux d'adjacence
+     * (un passage pour compter les degrés, un pour remplir, puis tri et dédoublonnage).
+     */
+    private Map<Integer, int[]> load() {
+        List<Object[]> paires = demandeAmiRepository.findMemberIdPairsByStatut(Statut.ACCEPTEE);
+        Map<Integer, Integer> degres = new HashMap<>();
+        for (Object[] paire : paires) {
+            degres.merge((Integer) paire[0], 1, Integer::sum);
+            degres.merge((Integer) paire[1], 1, Integer::sum);
+        }
+        Map<Integer, int[]> tableaux = new HashMap<>(degres.size() * 2);
+        Map<Integer, Integer> remplis = new HashMap<>(degres.size() * 2);
+        degres.forEach((id, degre) -> tableaux.put(id, new int[degre]));
+        for (Object[] paire : paires) {
+            Integer a = (Integer) paire[0];
+            Integer b = (Integer) paire[1];
+            tableaux.get(a)[remplis.merge(a, 1, Integer::sum) - 1] = b;
+            tableaux.get(b)[remplis.merge(b, 1, Integer::sum) - 1] = a;
+        }
+        Map<Integer, int[]> graphe = new ConcurrentHashMap<>(tableaux.size() * 2);
+        tableaux.forEach((id, amis) -> graphe.put(id, SortedIntSets.sortedDistinct(amis)));
+        return graphe;
+    }
+
+    private synchronized void edit(Edit edit) {
+        Map<Integer, int[]> current = adjacency;
+        if (current != null) {
+            apply(current, edit);
+        }
+        if (editsPendantRechargement != null) {
+            editsPendantRechargement.add(edit);
+        }
+    }
+
+    private static void apply(Map<Integer, int[]> graphe, Edit edit) {
+        if (edit.membreId() == edit.autreId()) {
+            return;
+        }
+        update(graphe, edit.membreId(), edit.autreId(), edit.ajout());
+        update(graphe, edit.autreId(), edit.membreId(), edit.ajout());
+    }
+
+    private static void update(Map<Integer, int[]> graphe, int membreId, int autreId, boolean ajout) {
+        int[] amis = graphe.getOrDefault(membreId, SortedIntSets.EMPTY);
+        int[] nouveaux = ajout ? SortedIntSets.with(amis, autreId) : SortedIntSets.without(amis, autreId);
+        if (nouveaux.length == 0) {
+            graphe.remove(membreId);
+        } else if (nouveaux != amis) {
+            graphe.put(membreId, nouveaux);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.DemandeAmiDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.dto.FriendSuggestionDto;
+import org.clubplus.clubplusbackend.model.Membre;
+import org.clubplus.clubplusbackend.model.Role;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service de suggestions d'amis.
+ * <p>
+ * Les candidats sont les membres qui ne sont ni amis de l'utilisateur courant, ni en attente d'une demande avec lui.
+ * Ils sont classés par un score pondéré : amis en commun, clubs en commun, événements auxquels les deux membres
+ * ont participé. Tout le calcul se fait sur les index en mémoire ({@link FriendGraph}, {@link MemberAffinityIndex}),
+ * tenus à jour au fil des modifications ; seuls les meilleurs candidats sont conservés, dans un tas borné à la taille
+ * de la page. Une requête lit ensuite les demandes en attente, une autre les membres retenus ; si des candidats
+ * sont écartés à la lecture, les suivants du classement sont lus à leur tour jusqu'à remplir la page.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FriendSuggestionService {
+
+    /**
+     * Nombre de suggestions retournées par défaut.
+     */
+    static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Nombre maximum de suggestions retournées.
+     */
+    static final int MAX_LIMIT = 50;
+
+    private static final int POIDS_AMI_COMMUN = 3;
+    private static final int POIDS_CLUB_COMMUN = 2;
+    private static final int POIDS_EVENEMENT_COMMUN = 1;
+
+    /**
+     * Candidats surnuméraires retenus pour compenser ceux écartés à la lecture (compte inactif, gestionnaire).
+     * Doublée à chaque relecture, pour qu'un voisinage riche en gestionnaires ne multiplie pas les requêtes.
+     */
+    private static final int MARGE_CANDIDATS = 10;
+
+    /**
+     * Ordre de classement : meilleur score d'abord, puis le plus d'amis communs, puis l'ID le plus petit.
+     */
+    private static final Comparator<Candidat> CLASSEMENT = Comparator
+            .comparingInt(Candidat::score).reversed()
+            .thenComparing(Comparator.comparingInt(Candidat::amisCommuns).reversed())
+            .thenComparingInt(Candidat::membreId);
+
+    record Candidat(int membreId, int amisCommuns, int clubsCommuns, int evenementsCommuns) {
+
+        int score() {
+            return POIDS_AMI_COMMUN * amisCommuns + POIDS_CLUB_COMMUN * clubsCommuns
+                    + POIDS_EVENEMENT_COMMUN * evenementsCommuns;
+        }
+    }
+
+    private final FriendGraph friendGraph;
+    private final MemberAffinityIndex affinityIndex;
+    private final DemandeAmiDao demandeAmiRepository;
+    private final MembreDao membreRepository;
+    private final SecurityService securityService;
+    private final int maxGroupSize;
+
+    public FriendSuggestionService(FriendGraph friendGraph,
+                                   MemberAffinityIndex affinityIndex,
+                                   DemandeAmiDao demandeAmiRepository,
+                                   MembreDao membreRepository,
+                                   SecurityService securityService,
+                                   @Value("${app.amis.suggestions.max-group-size:200}") int maxGroupSize) {
+        this.friendGraph = friendGraph;
+        this.affinityIndex = affinityIndex;
+        this.demandeAmiRepository = demandeAmiRepository;
+        this.membreRepository = membreRepository;
+        this.securityService = securityService;
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    /**
+     * Récupère les suggestions d'amis de l'utilisateur courant, de la plus pertinente à la moins pertinente.
+     * <p>
+     * Seuls les destinataires possibles d'une demande (membres actifs de rôle {@link Role#MEMBRE}) sont suggérés.
+     *
+     * @param limit (Optionnel) Le nombre de suggestions souhaité.
+     * @return Les suggestions classées.
+     * @throws IllegalArgumentException si {@code limit} est inférieur à 1.
+     */
+    public List<FriendSuggestionDto> getSuggestions(Integer limit) {
+        Integer currentUserId = securityService.getCurrentUserIdOrThrow();
+        int size = suggestionCount(limit);
+
+        Set<Integer> exclus = new HashSet<>(demandeAmiRepository.findPendingRequestCounterpartIds(currentUserId));
+        List<FriendSuggestionDto> suggestions = new ArrayList<>(size);
+        int marge = MARGE_CANDIDATS;
+        boolean indexEpuise = false;
+        while (suggestions.size() < size && !indexEpuise) {
+            // Les candidats déjà lus sont exclus : chaque tour reprend le classement là où le précédent s'est arrêté.
+            int demandes = size - suggestions.size() + marge;
+            List<Candidat> classement = rank(currentUserId, exclus, demandes);
+            indexEpuise = classement.size() < demandes;
+            if (classement.isEmpty()) {
+                break;
+            }
+
+            Map<Integer, Membre> membres = membreRepository.findAllById(
+                            classement.stream().map(Candidat::membreId).toList()).stream()
+                    .collect(Collectors.toMap(Membre::getId, Function.identity()));
+            for (Candidat candidat : classement) {
+                exclus.add(candidat.membreId());
+                Membre membre = membres.get(candidat.membreId());
+                if (membre == null || membre.getRole() != Role.MEMBRE) {
+                    continue;
+                }
+                suggestions.add(new FriendSuggestionDto(membre.getId(), membre.getNom(), membre.getPrenom(),
+                        membre.getCodeAmi(), candidat.amisCommuns(), candidat.clubsCommuns(), candidat.evenementsCommuns()));
+                if (suggestions.size() == size) {
+                    break;
+                }
+            }
+            marge *= 2;
+        }
+        return suggestions;
+    }
+
+    /**
+     * Classe les candidats d'un membre et retourne les {@code k} meilleurs, dans l'ordre.
+     * <p>
+     * Les candidats viennent des amis de ses amis, ainsi que des autres membres de ses clubs et de ses événements
+     * tant que ces groupes ne dépassent pas {@code app.amis.suggestions.max-group-size} membres : au-delà, un groupe
+     * ne fait que renforcer le score des candidats déjà trouvés, sans en ajouter (le coût reste borné par le
+     * voisinage du membre, pas par la taille des grands clubs).
+     *
+     * @param membreId  L'ID du membre.
+     * @param exclus    Les IDs des membres à ne pas suggérer, en plus du membre et de ses amis.
+     * @param k         Le nombre de candidats à retenir.
+     * @return Les meilleurs candidats, du meilleur au moins bon.
+     */
+    List<Candidat> rank(int membreId, Set<Integer> exclus, int k) {
+        int[] amis = friendGraph.friendsOf(membreId);
+        int[] clubs = affinityIndex.clubsOf(membreId);
+        int[] evenements = affinityIndex.eventsOf(membreId);
+
+        Map<Integer, Integer> amisCommuns = new HashMap<>();
+        for (int ami : amis) {
+            for (int candidat : friendGraph.friendsOf(ami)) {
+                if (isCandidate(candidat, membreId, amis, exclus)) {
+                    amisCommuns.merge(candidat, 1, Integer::sum);
+                }
+            }
+        }
+        for (int club : clubs) {
+            addGroupMembers(affinityIndex.membersOfClub(club), membreId, amis, exclus, amisCommuns);
+        }
+        for (int evenement : evenements) {
+            addGroupMembers(affinityIndex.attendeesOf(evenement), membreId, amis, exclus, amisCommuns);
+        }
+
+        // Tas borné : le moins bon des k candidats retenus est en tête, prêt à être remplacé.
+        PriorityQueue<Candidat> meilleurs = new PriorityQueue<>(k + 1, CLASSEMENT.reversed());
+        amisCommuns.forEach((id, communs) -> {
+            Candidat candidat = new Candidat(id, communs,
+                    SortedIntSets.countCommon(clubs, affinityIndex.clubsOf(id)),
+                    SortedIntSets.countCommon(evenements, affinityIndex.eventsOf(id)));
+            if (meilleurs.size() < k) {
+                meilleurs.offer(candidat);
+            } else if (CLASSEMENT.compare(candidat, meilleurs.peek()) < 0) {
+                meilleurs.poll();
+                meilleurs.offer(candidat);
+            }
+        });
+
+        List<Candidat> classement = new ArrayList<>(meilleurs);
+        classement.sort(CLASSEMENT);
+        return classement;
+    }
+
+    // --- Méthodes privées ---
+
+    private void addGroupMembers(int[] groupe, int membreId, int[] amis, Set<Integer> exclus,
+                                 Map<Integer, Integer> amisCommuns) {
+        if (groupe.length > maxGroupSize) {
+            return;
+        }
+        for (int candidat : groupe) {
+            if (isCandidate(candidat, membreId, amis, exclus)) {
+                amisCommuns.putIfAbsent(candidat, 0);
+            }
+        }
+    }
+
+    private static boolean isCandidate(int candidat, int membreId, int[] amis, Set<Integer> exclus) {
+        return candidat != membreId && !SortedIntSets.contains(amis, candidat) && !exclus.contains(candidat);
+    }
+
+    private static int suggestionCount(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Le nombre de suggestions doit être supérieur ou égal à 1.");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,103 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dto.HomepageStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Cache en mémoire des statistiques publiques de la page d'accueil.
+ * <p>
+ * Les décomptes sont recalculés en arrière-plan à intervalle fixe et servis depuis la mémoire :
+ * le nombre de requêtes sur l'endpoint public n'a donc plus d'effet sur la base de données.
+ * Si l'instantané dépasse l'ancienneté maximale configurée (rafraîchissement en échec ou retardé),
+ * il est recalculé de manière synchrone par un seul appelant à la fois.
+ */
+@Component
+public class HomepageStatsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(HomepageStatsCache.class);
+
+    private final StatsService statsService;
+    private final long maxStalenessMs;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Construit le cache avec sa configuration.
+     *
+     * @param statsService   Le service calculant les statistiques.
+     * @param maxStalenessMs L'ancienneté maximale (ms) d'un instantané servi aux clients.
+     */
+    public HomepageStatsCache(StatsService statsService,
+                              @Value("${app.stats.homepage.max-staleness-ms:300000}") long maxStalenessMs) {
+        this.statsService = statsService;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    /**
+     * Statistiques calculées à un instant donné.
+     *
+     * @param stats      Les décomptes.
+     * @param computedAt L'instant du calcul.
+     * @param etag       L'identifiant de version des décomptes, utilisé comme en-tête {@code ETag}.
+     */
+    public record Snapshot(HomepageStatsDTO stats, Instant computedAt, String etag) {
+    }
+
+    /**
+     * Retourne l'instantané courant, recalculé au préalable s'il est absent ou trop ancien.
+     *
+     * @return Un instantané dont l'ancienneté respecte la borne configurée.
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            log.debug("Statistiques de la page d'accueil absentes ou trop anciennes : recalcul immédiat.");
+            return refresh();
+        }
+    }
+
+    /**
+     * Rafraîchissement planifié (par défaut toutes les minutes, dès le démarrage).
+     * Un échec est journalisé et l'instantané précédent reste servi jusqu'à la borne d'ancienneté.
+     */
+    @Scheduled(initialDelayString = "${app.stats.homepage.initial-delay-ms:0}",
+            fixedDelayString = "${app.stats.homepage.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Échec du rafraîchissement des statistiques de la page d'accueil : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recalcule les décomptes et remplace l'instantané courant.
+     *
+     * @return Le nouvel instantané.
+     */
+    public synchronized Snapshot refresh() {
+        HomepageStatsDTO stats = statsService.getHomepageStats();
+        String etag = stats.getClubCount() + "-" + stats.getEventCount() + "-" + stats.getMemberCount();
+        Snapshot refreshed = new Snapshot(stats, Instant.now(), etag);
+        snapshot = refreshed;
+        return refreshed;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.computedAt().plusMillis(maxStalenessMs).isAfter(Instant.now());
+    }
+}
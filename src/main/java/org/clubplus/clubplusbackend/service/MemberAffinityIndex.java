@@ -0,0 +1,252 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.AdhesionDao;
+import org.clubplus.clubplusbackend.dao.ReservationDao;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index en mémoire des clubs et des événements partagés par les membres, utilisé par les suggestions d'amis.
+ * <p>
+ * Deux relations sont tenues dans les deux sens, sous forme de tableaux {@code int[]} triés :
+ * membre ↔ clubs (adhésions aux clubs actifs) et membre ↔ événements auxquels il a participé
+ * (réservations {@code UTILISE} des événements non archivés). Comme pour {@link FriendGraph}, l'index est
+ * chargé une fois, mis à jour après la validation des transactions par {@link MembreService} et
+ * {@link ReservationService}, et rechargé périodiquement pour reprendre les modifications faites ailleurs
+ * (création de club, import de membres, désactivation d'un club, archivage, autres instances).
+ */
+@Component
+public class MemberAffinityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberAffinityIndex.class);
+
+    private enum Relation {CLUB, EVENEMENT}
+
+    private record Edit(Relation relation, int membreId, int groupeId, boolean ajout) {
+    }
+
+    /**
+     * Une relation membre ↔ groupe (club ou événement), indexée dans les deux sens.
+     */
+    private record Liens(Map<Integer, int[]> parMembre, Map<Integer, int[]> parGroupe) {
+    }
+
+    private record Snapshot(Liens clubs, Liens evenements) {
+
+        Liens liens(Relation relation) {
+            return relation == Relation.CLUB ? clubs : evenements;
+        }
+    }
+
+    private final AdhesionDao adhesionRepository;
+    private final ReservationDao reservationRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Modifications appliquées pendant un rechargement en cours ({@code null} hors rechargement).
+     * Protégé par le verrou de l'instance.
+     */
+    private List<Edit> editsPendantRechargement;
+
+    public MemberAffinityIndex(AdhesionDao adhesionRepository, ReservationDao reservationRepository) {
+        this.adhesionRepository = adhesionRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    /**
+     * Charge l'index au démarrage, une fois l'application prête (données initiales chargées).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        snapshot();
+    }
+
+    /**
+     * Rechargement périodique (par défaut toutes les 10 minutes).
+     * Un échec est journalisé et l'index courant reste servi.
+     */
+    @Scheduled(initialDelayString = "${app.amis.suggestions.refresh-interval-ms:600000}",
+            fixedDelayString = "${app.amis.suggestions.refresh-interval-ms:600000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Échec du rechargement de l'index des affinités : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recharge tout l'index depuis la base. Les modifications appliquées pendant la lecture sont rejouées
+     * sur le nouvel index avant qu'il ne remplace l'ancien.
+     */
+    public void reload() {
+        synchronized (this) {
+            editsPendantRechargement = new ArrayList<>();
+        }
+        Snapshot loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                editsPendantRechargement = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            for (Edit edit : editsPendantRechargement) {
+                apply(loaded, edit);
+            }
+            editsPendantRechargement = null;
+            snapshot = loaded;
+        }
+        logLoaded(loaded);
+    }
+
+    // --- Lectures (tableaux triés, à ne pas modifier) ---
+
+    int[] clubsOf(Integer membreId) {
+        return get(snapshot().clubs().parMembre(), membreId);
+    }
+
+    int[] membersOfClub(Integer clubId) {
+        return get(snapshot().clubs().parGroupe(), clubId);
+    }
+
+    int[] eventsOf(Integer membreId) {
+        return get(snapshot().evenements().parMembre(), membreId);
+    }
+
+    int[] attendeesOf(Integer eventId) {
+        return get(snapshot().evenements().parGroupe(), eventId);
+    }
+
+    // --- Modifications (appliquées après la validation de la transaction courante) ---
+
+    /**
+     * Enregistre l'adhésion d'un membre à un club.
+     */
+    public void addAdhesion(Integer membreId, Integer clubId) {
+        AfterCommit.run(() -> edit(new Edit(Relation.CLUB, membreId, clubId, true)));
+    }
+
+    /**
+     * Retire l'adhésion d'un membre à un club.
+     */
+    public void removeAdhesion(Integer membreId, Integer clubId) {
+        AfterCommit.run(() -> edit(new Edit(Relation.CLUB, membreId, clubId, false)));
+    }
+
+    /**
+     * Enregistre la participation d'un membre à un événement (réservation passée au statut {@code UTILISE}).
+     */
+    public void addParticipation(Integer membreId, Integer eventId) {
+        AfterCommit.run(() -> edit(new Edit(Relation.EVENEMENT, membreId, eventId, true)));
+    }
+
+    /**
+     * Retire un membre de l'index (compte supprimé).
+     */
+    public void removeMember(Integer membreId) {
+        AfterCommit.run(() -> {
+            for (int clubId : clubsOf(membreId)) {
+                edit(new Edit(Relation.CLUB, membreId, clubId, false));
+            }
+            for (int eventId : eventsOf(membreId)) {
+                edit(new Edit(Relation.EVENEMENT, membreId, eventId, false));
+            }
+        });
+    }
+
+    // --- Méthodes privées ---
+
+    private static int[] get(Map<Integer, int[]> index, Integer id) {
+        return id == null ? SortedIntSets.EMPTY : index.getOrDefault(id, SortedIntSets.EMPTY);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                    logLoaded(current);
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Liens clubs = build(adhesionRepository.findActiveMembreClubIdPairs());
+        Liens evenements = build(reservationRepository.findDistinctMembreEventIdPairsByStatus(ReservationStatus.UTILISE));
+        return new Snapshot(clubs, evenements);
+    }
+
+    /**
+     * Construit les deux index d'une relation à partir de couples {@code [membreId, groupeId]}.
+     */
+    private static Liens build(List<Object[]> paires) {
+        Map<Integer, int[]> parMembre = group(paires, 0, 1);
+        Map<Integer, int[]> parGroupe = group(paires, 1, 0);
+        return new Liens(parMembre, parGroupe);
+    }
+
+    private static Map<Integer, int[]> group(List<Object[]> paires, int cle, int valeur) {
+        Map<Integer, Integer> tailles = new HashMap<>();
+        for (Object[] paire : paires) {
+            tailles.merge((Integer) paire[cle], 1, Integer::sum);
+        }
+        Map<Integer, int[]> tableaux = new HashMap<>(tailles.size() * 2);
+        Map<Integer, Integer> remplis = new HashMap<>(tailles.size() * 2);
+        tailles.forEach((id, taille) -> tableaux.put(id, new int[taille]));
+        for (Object[] paire : paires) {
+            Integer id = (Integer) paire[cle];
+            tableaux.get(id)[remplis.merge(id, 1, Integer::sum) - 1] = (Integer) paire[valeur];
+        }
+        Map<Integer, int[]> index = new ConcurrentHashMap<>(tableaux.size() * 2);
+        tableaux.forEach((id, valeurs) -> index.put(id, SortedIntSets.sortedDistinct(valeurs)));
+        return index;
+    }
+
+    private synchronized void edit(Edit edit) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            apply(current, edit);
+        }
+        if (editsPendantRechargement != null) {
+            editsPendantRechargement.add(edit);
+        }
+    }
+
+    private static void apply(Snapshot snapshot, Edit edit) {
+        Liens liens = snapshot.liens(edit.relation());
+        update(liens.parMembre(), edit.membreId(), edit.groupeId(), edit.ajout());
+        update(liens.parGroupe(), edit.groupeId(), edit.membreId(), edit.ajout());
+    }
+
+    private static void update(Map<Integer, int[]> index, int id, int valeur, boolean ajout) {
+        int[] valeurs = index.getOrDefault(id, SortedIntSets.EMPTY);
+        int[] nouvelles = ajout ? SortedIntSets.with(valeurs, valeur) : SortedIntSets.without(valeurs, valeur);
+        if (nouvelles.length == 0) {
+            index.remove(id);
+        } else if (nouvelles != valeurs) {
+            index.put(id, nouvelles);
+        }
+    }
+
+    private static void logLoaded(Snapshot loaded) {
+        log.info("Index des affinités chargé : {} membre(s) avec un club, {} avec une participation.",
+                loaded.clubs().parMembre().size(), loaded.evenements().parMembre().size());
+    }
+}
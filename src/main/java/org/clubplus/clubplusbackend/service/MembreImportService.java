@@ -0,0 +1,366 @@
+package org.clubplus.clubplusbackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.clubplus.clubplusbackend.dao.ClubDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.dto.MembreImportResultDto;
+import org.clubplus.clubplusbackend.dto.MembreImportResultDto.LigneResultat;
+import org.clubplus.clubplusbackend.dto.MembreImportResultDto.StatutLigne;
+import org.clubplus.clubplusbackend.model.Membre;
+import org.clubplus.clubplusbackend.model.Role;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Service d'import en masse de membres dans un club (intégration d'un nouveau club).
+ * <p>
+ * Le fichier (CSV avec en-tête, ou JSON lines) est lu ligne par ligne. Chaque ligne est validée avec
+ * les contraintes de l'entité {@link Membre}, les doublons sont détectés dans le fichier puis en base
+ * en une requête par tranche d'emails et les mots de passe sont hachés en parallèle. Les membres sont ensuite
+ * insérés par {@link MembreImportWriter}, en une transaction. Le résultat de chaque ligne est renvoyé.
+ * <p>
+ * Ce service n'est pas transactionnel : le hachage BCrypt, volontairement coûteux, ne garde ni transaction ni
+ * connexion ouverte. Seule l'insertion est transactionnelle : si elle échoue, aucun membre n'est créé.
+ */
+@Service
+public class MembreImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MembreImportService.class);
+
+    /**
+     * Les colonnes attendues (en-tête CSV ou clés JSON).
+     */
+    static final List<String> COLONNES = List.of("nom", "prenom", "date_naissance", "telephone", "email", "password");
+
+    /**
+     * Nombre maximal d'emails par requête de dédoublonnage (taille de la clause IN).
+     */
+    private static final int EMAILS_PAR_REQUETE = 1000;
+
+    private static final TypeReference<Map<String, Object>> JSON_LIGNE = new TypeReference<>() {
+    };
+
+    /**
+     * Format du fichier importé.
+     */
+    public enum Format {
+        CSV, JSONL
+    }
+
+    private final MembreDao membreRepository;
+    private final ClubDao clubRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final SecurityService securityService;
+    private final MembreImportWriter importWriter;
+
+    private final int maxLignes;
+    private final ForkJoinPool hashingPool;
+
+    /**
+     * Construit le service avec sa configuration.
+     *
+     * @param importWriter Le composant transactionnel qui insère les membres.
+     * @param maxLignes    Le nombre maximal de lignes de données par fichier.
+     * @param hashThreads  Le nombre de threads de hachage des mots de passe (0 : nombre de cœurs).
+     */
+    public MembreImportService(MembreDao membreRepository,
+                               ClubDao clubRepository,
+                               PasswordEncoder passwordEncoder,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               SecurityService securityService,
+                               MembreImportWriter importWriter,
+                               @Value("${app.membres.import.max-lignes:10000}") int maxLignes,
+                               @Value("${app.membres.import.hash-threads:0}") int hashThreads) {
+        this.membreRepository = membreRepository;
+        this.clubRepository = clubRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.securityService = securityService;
+        this.importWriter = importWriter;
+        this.maxLignes = maxLignes;
+        this.hashingPool = new ForkJoinPool(hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingPool.shutdownNow();
+    }
+
+    /**
+     * Ligne lue dans le fichier, avec son état de traitement.
+     */
+    private static final class LigneImport {
+        private final int numero;
+        private final Map<String, String> valeurs;
+        private String erreur;
+        private Membre membre;
+        private String motDePasseHache;
+
+        private LigneImport(int numero, Map<String, String> valeurs, String erreur) {
+            this.numero = numero;
+            this.valeurs = valeurs;
+            this.erreur = erreur;
+        }
+    }
+
+    /**
+     * Importe des membres dans un club et crée leurs adhésions.
+     * <p>
+     * <b>Sécurité :</b> L'utilisateur doit être l'administrateur du club.
+     * <p>
+     * <b>Règles :</b> Les membres sont créés avec le rôle MEMBRE, non vérifiés ; un email de vérification est
+     * planifié pour chacun si {@code envoyerEmails} est vrai. Un email déjà utilisé (en base ou plus haut dans
+     * le fichier) est signalé comme doublon ; une ligne invalide est ignorée avec le motif du rejet.
+     *
+     * @param clubId        L'ID du club.
+     * @param contenu       Le contenu du fichier (UTF-8).
+     * @param format        Le format du fichier.
+     * @param envoyerEmails {@code true} pour planifier les emails de vérification.
+     * @return Le résultat de l'import, ligne par ligne.
+     * @throws EntityNotFoundException  si le club n'existe pas.
+     * @throws AccessDeniedException    si l'utilisateur n'est pas l'administrateur du club.
+     * @throws IllegalArgumentException si le fichier est vide, si des colonnes manquent ou s'il dépasse la taille maximale.
+     */
+    public MembreImportResultDto importMembres(Integer clubId, InputStream contenu, Format format, boolean envoyerEmails) {
+        long debut = System.nanoTime();
+        if (!clubRepository.existsById(clubId)) {
+            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
+        }
+        securityService.checkIsActualAdminOfClubOrThrow(clubId);
+
+        List<LigneImport> lignes = lire(contenu, format);
+
+        // 1. Validation et dédoublonnage à l'intérieur du fichier.
+        Map<String, LigneImport> candidats = new LinkedHashMap<>();
+        Map<LigneImport, StatutLigne> rejets = new HashMap<>();
+        for (LigneImport ligne : lignes) {
+            if (ligne.erreur == null) {
+                valider(ligne);
+            }
+            if (ligne.erreur != null) {
+                rejets.put(ligne, StatutLigne.INVALIDE);
+                continue;
+            }
+            LigneImport precedente = candidats.putIfAbsent(ligne.membre.getEmail(), ligne);
+            if (precedente != null) {
+                ligne.erreur = "Email présent plus haut dans le fichier (ligne " + precedente.numero + ").";
+                rejets.put(ligne, StatutLigne.DOUBLON);
+            }
+        }
+
+        // 2. Dédoublonnage avec la base : une requête par tranche d'emails.
+        for (String existant : findExistingEmails(candidats.keySet())) {
+            LigneImport ligne = candidats.remove(existant);
+            if (ligne != null) {
+                ligne.erreur = "Un compte existe déjà avec cet email.";
+                rejets.put(ligne, StatutLigne.DOUBLON);
+            }
+        }
+
+        // 3. Hachage parallèle hors transaction, puis insertion par lots en une transaction.
+        List<LigneImport> aCreer = new ArrayList<>(candidats.values());
+        hasherMotsDePasse(aCreer);
+        importWriter.inserer(clubId, aCreer.stream().map(ligne -> ligne.membre).toList(), envoyerEmails);
+
+        MembreImportResultDto resultat = new MembreImportResultDto();
+        for (LigneImport ligne : lignes) {
+            StatutLigne statut = rejets.getOrDefault(ligne, StatutLigne.CREE);
+            String email = ligne.membre != null ? ligne.membre.getEmail() : ligne.valeurs.get("email");
+            Integer membreId = statut == StatutLigne.CREE ? ligne.membre.getId() : null;
+            resultat.addLigne(new LigneResultat(ligne.numero, email, statut, membreId, ligne.erreur));
+        }
+        resultat.setDureeMs((System.nanoTime() - debut) / 1_000_000);
+        log.info("Import de membres dans le club {} : {} ligne(s), {} créé(s), {} doublon(s), {} invalide(s) en {} ms.",
+                clubId, resultat.getTotal(), resultat.getCrees(), resultat.getDoublons(), resultat.getInvalides(), resultat.getDureeMs());
+        return resultat;
+    }
+
+    /**
+     * Lit le fichier ligne par ligne. Les lignes vides sont ignorées.
+     */
+    private List<LigneImport> lire(InputStream contenu, Format format) {
+        List<LigneImport> lignes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(contenu, StandardCharsets.UTF_8))) {
+            String ligne;
+            int numero = 0;
+            List<String> entete = null;
+            char separateur = ',';
+            while ((ligne = reader.readLine()) != null) {
+                numero++;
+                if (numero == 1 && ligne.startsWith("\uFEFF")) {
+                    ligne = ligne.substring(1);
+                }
+                if (ligne.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && entete == null) {
+                    separateur = ligne.indexOf(';') >= 0 && ligne.indexOf(',') < 0 ? ';' : ',';
+                    List<String> colonnes = parseCsvLine(ligne, separateur).stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+                    List<String> manquantes = COLONNES.stream().filter(c -> !colonnes.contains(c)).toList();
+                    if (!manquantes.isEmpty()) {
+                        throw new IllegalArgumentException("Colonnes manquantes dans l'en-tête du fichier : " + manquantes);
+                    }
+                    entete = colonnes;
+                    continue;
+                }
+                if (lignes.size() >= maxLignes) {
+                    throw new IllegalArgumentException("Le fichier dépasse le nombre maximal de " + maxLignes + " lignes par import.");
+                }
+                lignes.add(format == Format.CSV
+                        ? lireLigneCsv(numero, ligne, entete, separateur)
+                        : lireLigneJson(numero, ligne));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur de lecture du fichier importé.", e);
+        }
+        if (lignes.isEmpty()) {
+            throw new IllegalArgumentException("Le fichier ne contient aucun membre à importer.");
+        }
+        return lignes;
+    }
+
+    private LigneImport lireLigneCsv(int numero, String ligne, List<String> entete, char separateur) {
+        List<String> champs = parseCsvLine(ligne, separateur);
+        if (champs.size() != entete.size()) {
+            return new LigneImport(numero, Map.of(), "Nombre de colonnes incorrect (" + champs.size() + " au lieu de " + entete.size() + ").");
+        }
+        Map<String, String> valeurs = new HashMap<>();
+        for (int i = 0; i < entete.size(); i++) {
+            valeurs.put(entete.get(i), champs.get(i).trim());
+        }
+        return new LigneImport(numero, valeurs, null);
+    }
+
+    private LigneImport lireLigneJson(int numero, String ligne) {
+        try {
+            Map<String, String> valeurs = new HashMap<>();
+            objectMapper.readValue(ligne, JSON_LIGNE).forEach((cle, valeur) -> {
+                if (valeur != null) {
+                    valeurs.put(cle.toLowerCase(Locale.ROOT), valeur.toString().trim());
+                }
+            });
+            return new LigneImport(numero, valeurs, null);
+        } catch (JsonProcessingException e) {
+            return new LigneImport(numero, Map.of(), "JSON invalide : " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Découpe une ligne CSV (champs éventuellement entre guillemets, {@code ""} pour un guillemet).
+     * Les champs sur plusieurs lignes ne sont pas supportés.
+     */
+    static List<String> parseCsvLine(String ligne, char separateur) {
+        List<String> champs = new ArrayList<>();
+        StringBuilder champ = new StringBuilder();
+        boolean entreGuillemets = false;
+        for (int i = 0; i < ligne.length(); i++) {
+            char c = ligne.charAt(i);
+            if (entreGuillemets) {
+                if (c == '"' && i + 1 < ligne.length() && ligne.charAt(i + 1) == '"') {
+                    champ.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreGuillemets = false;
+                } else {
+                    champ.append(c);
+                }
+            } else if (c == '"') {
+                entreGuillemets = true;
+            } else if (c == separateur) {
+                champs.add(champ.toString());
+                champ.setLength(0);
+            } else {
+                champ.append(c);
+            }
+        }
+        champs.add(champ.toString());
+        return champs;
+    }
+
+    /**
+     * Construit le membre de la ligne et le valide avec les contraintes de l'entité.
+     */
+    private void valider(LigneImport ligne) {
+        Map<String, String> valeurs = ligne.valeurs;
+        Membre membre = new Membre();
+        membre.setNom(valeurs.get("nom"));
+        membre.setPrenom(valeurs.get("prenom"));
+        membre.setTelephone(valeurs.get("telephone"));
+        membre.setPassword(valeurs.get("password"));
+        String email = valeurs.get("email");
+        membre.setEmail(email == null ? null : email.toLowerCase(Locale.ROOT).trim());
+        String dateNaissance = valeurs.get("date_naissance");
+        if (dateNaissance != null && !dateNaissance.isBlank()) {
+            try {
+                membre.setDate_naissance(LocalDate.parse(dateNaissance));
+            } catch (DateTimeParseException e) {
+                ligne.erreur = "Date de naissance invalide (format attendu : AAAA-MM-JJ) : " + dateNaissance;
+                return;
+            }
+        }
+        membre.setDate_inscription(LocalDate.now());
+        membre.setRole(Role.MEMBRE);
+        membre.setActif(true);
+        membre.setVerified(false);
+
+        Set<ConstraintViolation<Membre>> violations = validator.validate(membre);
+        if (!violations.isEmpty()) {
+            ligne.erreur = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+            return;
+        }
+        membre.setVerificationToken(UUID.randomUUID().toString());
+        ligne.membre = membre;
+    }
+
+    private List<String> findExistingEmails(Collection<String> emails) {
+        List<String> existants = new ArrayList<>();
+        List<String> liste = new ArrayList<>(emails);
+        for (int i = 0; i < liste.size(); i += EMAILS_PAR_REQUETE) {
+            existants.addAll(membreRepository.findExistingEmails(liste.subList(i, Math.min(i + EMAILS_PAR_REQUETE, liste.size()))));
+        }
+        return existants;
+    }
+
+    /**
+     * Hache les mots de passe en parallèle sur le pool dédié (le hachage BCrypt est volontairement coûteux).
+     */
+    private void hasherMotsDePasse(List<LigneImport> lignes) {
+        if (lignes.isEmpty()) {
+            return;
+        }
+        hashingPool.submit(() -> lignes.parallelStream()
+                        .forEach(ligne -> ligne.motDePasseHache = passwordEncoder.encode(ligne.membre.getPassword())))
+                .join();
+        lignes.forEach(ligne -> ligne.membre.setPassword(ligne.motDePasseHache));
+    }
+}
@@ -0,0 +1,131 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.AdhesionDao;
+import org.clubplus.clubplusbackend.dao.ClubDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.model.Adhesion;
+import org.clubplus.clubplusbackend.model.Club;
+import org.clubplus.clubplusbackend.model.Membre;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Insère, en une transaction, les membres d'un import validés et dont le mot de passe est déjà haché.
+ * <p>
+ * Appelé uniquement par {@link MembreImportService}, une fois le fichier lu, validé et les mots de passe hachés :
+ * la transaction (et sa connexion) ne couvre que les écritures. Si l'une d'elles échoue, aucun membre n'est créé.
+ */
+@Service
+@Transactional
+public class MembreImportWriter {
+
+    /**
+     * Nombre maximal d'emails par requête de relecture des IDs (taille de la clause IN).
+     */
+    private static final int EMAILS_PAR_REQUETE = 1000;
+
+    private static final String INSERT_MEMBRE = "INSERT INTO membre (nom, prenom, date_naissance, date_inscription, telephone, " +
+            "email, password, role, actif, verified, verification_token, security_version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CODE_AMI = "UPDATE membre SET code_ami = ? WHERE id = ?";
+
+    private final MembreDao membreRepository;
+    private final ClubDao clubRepository;
+    private final AdhesionDao adhesionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MonthlyAdhesionService monthlyAdhesionService;
+    private final EmailOutboxService emailOutboxService;
+
+    private final int batchSize;
+
+    /**
+     * @param batchSize Le nombre de lignes par lot d'insertion JDBC.
+     */
+    public MembreImportWriter(MembreDao membreRepository,
+                              ClubDao clubRepository,
+                              AdhesionDao adhesionRepository,
+                              JdbcTemplate jdbcTemplate,
+                              MonthlyAdhesionService monthlyAdhesionService,
+                              EmailOutboxService emailOutboxService,
+                              @Value("${app.membres.import.batch-size:500}") int batchSize) {
+        this.membreRepository = membreRepository;
+        this.clubRepository = clubRepository;
+        this.adhesionRepository = adhesionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthlyAdhesionService = monthlyAdhesionService;
+        this.emailOutboxService = emailOutboxService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Insère les membres et leur code ami par lots JDBC, puis leurs adhésions par lots Hibernate, et planifie
+     * les emails de vérification. L'ID de chaque membre est renseigné.
+     *
+     * @param clubId        L'ID du club.
+     * @param membres       Les membres à créer (validés, mot de passe haché, email unique).
+     * @param envoyerEmails {@code true} pour planifier les emails de vérification.
+     */
+    public void inserer(Integer clubId, List<Membre> membres, boolean envoyerEmails) {
+        if (membres.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEMBRE, membres, batchSize, (ps, membre) -> {
+            ps.setString(1, membre.getNom());
+            ps.setString(2, membre.getPrenom());
+            ps.setDate(3, Date.valueOf(membre.getDate_naissance()));
+            ps.setDate(4, Date.valueOf(membre.getDate_inscription()));
+            ps.setString(5, membre.getTelephone());
+            ps.setString(6, membre.getEmail());
+            ps.setString(7, membre.getPassword());
+            ps.setString(8, membre.getRole().name());
+            ps.setBoolean(9, true);
+            ps.setBoolean(10, false);
+            ps.setString(11, membre.getVerificationToken());
+            ps.setInt(12, 0);
+        });
+
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> emails = membres.stream().map(Membre::getEmail).toList();
+        for (int i = 0; i < emails.size(); i += EMAILS_PAR_REQUETE) {
+            for (Object[] row : membreRepository.findIdAndEmailByEmailIn(emails.subList(i, Math.min(i + EMAILS_PAR_REQUETE, emails.size())))) {
+                ids.put((String) row[1], ((Number) row[0]).intValue());
+            }
+        }
+        membres.forEach(membre -> membre.setId(ids.get(membre.getEmail())));
+        List<Integer> membreIds = membres.stream().map(Membre::getId).toList();
+
+        // Même format que Membre#generateCodeAmi.
+        jdbcTemplate.batchUpdate(UPDATE_CODE_AMI, membreIds, batchSize,
+                (ps, id) -> {
+                    ps.setString(1, String.format("AMIS-%06d", id));
+                    ps.setInt(2, id);
+                });
+
+        // Identifiants réservés par blocs : les INSERT d'adhésions sont regroupés par Hibernate.
+        Club club = clubRepository.getReferenceById(clubId);
+        Instant dateAdhesion = Instant.now();
+        List<Adhesion> adhesions = new ArrayList<>(membreIds.size());
+        for (Integer id : membreIds) {
+            Adhesion adhesion = new Adhesion(membreRepository.getReferenceById(id), club);
+            adhesion.setDateAdhesion(dateAdhesion);
+            adhesions.add(adhesion);
+        }
+        adhesionRepository.saveAll(adhesions);
+        monthlyAdhesionService.recordAdhesions(clubId, YearMonth.from(dateAdhesion.atZone(ZoneOffset.UTC)), membreIds.size());
+
+        if (envoyerEmails) {
+            emailOutboxService.enqueueVerificationEmails(membres);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package org.clubplus.clubplusbackend.service;
 
-import jakarta.mail.MessagingException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dao.AdhesionDao;
@@ -12,6 +12,7 @@ import org.clubplus.clubplusbackend.model.Club;
 import org.clubplus.clubplusbackend.model.Membre;
 import org.clubplus.clubplusbackend.model.Role;
 import org.clubplus.clubplusbackend.security.SecurityService;
+import org.clubplus.clubplusbackend.security.SecurityVersionRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,6 +36,7 @@ import java.util.stream.Collectors;
  * et la gestion des rôles, tout en appliquant les règles de sécurité.
  */
 @Service
+@Timed("clubplus.service")
 @RequiredArgsConstructor
 @Transactional
 public class MembreService {
@@ -55,8 +57,12 @@ public class MembreService {
     private final ClubDao clubRepository;
     private final AdhesionDao adhesionRepository;
     private final PasswordEncoder passwordEncoder;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final SecurityService securityService;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final MonthlyAdhesionService monthlyAdhesionService;
+    private final FriendGraph friendGraph;
+    private final MemberAffinityIndex memberAffinityIndex;
 
     /**
      * Récupère un membre par son ID.
@@ -149,7 +155,7 @@ public class MembreService {
     }
 
     /**
-     * Inscrit un nouveau membre, l'ajoute à un club et envoie un email de vérification.
+     * Inscrit un nouveau membre, l'ajoute à un club et planifie l'envoi d'un email de vérification.
      *
      * @param membreData Les informations du membre.
      * @param codeClub   Le code du club à rejoindre.
@@ -181,13 +187,11 @@ public class MembreService {
 
         Adhesion nouvelleAdhesion = new Adhesion(nouveauMembre, clubToJoin);
         adhesionRepository.save(nouvelleAdhesion);
+        monthlyAdhesionService.recordAdhesion(nouvelleAdhesion);
+        memberAffinityIndex.addAdhesion(nouveauMembre.getId(), clubToJoin.getId());
 
-        try {
-            emailService.sendVerificationEmail(nouveauMembre);
-        } catch (Exception e) {
-            log.error("Erreur lors de l'envoi de l'email de vérification à {} : {}", nouveauMembre.getEmail(), e.getMessage());
-            // Selon la politique, on pourrait vouloir annuler la transaction ici.
-        }
+        // Envoyé après la validation de la transaction par EmailOutboxDispatcher.
+        emailOutboxService.enqueueVerificationEmail(nouveauMembre);
 
         return nouveauMembre;
     }
@@ -235,6 +239,7 @@ public class MembreService {
                     throw new IllegalArgumentException("Cet email est déjà utilisé par un autre membre.");
                 }
                 existingMembre.setEmail(normalizedNewEmail);
+                revokeIssuedTokens(existingMembre); // Le sujet des tokens émis n'est plus valide.
                 updated = true;
             }
         }
@@ -262,9 +267,14 @@ public class MembreService {
             }
         }
 
-        membreToDelete.anonymizeData();
+        membreToDelete.anonymizeData(); // Incrémente aussi la version de sécurité.
         membreToDelete.setActif(false);
         membreRepository.save(membreToDelete);
+        friendGraph.removeMember(membreToDelete.getId());
+        memberAffinityIndex.removeMember(membreToDelete.getId());
+        Integer membreId = membreToDelete.getId();
+        int newVersion = membreToDelete.getSecurityVersion();
+        AfterCommit.run(() -> securityVersionRegistry.record(membreId, newVersion));
     }
 
     /**
@@ -292,7 +302,11 @@ public class MembreService {
         }
 
         Adhesion adhesion = new Adhesion(membre, club);
-        return adhesionRepository.save(adhesion);
+        Adhesion savedAdhesion = adhesionRepository.save(adhesion);
+        monthlyAdhesionService.recordAdhesion(savedAdhesion);
+        memberAffinityIndex.addAdhesion(currentUserId, club.getId());
+        securityService.invalidateAuthorizationContext(); // Les adhésions de l'utilisateur courant ont changé.
+        return savedAdhesion;
     }
 
     /**
@@ -316,6 +330,9 @@ public class MembreService {
         }
 
         adhesionRepository.delete(adhesion);
+        monthlyAdhesionService.removeAdhesion(adhesion);
+        memberAffinityIndex.removeAdhesion(currentUserId, clubId);
+        securityService.invalidateAuthorizationContext(); // Les adhésions de l'utilisateur courant ont changé.
     }
 
     /**
@@ -368,6 +385,7 @@ public class MembreService {
             targetMember.setRole(Role.MEMBRE);
         }
 
+        revokeIssuedTokens(targetMember);
         return membreRepository.save(targetMember);
     }
 
@@ -395,12 +413,11 @@ public class MembreService {
     }
 
     /**
-     * Envoie un email de réinitialisation de mot de passe si l'email existe.
+     * Planifie l'envoi d'un email de réinitialisation de mot de passe si l'email existe.
      *
      * @param email L'adresse email.
-     * @throws MessagingException en cas d'erreur d'envoi.
      */
-    public void requestPasswordReset(String email) throws MessagingException {
+    public void requestPasswordReset(String email) {
         Optional<Membre> membreOptional = membreRepository.findByEmail(email.toLowerCase().trim());
 
         if (membreOptional.isPresent()) {
@@ -410,8 +427,8 @@ public class MembreService {
             membre.setResetPasswordToken(resetToken);
             membre.setResetPasswordTokenExpiryDate(expiryDate);
             membreRepository.save(membre);
-            emailService.sendPasswordResetEmail(membre, resetToken);
-            log.info("Email de réinitialisation envoyé à : {}", membre.getEmail());
+            emailOutboxService.enqueuePasswordResetEmail(membre, resetToken);
+            log.info("Email de réinitialisation planifié pour : {}", membre.getEmail());
         } else {
             log.info("Tentative de réinitialisation pour un email non trouvé : {}", email);
         }
@@ -452,6 +469,7 @@ public class MembreService {
         membre.setPassword(passwordEncoder.encode(newPassword));
         membre.setResetPasswordToken(null);
         membre.setResetPasswordTokenExpiryDate(null);
+        revokeIssuedTokens(membre);
         membreRepository.save(membre);
         log.info("Mot de passe réinitialisé avec succès pour l'utilisateur (ID) : {}", membre.getId());
         return true;
@@ -499,10 +517,24 @@ public class MembreService {
         }
 
         membre.setPassword(passwordEncoder.encode(newPassword));
+        revokeIssuedTokens(membre);
         membreRepository.save(membre);
         log.info("Mot de passe changé avec succès pour l'utilisateur : {}", userEmail);
     }
 
+    /**
+     * Invalide tous les tokens JWT déjà émis pour un membre en incrémentant sa version de sécurité.
+     * Le registre local est mis à jour après la validation de la transaction (un rollback ne doit pas
+     * révoquer les tokens) ; les autres instances s'aligneront à l'expiration de leur cache.
+     *
+     * @param membre Le membre concerné.
+     */
+    private void revokeIssuedTokens(Membre membre) {
+        Integer membreId = membre.getId();
+        int newVersion = membre.incrementSecurityVersion();
+        AfterCommit.run(() -> securityVersionRegistry.record(membreId, newVersion));
+    }
+
     List<Integer> findActiveClubIdsForMember(Integer membreId) {
         return adhesionRepository.findActiveClubIdsByMembreId(membreId);
     }
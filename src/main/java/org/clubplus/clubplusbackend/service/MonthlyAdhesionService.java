@@ -0,0 +1,106 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.ClubMonthlyAdhesionDao;
+import org.clubplus.clubplusbackend.model.Adhesion;
+import org.clubplus.clubplusbackend.model.ClubMonthlyAdhesion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service de maintenance des compteurs mensuels d'adhésions par club ({@link ClubMonthlyAdhesion}).
+ * <p>
+ * Les compteurs sont mis à jour dans la transaction qui crée ou supprime l'adhésion. Les mois sont
+ * calculés en UTC, comme les statistiques qui les exploitent. {@link #rebuild()} les recalcule
+ * à partir de la table des adhésions (initialisation, correction de dérive).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MonthlyAdhesionService {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyAdhesionService.class);
+
+    private final ClubMonthlyAdhesionDao clubMonthlyAdhesionRepository;
+
+    /**
+     * Comptabilise une nouvelle adhésion dans le mois de sa date d'adhésion.
+     *
+     * @param adhesion L'adhésion qui vient d'être enregistrée.
+     */
+    public void recordAdhesion(Adhesion adhesion) {
+        recordAdhesions(adhesion.getClub().getId(), moisDe(adhesion), 1);
+    }
+
+    /**
+     * Comptabilise plusieurs adhésions d'un même club et d'un même mois (import de membres).
+     *
+     * @param clubId L'ID du club.
+     * @param mois   Le mois des adhésions (UTC).
+     * @param nombre Le nombre d'adhésions créées.
+     */
+    public void recordAdhesions(Integer clubId, YearMonth mois, long nombre) {
+        if (nombre <= 0) {
+            return;
+        }
+        clubMonthlyAdhesionRepository.upsertCount(clubId, ClubMonthlyAdhesion.toAnneeMois(mois), nombre);
+    }
+
+    /**
+     * Retire une adhésion supprimée (départ du club) du compteur de son mois d'origine.
+     *
+     * @param adhesion L'adhésion supprimée.
+     */
+    public void removeAdhesion(Adhesion adhesion) {
+        Integer clubId = adhesion.getClub().getId();
+        YearMonth mois = moisDe(adhesion);
+        if (clubMonthlyAdhesionRepository.addToCount(clubId, ClubMonthlyAdhesion.toAnneeMois(mois), -1) == 0) {
+            log.warn("Compteur d'adhésions absent ou nul pour le club {} ({}) lors d'un départ. Une reconstruction corrigera la dérive.",
+                    clubId, mois);
+        }
+    }
+
+    /**
+     * Récupère le nombre d'adhésions par mois d'un club sur un intervalle, en une lecture d'intervalle de clé.
+     *
+     * @param clubId L'ID du club.
+     * @param debut  Le premier mois (inclus).
+     * @param fin    Le dernier mois (inclus).
+     * @return Une map triée contenant chaque mois de l'intervalle (0 pour les mois sans adhésion).
+     */
+    @Transactional(readOnly = true)
+    public Map<YearMonth, Long> countByMonth(Integer clubId, YearMonth debut, YearMonth fin) {
+        Map<YearMonth, Long> counts = new TreeMap<>();
+        for (YearMonth mois = debut; !mois.isAfter(fin); mois = mois.plusMonths(1)) {
+            counts.put(mois, 0L);
+        }
+        for (ClubMonthlyAdhesion bucket : clubMonthlyAdhesionRepository.findByClubIdAndRange(
+                clubId, ClubMonthlyAdhesion.toAnneeMois(debut), ClubMonthlyAdhesion.toAnneeMois(fin))) {
+            counts.put(ClubMonthlyAdhesion.toYearMonth(bucket.getAnneeMois()), bucket.getNombreAdhesions());
+        }
+        return counts;
+    }
+
+    /**
+     * Reconstruit tous les compteurs à partir de la table des adhésions.
+     *
+     * @return Le nombre de compteurs recréés.
+     */
+    public int rebuild() {
+        clubMonthlyAdhesionRepository.deleteAllInBatch();
+        int buckets = clubMonthlyAdhesionRepository.insertFromAdhesions();
+        log.info("Compteurs mensuels d'adhésions reconstruits : {} ligne(s).", buckets);
+        return buckets;
+    }
+
+    private YearMonth moisDe(Adhesion adhesion) {
+        return YearMonth.from(adhesion.getDateAdhesion().atZone(ZoneOffset.UTC));
+    }
+}
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
  * <p>
  * Ce service assure les opérations de création et de consultation des notations,
  * en appliquant les règles métier (ex: l'événement doit être terminé) et de sécurité.
+ * Chaque nouvelle notation est ajoutée aux agrégats par club et par événement ({@link RatingRollupService}).
  */
 @Service
 @RequiredArgsConstructor
@@ -36,6 +37,7 @@ public class NotationService {
     private final EventDao eventRepository;
     private final ReservationDao reservationRepository;
     private final SecurityService securityService;
+    private final RatingRollupService ratingRollupService;
 
     /**
      * Crée une nouvelle notation pour un événement, soumise par l'utilisateur courant.
@@ -84,7 +86,9 @@ public class NotationService {
         newNotation.setFairPlay(notationDto.getFairPlay());
         newNotation.setNiveauJoueurs(notationDto.getNiveauJoueurs());
 
-        return notationRepository.save(newNotation);
+        Notation savedNotation = notationRepository.save(newNotation);
+        ratingRollupService.recordNotation(savedNotation);
+        return savedNotation;
     }
 
     /**
@@ -0,0 +1,90 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.CategorieDao;
+import org.clubplus.clubplusbackend.dao.EventDao;
+import org.clubplus.clubplusbackend.dto.PlacesReserveesDriftDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service de réconciliation du compteur {@code placesReservees} des catégories et des totaux
+ * dénormalisés des événements ({@code placeTotal}, {@code placesReservees}).
+ * <p>
+ * Les compteurs sont maintenus par des mises à jour atomiques lors des réservations, annulations
+ * et modifications de catégories. Cette tâche les recalcule à partir des tables sources pour corriger
+ * toute dérive (données importées par SQL, modification manuelle, incident) et journalise les écarts constatés.
+ * Elle s'exécute au démarrage de l'application puis selon la planification configurée.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PlacesReserveesReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlacesReserveesReconciliationService.class);
+
+    private final CategorieDao categorieRepository;
+    private final EventDao eventRepository;
+
+    @Value("${app.reservations.reconciliation.on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    /**
+     * Lance une réconciliation au démarrage, une fois l'application prête (données initiales chargées).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAtStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Réconciliation planifiée (par défaut chaque nuit à 3h30).
+     */
+    @Scheduled(cron = "${app.reservations.reconciliation.cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Détecte les catégories dont le compteur diffère du nombre de réservations confirmées et corrige ces compteurs,
+     * puis réaligne les totaux des événements sur ceux de leurs catégories.
+     *
+     * @return La liste des écarts constatés (vide si aucune dérive).
+     */
+    public List<PlacesReserveesDriftDto> reconcile() {
+        List<PlacesReserveesDriftDto> drifts = new ArrayList<>();
+        for (Object[] row : categorieRepository.findPlacesReserveesDrift()) {
+            PlacesReserveesDriftDto drift = new PlacesReserveesDriftDto(
+                    (Integer) row[0],
+                    ((Number) row[1]).intValue(),
+                    ((Number) row[2]).longValue());
+            categorieRepository.recomputePlacesReservees(drift.getCategorieId());
+            drifts.add(drift);
+            log.warn("Dérive du compteur de places corrigée pour la catégorie ID {} : compteur={}, réservations confirmées={}.",
+                    drift.getCategorieId(), drift.getCompteur(), drift.getReservationsConfirmees());
+        }
+
+        if (drifts.isEmpty()) {
+            log.debug("Réconciliation des compteurs de places : aucune dérive détectée.");
+        } else {
+            log.info("Réconciliation des compteurs de places : {} catégorie(s) corrigée(s).", drifts.size());
+        }
+
+        int evenementsCorriges = eventRepository.reconcileSeatTotals();
+        if (evenementsCorriges > 0) {
+            log.info("Réconciliation des totaux de places : {} événement(s) corrigé(s).", evenementsCorriges);
+        }
+        return drifts;
+    }
+}
@@ -0,0 +1,87 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.ClubRatingRollupDao;
+import org.clubplus.clubplusbackend.dao.EventRatingRollupDao;
+import org.clubplus.clubplusbackend.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service de maintenance des agrégats de notations par club ({@link ClubRatingRollup})
+ * et par événement ({@link EventRatingRollup}).
+ * <p>
+ * Les agrégats sont mis à jour dans la transaction qui crée la notation, par des upserts atomiques :
+ * la première notation d'un club ou d'un événement crée la ligne correspondante sans course entre deux
+ * premières notations concurrentes.
+ * {@link #rebuild()} recalcule l'ensemble des agrégats à partir des notations (initialisation, correction de dérive).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RatingRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingRollupService.class);
+
+    private final ClubRatingRollupDao clubRatingRollupRepository;
+    private final EventRatingRollupDao eventRatingRollupRepository;
+
+    /**
+     * Ajoute une nouvelle notation aux agrégats de son événement et, si l'événement est actif, de son club.
+     *
+     * @param notation La notation qui vient d'être enregistrée.
+     */
+    public void recordNotation(Notation notation) {
+        Event event = notation.getEvent();
+        Integer eventId = event.getId();
+        Integer clubId = event.getOrganisateur().getId();
+
+        eventRatingRollupRepository.upsertNotation(eventId, clubId, notation.getAmbiance(), notation.getProprete(),
+                notation.getOrganisation(), notation.getFairPlay(), notation.getNiveauJoueurs());
+
+        if (!Boolean.TRUE.equals(event.getActif())) {
+            return;
+        }
+        clubRatingRollupRepository.upsertNotation(clubId, notation.getAmbiance(), notation.getProprete(),
+                notation.getOrganisation(), notation.getFairPlay(), notation.getNiveauJoueurs());
+    }
+
+    /**
+     * Retire les notes d'un événement de l'agrégat de son club. À appeler lors de l'annulation d'un événement,
+     * les statistiques du club ne portant que sur les événements actifs.
+     *
+     * @param eventId L'ID de l'événement annulé.
+     */
+    public void excludeEvent(Integer eventId) {
+        eventRatingRollupRepository.findById(eventId)
+                .filter(rollup -> rollup.getNombreNotations() > 0)
+                .ifPresent(rollup -> {
+                    int updated = clubRatingRollupRepository.subtract(rollup.getClubId(), rollup.getSommeAmbiance(),
+                            rollup.getSommeProprete(), rollup.getSommeOrganisation(), rollup.getSommeFairPlay(),
+                            rollup.getSommeNiveauJoueurs(), rollup.getNombreNotations());
+                    if (updated == 0) {
+                        log.warn("Agrégat de notations du club {} absent ou incohérent lors de l'annulation de l'événement {}.",
+                                rollup.getClubId(), eventId);
+                    }
+                });
+    }
+
+    /**
+     * Reconstruit tous les agrégats à partir des notations, y compris celles des événements archivés.
+     * <p>
+     * Opération en O(nombre de notations), à réserver à l'initialisation et à la correction de dérive.
+     *
+     * @return Le nombre d'agrégats de clubs recréés.
+     */
+    public int rebuild() {
+        eventRatingRollupRepository.deleteAllInBatch();
+        int evenements = eventRatingRollupRepository.insertFromNotations()
+                + eventRatingRollupRepository.insertFromArchivedNotations();
+        clubRatingRollupRepository.deleteAllInBatch();
+        int clubs = clubRatingRollupRepository.insertFromEventRollups();
+        log.info("Agrégats de notations reconstruits : {} club(s), {} événement(s).", clubs, evenements);
+        return clubs;
+    }
+}
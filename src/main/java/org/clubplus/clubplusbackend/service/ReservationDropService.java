@@ -0,0 +1,297 @@
+package org.clubplus.clubplusbackend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.clubplus.clubplusbackend.dao.CategorieDao;
+import org.clubplus.clubplusbackend.dto.ReservationTicketDto;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service de réservation en mode "drop" pour les événements très demandés.
+ * <p>
+ * Au lieu d'une transaction complète par requête, chaque demande est validée sans verrou
+ * (appartenance au club, état de l'événement) puis placée dans une file bornée propre à sa catégorie.
+ * Un unique thread d'écriture parcourt les catégories ayant des demandes en attente et les décide par lots
+ * via {@link ReservationDropWriter}. Le membre reçoit un ticket qu'il peut consulter, ou sur lequel il peut
+ * attendre pendant une durée bornée.
+ * <p>
+ * Les files sont en mémoire : en cas d'arrêt de l'application, les tickets encore en attente sont refusés.
+ * Une file n'est créée qu'après validation de la demande (catégorie existante en mode drop) et les files vides
+ * sont retirées périodiquement.
+ */
+@Service
+public class ReservationDropService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationDropService.class);
+
+    /**
+     * Durée pendant laquelle les informations d'une catégorie (événement, club, mode drop) sont réutilisées.
+     */
+    private static final long DROP_INFO_TTL_MS = 30_000;
+
+    private final CategorieDao categorieRepository;
+    private final SecurityService securityService;
+    private final ReservationDropWriter dropWriter;
+
+    private final int batchSize;
+    private final int maxPendingPerCategorie;
+    private final long defaultWaitMs;
+    private final long maxWaitMs;
+    private final long ticketRetentionMs;
+
+    private final Map<Integer, CategorieLane> lanes = new ConcurrentHashMap<>();
+    private final Map<Integer, DropInfo> dropInfos = new ConcurrentHashMap<>();
+    private final Map<String, ReservationTicket> tickets = new ConcurrentHashMap<>();
+    private final BlockingQueue<CategorieLane> lanesToProcess = new LinkedBlockingQueue<>();
+    private final ExecutorService writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-drop-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    /**
+     * Construit le service avec sa configuration.
+     *
+     * @param categorieRepository    Le DAO des catégories.
+     * @param securityService        Le service de sécurité (utilisateur courant, appartenance au club).
+     * @param dropWriter             Le composant transactionnel qui décide les lots.
+     * @param batchSize              Le nombre maximal de demandes décidées par transaction.
+     * @param maxPendingPerCategorie La taille maximale de la file d'une catégorie.
+     * @param defaultWaitMs          L'attente appliquée lorsque l'appelant n'en précise pas.
+     * @param maxWaitMs              L'attente maximale autorisée pour un appelant.
+     * @param ticketRetentionMs      La durée de conservation d'un ticket décidé.
+     */
+    public ReservationDropService(CategorieDao categorieRepository,
+                                  SecurityService securityService,
+                                  ReservationDropWriter dropWriter,
+                                  @Value("${app.reservations.drop.batch-size:50}") int batchSize,
+                                  @Value("${app.reservations.drop.max-pending-per-categorie:5000}") int maxPendingPerCategorie,
+                                  @Value("${app.reservations.drop.default-wait-ms:2000}") long defaultWaitMs,
+                                  @Value("${app.reservations.drop.max-wait-ms:10000}") long maxWaitMs,
+                                  @Value("${app.reservations.drop.ticket-retention-ms:600000}") long ticketRetentionMs) {
+        this.categorieRepository = categorieRepository;
+        this.securityService = securityService;
+        this.dropWriter = dropWriter;
+        this.batchSize = batchSize;
+        this.maxPendingPerCategorie = maxPendingPerCategorie;
+        this.defaultWaitMs = defaultWaitMs;
+        this.maxWaitMs = maxWaitMs;
+        this.ticketRetentionMs = ticketRetentionMs;
+    }
+
+    /**
+     * File d'attente d'une catégorie.
+     */
+    private static final class CategorieLane {
+        private final Integer categorieId;
+        private final BlockingQueue<ReservationTicket> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private CategorieLane(Integer categorieId, int capacity) {
+            this.categorieId = categorieId;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    /**
+     * Informations sur l'événement d'une catégorie, utilisées pour valider les demandes sans transaction.
+     */
+    private record DropInfo(Integer eventId, Integer organisateurId, Instant startTime,
+                            boolean actif, boolean dropMode, long loadedAtMillis) {
+    }
+
+    @PostConstruct
+    void startWriter() {
+        writerExecutor.submit(this::writerLoop);
+    }
+
+    @PreDestroy
+    void stopWriter() {
+        running = false;
+        writerExecutor.shutdownNow();
+        tickets.values().forEach(ticket -> ticket.reject("Service de réservation arrêté. Veuillez réessayer."));
+    }
+
+    /**
+     * Dépose une demande de réservation dans la file de la catégorie.
+     * <p>
+     * <b>Règles :</b> l'événement doit être en mode drop, actif et futur, et l'utilisateur doit être membre
+     * du club organisateur. La capacité et la limite par membre sont vérifiées lors du traitement du lot.
+     *
+     * @param eventId     L'ID de l'événement.
+     * @param categorieId L'ID de la catégorie.
+     * @param waitMs      (Optionnel) La durée d'attente souhaitée de la décision, bornée par la configuration.
+     * @return L'état du ticket à l'issue de l'attente.
+     * @throws EntityNotFoundException  si la catégorie n'existe pas.
+     * @throws IllegalArgumentException si la catégorie n'appartient pas à l'événement.
+     * @throws IllegalStateException    si l'événement n'accepte pas de demande en mode drop ou si la file est pleine.
+     * @throws AccessDeniedException    si l'utilisateur n'est pas membre du club organisateur.
+     */
+    public ReservationTicketDto submit(Integer eventId, Integer categorieId, Long waitMs) {
+        Integer membreId = securityService.getCurrentUserIdOrThrow();
+        DropInfo info = getDropInfo(categorieId);
+
+        if (!info.eventId().equals(eventId)) {
+            throw new IllegalArgumentException("La catégorie (ID " + categorieId + ") n'appartient pas à l'événement (ID " + eventId + ").");
+        }
+        if (!info.dropMode()) {
+            throw new IllegalStateException("L'événement (ID: " + eventId + ") n'est pas en mode file d'attente : utilisez POST /reservations.");
+        }
+        if (!info.actif()) {
+            throw new IllegalStateException("Impossible de réserver : l'événement (ID: " + eventId + ") est annulé.");
+        }
+        if (info.startTime().isBefore(Instant.now())) {
+            throw new IllegalStateException("Impossible de réserver : l'événement (ID: " + eventId + ") est déjà commencé ou passé.");
+        }
+        securityService.checkIsCurrentUserMemberOfClubOrThrow(info.organisateurId());
+
+        CategorieLane lane = lanes.computeIfAbsent(categorieId, id -> new CategorieLane(id, maxPendingPerCategorie));
+        ReservationTicket ticket = new ReservationTicket(membreId, eventId, categorieId);
+        tickets.put(ticket.getId(), ticket);
+        if (!lane.queue.offer(ticket)) {
+            tickets.remove(ticket.getId());
+            throw new IllegalStateException("La file d'attente de cette catégorie est pleine. Veuillez réessayer dans quelques instants.");
+        }
+        schedule(lane);
+
+        ticket.awaitDecision(effectiveWait(waitMs));
+        return ticket.toDto();
+    }
+
+    /**
+     * Consulte un ticket, en attendant éventuellement sa décision.
+     *
+     * @param ticketId L'identifiant du ticket.
+     * @param waitMs   (Optionnel) La durée d'attente souhaitée, bornée par la configuration.
+     * @return L'état du ticket.
+     * @throws EntityNotFoundException si le ticket est inconnu ou expiré.
+     * @throws AccessDeniedException   si le ticket appartient à un autre membre.
+     */
+    public ReservationTicketDto getTicket(String ticketId, Long waitMs) {
+        Integer membreId = securityService.getCurrentUserIdOrThrow();
+        ReservationTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new EntityNotFoundException("Ticket de réservation introuvable ou expiré : " + ticketId);
+        }
+        if (!ticket.getMembreId().equals(membreId)) {
+            throw new AccessDeniedException("Accès refusé : ce ticket ne vous appartient pas.");
+        }
+        ticket.awaitDecision(waitMs == null ? 0 : effectiveWait(waitMs));
+        return ticket.toDto();
+    }
+
+    /**
+     * Supprime les tickets décidés depuis plus longtemps que la durée de rétention.
+     */
+    @Scheduled(fixedDelayString = "${app.reservations.drop.cleanup-interval-ms:60000}")
+    public void purgeDecidedTickets() {
+        Instant limite = Instant.now().minusMillis(ticketRetentionMs);
+        tickets.values().removeIf(ticket -> ticket.isDecided() && ticket.getDateDecision().isBefore(limite));
+    }
+
+    /**
+     * Retire les files vides et les informations de catégorie périmées.
+     * <p>
+     * Une demande qui obtient une file juste avant son retrait n'est pas perdue : la file est transmise
+     * telle quelle au thread d'écriture par {@link #schedule}, une nouvelle file est simplement créée
+     * pour les demandes suivantes.
+     */
+    @Scheduled(fixedDelayString = "${app.reservations.drop.cleanup-interval-ms:60000}")
+    public void purgeIdleLanes() {
+        lanes.values().removeIf(lane -> lane.queue.isEmpty() && !lane.scheduled.get());
+        long now = System.currentTimeMillis();
+        dropInfos.values().removeIf(info -> now - info.loadedAtMillis() > DROP_INFO_TTL_MS);
+    }
+
+    /**
+     * Oublie les informations en cache des catégories d'un événement, après la validation de la transaction
+     * courante. À appeler quand le mode drop ou le statut de l'événement change, pour que les demandes suivantes
+     * n'attendent pas l'expiration du cache ; le thread d'écriture revérifie de toute façon l'événement.
+     *
+     * @param eventId L'ID de l'événement modifié.
+     */
+    public void evictEvent(Integer eventId) {
+        AfterCommit.run(() -> dropInfos.values().removeIf(info -> info.eventId().equals(eventId)));
+    }
+
+    private DropInfo getDropInfo(Integer categorieId) {
+        DropInfo info = dropInfos.get(categorieId);
+        long now = System.currentTimeMillis();
+        if (info == null || now - info.loadedAtMillis() > DROP_INFO_TTL_MS) {
+            List<Object[]> rows = categorieRepository.findDropInfoById(categorieId);
+            if (rows.isEmpty()) {
+                throw new EntityNotFoundException("Catégorie non trouvée (ID: " + categorieId + ")");
+            }
+            Object[] row = rows.get(0);
+            info = new DropInfo((Integer) row[0], (Integer) row[1], (Instant) row[2],
+                    Boolean.TRUE.equals(row[3]), Boolean.TRUE.equals(row[4]), now);
+            dropInfos.put(categorieId, info);
+        }
+        return info;
+    }
+
+    private long effectiveWait(Long waitMs) {
+        long requested = waitMs == null ? defaultWaitMs : waitMs;
+        return Math.max(0, Math.min(requested, maxWaitMs));
+    }
+
+    private void schedule(CategorieLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            lanesToProcess.offer(lane);
+        }
+    }
+
+    /**
+     * Boucle du thread d'écriture : traite les catégories en attente à tour de rôle, un lot à la fois.
+     */
+    private void writerLoop() {
+        while (running) {
+            try {
+                CategorieLane lane = lanesToProcess.poll(1, TimeUnit.SECONDS);
+                if (lane == null) {
+                    continue;
+                }
+                lane.scheduled.set(false);
+
+                List<ReservationTicket> batch = new ArrayList<>(batchSize);
+                lane.queue.drainTo(batch, batchSize);
+                if (!batch.isEmpty()) {
+                    processBatch(lane.categorieId, batch);
+                }
+                if (!lane.queue.isEmpty()) {
+                    schedule(lane);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erreur inattendue dans le thread d'écriture du mode drop.", e);
+            }
+        }
+    }
+
+    private void processBatch(Integer categorieId, List<ReservationTicket> batch) {
+        try {
+            // La transaction est validée au retour de decide() : les décisions peuvent être publiées.
+            dropWriter.decide(categorieId, batch).forEach(ReservationDropWriter.Decision::publish);
+        } catch (RuntimeException e) {
+            log.error("Échec du traitement d'un lot de {} demande(s) pour la catégorie {}.", batch.size(), categorieId, e);
+            batch.forEach(ticket -> ticket.reject("Erreur technique lors du traitement de la demande. Veuillez réessayer."));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.clubplus.clubplusbackend.dao.CategorieDao;
+import org.clubplus.clubplusbackend.dao.EventDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.dao.ReservationDao;
+import org.clubplus.clubplusbackend.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Décide, en une transaction, d'un lot de demandes de réservation en mode drop pour une catégorie.
+ * <p>
+ * Appelé uniquement par le thread d'écriture de {@link ReservationDropService}. Pour un lot, le traitement
+ * charge une seule fois la catégorie et l'événement, applique la limite par membre avec une requête groupée,
+ * réserve les places acceptées par une mise à jour atomique unique puis insère les réservations en lot.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReservationDropWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationDropWriter.class);
+
+    private final CategorieDao categorieRepository;
+    private final EventDao eventRepository;
+    private final ReservationDao reservationRepository;
+    private final MembreDao membreRepository;
+    private final EventParticipationService eventParticipationService;
+
+    /**
+     * Décision prise pour un ticket, publiée après la validation de la transaction.
+     *
+     * @param ticket      Le ticket concerné.
+     * @param reservation La réservation créée, ou {@code null} en cas de refus.
+     * @param motifRefus  Le motif du refus, ou {@code null} en cas d'acceptation.
+     */
+    record Decision(ReservationTicket ticket, Reservation reservation, String motifRefus) {
+
+        void publish() {
+            if (reservation != null) {
+                ticket.accept(reservation);
+            } else {
+                ticket.reject(motifRefus);
+            }
+        }
+    }
+
+    /**
+     * Traite un lot de tickets d'une même catégorie, dans l'ordre d'arrivée.
+     *
+     * @param categorieId L'ID de la catégorie.
+     * @param batch       Les tickets à décider (ordre FIFO).
+     * @return Une décision par ticket, à publier une fois la transaction validée.
+     */
+    public List<Decision> decide(Integer categorieId, List<ReservationTicket> batch) {
+        List<Decision> decisions = new ArrayList<>(batch.size());
+
+        Categorie categorie = categorieRepository.findById(categorieId).orElse(null);
+        String motifLot = checkBookable(categorie);
+        if (motifLot != null) {
+            batch.forEach(ticket -> decisions.add(new Decision(ticket, null, motifLot)));
+            return decisions;
+        }
+        Event event = categorie.getEvent();
+
+        // Limite par membre : une seule requête groupée pour tout le lot.
+        Set<Integer> membreIds = batch.stream().map(ReservationTicket::getMembreId).collect(Collectors.toSet());
+        Map<Integer, Long> reservationsParMembre = new HashMap<>();
+        for (Object[] row : reservationRepository.countByEventIdAndMembreIdsGroupByMembre(event.getId(), membreIds, ReservationStatus.CONFIRME)) {
+            reservationsParMembre.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+
+        int placesRestantes = categorie.getPlaceDisponible();
+        List<ReservationTicket> candidats = new ArrayList<>();
+        for (ReservationTicket ticket : batch) {
+            long dejaReservees = reservationsParMembre.getOrDefault(ticket.getMembreId(), 0L);
+            if (!Objects.equals(ticket.getEventId(), event.getId())) {
+                decisions.add(new Decision(ticket, null, "La catégorie n'appartient pas à l'événement demandé."));
+            } else if (dejaReservees >= ReservationService.RESERVATION_MAX_PER_EVENT_PER_MEMBER) {
+                decisions.add(new Decision(ticket, null, "Limite de " + ReservationService.RESERVATION_MAX_PER_EVENT_PER_MEMBER
+                        + " réservations confirmées atteinte pour cet événement."));
+            } else if (candidats.size() >= placesRestantes) {
+                decisions.add(new Decision(ticket, null, "Capacité maximale atteinte pour la catégorie."));
+            } else {
+                candidats.add(ticket);
+                reservationsParMembre.put(ticket.getMembreId(), dejaReservees + 1);
+            }
+        }
+
+        int accordees = reservePlaces(categorieId, candidats.size());
+        if (accordees > 0) {
+            eventRepository.addPlacesReservees(event.getId(), accordees);
+        }
+        List<Reservation> reservations = new ArrayList<>(accordees);
+        Map<Integer, Long> accordeesParMembre = new HashMap<>();
+        for (int i = 0; i < candidats.size(); i++) {
+            ReservationTicket ticket = candidats.get(i);
+            if (i < accordees) {
+                Membre membre = membreRepository.getReferenceById(ticket.getMembreId());
+                Reservation reservation = new Reservation(membre, event, categorie);
+                reservations.add(reservation);
+                accordeesParMembre.merge(ticket.getMembreId(), 1L, Long::sum);
+                decisions.add(new Decision(ticket, reservation, null));
+            } else {
+                decisions.add(new Decision(ticket, null, "Capacité maximale atteinte pour la catégorie."));
+            }
+        }
+
+        if (!reservations.isEmpty()) {
+            reservationRepository.saveAll(reservations);
+            eventParticipationService.recordReservations(event.getId(), accordeesParMembre);
+        }
+        log.debug("Lot mode drop pour la catégorie {} : {} demande(s), {} acceptée(s).", categorieId, batch.size(), reservations.size());
+        return decisions;
+    }
+
+    /**
+     * Vérifie que la catégorie peut encore recevoir des réservations.
+     *
+     * @return Le motif de refus applicable à tout le lot, ou {@code null} si la réservation est possible.
+     */
+    private String checkBookable(Categorie categorie) {
+        if (categorie == null || categorie.getEvent() == null) {
+            return "Catégorie ou événement introuvable.";
+        }
+        Event event = categorie.getEvent();
+        if (!event.getActif()) {
+            return "Impossible de réserver : l'événement est annulé.";
+        }
+        if (!event.isDropMode()) {
+            return "Le mode file d'attente a été désactivé pour cet événement : utilisez POST /reservations.";
+        }
+        if (event.getStartTime().isBefore(Instant.now())) {
+            return "Impossible de réserver : l'événement est déjà commencé ou passé.";
+        }
+        return null;
+    }
+
+    /**
+     * Réserve atomiquement les places du lot. Si la mise à jour groupée échoue (places prises
+     * entre-temps par une réservation directe), les places sont prises une à une jusqu'à épuisement.
+     *
+     * @return Le nombre de places effectivement réservées.
+     */
+    private int reservePlaces(Integer categorieId, int demandees) {
+        if (demandees == 0) {
+            return 0;
+        }
+        if (categorieRepository.reservePlaces(categorieId, demandees) == 1) {
+            return demandees;
+        }
+        int accordees = 0;
+        while (accordees < demandees && categorieRepository.reservePlace(categorieId) == 1) {
+            accordees++;
+        }
+        return accordees;
+    }
+}
@@ -1,5 +1,6 @@
 package org.clubplus.clubplusbackend.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dao.CategorieDao;
@@ -29,6 +30,7 @@ import java.util.Objects;
  * en appliquant les règles de gestion (limites, capacité, etc.) et de sécurité.
  */
 @Service
+@Timed("clubplus.service")
 @RequiredArgsConstructor
 @Transactional
 public class ReservationService {
@@ -40,8 +42,10 @@ public class ReservationService {
     private final EventDao eventRepository;
     private final CategorieDao categorieRepository;
     private final SecurityService securityService;
+    private final EventParticipationService eventParticipationService;
+    private final MemberAffinityIndex memberAffinityIndex;
 
-    private static final int RESERVATION_MAX_PER_EVENT_PER_MEMBER = 2;
+    static final int RESERVATION_MAX_PER_EVENT_PER_MEMBER = 2;
 
     /**
      * Crée une nouvelle réservation pour l'utilisateur courant.
@@ -51,7 +55,8 @@ public class ReservationService {
      * <li>L'événement doit être actif et futur.</li>
      * <li>L'utilisateur doit être membre du club organisateur.</li>
      * <li>La limite de réservations par membre pour l'événement ne doit pas être dépassée.</li>
-     * <li>La catégorie doit avoir des places disponibles.</li>
+     * <li>La catégorie doit avoir des places disponibles. La place est prise par une mise à jour
+     * atomique et conditionnelle du compteur de la catégorie, ce qui empêche toute surréservation.</li>
      * </ul>
      *
      * @param eventId     L'ID de l'événement.
@@ -83,6 +88,9 @@ public class ReservationService {
         if (event.getStartTime().isBefore(Instant.now())) {
             throw new IllegalStateException("Impossible de réserver : l'événement (ID: " + eventId + ") est déjà commencé ou passé.");
         }
+        if (event.isDropMode()) {
+            throw new IllegalStateException("L'événement (ID: " + eventId + ") est en mode file d'attente : utilisez POST /reservations/drop.");
+        }
 
         securityService.checkMemberOfEventClubOrThrow(eventId);
 
@@ -91,12 +99,16 @@ public class ReservationService {
             throw new IllegalStateException("Limite de " + RESERVATION_MAX_PER_EVENT_PER_MEMBER + " réservations confirmées atteinte pour cet événement.");
         }
 
-        if (categorie.getPlaceDisponible() <= 0) {
+        // Pré-contrôle sans verrou, puis prise de place atomique (la base arbitre les accès concurrents).
+        if (categorie.getPlaceDisponible() <= 0 || categorieRepository.reservePlace(categorieId) == 0) {
             throw new IllegalStateException("Capacité maximale atteinte pour la catégorie.");
         }
+        eventRepository.addPlacesReservees(eventId, 1);
 
         Reservation newReservation = new Reservation(membre, event, categorie);
-        return reservationRepository.save(newReservation);
+        Reservation savedReservation = reservationRepository.save(newReservation);
+        eventParticipationService.recordReservation(eventId, currentUserId);
+        return savedReservation;
     }
 
     /**
@@ -122,7 +134,7 @@ public class ReservationService {
     /**
      * Récupère les réservations de l'utilisateur courant, avec un filtre optionnel par statut.
      *
-     * @param statusFilter Filtre "CONFIRME", "UTILISE", "ANNULE". Si null ou invalide, retourne tout.
+     * @param statusFilter Filtre "CONFIRME", "UTILISE", "ABSENT", "ANNULE". Si null ou invalide, retourne tout.
      * @return La liste des réservations de l'utilisateur.
      */
     @Transactional(readOnly = true)
@@ -230,6 +242,8 @@ public class ReservationService {
 
         reservation.setStatus(ReservationStatus.ANNULE);
         reservationRepository.save(reservation);
+        releasePlace(reservation);
+        eventParticipationService.removeReservation(event.getId(), reservation.getMembre().getId());
     }
 
     /**
@@ -278,6 +292,30 @@ public class ReservationService {
         }
 
         reservation.setStatus(ReservationStatus.UTILISE);
-        return reservationRepository.save(reservation);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        releasePlace(reservation); // Le compteur ne suit que les réservations CONFIRME.
+        memberAffinityIndex.addParticipation(reservation.getMembre().getId(), event.getId());
+        return savedReservation;
+    }
+
+    /**
+     * Décrémente les compteurs de places (catégorie et événement) d'une réservation qui quitte le statut CONFIRME.
+     * Un compteur déjà à zéro signale une dérive, corrigée par la réconciliation périodique.
+     *
+     * @param reservation La réservation dont le statut vient de changer.
+     */
+    private void releasePlace(Reservation reservation) {
+        Categorie categorie = reservation.getCategorie();
+        if (categorie == null || categorie.getId() == null) {
+            return;
+        }
+        if (categorieRepository.releasePlace(categorie.getId()) == 0) {
+            log.warn("Compteur de places déjà à zéro pour la catégorie ID {} lors de la libération de la réservation ID {}.",
+                    categorie.getId(), reservation.getId());
+            return;
+        }
+        if (reservation.getEvent() != null) {
+            eventRepository.addPlacesReservees(reservation.getEvent().getId(), -1);
+        }
     }
 }
@@ -0,0 +1,122 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.Getter;
+import org.clubplus.clubplusbackend.dto.ReservationTicketDto;
+import org.clubplus.clubplusbackend.dto.ReservationTicketDto.StatutTicket;
+import org.clubplus.clubplusbackend.model.Reservation;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Demande de réservation en attente dans la file d'une catégorie en mode drop.
+ * <p>
+ * Le ticket est créé par le thread de la requête HTTP puis décidé (accepté ou refusé) par le
+ * thread d'écriture unique de {@link ReservationDropService}. Les appelants peuvent attendre
+ * la décision pendant une durée bornée.
+ */
+class ReservationTicket {
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    @Getter
+    private final Integer membreId;
+    @Getter
+    private final Integer eventId;
+    @Getter
+    private final Integer categorieId;
+    @Getter
+    private final Instant dateDemande = Instant.now();
+
+    private StatutTicket statut = StatutTicket.EN_ATTENTE;
+    private Integer reservationId;
+    private String reservationUuid;
+    private String message;
+    private Instant dateDecision;
+
+    private final CompletableFuture<Void> decision = new CompletableFuture<>();
+
+    ReservationTicket(Integer membreId, Integer eventId, Integer categorieId) {
+        this.membreId = membreId;
+        this.eventId = eventId;
+        this.categorieId = categorieId;
+    }
+
+    /**
+     * Marque le ticket comme accepté. À appeler une fois la réservation validée en base.
+     *
+     * @param reservation La réservation créée.
+     */
+    synchronized void accept(Reservation reservation) {
+        if (statut != StatutTicket.EN_ATTENTE) {
+            return;
+        }
+        this.reservationId = reservation.getId();
+        this.reservationUuid = reservation.getReservationUuid();
+        this.statut = StatutTicket.ACCEPTEE;
+        this.dateDecision = Instant.now();
+        decision.complete(null);
+    }
+
+    /**
+     * Marque le ticket comme refusé.
+     *
+     * @param motif Le motif du refus, communiqué au membre.
+     */
+    synchronized void reject(String motif) {
+        if (statut != StatutTicket.EN_ATTENTE) {
+            return;
+        }
+        this.message = motif;
+        this.statut = StatutTicket.REFUSEE;
+        this.dateDecision = Instant.now();
+        decision.complete(null);
+    }
+
+    /**
+     * Attend la décision pendant au plus la durée indiquée.
+     *
+     * @param timeoutMs La durée maximale d'attente en millisecondes (0 pour ne pas attendre).
+     */
+    void awaitDecision(long timeoutMs) {
+        if (timeoutMs <= 0 || decision.isDone()) {
+            return;
+        }
+        try {
+            decision.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Le ticket reste en attente : l'appelant le consultera plus tard.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized boolean isDecided() {
+        return statut != StatutTicket.EN_ATTENTE;
+    }
+
+    synchronized Instant getDateDecision() {
+        return dateDecision;
+    }
+
+    /**
+     * @return Une copie de l'état actuel du ticket.
+     */
+    synchronized ReservationTicketDto toDto() {
+        return ReservationTicketDto.builder()
+                .ticketId(id)
+                .eventId(eventId)
+                .categorieId(categorieId)
+                .statut(statut)
+                .reservationId(reservationId)
+                .reservationUuid(reservationUuid)
+                .message(message)
+                .dateDemande(dateDemande)
+                .dateDecision(dateDecision)
+                .build();
+    }
+}
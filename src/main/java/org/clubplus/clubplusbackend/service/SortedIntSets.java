@@ -0,0 +1,89 @@
+package org.clubplus.clubplusbackend.service;
+
+import java.util.Arrays;
+
+/**
+ * Opérations sur des ensembles d'entiers représentés par des tableaux {@code int[]} triés sans doublon.
+ * <p>
+ * Les tableaux ne sont jamais modifiés sur place : les ajouts et retraits retournent un nouveau tableau,
+ * ce qui permet de les partager entre threads sans verrou.
+ */
+final class SortedIntSets {
+
+    static final int[] EMPTY = new int[0];
+
+    private SortedIntSets() {
+    }
+
+    static boolean contains(int[] set, int value) {
+        return Arrays.binarySearch(set, value) >= 0;
+    }
+
+    /**
+     * Retourne l'ensemble augmenté de {@code value} (le même tableau si la valeur y est déjà).
+     */
+    static int[] with(int[] set, int value) {
+        int position = Arrays.binarySearch(set, value);
+        if (position >= 0) {
+            return set;
+        }
+        int insertion = -position - 1;
+        int[] result = new int[set.length + 1];
+        System.arraycopy(set, 0, result, 0, insertion);
+        result[insertion] = value;
+        System.arraycopy(set, insertion, result, insertion + 1, set.length - insertion);
+        return result;
+    }
+
+    /**
+     * Retourne l'ensemble privé de {@code value} (le même tableau si la valeur n'y est pas).
+     */
+    static int[] without(int[] set, int value) {
+        int position = Arrays.binarySearch(set, value);
+        if (position < 0) {
+            return set;
+        }
+        if (set.length == 1) {
+            return EMPTY;
+        }
+        int[] result = new int[set.length - 1];
+        System.arraycopy(set, 0, result, 0, position);
+        System.arraycopy(set, position + 1, result, position, set.length - position - 1);
+        return result;
+    }
+
+    /**
+     * Nombre d'éléments communs à deux ensembles (fusion des deux tableaux triés).
+     */
+    static int countCommon(int[] a, int[] b) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                common++;
+                i++;
+                j++;
+            }
+        }
+        return common;
+    }
+
+    /**
+     * Trie le tableau sur place et retire les doublons.
+     */
+    static int[] sortedDistinct(int[] values) {
+        Arrays.sort(values);
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[size++] = values[i];
+            }
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
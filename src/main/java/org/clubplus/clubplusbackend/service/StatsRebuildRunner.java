@@ -0,0 +1,64 @@
+package org.clubplus.clubplusbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Commandes de reconstruction des agrégats statistiques et des index dénormalisés.
+ * <p>
+ * Exécutées au démarrage lorsque l'application est lancée avec l'option correspondante, ou lorsque
+ * la propriété associée vaut {@code true} :
+ * <ul>
+ * <li>{@code --rebuild-rating-rollups} / {@code app.stats.ratings.rebuild-on-startup} : agrégats de notations.</li>
+ * <li>{@code --rebuild-adhesion-buckets} / {@code app.stats.adhesions.rebuild-on-startup} : compteurs mensuels d'adhésions.</li>
+ * <li>{@code --rebuild-event-participations} / {@code app.stats.participations.rebuild-on-startup} : index de participation aux événements.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsRebuildRunner implements ApplicationRunner {
+
+    /**
+     * Option de ligne de commande déclenchant la reconstruction des agrégats de notations.
+     */
+    public static final String REBUILD_RATINGS_OPTION = "rebuild-rating-rollups";
+
+    /**
+     * Option de ligne de commande déclenchant la reconstruction des compteurs mensuels d'adhésions.
+     */
+    public static final String REBUILD_ADHESIONS_OPTION = "rebuild-adhesion-buckets";
+
+    /**
+     * Option de ligne de commande déclenchant la reconstruction de l'index de participation aux événements.
+     */
+    public static final String REBUILD_PARTICIPATIONS_OPTION = "rebuild-event-participations";
+
+    private final RatingRollupService ratingRollupService;
+    private final MonthlyAdhesionService monthlyAdhesionService;
+    private final EventParticipationService eventParticipationService;
+
+    @Value("${app.stats.ratings.rebuild-on-startup:false}")
+    private boolean rebuildRatingsOnStartup;
+
+    @Value("${app.stats.adhesions.rebuild-on-startup:false}")
+    private boolean rebuildAdhesionsOnStartup;
+
+    @Value("${app.stats.participations.rebuild-on-startup:false}")
+    private boolean rebuildParticipationsOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildRatingsOnStartup || args.containsOption(REBUILD_RATINGS_OPTION)) {
+            ratingRollupService.rebuild();
+        }
+        if (rebuildAdhesionsOnStartup || args.containsOption(REBUILD_ADHESIONS_OPTION)) {
+            monthlyAdhesionService.rebuild();
+        }
+        if (rebuildParticipationsOnStartup || args.containsOption(REBUILD_PARTICIPATIONS_OPTION)) {
+            eventParticipationService.rebuild();
+        }
+    }
+}
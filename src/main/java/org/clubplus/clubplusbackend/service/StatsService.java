@@ -1,22 +1,26 @@
 package org.clubplus.clubplusbackend.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.clubplus.clubplusbackend.dao.*;
 import org.clubplus.clubplusbackend.dto.DashboardSummaryDto;
 import org.clubplus.clubplusbackend.dto.HomepageStatsDTO;
+import org.clubplus.clubplusbackend.model.ClubRatingRollup;
 import org.clubplus.clubplusbackend.model.ReservationStatus;
 import org.clubplus.clubplusbackend.security.SecurityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import static org.clubplus.clubplusbackend.model.ReservationStatus.UTILISE;
 
@@ -28,19 +32,35 @@ import static org.clubplus.clubplusbackend.model.ReservationStatus.UTILISE;
  * concerné peut accéder à ses statistiques.
  */
 @Service
+@Timed("clubplus.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatsService {
 
     private static final Logger log = LoggerFactory.getLogger(StatsService.class);
 
+    // Noms des sections du tableau de bord, repris dans les métadonnées de la réponse.
+    private static final String SECTION_EVENEMENTS = "evenements";
+    private static final String SECTION_OCCUPATION = "occupation";
+    private static final String SECTION_MEMBRES = "membres";
+    private static final String SECTION_PARTICIPATIONS = "participations";
+    private static final String SECTION_ADHESIONS_MENSUELLES = "adhesionsMensuelles";
+    private static final String SECTION_NOTES = "notes";
+
+    /**
+     * Nombre maximal de mois pouvant être demandés pour la série des adhésions mensuelles.
+     */
+    static final int MAX_MONTHS_RANGE = 120;
+
     private final EventDao eventRepository;
     private final ReservationDao reservationRepository;
     private final MembreDao membreRepository;
-    private final NotationDao notationRepository;
+    private final ClubRatingRollupDao clubRatingRollupRepository;
     private final ClubDao clubRepository;
     private final AdhesionDao adhesionRepository;
     private final SecurityService securityService;
+    private final DashboardSectionRunner dashboardSectionRunner;
+    private final MonthlyAdhesionService monthlyAdhesionService;
 
     /**
      * Calcule le nombre d'adhésions mensuelles pour un club sur les 12 derniers mois.
@@ -53,21 +73,32 @@ public class StatsService {
      * @throws AccessDeniedException   si l'utilisateur n'est pas un gestionnaire du club.
      */
     public List<Map<String, Object>> getClubMonthlyRegistrations(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé avec l'ID : " + clubId);
-        }
-        log.debug("Calcul des adhésions mensuelles pour clubId: {}", clubId);
-
-        LocalDate localDateTodayUTC = Instant.now().atZone(ZoneOffset.UTC).toLocalDate();
-        LocalDate localDateElevenMonthsAgoUTC = localDateTodayUTC.minusMonths(11);
-        LocalDate localDateFirstDayOfThatMonthUTC = localDateElevenMonthsAgoUTC.withDayOfMonth(1);
-        Instant startDate = localDateFirstDayOfThatMonthUTC.atStartOfDay(ZoneOffset.UTC).toInstant();
-
-        List<Object[]> results = adhesionRepository.findMonthlyAdhesionsToClubSince(clubId, startDate);
-        log.debug("Résultats bruts des adhésions reçus ({} mois avec données) pour le club {}", results.size(), clubId);
+        checkManagerOfExistingClubOrThrow(clubId);
+        return computeMonthlyRegistrations(clubId);
+    }
 
-        return formatMonthlyResults(results, startDate, Instant.now());
+    /**
+     * Calcule le nombre d'adhésions mensuelles pour un club sur un intervalle de mois quelconque.
+     * <p>
+     * <b>Sécurité :</b> L'utilisateur doit être un gestionnaire (ADMIN ou RESERVATION) du club.
+     *
+     * @param clubId L'ID du club.
+     * @param debut  Le premier mois (inclus).
+     * @param fin    Le dernier mois (inclus).
+     * @return Une liste de maps, chaque map représentant un mois avec les clés "monthYear" et "count".
+     * @throws IllegalArgumentException si l'intervalle est inversé ou dépasse {@value #MAX_MONTHS_RANGE} mois.
+     * @throws EntityNotFoundException  si le club n'est pas trouvé.
+     * @throws AccessDeniedException    si l'utilisateur n'est pas un gestionnaire du club.
+     */
+    public List<Map<String, Object>> getClubMonthlyRegistrations(Integer clubId, YearMonth debut, YearMonth fin) {
+        if (debut.isAfter(fin)) {
+            throw new IllegalArgumentException("Le mois de début doit précéder ou être égal au mois de fin.");
+        }
+        if (ChronoUnit.MONTHS.between(debut, fin) >= MAX_MONTHS_RANGE) {
+            throw new IllegalArgumentException("L'intervalle demandé ne peut pas dépasser " + MAX_MONTHS_RANGE + " mois.");
+        }
+        checkManagerOfExistingClubOrThrow(clubId);
+        return formatMonthlyCounts(monthlyAdhesionService.countByMonth(clubId, debut, fin));
     }
 
     /**
@@ -79,39 +110,8 @@ public class StatsService {
      * @return Une Map avec les moyennes par critère et une moyenne générale, arrondies à une décimale.
      */
     public Map<String, Double> getClubAverageEventRatings(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
-        }
-        log.debug("Calcul des moyennes de notation pour clubId: {}", clubId);
-
-        List<Integer> pastEventIds = eventRepository.findPastEventIdsByOrganisateurId(clubId, Instant.now());
-        if (pastEventIds.isEmpty()) {
-            log.debug("Aucun événement passé trouvé pour clubId {}, retour des moyennes par défaut.", clubId);
-            return defaultRatingMap();
-        }
-
-        double avgAmbiance = notationRepository.findAverageAmbianceForEventIds(pastEventIds).orElse(0.0);
-        double avgProprete = notationRepository.findAveragePropreteForEventIds(pastEventIds).orElse(0.0);
-        double avgOrganisation = notationRepository.findAverageOrganisationForEventIds(pastEventIds).orElse(0.0);
-        double avgFairPlay = notationRepository.findAverageFairPlayForEventIds(pastEventIds).orElse(0.0);
-        double avgNiveauJoueurs = notationRepository.findAverageNiveauJoueursForEventIds(pastEventIds).orElse(0.0);
-
-        Map<String, Double> averagesMap = new LinkedHashMap<>();
-        averagesMap.put("ambiance", avgAmbiance);
-        averagesMap.put("proprete", avgProprete);
-        averagesMap.put("organisation", avgOrganisation);
-        averagesMap.put("fairPlay", avgFairPlay);
-        averagesMap.put("niveauJoueurs", avgNiveauJoueurs);
-
-        double sum = averagesMap.values().stream().mapToDouble(Double::doubleValue).sum();
-        long count = averagesMap.values().stream().filter(v -> v > 0.0).count();
-        double moyenneGenerale = (count > 0) ? (sum / count) : 0.0;
-        averagesMap.put("moyenneGenerale", moyenneGenerale);
-
-        averagesMap.replaceAll((key, value) -> Math.round(value * 10.0) / 10.0);
-        log.debug("Moyennes calculées pour clubId {}: {}", clubId, averagesMap);
-        return averagesMap;
+        checkManagerOfExistingClubOrThrow(clubId);
+        return computeAverageEventRatings(clubId);
     }
 
     /**
@@ -123,10 +123,7 @@ public class StatsService {
      * @return Le nombre d'événements actifs.
      */
     public long getTotalEventsForClub(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
-        }
+        checkManagerOfExistingClubOrThrow(clubId);
         return eventRepository.countByOrganisateurIdAndActif(clubId, true);
     }
 
@@ -139,30 +136,8 @@ public class StatsService {
      * @return Le taux d'occupation moyen en pourcentage.
      */
     public double getClubAverageEventOccupancy(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
-        }
-        log.debug("Calcul du taux d'occupation moyen pour clubId: {}", clubId);
-
-        List<ReservationStatus> statusesToCount = List.of(ReservationStatus.CONFIRME, UTILISE);
-        List<Object[]> eventStatsList = eventRepository.findEventStatsForOccupancy(clubId, statusesToCount);
-
-        if (eventStatsList.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalOccupancyPercentageSum = 0;
-        for (Object[] stats : eventStatsList) {
-            long reservedCount = ((Number) stats[1]).longValue();
-            long totalCapacity = ((Number) stats[2]).longValue();
-            if (totalCapacity > 0) {
-                totalOccupancyPercentageSum += ((double) reservedCount / totalCapacity) * 100.0;
-            }
-        }
-
-        double averageRate = totalOccupancyPercentageSum / eventStatsList.size();
-        return Math.round(averageRate * 10.0) / 10.0;
+        checkManagerOfExistingClubOrThrow(clubId);
+        return computeAverageEventOccupancy(clubId);
     }
 
     /**
@@ -174,10 +149,7 @@ public class StatsService {
      * @return Le nombre d'événements à venir.
      */
     public long getClubUpcomingEventCount30d(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
-        }
+        checkManagerOfExistingClubOrThrow(clubId);
         Instant now = Instant.now();
         Instant futureDate = now.plus(30, ChronoUnit.DAYS);
         return eventRepository.countByOrganisateurIdAndActifAndStartTimeBetween(clubId, true, now, futureDate);
@@ -186,38 +158,60 @@ public class StatsService {
     /**
      * Récupère un résumé complet des statistiques pour le tableau de bord d'un club.
      * <p>
-     * <b>Sécurité :</b> L'utilisateur doit être un gestionnaire du club.
+     * <b>Sécurité :</b> L'utilisateur doit être un gestionnaire du club. La vérification des droits et de
+     * l'existence du club n'est effectuée qu'une seule fois pour l'ensemble du résumé.
+     * <p>
+     * Les sections indépendantes (décomptes d'événements, occupation, membres, participations, adhésions
+     * mensuelles, notes) sont calculées en parallèle par {@link DashboardSectionRunner}. La méthode ne
+     * s'exécute pas dans une transaction : chaque section utilise sa propre connexion, le temps de son calcul.
+     * Les durées de chaque section sont renvoyées dans {@link DashboardSummaryDto#getMetadata()}.
      *
      * @param clubId L'ID du club.
      * @return Un DTO contenant le résumé des statistiques.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardSummaryDto getDashboardSummary(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
-        }
+        checkManagerOfExistingClubOrThrow(clubId);
         log.info("Génération du résumé du tableau de bord pour clubId: {}", clubId);
 
+        Map<String, Callable<?>> sections = new LinkedHashMap<>();
+        sections.put(SECTION_EVENEMENTS, () -> countActiveAndUpcomingEvents(clubId));
+        sections.put(SECTION_OCCUPATION, () -> computeAverageEventOccupancy(clubId));
+        sections.put(SECTION_MEMBRES, () -> adhesionRepository.countActiveMembersByClubId(clubId));
+        sections.put(SECTION_PARTICIPATIONS, () -> reservationRepository.countByStatusAndEventOrganisateurId(UTILISE, clubId));
+        sections.put(SECTION_ADHESIONS_MENSUELLES, () -> computeMonthlyRegistrations(clubId));
+        sections.put(SECTION_NOTES, () -> computeAverageEventRatings(clubId));
+
+        DashboardSectionRunner.SectionResults results = dashboardSectionRunner.run(sections);
+        long[] evenements = results.get(SECTION_EVENEMENTS);
+        log.debug("Résumé du tableau de bord pour clubId {} calculé en {} ms : {}", clubId, results.totalMs(), results.timingsMs());
+
         return DashboardSummaryDto.builder()
-                .totalEvents(getTotalEventsForClub(clubId))
-                .upcomingEventsCount30d(getClubUpcomingEventCount30d(clubId))
-                .averageEventOccupancyRate(getClubAverageEventOccupancy(clubId))
-                .totalActiveMembers(getTotalActiveMembersForClub(clubId))
-                .totalParticipations(getTotalEventParticipationsForClub(clubId))
-                .monthlyRegistrations(getClubMonthlyRegistrations(clubId))
-                .averageEventRatings(getClubAverageEventRatings(clubId))
+                .totalEvents(evenements[0])
+                .upcomingEventsCount30d(evenements[1])
+                .averageEventOccupancyRate(results.<Double>get(SECTION_OCCUPATION))
+                .totalActiveMembers(results.<Long>get(SECTION_MEMBRES))
+                .totalParticipations(results.<Long>get(SECTION_PARTICIPATIONS))
+                .monthlyRegistrations(results.get(SECTION_ADHESIONS_MENSUELLES))
+                .averageEventRatings(results.get(SECTION_NOTES))
+                .metadata(DashboardSummaryDto.Metadata.builder()
+                        .generatedAt(Instant.now())
+                        .totalMs(results.totalMs())
+                        .sectionsMs(results.timingsMs())
+                        .build())
                 .build();
     }
 
     /**
-     * Récupère les statistiques globales de la plateforme (nombre de clubs, événements, membres).
+     * Calcule les statistiques globales de la plateforme (nombre de clubs, événements, membres).
      * <p>
-     * <b>Sécurité :</b> Endpoint public, aucune restriction.
+     * <b>Sécurité :</b> Endpoint public, aucune restriction. L'endpoint ne l'appelle pas directement :
+     * il sert l'instantané de {@link HomepageStatsCache}, qui appelle cette méthode lors de ses rafraîchissements.
      *
      * @return Un DTO contenant les décomptes globaux.
      */
     public HomepageStatsDTO getHomepageStats() {
-        log.info("Récupération des statistiques globales pour la page d'accueil.");
+        log.debug("Calcul des statistiques globales pour la page d'accueil.");
         long clubs = clubRepository.count();
         long events = eventRepository.count();
         long members = membreRepository.count();
@@ -233,10 +227,7 @@ public class StatsService {
      * @return Le nombre de membres actifs.
      */
     public long getTotalActiveMembersForClub(Integer clubId) {
-        securityService.checkManagerOfClubOrThrow(clubId);
-        if (!clubRepository.existsById(clubId)) {
-            throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
-        }
+        checkManagerOfExistingClubOrThrow(clubId);
         return adhesionRepository.countActiveMembersByClubId(clubId);
     }
 
@@ -249,48 +240,109 @@ public class StatsService {
      * @return Le nombre total de participations.
      */
     public long getTotalEventParticipationsForClub(Integer clubId) {
+        checkManagerOfExistingClubOrThrow(clubId);
+        return reservationRepository.countByStatusAndEventOrganisateurId(UTILISE, clubId);
+    }
+
+
+    // --- Méthodes privées ---
+
+    /**
+     * Vérifie que l'utilisateur courant gère le club et que celui-ci existe.
+     *
+     * @throws AccessDeniedException   si l'utilisateur n'est pas un gestionnaire du club.
+     * @throws EntityNotFoundException si le club n'est pas trouvé.
+     */
+    private void checkManagerOfExistingClubOrThrow(Integer clubId) {
         securityService.checkManagerOfClubOrThrow(clubId);
         if (!clubRepository.existsById(clubId)) {
             throw new EntityNotFoundException("Club non trouvé (ID: " + clubId + ")");
         }
-        return reservationRepository.countByStatusAndEventOrganisateurId(UTILISE, clubId);
     }
 
+    /**
+     * @return {@code [événements actifs, événements actifs des 30 prochains jours]}, en une seule requête.
+     */
+    private long[] countActiveAndUpcomingEvents(Integer clubId) {
+        Instant now = Instant.now();
+        List<Object[]> rows = eventRepository.countActiveAndActiveBetweenByOrganisateurId(clubId, now, now.plus(30, ChronoUnit.DAYS));
+        Object[] row = rows.isEmpty() ? new Object[2] : rows.get(0);
+        return new long[]{
+                row[0] == null ? 0L : ((Number) row[0]).longValue(),
+                row[1] == null ? 0L : ((Number) row[1]).longValue()
+        };
+    }
 
-    // --- Méthodes privées ---
+    /**
+     * @return Les adhésions des 12 derniers mois (mois courant inclus), lues depuis les compteurs mensuels.
+     */
+    private List<Map<String, Object>> computeMonthlyRegistrations(Integer clubId) {
+        log.debug("Calcul des adhésions mensuelles pour clubId: {}", clubId);
+        YearMonth moisCourant = YearMonth.now(ZoneOffset.UTC);
+        return formatMonthlyCounts(monthlyAdhesionService.countByMonth(clubId, moisCourant.minusMonths(11), moisCourant));
+    }
 
-    private List<Map<String, Object>> formatMonthlyResults(List<Object[]> results, Instant startDate, Instant today) {
-        Map<YearMonth, Long> monthlyCounts = new TreeMap<>();
+    private Map<String, Double> computeAverageEventRatings(Integer clubId) {
+        log.debug("Calcul des moyennes de notation pour clubId: {}", clubId);
 
-        ZonedDateTime zdtStartDate = startDate.atZone(ZoneOffset.UTC);
-        ZonedDateTime zdtToday = today.atZone(ZoneOffset.UTC);
+        // Lecture sur clé primaire de l'agrégat maintenu à chaque notation (les notations ne portent que sur des événements terminés).
+        ClubRatingRollup rollup = clubRatingRollupRepository.findById(clubId).orElse(null);
+        if (rollup == null || rollup.getNombreNotations() == 0) {
+            log.debug("Aucune notation d'événement passé trouvée pour clubId {}, retour des moyennes par défaut.", clubId);
+            return defaultRatingMap();
+        }
+
+        double avgAmbiance = rollup.moyenne(rollup.getSommeAmbiance());
+        double avgProprete = rollup.moyenne(rollup.getSommeProprete());
+        double avgOrganisation = rollup.moyenne(rollup.getSommeOrganisation());
+        double avgFairPlay = rollup.moyenne(rollup.getSommeFairPlay());
+        double avgNiveauJoueurs = rollup.moyenne(rollup.getSommeNiveauJoueurs());
+
+        Map<String, Double> averagesMap = new LinkedHashMap<>();
+        averagesMap.put("ambiance", avgAmbiance);
+        averagesMap.put("proprete", avgProprete);
+        averagesMap.put("organisation", avgOrganisation);
+        averagesMap.put("fairPlay", avgFairPlay);
+        averagesMap.put("niveauJoueurs", avgNiveauJoueurs);
+
+        double sum = averagesMap.values().stream().mapToDouble(Double::doubleValue).sum();
+        long count = averagesMap.values().stream().filter(v -> v > 0.0).count();
+        double moyenneGenerale = (count > 0) ? (sum / count) : 0.0;
+        averagesMap.put("moyenneGenerale", moyenneGenerale);
+
+        averagesMap.replaceAll((key, value) -> Math.round(value * 10.0) / 10.0);
+        log.debug("Moyennes calculées pour clubId {}: {}", clubId, averagesMap);
+        return averagesMap;
+    }
 
-        YearMonth startMonth = YearMonth.from(zdtStartDate);
-        YearMonth endMonth = YearMonth.from(zdtToday);
+    private double computeAverageEventOccupancy(Integer clubId) {
+        log.debug("Calcul du taux d'occupation moyen pour clubId: {}", clubId);
 
-        YearMonth current = startMonth;
-        while (!current.isAfter(endMonth)) {
-            monthlyCounts.put(current, 0L);
-            current = current.plusMonths(1);
+        List<ReservationStatus> statusesToCount = List.of(ReservationStatus.CONFIRME, UTILISE, ReservationStatus.ABSENT);
+        List<Object[]> eventStatsList = eventRepository.findEventStatsForOccupancy(clubId, statusesToCount);
+
+        if (eventStatsList.isEmpty()) {
+            return 0.0;
         }
 
-        for (Object[] result : results) {
-            try {
-                if (result != null && result.length >= 3 && result[0] != null && result[1] != null && result[2] != null) {
-                    int year = ((Number) result[0]).intValue();
-                    int month = ((Number) result[1]).intValue();
-                    long count = ((Number) result[2]).longValue();
-                    YearMonth ym = YearMonth.of(year, month);
-                    if (monthlyCounts.containsKey(ym)) {
-                        monthlyCounts.put(ym, count);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Erreur lors du formatage d'un résultat d'adhésion mensuelle: {} - {}",
-                        Arrays.toString(result), e.getMessage(), e);
+        double totalOccupancyPercentageSum = 0;
+        for (Object[] stats : eventStatsList) {
+            long reservedCount = ((Number) stats[1]).longValue();
+            long totalCapacity = ((Number) stats[2]).longValue();
+            if (totalCapacity > 0) {
+                totalOccupancyPercentageSum += ((double) reservedCount / totalCapacity) * 100.0;
             }
         }
 
+        double averageRate = totalOccupancyPercentageSum / eventStatsList.size();
+        return Math.round(averageRate * 10.0) / 10.0;
+    }
+
+    /**
+     * Met en forme les compteurs mensuels pour l'API : une entrée {@code {monthYear: "yyyy-MM", count}} par mois.
+     * Visible dans le package pour les benchmarks.
+     */
+    static List<Map<String, Object>> formatMonthlyCounts(Map<YearMonth, Long> monthlyCounts) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
         return monthlyCounts.entrySet().stream()
                 .map(entry -> {
@@ -113,37 +113,37 @@ VALUES (1, 'Club Omnisports Paris Centre', '2010-01-15', '2024-01-10', '1', 'Pla
         '0102030405', 'contact@csc-metz.fr', 1, NULL, 'CLUB-0002');
 
 -- 3. ADHESIONS (Inchangé - Associe utilisateurs aux clubs, rôles définis dans membre)
-INSERT INTO adhesion (membre_id, club_id, date_adhesion)
-VALUES (1, 1, '2025-04-06 18:26:39'),
-       (2, 1, '2025-04-29 19:22:24'),
-       (3, 1, '2025-02-21 06:31:37'),
-       (4, 1, '2025-01-28 04:08:56'),
-       (5, 1, '2025-04-27 14:46:49'),
-       (6, 1, '2025-04-20 01:05:05'),
-       (7, 1, '2025-01-09 03:41:54'),
-       (8, 1, '2025-01-07 20:44:07'),
-       (9, 1, '2025-02-16 03:08:09'),
-       (10, 1, '2025-04-20 07:41:01'),
-       (11, 1, '2025-01-30 12:28:45'),
-       (12, 1, '2025-03-17 15:29:45'),
-       (13, 1, '2025-04-28 08:44:12'),
-       (14, 1, '2025-03-10 00:11:51'),
-       (15, 1, '2025-02-20 00:57:17'),
-       (16, 1, '2025-03-28 17:26:15'),
-       (17, 1, '2025-01-20 13:36:17'),
-       (18, 1, '2025-03-05 00:30:20'),
-       (19, 1, '2025-04-05 11:14:09'),
-       (20, 1, '2025-02-24 01:47:06'),
-       (21, 1, '2025-04-27 18:56:26'),
-       (22, 1, '2025-01-21 09:32:33'),
-       (23, 1, '2025-02-15 13:15:59'),
-       (24, 1, '2025-03-19 13:22:41'),
-       (25, 1, '2025-03-27 22:34:13'),
-       (26, 1, '2025-01-27 11:11:35'),
-       (27, 1, '2025-04-10 13:14:44'),
-       (28, 1, '2025-03-31 01:28:48'),
-       (29, 1, '2025-02-06 02:33:17'),
-       (30, 1, '2025-03-20 06:47:32');
+INSERT INTO adhesion (id, membre_id, club_id, date_adhesion)
+VALUES (1, 1, 1, '2025-04-06 18:26:39'),
+       (2, 2, 1, '2025-04-29 19:22:24'),
+       (3, 3, 1, '2025-02-21 06:31:37'),
+       (4, 4, 1, '2025-01-28 04:08:56'),
+       (5, 5, 1, '2025-04-27 14:46:49'),
+       (6, 6, 1, '2025-04-20 01:05:05'),
+       (7, 7, 1, '2025-01-09 03:41:54'),
+       (8, 8, 1, '2025-01-07 20:44:07'),
+       (9, 9, 1, '2025-02-16 03:08:09'),
+       (10, 10, 1, '2025-04-20 07:41:01'),
+       (11, 11, 1, '2025-01-30 12:28:45'),
+       (12, 12, 1, '2025-03-17 15:29:45'),
+       (13, 13, 1, '2025-04-28 08:44:12'),
+       (14, 14, 1, '2025-03-10 00:11:51'),
+       (15, 15, 1, '2025-02-20 00:57:17'),
+       (16, 16, 1, '2025-03-28 17:26:15'),
+       (17, 17, 1, '2025-01-20 13:36:17'),
+       (18, 18, 1, '2025-03-05 00:30:20'),
+       (19, 19, 1, '2025-04-05 11:14:09'),
+       (20, 20, 1, '2025-02-24 01:47:06'),
+       (21, 21, 1, '2025-04-27 18:56:26'),
+       (22, 22, 1, '2025-01-21 09:32:33'),
+       (23, 23, 1, '2025-02-15 13:15:59'),
+       (24, 24, 1, '2025-03-19 13:22:41'),
+       (25, 25, 1, '2025-03-27 22:34:13'),
+       (26, 26, 1, '2025-01-27 11:11:35'),
+       (27, 27, 1, '2025-04-10 13:14:44'),
+       (28, 28, 1, '2025-03-31 01:28:48'),
+       (29, 29, 1, '2025-02-06 02:33:17'),
+       (30, 30, 1, '2025-03-20 06:47:32');
 -- Karim -> Club 1
 
 -- 4. EVENTS (Dates Event 4 ajustées pour être en cours au 20 Avril)
@@ -305,36 +305,36 @@ VALUES
     (45, 14, 'Dégustation Cuisine', 12);
 
 -- 6. RESERVATIONS (NETTOYÉES : Uniquement MEMBREs)
-INSERT INTO reservations (membre_id, event_id, categorie_id, date_reservation, reservation_uuid, status)
+INSERT INTO reservations (id, membre_id, event_id, categorie_id, date_reservation, reservation_uuid, status)
 VALUES -- Réservations pour MEMBREs uniquement
        -- Insérez ces lignes après votre `INSERT INTO reservations (...) VALUES`
-       (4, 1, 1, '2025-02-01 09:00:00', UUID(), 'UTILISE'),     -- Membre 4 @ Event 1 (Passé) / Cat 1
-       (3, 1, 1, '2025-02-01 09:00:00', UUID(), 'UTILISE'),     -- Membre 4 @ Event 1 (Passé) / Cat 1
-       (5, 2, 4, '2025-03-10 10:30:00', UUID(), 'UTILISE'),     -- Membre 5 @ Event 2 (Passé) / Cat 4
-       (3, 2, 4, '2025-03-10 10:30:00', UUID(), 'UTILISE'),     -- Membre 5 @ Event 2 (Passé) / Cat 4
-       (6, 3, 6, '2025-05-15 11:00:00', UUID(), 'CONFIRME'),    -- Membre 6 @ Event 3 (Futur) / Cat 6
-       (7, 4, 8, '2025-04-18 14:00:00', UUID(), 'UTILISE'),     -- Membre 7 @ Event 4 (Passé récent) / Cat 8
-       (8, 7, 13, '2025-02-20 15:00:00', UUID(), 'UTILISE'),    -- Membre 8 @ Event 7 (Passé) / Cat 13
-       (9, 9, 15, '2025-05-20 16:00:00', UUID(), 'CONFIRME'),   -- Membre 9 @ Event 9 (Futur) / Cat 15 (joueur A)
-       (10, 9, 16, '2025-05-21 17:00:00', UUID(), 'CONFIRME'),  -- Membre 10 @ Event 9 (Futur) / Cat 16 (joueur B)
-       (11, 10, 18, '2025-04-05 09:30:00', UUID(), 'UTILISE'),  -- Membre 11 @ Event 10 (Passé) / Cat 18
-       (12, 11, 19, '2025-04-30 10:00:00', UUID(), 'CONFIRME'), -- Membre 12 @ Event 11 (Futur) / Cat 19
-       (13, 12, 20, '2025-07-01 11:00:00', UUID(), 'CONFIRME'), -- Membre 13 @ Event 12 (Futur) / Cat 20
-       (14, 13, 21, '2025-03-25 18:00:00', UUID(), 'UTILISE'),  -- Membre 14 @ Event 13 (Passé) / Cat 21
-       (15, 14, 22, '2025-09-01 12:00:00', UUID(), 'CONFIRME'), -- Membre 15 @ Event 14 (Futur) / Cat 22
-       (16, 15, 23, '2025-06-10 13:00:00', UUID(), 'CONFIRME'), -- Membre 16 @ Event 15 (Futur) / Cat 23
-       (17, 16, 24, '2025-02-15 14:00:00', UUID(), 'UTILISE'),  -- Membre 17 @ Event 16 (Passé) / Cat 24
-       (18, 17, 26, '2025-04-20 15:00:00', UUID(), 'CONFIRME'), -- Membre 18 @ Event 17 (Futur) / Cat 26
-       (19, 19, 28, '2025-05-05 16:00:00', UUID(), 'ANNULE'),   -- Membre 19 @ Event 19 (Futur, inactif) / Cat 28 - Annulé
-       (20, 20, 30, '2025-03-01 17:00:00', UUID(), 'UTILISE'),  -- Membre 20 @ Event 20 (Passé) / Cat 30
-       (23, 23, 34, '2025-08-15 11:00:00', UUID(), 'CONFIRME'), -- Membre 23 @ Event 23 (Futur) / Cat 34
-       (24, 24, 35, '2025-09-05 12:00:00', UUID(), 'CONFIRME'), -- Membre 24 @ Event 24 (Futur) / Cat 35
-       (25, 25, 36, '2025-10-01 13:00:00', UUID(), 'CONFIRME'), -- Membre 25 @ Event 25 (Futur) / Cat 36
-       (26, 26, 37, '2025-11-10 14:00:00', UUID(), 'CONFIRME'), -- Membre 26 @ Event 26 (Futur) / Cat 37
-       (27, 27, 39, '2025-11-20 15:00:00', UUID(), 'CONFIRME'), -- Membre 27 @ Event 27 (Futur) / Cat 39
-       (28, 28, 40, '2025-12-01 16:00:00', UUID(), 'CONFIRME'), -- Membre 28 @ Event 28 (Futur) / Cat 40
-       (29, 29, 41, '2025-12-10 17:00:00', UUID(), 'CONFIRME'), -- Membre 29 @ Event 29 (Futur) / Cat 41
-       (30, 30, 43, '2025-12-15 18:00:00', UUID(), 'CONFIRME');
+       (1, 4, 1, 1, '2025-02-01 09:00:00', UUID(), 'UTILISE'),     -- Membre 4 @ Event 1 (Passé) / Cat 1
+       (2, 3, 1, 1, '2025-02-01 09:00:00', UUID(), 'UTILISE'),     -- Membre 4 @ Event 1 (Passé) / Cat 1
+       (3, 5, 2, 4, '2025-03-10 10:30:00', UUID(), 'UTILISE'),     -- Membre 5 @ Event 2 (Passé) / Cat 4
+       (4, 3, 2, 4, '2025-03-10 10:30:00', UUID(), 'UTILISE'),     -- Membre 5 @ Event 2 (Passé) / Cat 4
+       (5, 6, 3, 6, '2025-05-15 11:00:00', UUID(), 'CONFIRME'),    -- Membre 6 @ Event 3 (Futur) / Cat 6
+       (6, 7, 4, 8, '2025-04-18 14:00:00', UUID(), 'UTILISE'),     -- Membre 7 @ Event 4 (Passé récent) / Cat 8
+       (7, 8, 7, 13, '2025-02-20 15:00:00', UUID(), 'UTILISE'),    -- Membre 8 @ Event 7 (Passé) / Cat 13
+       (8, 9, 9, 15, '2025-05-20 16:00:00', UUID(), 'CONFIRME'),   -- Membre 9 @ Event 9 (Futur) / Cat 15 (joueur A)
+       (9, 10, 9, 16, '2025-05-21 17:00:00', UUID(), 'CONFIRME'),  -- Membre 10 @ Event 9 (Futur) / Cat 16 (joueur B)
+       (10, 11, 10, 18, '2025-04-05 09:30:00', UUID(), 'UTILISE'),  -- Membre 11 @ Event 10 (Passé) / Cat 18
+       (11, 12, 11, 19, '2025-04-30 10:00:00', UUID(), 'CONFIRME'), -- Membre 12 @ Event 11 (Futur) / Cat 19
+       (12, 13, 12, 20, '2025-07-01 11:00:00', UUID(), 'CONFIRME'), -- Membre 13 @ Event 12 (Futur) / Cat 20
+       (13, 14, 13, 21, '2025-03-25 18:00:00', UUID(), 'UTILISE'),  -- Membre 14 @ Event 13 (Passé) / Cat 21
+       (14, 15, 14, 22, '2025-09-01 12:00:00', UUID(), 'CONFIRME'), -- Membre 15 @ Event 14 (Futur) / Cat 22
+       (15, 16, 15, 23, '2025-06-10 13:00:00', UUID(), 'CONFIRME'), -- Membre 16 @ Event 15 (Futur) / Cat 23
+       (16, 17, 16, 24, '2025-02-15 14:00:00', UUID(), 'UTILISE'),  -- Membre 17 @ Event 16 (Passé) / Cat 24
+       (17, 18, 17, 26, '2025-04-20 15:00:00', UUID(), 'CONFIRME'), -- Membre 18 @ Event 17 (Futur) / Cat 26
+       (18, 19, 19, 28, '2025-05-05 16:00:00', UUID(), 'ANNULE'),   -- Membre 19 @ Event 19 (Futur, inactif) / Cat 28 - Annulé
+       (19, 20, 20, 30, '2025-03-01 17:00:00', UUID(), 'UTILISE'),  -- Membre 20 @ Event 20 (Passé) / Cat 30
+       (20, 23, 23, 34, '2025-08-15 11:00:00', UUID(), 'CONFIRME'), -- Membre 23 @ Event 23 (Futur) / Cat 34
+       (21, 24, 24, 35, '2025-09-05 12:00:00', UUID(), 'CONFIRME'), -- Membre 24 @ Event 24 (Futur) / Cat 35
+       (22, 25, 25, 36, '2025-10-01 13:00:00', UUID(), 'CONFIRME'), -- Membre 25 @ Event 25 (Futur) / Cat 36
+       (23, 26, 26, 37, '2025-11-10 14:00:00', UUID(), 'CONFIRME'), -- Membre 26 @ Event 26 (Futur) / Cat 37
+       (24, 27, 27, 39, '2025-11-20 15:00:00', UUID(), 'CONFIRME'), -- Membre 27 @ Event 27 (Futur) / Cat 39
+       (25, 28, 28, 40, '2025-12-01 16:00:00', UUID(), 'CONFIRME'), -- Membre 28 @ Event 28 (Futur) / Cat 40
+       (26, 29, 29, 41, '2025-12-10 17:00:00', UUID(), 'CONFIRME'), -- Membre 29 @ Event 29 (Futur) / Cat 41
+       (27, 30, 30, 43, '2025-12-15 18:00:00', UUID(), 'CONFIRME');
 -- Membre 30 @ Event 30 (Futur) / Cat 43
 
 -- Hélène @ Apéro
@@ -342,79 +342,79 @@ VALUES -- Réservations pour MEMBREs uniquement
 -- Eva @ Escalade (Cat 5, Capa 2)
 
 -- 7. DEMANDES D'AMIS (NETTOYÉES : Uniquement entre MEMBREs)
-INSERT INTO demande_ami (envoyeur_id, recepteur_id, statut, date_demande)
+INSERT INTO demande_ami (id, envoyeur_id, recepteur_id, statut, date_demande)
 VALUES -- Interactions entre MEMBREs uniquement
        -- Ajoutez ces lignes après vos `VALUES` existants pour la table `demande_ami`
 
        -- Demandes impliquant Bob (ID 3)
-       (3, 5, 'ATTENTE', '2025-04-28 10:00:00'),   -- Bob (3) redemande Eva (5) (précédente refusée)
-       (3, 6, 'ATTENTE', '2025-04-29 11:00:00'),   -- Bob (3) demande Ethelda (6)
-       (3, 7, 'ATTENTE', '2025-04-30 12:00:00'),   -- Bob (3) demande Arnoldo (7)
-       (3, 8, 'ACCEPTE', '2025-04-15 09:00:00'),   -- Bob (3) avait demandé Goran (8) (Accepté)
-       (3, 9, 'REFUSE', '2025-04-16 10:00:00'),    -- Bob (3) avait demandé Christoph (9) (Refusé)
-       (3, 10, 'ACCEPTE', '2025-04-17 11:00:00'),  -- Bob (3) avait demandé Perceval (10) (Accepté)
+       (1, 3, 5, 'ATTENTE', '2025-04-28 10:00:00'),   -- Bob (3) redemande Eva (5) (précédente refusée)
+       (2, 3, 6, 'ATTENTE', '2025-04-29 11:00:00'),   -- Bob (3) demande Ethelda (6)
+       (3, 3, 7, 'ATTENTE', '2025-04-30 12:00:00'),   -- Bob (3) demande Arnoldo (7)
+       (4, 3, 8, 'ACCEPTE', '2025-04-15 09:00:00'),   -- Bob (3) avait demandé Goran (8) (Accepté)
+       (5, 3, 9, 'REFUSE', '2025-04-16 10:00:00'),    -- Bob (3) avait demandé Christoph (9) (Refusé)
+       (6, 3, 10, 'ACCEPTE', '2025-04-17 11:00:00'),  -- Bob (3) avait demandé Perceval (10) (Accepté)
        -- Note: (3, 11, ...) est déjà dans votre liste en ATTENTE, on peut le laisser ou le modifier plus tard
-       (3, 12, 'ATTENTE', '2025-05-01 08:00:00'),  -- Bob (3) demande Lorene (12)
-       (3, 14, 'ATTENTE', '2025-05-01 09:00:00'),  -- Bob (3) demande Winslow (14)
-       (3, 16, 'ATTENTE', '2025-05-01 10:00:00'),  -- Bob (3) demande Jillene (16)
-       (3, 20, 'ATTENTE', '2025-05-01 11:00:00'),  -- Bob (3) demande Rafaello (20)
-       (3, 25, 'ATTENTE', '2025-05-01 12:00:00'),  -- Bob (3) demande Lisa (25)
-       (18, 3, 'ATTENTE', '2025-05-02 09:00:00'),  -- Mortimer (18) demande Bob (3)
-       (21, 3, 'ACCEPTE', '2025-04-20 10:00:00'),  -- Bron (21) avait demandé Bob (3) (Accepté)
-       (28, 3, 'ATTENTE', '2025-05-02 11:00:00'),  -- Vincent (28) demande Bob (3)
-       (30, 3, 'REFUSE', '2025-04-22 13:00:00'),   -- Tomasine (30) avait demandé Bob (3) (Refusé)
+       (7, 3, 12, 'ATTENTE', '2025-05-01 08:00:00'),  -- Bob (3) demande Lorene (12)
+       (8, 3, 14, 'ATTENTE', '2025-05-01 09:00:00'),  -- Bob (3) demande Winslow (14)
+       (9, 3, 16, 'ATTENTE', '2025-05-01 10:00:00'),  -- Bob (3) demande Jillene (16)
+       (10, 3, 20, 'ATTENTE', '2025-05-01 11:00:00'),  -- Bob (3) demande Rafaello (20)
+       (11, 3, 25, 'ATTENTE', '2025-05-01 12:00:00'),  -- Bob (3) demande Lisa (25)
+       (12, 18, 3, 'ATTENTE', '2025-05-02 09:00:00'),  -- Mortimer (18) demande Bob (3)
+       (13, 21, 3, 'ACCEPTE', '2025-04-20 10:00:00'),  -- Bron (21) avait demandé Bob (3) (Accepté)
+       (14, 28, 3, 'ATTENTE', '2025-05-02 11:00:00'),  -- Vincent (28) demande Bob (3)
+       (15, 30, 3, 'REFUSE', '2025-04-22 13:00:00'),   -- Tomasine (30) avait demandé Bob (3) (Refusé)
 
        -- Autres demandes variées (IDs 4-30)
-       (4, 6, 'ACCEPTE', '2025-03-20 10:00:00'),   -- David (4) et Ethelda (6) sont amis
-       (4, 7, 'ATTENTE', '2025-04-30 14:00:00'),   -- David (4) demande Arnoldo (7)
-       (5, 6, 'REFUSE', '2025-04-01 09:00:00'),    -- Eva (5) a refusé Ethelda (6)
-       (5, 8, 'ATTENTE', '2025-05-01 13:00:00'),   -- Eva (5) demande Goran (8)
-       (6, 9, 'ATTENTE', '2025-04-28 15:00:00'),   -- Ethelda (6) demande Christoph (9)
-       (7, 10, 'ACCEPTE', '2025-04-05 16:00:00'),  -- Arnoldo (7) et Perceval (10) sont amis
-       (8, 11, 'ATTENTE', '2025-04-29 17:00:00'),  -- Goran (8) demande Maryl (11)
-       (9, 12, 'REFUSE', '2025-04-11 18:00:00'),   -- Christoph (9) a refusé Lorene (12)
-       (10, 13, 'ATTENTE', '2025-04-30 19:00:00'), -- Perceval (10) demande Lilias (13)
-       (11, 14, 'ACCEPTE', '2025-04-15 20:00:00'), -- Maryl (11) et Winslow (14) sont amis
-       (12, 15, 'ATTENTE', '2025-05-01 21:00:00'), -- Lorene (12) demande Mary (15)
-       (13, 16, 'REFUSE', '2025-04-18 08:00:00'),  -- Lilias (13) a refusé Jillene (16)
-       (14, 17, 'ATTENTE', '2025-05-02 09:30:00'), -- Winslow (14) demande Kara (17)
-       (15, 18, 'ACCEPTE', '2025-04-22 10:30:00'), -- Mary (15) et Mortimer (18) sont amis
-       (16, 19, 'ATTENTE', '2025-05-02 11:30:00'), -- Jillene (16) demande Dagmar (19)
-       (17, 20, 'REFUSE', '2025-04-25 12:30:00'),  -- Kara (17) a refusé Rafaello (20)
-       (19, 21, 'ATTENTE', '2025-05-02 13:30:00'), -- Dagmar (19) demande Bron (21)
-       (20, 22, 'ACCEPTE', '2025-04-28 14:30:00'), -- Rafaello (20) et Codee (22) sont amis
-       (22, 23, 'ATTENTE', '2025-05-02 15:30:00'), -- Codee (22) demande Tandie (23)
-       (23, 24, 'REFUSE', '2025-04-30 16:30:00'),  -- Tandie (23) a refusé Herminia (24)
-       (24, 25, 'ATTENTE', '2025-05-02 17:30:00'), -- Herminia (24) demande Lisa (25)
-       (25, 26, 'ACCEPTE', '2025-05-01 18:30:00'), -- Lisa (25) et Skye (26) sont amis
-       (26, 27, 'ATTENTE', '2025-05-02 19:30:00'), -- Skye (26) demande Chalmers (27)
-       (27, 29, 'REFUSE', '2025-05-01 20:30:00'),  -- Chalmers (27) a refusé Aidan (29)
-       (29, 30, 'ATTENTE', '2025-05-02 21:30:00');
+       (16, 4, 6, 'ACCEPTE', '2025-03-20 10:00:00'),   -- David (4) et Ethelda (6) sont amis
+       (17, 4, 7, 'ATTENTE', '2025-04-30 14:00:00'),   -- David (4) demande Arnoldo (7)
+       (18, 5, 6, 'REFUSE', '2025-04-01 09:00:00'),    -- Eva (5) a refusé Ethelda (6)
+       (19, 5, 8, 'ATTENTE', '2025-05-01 13:00:00'),   -- Eva (5) demande Goran (8)
+       (20, 6, 9, 'ATTENTE', '2025-04-28 15:00:00'),   -- Ethelda (6) demande Christoph (9)
+       (21, 7, 10, 'ACCEPTE', '2025-04-05 16:00:00'),  -- Arnoldo (7) et Perceval (10) sont amis
+       (22, 8, 11, 'ATTENTE', '2025-04-29 17:00:00'),  -- Goran (8) demande Maryl (11)
+       (23, 9, 12, 'REFUSE', '2025-04-11 18:00:00'),   -- Christoph (9) a refusé Lorene (12)
+       (24, 10, 13, 'ATTENTE', '2025-04-30 19:00:00'), -- Perceval (10) demande Lilias (13)
+       (25, 11, 14, 'ACCEPTE', '2025-04-15 20:00:00'), -- Maryl (11) et Winslow (14) sont amis
+       (26, 12, 15, 'ATTENTE', '2025-05-01 21:00:00'), -- Lorene (12) demande Mary (15)
+       (27, 13, 16, 'REFUSE', '2025-04-18 08:00:00'),  -- Lilias (13) a refusé Jillene (16)
+       (28, 14, 17, 'ATTENTE', '2025-05-02 09:30:00'), -- Winslow (14) demande Kara (17)
+       (29, 15, 18, 'ACCEPTE', '2025-04-22 10:30:00'), -- Mary (15) et Mortimer (18) sont amis
+       (30, 16, 19, 'ATTENTE', '2025-05-02 11:30:00'), -- Jillene (16) demande Dagmar (19)
+       (31, 17, 20, 'REFUSE', '2025-04-25 12:30:00'),  -- Kara (17) a refusé Rafaello (20)
+       (32, 19, 21, 'ATTENTE', '2025-05-02 13:30:00'), -- Dagmar (19) demande Bron (21)
+       (33, 20, 22, 'ACCEPTE', '2025-04-28 14:30:00'), -- Rafaello (20) et Codee (22) sont amis
+       (34, 22, 23, 'ATTENTE', '2025-05-02 15:30:00'), -- Codee (22) demande Tandie (23)
+       (35, 23, 24, 'REFUSE', '2025-04-30 16:30:00'),  -- Tandie (23) a refusé Herminia (24)
+       (36, 24, 25, 'ATTENTE', '2025-05-02 17:30:00'), -- Herminia (24) demande Lisa (25)
+       (37, 25, 26, 'ACCEPTE', '2025-05-01 18:30:00'), -- Lisa (25) et Skye (26) sont amis
+       (38, 26, 27, 'ATTENTE', '2025-05-02 19:30:00'), -- Skye (26) demande Chalmers (27)
+       (39, 27, 29, 'REFUSE', '2025-05-01 20:30:00'),  -- Chalmers (27) a refusé Aidan (29)
+       (40, 29, 30, 'ATTENTE', '2025-05-02 21:30:00');
 -- Aidan (29) demande Tomasine (30)
 
 -- Eva (5) demande Isabelle (13) (Club 1 ou 2, ici Club 1 commun)
 -- Helene (9) a demandé Testeur (10)
 
 -- 8. NOTATIONS (Inchangé pour l'instant - Supposant que tous peuvent noter les events auxquels ils ont participé)
-INSERT INTO notations (event_id, membre_id, ambiance, proprete, organisation, fair_play, niveau_joueurs, date_notation)
-VALUES (1, 1, 5, 4, 5, 5, 4, '2025-02-16 10:00:00'),   -- Alice (ADMIN) note Event 1
-       (2, 1, 5, 5, 4, 5, 3, '2025-03-21 10:00:00'),   -- Alice (ADMIN) note Event 2
-       (7, 5, 5, 4, 4, 5, 4, '2025-03-02 09:00:00'),   -- Eva (MEMBRE) note Event 7
-       (7, 6, 4, 5, 5, 4, 3, '2025-03-02 10:00:00'),
+INSERT INTO notations (id, event_id, membre_id, ambiance, proprete, organisation, fair_play, niveau_joueurs, date_notation)
+VALUES (1, 1, 1, 5, 4, 5, 5, 4, '2025-02-16 10:00:00'),   -- Alice (ADMIN) note Event 1
+       (2, 2, 1, 5, 5, 4, 5, 3, '2025-03-21 10:00:00'),   -- Alice (ADMIN) note Event 2
+       (3, 7, 5, 5, 4, 4, 5, 4, '2025-03-02 09:00:00'),   -- Eva (MEMBRE) note Event 7
+       (4, 7, 6, 4, 5, 5, 4, 3, '2025-03-02 10:00:00'),
        -- Nouvelles notations par des MEMBRES pour des événements PASSÉS (1, 2, 10, 13)
-       (1, 4, 5, 4, 5, 5, 4, '2025-02-17 09:00:00'),   -- David (MEMBRE) note Event 1 (Badminton)
-       (10, 13, 3, 5, 4, 5, 2, '2025-04-13 10:00:00'), -- Isabelle (MEMBRE) note Event 10 (Nettoyage)
-       (10, 15, 4, 5, 5, 5, 1, '2025-04-13 11:00:00'), -- Karim (MEMBRE) note Event 10 (Nettoyage)
-       (13, 12, 4, 3, 3, 4, 2, '2025-04-02 11:00:00'),
+       (5, 1, 4, 5, 4, 5, 5, 4, '2025-02-17 09:00:00'),   -- David (MEMBRE) note Event 1 (Badminton)
+       (6, 10, 13, 3, 5, 4, 5, 2, '2025-04-13 10:00:00'), -- Isabelle (MEMBRE) note Event 10 (Nettoyage)
+       (7, 10, 15, 4, 5, 5, 5, 1, '2025-04-13 11:00:00'), -- Karim (MEMBRE) note Event 10 (Nettoyage)
+       (8, 13, 12, 4, 3, 3, 4, 2, '2025-04-02 11:00:00'),
        -- Ajoutez ces lignes après vos `VALUES` existants pour la table `notations`
 
-       (16, 17, 4, 5, 4, 5, 3, '2025-02-23 09:00:00'), -- Membre 17 note Event 16 (Tournoi Volley passé)
-       (20, 20, 5, 4, 5, 4, 4, '2025-03-08 10:00:00'), -- Membre 20 note Event 20 (Soirée Jeux passée)
-       (2, 4, 4, 3, 4, 5, 3, '2025-03-21 12:00:00'),   -- David (4) note aussi Event 2 (Soirée Mars passée)
-       (1, 5, 5, 5, 4, 5, 4, '2025-02-16 11:00:00'),   -- Eva (5) note Event 1 (Badminton passé)
-       (10, 12, 4, 5, 4, 5, 2, '2025-04-13 12:00:00'), -- Hélène (12) note aussi Event 10 (Nettoyage passé)
-       (1, 6, 4, 4, 5, 4, 4, '2025-02-17 10:00:00'),   -- Ethelda (6) note Event 1
-       (13, 5, 5, 3, 4, 5, 3, '2025-04-02 12:00:00');
+       (9, 16, 17, 4, 5, 4, 5, 3, '2025-02-23 09:00:00'), -- Membre 17 note Event 16 (Tournoi Volley passé)
+       (10, 20, 20, 5, 4, 5, 4, 4, '2025-03-08 10:00:00'), -- Membre 20 note Event 20 (Soirée Jeux passée)
+       (11, 2, 4, 4, 3, 4, 5, 3, '2025-03-21 12:00:00'),   -- David (4) note aussi Event 2 (Soirée Mars passée)
+       (12, 1, 5, 5, 5, 4, 5, 4, '2025-02-16 11:00:00'),   -- Eva (5) note Event 1 (Badminton passé)
+       (13, 10, 12, 4, 5, 4, 5, 2, '2025-04-13 12:00:00'), -- Hélène (12) note aussi Event 10 (Nettoyage passé)
+       (14, 1, 6, 4, 4, 5, 4, 4, '2025-02-17 10:00:00'),   -- Ethelda (6) note Event 1
+       (15, 13, 5, 5, 3, 4, 5, 3, '2025-04-02 12:00:00');
 -- Eva (5) note aussi Event 13 (Apéro passé)
 
 -- Hélène (MEMBRE) note Event 13 (Apéro)
@@ -423,3 +423,46 @@ VALUES (1, 1, 5, 4, 5, 5, 4, '2025-02-16 10:00:00'),   -- Alice (ADMIN) note Eve
 -- ============================================================
 -- == FIN DES DONNÉES DE TEST (NETTOYÉES ET COHÉRENTES)      ==
 -- ============================================================
+
+-- Initialisation du compteur de places réservées (statut CONFIRME) de chaque catégorie
+UPDATE categories c
+SET places_reservees = (SELECT COUNT(*) FROM reservations r WHERE r.categorie_id = c.id AND r.status = 'CONFIRME');
+
+-- Initialisation des totaux de places dénormalisés de chaque événement
+UPDATE events e
+SET place_total      = (SELECT COALESCE(SUM(c.capacite), 0) FROM categories c WHERE c.event_id = e.id),
+    places_reservees = (SELECT COALESCE(SUM(c.places_reservees), 0) FROM categories c WHERE c.event_id = e.id);
+
+-- Initialisation des agrégats de notations (par événement, puis par club sur les événements actifs)
+INSERT INTO event_rating_rollups (event_id, club_id, somme_ambiance, somme_proprete, somme_organisation, somme_fair_play, somme_niveau_joueurs, nombre_notations)
+SELECT e.id, e.organisateur_id, SUM(n.ambiance), SUM(n.proprete), SUM(n.organisation), SUM(n.fair_play), SUM(n.niveau_joueurs), COUNT(*)
+FROM notations n JOIN events e ON e.id = n.event_id
+GROUP BY e.id, e.organisateur_id;
+
+INSERT INTO club_rating_rollups (club_id, somme_ambiance, somme_proprete, somme_organisation, somme_fair_play, somme_niveau_joueurs, nombre_notations)
+SELECT e.organisateur_id, SUM(n.ambiance), SUM(n.proprete), SUM(n.organisation), SUM(n.fair_play), SUM(n.niveau_joueurs), COUNT(*)
+FROM notations n JOIN events e ON e.id = n.event_id
+WHERE e.actif = true
+GROUP BY e.organisateur_id;
+
+-- Initialisation des compteurs mensuels d'adhésions (mois au format AAAAMM)
+INSERT INTO club_monthly_adhesions (club_id, annee_mois, nombre_adhesions)
+SELECT a.club_id, YEAR(a.date_adhesion) * 100 + MONTH(a.date_adhesion), COUNT(*)
+FROM adhesion a
+GROUP BY a.club_id, YEAR(a.date_adhesion) * 100 + MONTH(a.date_adhesion);
+
+-- Initialisation de l'index de participation aux événements (réservations non annulées)
+INSERT INTO event_participations (event_id, membre_id, nombre_reservations)
+SELECT r.event_id, r.membre_id, COUNT(*)
+FROM reservations r
+WHERE r.status <> 'ANNULE'
+GROUP BY r.event_id, r.membre_id;
+
+-- Initialisation des générateurs d'identifiants (blocs de 50, optimiseur pooled) au-delà des IDs insérés ci-dessus
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM events) WHERE sequence_name = 'events';
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM categories) WHERE sequence_name = 'categories';
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM reservations) WHERE sequence_name = 'reservations';
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM adhesion) WHERE sequence_name = 'adhesion';
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM notations) WHERE sequence_name = 'notations';
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM demande_ami) WHERE sequence_name = 'demande_ami';
+UPDATE id_generateurs SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM email_outbox) WHERE sequence_name = 'email_outbox';
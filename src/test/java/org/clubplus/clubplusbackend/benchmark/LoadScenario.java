@@ -0,0 +1,338 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.clubplus.clubplusbackend.ClubPlusBackEndApplication;
+import org.clubplus.clubplusbackend.benchmark.SyntheticDatasetGenerator.ClubCharge;
+import org.clubplus.clubplusbackend.benchmark.SyntheticDatasetGenerator.EvenementCharge;
+import org.clubplus.clubplusbackend.benchmark.SyntheticDatasetGenerator.Jeu;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Scénario de charge reproductible sur les parcours principaux de l'API, avec un jeu de données synthétique
+ * ({@link SyntheticDatasetGenerator}).
+ * <p>
+ * Chaque client virtuel est un membre d'un club (répartition circulaire entre les clubs) qui enchaîne :
+ * <ol>
+ * <li>{@code POST /auth/connexion} : au démarrage, puis toutes les {@code connexion-toutes-les} itérations ;</li>
+ * <li>{@code GET /events/my-clubs/upcoming} ;</li>
+ * <li>{@code POST /reservations} sur une catégorie tirée au hasard d'un événement à venir du club ;</li>
+ * <li>{@code PUT /reservations/{id}/cancel} de cette réservation (le jeu reste stable d'une exécution à l'autre) ;</li>
+ * <li>{@code PATCH /reservations/uuid/{uuid}/use} par le gestionnaire du club, tant qu'il reste des billets de
+ * l'événement en cours à scanner ;</li>
+ * <li>{@code GET /stats/clubs/{clubId}/dashboard-summary} par le gestionnaire du club.</li>
+ * </ol>
+ * Après une chauffe non mesurée, le débit, les erreurs (HTTP 4xx/5xx et échecs réseau) et les latences p50/p99 sont
+ * affichés par endpoint et écrits en JSON dans {@code resultat} ({@code <sortie>/resultat.json} par défaut).
+ * <p>
+ * Deux cibles :
+ * <ul>
+ * <li>sans {@code --url} : le jeu est généré dans {@code sortie}, puis l'application est démarrée dans ce processus
+ * sur une base H2 en mémoire avec le profil {@code loadtest} ; les options de {@link SyntheticDatasetGenerator}
+ * s'appliquent ;</li>
+ * <li>avec {@code --url} (ex. MySQL local via docker-compose) : l'instance doit avoir été démarrée avec le profil
+ * {@code loadtest} sur le jeu écrit dans {@code sortie} ({@code LOADTEST_DATASET}), dont le manifeste est relu.</li>
+ * </ul>
+ * Les réservations et annulations ne se compensent que si chaque membre n'est utilisé que par un client : au-delà de
+ * {@code clubs × membres} clients, des réservations peuvent être refusées (limite par membre et par événement).
+ * <p>
+ * Lancement : {@code mvn test-compile} puis exécuter {@link #main(String[])} avec le classpath de test, par exemple
+ * {@code --concurrence=100 --duree=60 --clubs=50 --membres=400}. Options : {@code --url}, {@code --sortie}
+ * ({@code target/loadtest} par défaut), {@code --concurrence}, {@code --duree} et {@code --chauffe} en secondes,
+ * {@code --connexion-toutes-les}, {@code --resultat}.
+ */
+public class LoadScenario {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final String CONNEXION = "POST /auth/connexion";
+    private static final String EVENEMENTS = "GET /events/my-clubs/upcoming";
+    private static final String RESERVATION = "POST /reservations";
+    private static final String ANNULATION = "PUT /reservations/{id}/cancel";
+    private static final String SCAN = "PATCH /reservations/uuid/{uuid}/use";
+    private static final String TABLEAU_DE_BORD = "GET /stats/clubs/{clubId}/dashboard-summary";
+
+    /**
+     * Attente après un premier échec de connexion d'un client, doublée à chaque échec consécutif.
+     */
+    private static final long ATTENTE_CONNEXION_MS = 100;
+
+    /**
+     * Nombre d'échecs de connexion consécutifs au-delà duquel un client s'arrête.
+     */
+    private static final int ECHECS_CONNEXION_MAX = 5;
+
+    /**
+     * Résultat d'un endpoint sur la période mesurée.
+     */
+    record Resultat(String endpoint, long requetes, long erreurs, double debit, double p50Ms, double p99Ms) {
+    }
+
+    /**
+     * Latences (en microsecondes) et erreurs d'un endpoint, pour un client puis fusionnées.
+     */
+    private static final class Echantillons {
+        private long[] latences = new long[256];
+        private int taille;
+        private long erreurs;
+
+        private void ajouter(long latenceMicros) {
+            if (taille == latences.length) {
+                latences = Arrays.copyOf(latences, taille * 2);
+            }
+            latences[taille++] = latenceMicros;
+        }
+
+        private void fusionner(Echantillons autres) {
+            for (int i = 0; i < autres.taille; i++) {
+                ajouter(autres.latences[i]);
+            }
+            erreurs += autres.erreurs;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = VirtualThreadsLoadTest.parse(args);
+        Path sortie = Path.of(options.getOrDefault("sortie", "target/loadtest"));
+        int concurrence = Integer.parseInt(options.getOrDefault("concurrence", "50"));
+        Duration duree = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duree", "60")));
+        Duration chauffe = Duration.ofSeconds(Long.parseLong(options.getOrDefault("chauffe", "10")));
+        int connexionToutesLes = Integer.parseInt(options.getOrDefault("connexion-toutes-les", "20"));
+        if (concurrence < 1 || connexionToutesLes < 1) {
+            throw new IllegalArgumentException("--concurrence et --connexion-toutes-les doivent être supérieurs ou égaux à 1.");
+        }
+        Path fichierResultat = Path.of(options.getOrDefault("resultat", sortie.resolve("resultat.json").toString()));
+
+        ConfigurableApplicationContext application = null;
+        String baseUrl = options.get("url");
+        Jeu jeu;
+        if (baseUrl == null) {
+            jeu = SyntheticDatasetGenerator.generer(SyntheticDatasetGenerator.Parametres.depuis(options));
+            SyntheticDatasetGenerator.ecrire(jeu, sortie);
+            application = demarrer(sortie.resolve(SyntheticDatasetGenerator.FICHIER_SQL));
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+        } else {
+            jeu = SyntheticDatasetGenerator.relire(sortie);
+        }
+
+        // Threads non démons : le pool doit être arrêté pour que la JVM se termine après l'affichage des résultats.
+        ExecutorService executeurHttp = Executors.newFixedThreadPool(Math.max(4, concurrence / 10));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executeurHttp)
+                    .build();
+            List<Resultat> resultats = new LoadScenario(client, baseUrl, jeu).run(concurrence, chauffe, duree, connexionToutesLes);
+
+            System.out.printf("%n%s, %d clients pendant %ds (chauffe %ds)%n", baseUrl, concurrence, duree.toSeconds(), chauffe.toSeconds());
+            System.out.printf("%-46s %10s %8s %10s %9s %9s%n", "endpoint", "requêtes", "erreurs", "req/s", "p50 ms", "p99 ms");
+            for (Resultat r : resultats) {
+                System.out.printf("%-46s %10d %8d %10.1f %9.1f %9.1f%n", r.endpoint(), r.requetes(), r.erreurs(), r.debit(), r.p50Ms(), r.p99Ms());
+            }
+
+            Map<String, Object> rapport = new LinkedHashMap<>();
+            rapport.put("url", baseUrl);
+            rapport.put("concurrence", concurrence);
+            rapport.put("dureeSecondes", duree.toSeconds());
+            rapport.put("jeu", jeu.parametres().versProperties());
+            rapport.put("endpoints", resultats);
+            Files.createDirectories(fichierResultat.toAbsolutePath().getParent());
+            JSON.writerWithDefaultPrettyPrinter().writeValue(fichierResultat.toFile(), rapport);
+            System.out.printf("Résultats écrits dans %s%n", fichierResultat.toAbsolutePath());
+        } finally {
+            executeurHttp.shutdownNow();
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Jeu jeu;
+    private final Map<Integer, Queue<String>> billetsAScanner = new ConcurrentHashMap<>();
+
+    private LoadScenario(HttpClient client, String baseUrl, Jeu jeu) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.jeu = jeu;
+        jeu.clubs().forEach(club -> billetsAScanner.put(club.id(), new ConcurrentLinkedQueue<>(club.billetsAScanner())));
+    }
+
+    /**
+     * Démarre l'application dans ce processus, sur une base H2 chargée avec le jeu de données.
+     */
+    private static ConfigurableApplicationContext demarrer(Path script) {
+        return new SpringApplicationBuilder(ClubPlusBackEndApplication.class)
+                .profiles("loadtest")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;IGNORECASE=TRUE;TIME ZONE=UTC",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.sql.init.data-locations=file:" + script.toAbsolutePath(),
+                        "--jwt.secret=cle-secrete-du-scenario-de-charge-de-256-bits-minimum",
+                        "--app.sql.budget.mode=LOG");
+    }
+
+    private List<Resultat> run(int concurrence, Duration chauffe, Duration duree, int connexionToutesLes)
+            throws Exception {
+        Map<Integer, String> jetonsGestionnaires = new HashMap<>();
+        for (ClubCharge club : jeu.clubs().subList(0, Math.min(concurrence, jeu.clubs().size()))) {
+            jetonsGestionnaires.put(club.id(), login(club.gestionnaire(), new HashMap<>(), false));
+        }
+
+        long debutMesure = System.nanoTime() + chauffe.toNanos();
+        long fin = debutMesure + duree.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrence);
+        List<Future<Map<String, Echantillons>>> futures = new ArrayList<>(concurrence);
+        for (int i = 0; i < concurrence; i++) {
+            ClubCharge club = jeu.clubs().get(i % jeu.clubs().size());
+            String membre = club.membres().get((i / jeu.clubs().size()) % club.membres().size());
+            String jetonGestionnaire = jetonsGestionnaires.get(club.id());
+            futures.add(clients.submit(() -> client(club, membre, jetonGestionnaire, connexionToutesLes, debutMesure, fin)));
+        }
+        clients.shutdown();
+
+        Map<String, Echantillons> total = new TreeMap<>();
+        for (Future<Map<String, Echantillons>> future : futures) {
+            future.get().forEach((endpoint, echantillons) ->
+                    total.computeIfAbsent(endpoint, e -> new Echantillons()).fusionner(echantillons));
+        }
+
+        List<Resultat> resultats = new ArrayList<>();
+        total.forEach((endpoint, echantillons) -> {
+            long[] latences = Arrays.copyOf(echantillons.latences, echantillons.taille);
+            Arrays.sort(latences);
+            resultats.add(new Resultat(endpoint, latences.length + echantillons.erreurs, echantillons.erreurs,
+                    latences.length * 1000.0 / duree.toMillis(),
+                    VirtualThreadsLoadTest.percentile(latences, 50) / 1000.0,
+                    VirtualThreadsLoadTest.percentile(latences, 99) / 1000.0));
+        });
+        return resultats;
+    }
+
+    /**
+     * Boucle d'un client virtuel jusqu'à {@code fin}. Seuls les appels commencés après {@code debutMesure} sont comptés.
+     * Après un échec de connexion, le client attend avant de réessayer (attente doublée à chaque échec) et s'arrête
+     * au bout de {@value #ECHECS_CONNEXION_MAX} échecs consécutifs, pour ne pas saturer l'instance de connexions.
+     */
+    private Map<String, Echantillons> client(ClubCharge club, String membre, String jetonGestionnaire,
+                                             int connexionToutesLes, long debutMesure, long fin) {
+        Map<String, Echantillons> echantillons = new HashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String jeton = null;
+        int iteration = 0;
+        int echecsConnexion = 0;
+        try {
+            while (System.nanoTime() < fin) {
+                boolean mesure = System.nanoTime() >= debutMesure;
+                Map<String, Echantillons> cible = mesure ? echantillons : new HashMap<>();
+                if (iteration++ % connexionToutesLes == 0 || jeton == null) {
+                    jeton = login(membre, cible, true);
+                    if (jeton == null) {
+                        if (++echecsConnexion >= ECHECS_CONNEXION_MAX) {
+                            System.err.printf("Client %s arrêté après %d échecs de connexion consécutifs.%n", membre, echecsConnexion);
+                            break;
+                        }
+                        Thread.sleep(ATTENTE_CONNEXION_MS << (echecsConnexion - 1));
+                        continue;
+                    }
+                    echecsConnexion = 0;
+                }
+
+                appeler(cible, EVENEMENTS, requete("/events/my-clubs/upcoming", jeton).GET());
+
+                EvenementCharge evenement = club.aVenir().get(random.nextInt(club.aVenir().size()));
+                Integer categorie = evenement.categories().get(random.nextInt(evenement.categories().size()));
+                HttpResponse<String> reservation = appeler(cible, RESERVATION,
+                        requete("/reservations?eventId=" + evenement.id() + "&categorieId=" + categorie, jeton)
+                                .POST(HttpRequest.BodyPublishers.noBody()));
+                if (reservation != null && reservation.statusCode() == 201) {
+                    JsonNode corps = JSON.readTree(reservation.body());
+                    appeler(cible, ANNULATION, requete("/reservations/" + corps.get("id").asInt() + "/cancel", jeton)
+                            .PUT(HttpRequest.BodyPublishers.noBody()));
+                }
+
+                String billet = billetsAScanner.get(club.id()).poll();
+                if (billet != null) {
+                    appeler(cible, SCAN, requete("/reservations/uuid/" + billet + "/use", jetonGestionnaire)
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+                }
+
+                appeler(cible, TABLEAU_DE_BORD, requete("/stats/clubs/" + club.id() + "/dashboard-summary", jetonGestionnaire).GET());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new IllegalStateException("Réponse illisible de " + baseUrl + " : " + e.getMessage(), e);
+        }
+        return echantillons;
+    }
+
+    private HttpRequest.Builder requete(String chemin, String jeton) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + chemin))
+                .header("Authorization", "Bearer " + jeton)
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Envoie la requête et enregistre sa latence (ou une erreur) sous {@code endpoint}.
+     *
+     * @return La réponse, ou {@code null} en cas d'échec réseau.
+     */
+    private HttpResponse<String> appeler(Map<String, Echantillons> echantillons, String endpoint,
+                                         HttpRequest.Builder requete) throws InterruptedException {
+        Echantillons cible = echantillons.computeIfAbsent(endpoint, e -> new Echantillons());
+        long debut = System.nanoTime();
+        try {
+            HttpResponse<String> reponse = client.send(requete.build(), HttpResponse.BodyHandlers.ofString());
+            if (reponse.statusCode() >= 400) {
+                cible.erreurs++;
+            } else {
+                cible.ajouter((System.nanoTime() - debut) / 1000);
+            }
+            return reponse;
+        } catch (IOException e) {
+            cible.erreurs++;
+            return null;
+        }
+    }
+
+    /**
+     * Connecte un compte et retourne son jeton.
+     *
+     * @param tolerant Si {@code true}, un échec est seulement compté et {@code null} est retourné ; sinon il arrête
+     *                 le scénario (comptes gestionnaires).
+     */
+    private String login(String email, Map<String, Echantillons> echantillons, boolean tolerant)
+            throws InterruptedException {
+        String corps = "{\"email\":\"" + email + "\",\"password\":\"" + SyntheticDatasetGenerator.PASSWORD + "\"}";
+        HttpResponse<String> reponse = appeler(echantillons, CONNEXION, HttpRequest.newBuilder(URI.create(baseUrl + "/auth/connexion"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(corps)));
+        if (reponse == null || reponse.statusCode() != 200) {
+            if (tolerant) {
+                return null;
+            }
+            throw new IllegalStateException("Connexion refusée pour " + email + " sur " + baseUrl
+                    + (reponse != null ? " : HTTP " + reponse.statusCode() : ""));
+        }
+        return reponse.body();
+    }
+}
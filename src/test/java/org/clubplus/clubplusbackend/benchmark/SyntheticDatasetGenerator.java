@@ -0,0 +1,396 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Génère un jeu de données synthétique à l'échelle voulue : clubs, membres (un ADMIN, un RESERVATION et
+ * {@code membres} MEMBRE par club), adhésions, événements passés, à venir et en cours, catégories, réservations,
+ * amitiés et notations.
+ * <p>
+ * Deux fichiers sont écrits dans le répertoire {@code sortie} ({@code target/loadtest} par défaut) :
+ * <ul>
+ * <li>{@value #FICHIER_SQL} : les INSERT, suivis de l'initialisation des compteurs et agrégats reprise de
+ * {@code data-01-data.sql}. Il est chargé au démarrage par le profil {@code loadtest} (H2 ou MySQL) ;</li>
+ * <li>{@value #FICHIER_MANIFESTE} : les paramètres de génération. À partir d'eux, {@link LoadScenario} reconstruit
+ * le même jeu en mémoire (comptes, événements, UUID des billets) sans relire la base.</li>
+ * </ul>
+ * La génération est déterministe pour une graine et une date de génération données. Les dates sont relatives à la
+ * date de génération : l'événement « en cours » de chaque club (billets à scanner) commence 30 minutes avant et
+ * dure 12 heures, le jeu doit donc être chargé et utilisé dans ce délai. Tous les comptes ont le mot de passe
+ * {@value #PASSWORD}.
+ * <p>
+ * Lancement : {@code mvn test-compile} puis exécuter {@link #main(String[])} avec le classpath de test, par exemple
+ * {@code --clubs=50 --membres=400 --evenements-passes=40}. Options : {@code --clubs}, {@code --membres} (par club),
+ * {@code --evenements-a-venir}, {@code --evenements-passes} (par club), {@code --categories} (par événement),
+ * {@code --capacite} (par catégorie), {@code --reservations} (par événement), {@code --amis} (par membre),
+ * {@code --taux-notation}, {@code --graine}, {@code --sortie}.
+ */
+public class SyntheticDatasetGenerator {
+
+    static final String PASSWORD = "password";
+    static final String FICHIER_SQL = "data-loadtest.sql";
+    static final String FICHIER_MANIFESTE = "dataset.properties";
+
+    /**
+     * Hash BCrypt de {@value #PASSWORD}, le même que dans {@code data-01-data.sql}.
+     */
+    private static final String PASSWORD_HASH = "$2y$10$A7.AsjGP0ptMeaRHIivES.8YyMXBSuCYy0T6F6.7Id1Ih5p/3hihG";
+    private static final String DOMAINE = "@charge.clubplus.fr";
+    private static final String DEBUT_AGREGATS = "-- Initialisation du compteur de places réservées";
+    private static final int LIGNES_PAR_INSERT = 500;
+    private static final DateTimeFormatter DATE_HEURE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneOffset.UTC);
+
+    private static final String[] PRENOMS = {"Alice", "Bruno", "Camille", "Damien", "Élodie", "François", "Gaëlle",
+            "Hugo", "Inès", "Julien", "Karine", "Louis", "Manon", "Nicolas", "Océane", "Pierre", "Quentin", "Sarah",
+            "Thomas", "Zoé"};
+    private static final String[] NOMS = {"Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit",
+            "Durand", "Leroy", "Moreau", "Simon", "Laurent", "Lefèvre", "Michel", "Garcia", "Roux", "Fournier",
+            "Girard", "Bonnet", "Mercier"};
+    private static final String[] VILLES = {"Paris", "Lyon", "Marseille", "Toulouse", "Nantes", "Lille", "Metz",
+            "Rennes", "Bordeaux", "Strasbourg"};
+
+    /**
+     * Paramètres de génération (échelle, graine et date de génération).
+     */
+    record Parametres(int clubs, int membres, int evenementsAVenir, int evenementsPasses, int categories,
+                      int capacite, int reservations, int amis, double tauxNotation, long graine,
+                      Instant maintenant) {
+
+        Parametres {
+            if (clubs < 1 || clubs > 9999 || membres < 2 || evenementsAVenir < 1 || evenementsPasses < 0
+                    || categories < 1 || capacite < 2 || reservations < 0 || amis < 0
+                    || tauxNotation < 0 || tauxNotation > 1) {
+                throw new IllegalArgumentException("Paramètres de génération invalides : clubs entre 1 et 9999, "
+                        + "au moins 2 membres par club, un événement à venir, une catégorie de capacité 2 ; "
+                        + "taux de notation entre 0 et 1.");
+            }
+        }
+
+        static Parametres depuis(Map<String, String> options) {
+            return new Parametres(
+                    Integer.parseInt(options.getOrDefault("clubs", "20")),
+                    Integer.parseInt(options.getOrDefault("membres", "250")),
+                    Integer.parseInt(options.getOrDefault("evenements-a-venir", "10")),
+                    Integer.parseInt(options.getOrDefault("evenements-passes", "20")),
+                    Integer.parseInt(options.getOrDefault("categories", "3")),
+                    Integer.parseInt(options.getOrDefault("capacite", "100")),
+                    Integer.parseInt(options.getOrDefault("reservations", "60")),
+                    Integer.parseInt(options.getOrDefault("amis", "5")),
+                    Double.parseDouble(options.getOrDefault("taux-notation", "0.3")),
+                    Long.parseLong(options.getOrDefault("graine", "42")),
+                    options.containsKey("maintenant")
+                            ? Instant.parse(options.get("maintenant"))
+                            : Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+
+        Properties versProperties() {
+            Properties properties = new Properties();
+            properties.setProperty("clubs", String.valueOf(clubs));
+            properties.setProperty("membres", String.valueOf(membres));
+            properties.setProperty("evenements-a-venir", String.valueOf(evenementsAVenir));
+            properties.setProperty("evenements-passes", String.valueOf(evenementsPasses));
+            properties.setProperty("categories", String.valueOf(categories));
+            properties.setProperty("capacite", String.valueOf(capacite));
+            properties.setProperty("reservations", String.valueOf(reservations));
+            properties.setProperty("amis", String.valueOf(amis));
+            properties.setProperty("taux-notation", String.valueOf(tauxNotation));
+            properties.setProperty("graine", String.valueOf(graine));
+            properties.setProperty("maintenant", maintenant.toString());
+            return properties;
+        }
+    }
+
+    /**
+     * Événement réservable (à venir) et les IDs de ses catégories.
+     */
+    record EvenementCharge(int id, List<Integer> categories) {
+    }
+
+    /**
+     * Ce dont le scénario de charge a besoin pour un club : ses comptes, ses événements réservables et les UUID des
+     * billets de son événement en cours (statut CONFIRME, à scanner une seule fois chacun).
+     */
+    record ClubCharge(int id, String gestionnaire, List<String> membres, List<EvenementCharge> aVenir,
+                      List<String> billetsAScanner) {
+    }
+
+    /**
+     * Jeu de données généré : lignes SQL par table (dans l'ordre d'insertion) et vue du scénario de charge.
+     */
+    record Jeu(Parametres parametres, Map<String, Table> tables, List<ClubCharge> clubs) {
+    }
+
+    record Table(String colonnes, List<String> lignes) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = VirtualThreadsLoadTest.parse(args);
+        Path sortie = Path.of(options.getOrDefault("sortie", "target/loadtest"));
+        Jeu jeu = generer(Parametres.depuis(options));
+        ecrire(jeu, sortie);
+        System.out.printf("Jeu de données écrit dans %s :%n", sortie.toAbsolutePath());
+        jeu.tables().forEach((table, contenu) -> System.out.printf("  %-14s %9d lignes%n", table, contenu.lignes().size()));
+    }
+
+    /**
+     * Écrit le script SQL et le manifeste du jeu dans {@code repertoire}.
+     */
+    static void ecrire(Jeu jeu, Path repertoire) throws IOException {
+        Files.createDirectories(repertoire);
+        try (BufferedWriter writer = Files.newBufferedWriter(repertoire.resolve(FICHIER_SQL), StandardCharsets.UTF_8)) {
+            writer.write("-- Jeu de données synthétique généré par SyntheticDatasetGenerator (" + jeu.parametres().versProperties() + ")\n\n");
+            for (Map.Entry<String, Table> entry : jeu.tables().entrySet()) {
+                ecrireInserts(writer, entry.getKey(), entry.getValue());
+            }
+            writer.write(agregats());
+        }
+        try (Writer writer = Files.newBufferedWriter(repertoire.resolve(FICHIER_MANIFESTE), StandardCharsets.UTF_8)) {
+            jeu.parametres().versProperties().store(writer, "Paramètres du jeu de données " + FICHIER_SQL);
+        }
+    }
+
+    /**
+     * Relit le manifeste écrit par {@link #ecrire} et reconstruit le même jeu en mémoire.
+     */
+    static Jeu relire(Path repertoire) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(repertoire.resolve(FICHIER_MANIFESTE), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> options = new HashMap<>();
+        properties.stringPropertyNames().forEach(nom -> options.put(nom, properties.getProperty(nom)));
+        return generer(Parametres.depuis(options));
+    }
+
+    /**
+     * Génère le jeu de données. Les IDs sont attribués séquentiellement à partir de 1 dans chaque table.
+     */
+    static Jeu generer(Parametres p) {
+        Random random = new Random(p.graine());
+        Map<String, Table> tables = new LinkedHashMap<>();
+        Table membres = table(tables, "membre", "id, nom, prenom, date_naissance, date_inscription, telephone, email, password, role, code_ami, actif, anonymize_date, verified");
+        Table clubs = table(tables, "club", "id, nom, date_creation, date_inscription, numero_voie, rue, codepostal, ville, telephone, email, actif, desactivation_date, code_club");
+        Table adhesions = table(tables, "adhesion", "id, membre_id, club_id, date_adhesion");
+        Table evenements = table(tables, "events", "id, nom, start_time, end_time, description, location, organisateur_id, actif, desactivation_date");
+        Table categories = table(tables, "categories", "id, event_id, nom, capacite");
+        Table reservations = table(tables, "reservations", "id, membre_id, event_id, categorie_id, date_reservation, reservation_uuid, status");
+        Table demandes = table(tables, "demande_ami", "id, envoyeur_id, recepteur_id, statut, date_demande");
+        Table notations = table(tables, "notations", "id, event_id, membre_id, ambiance, proprete, organisation, fair_play, niveau_joueurs, date_notation");
+
+        Instant maintenant = p.maintenant();
+        List<ClubCharge> clubsCharge = new ArrayList<>(p.clubs());
+        int membreId = 0;
+        int eventId = 0;
+        int categorieId = 0;
+        int reservationId = 0;
+        int notationId = 0;
+        int demandeId = 0;
+
+        for (int clubId = 1; clubId <= p.clubs(); clubId++) {
+            String ville = VILLES[clubId % VILLES.length];
+            Instant creationClub = maintenant.minus(3 * 365 + random.nextInt(365), ChronoUnit.DAYS);
+            clubs.lignes().add(tuple(clubId, "Club Synthétique " + clubId, date(creationClub), date(creationClub),
+                    String.valueOf(1 + random.nextInt(200)), "Rue du Sport", "75000", ville, telephone(clubId),
+                    "contact.club" + clubId + DOMAINE, 1, null, String.format("CLUB-%04d", clubId)));
+
+            // Comptes : un ADMIN, un RESERVATION (gestionnaire utilisé par le scénario), puis les MEMBRE.
+            String gestionnaire = "resa.club" + clubId + DOMAINE;
+            List<Integer> idsMembres = new ArrayList<>(p.membres());
+            List<String> emailsMembres = new ArrayList<>(p.membres());
+            for (int i = 0; i < p.membres() + 2; i++) {
+                membreId++;
+                String role = i == 0 ? "ADMIN" : i == 1 ? "RESERVATION" : "MEMBRE";
+                String email = i == 0 ? "admin.club" + clubId + DOMAINE : i == 1 ? gestionnaire : "membre" + membreId + DOMAINE;
+                Instant adhesion = creationClub.plus(random.nextInt(3 * 365), ChronoUnit.DAYS)
+                        .plus(random.nextInt(24 * 3600), ChronoUnit.SECONDS);
+                membres.lignes().add(tuple(membreId, NOMS[random.nextInt(NOMS.length)], PRENOMS[random.nextInt(PRENOMS.length)],
+                        LocalDate.of(1960 + random.nextInt(48), 1 + random.nextInt(12), 1 + random.nextInt(28)).toString(),
+                        date(adhesion), telephone(membreId), email, PASSWORD_HASH, role, String.format("AMIS-%06d", membreId),
+                        1, null, 1));
+                adhesions.lignes().add(tuple(membreId, membreId, clubId, dateHeure(adhesion)));
+                if (i >= 2) {
+                    idsMembres.add(membreId);
+                    emailsMembres.add(email);
+                }
+            }
+
+            // Amitiés acceptées entre membres du club, une seule demande par paire.
+            Set<Long> paires = new HashSet<>();
+            for (int membre : idsMembres) {
+                for (int k = 0; k < p.amis(); k++) {
+                    int ami = idsMembres.get(random.nextInt(idsMembres.size()));
+                    long paire = (long) Math.min(membre, ami) << 32 | Math.max(membre, ami);
+                    if (ami != membre && paires.add(paire)) {
+                        demandes.lignes().add(tuple(++demandeId, membre, ami, "ACCEPTEE",
+                                dateHeure(maintenant.minus(1 + random.nextInt(365), ChronoUnit.DAYS))));
+                    }
+                }
+            }
+
+            // Événements passés : billets utilisés (ou annulés) et notations d'une partie des participants.
+            for (int e = 0; e < p.evenementsPasses(); e++) {
+                Instant debut = maintenant.minus(1 + random.nextInt(730), ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+                eventId++;
+                List<Integer> cats = evenement(evenements, categories, p, eventId, clubId, "Rencontre passée " + e, debut,
+                        categorieId);
+                categorieId += cats.size();
+                for (int participant : echantillon(idsMembres, Math.min(p.reservations(), p.categories() * p.capacite()), random)) {
+                    boolean annulee = random.nextInt(10) == 0;
+                    reservations.lignes().add(tuple(++reservationId, participant, eventId,
+                            cats.get(reservationId % cats.size()), dateHeure(debut.minus(1 + random.nextInt(30), ChronoUnit.DAYS)),
+                            uuid(random), annulee ? "ANNULE" : "UTILISE"));
+                    if (!annulee && random.nextDouble() < p.tauxNotation()) {
+                        notations.lignes().add(tuple(++notationId, eventId, participant, note(random), note(random),
+                                note(random), note(random), note(random),
+                                dateHeure(debut.plus(4 + random.nextInt(72), ChronoUnit.HOURS))));
+                    }
+                }
+            }
+
+            // Événements à venir : au plus une réservation par membre et la moitié des places, pour laisser réserver.
+            List<EvenementCharge> aVenir = new ArrayList<>(p.evenementsAVenir());
+            for (int e = 0; e < p.evenementsAVenir(); e++) {
+                Instant debut = maintenant.plus(1 + random.nextInt(60), ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+                eventId++;
+                List<Integer> cats = evenement(evenements, categories, p, eventId, clubId, "Rencontre à venir " + e, debut,
+                        categorieId);
+                categorieId += cats.size();
+                aVenir.add(new EvenementCharge(eventId, cats));
+                for (int participant : echantillon(idsMembres, Math.min(p.reservations(), p.categories() * p.capacite() / 2), random)) {
+                    reservations.lignes().add(tuple(++reservationId, participant, eventId,
+                            cats.get(reservationId % cats.size()), dateHeure(maintenant.minus(random.nextInt(30), ChronoUnit.DAYS)),
+                            uuid(random), random.nextInt(10) == 0 ? "ANNULE" : "CONFIRME"));
+                }
+            }
+
+            // Événement en cours : un billet confirmé par membre (dans la limite des places), à scanner.
+            Instant debutEnCours = maintenant.minus(30, ChronoUnit.MINUTES);
+            eventId++;
+            List<Integer> catsEnCours = new ArrayList<>();
+            evenements.lignes().add(tuple(eventId, "Rencontre en cours", dateHeure(debutEnCours),
+                    dateHeure(debutEnCours.plus(12, ChronoUnit.HOURS)), "Événement synthétique en cours.",
+                    "Gymnase " + ville, clubId, 1, null));
+            for (int c = 1; c <= p.categories(); c++) {
+                categories.lignes().add(tuple(++categorieId, eventId, "Catégorie " + c, p.capacite()));
+                catsEnCours.add(categorieId);
+            }
+            List<String> billets = new ArrayList<>();
+            for (int participant : echantillon(idsMembres, p.categories() * p.capacite(), random)) {
+                String uuid = uuid(random);
+                reservations.lignes().add(tuple(++reservationId, participant, eventId,
+                        catsEnCours.get(reservationId % catsEnCours.size()), dateHeure(maintenant.minus(1, ChronoUnit.DAYS)),
+                        uuid, "CONFIRME"));
+                billets.add(uuid);
+            }
+
+            clubsCharge.add(new ClubCharge(clubId, gestionnaire, List.copyOf(emailsMembres), List.copyOf(aVenir), List.copyOf(billets)));
+        }
+        return new Jeu(p, tables, clubsCharge);
+    }
+
+    // --- Méthodes privées ---
+
+    private static Table table(Map<String, Table> tables, String nom, String colonnes) {
+        Table table = new Table(colonnes, new ArrayList<>());
+        tables.put(nom, table);
+        return table;
+    }
+
+    /**
+     * Ajoute un événement de 3 heures et ses catégories, et retourne les IDs des catégories.
+     */
+    private static List<Integer> evenement(Table evenements, Table categories, Parametres p, int eventId, int clubId,
+                                           String nom, Instant debut, int dernierCategorieId) {
+        evenements.lignes().add(tuple(eventId, nom, dateHeure(debut), dateHeure(debut.plus(3, ChronoUnit.HOURS)),
+                "Événement synthétique " + eventId + ".", "Gymnase " + clubId, clubId, 1, null));
+        List<Integer> ids = new ArrayList<>(p.categories());
+        for (int c = 1; c <= p.categories(); c++) {
+            categories.lignes().add(tuple(dernierCategorieId + c, eventId, "Catégorie " + c, p.capacite()));
+            ids.add(dernierCategorieId + c);
+        }
+        return ids;
+    }
+
+    /**
+     * Tire {@code taille} membres distincts (tous si le club en compte moins).
+     */
+    private static List<Integer> echantillon(List<Integer> membres, int taille, Random random) {
+        List<Integer> copie = new ArrayList<>(membres);
+        Collections.shuffle(copie, random);
+        return copie.subList(0, Math.min(taille, copie.size()));
+    }
+
+    private static int note(Random random) {
+        return 1 + random.nextInt(5);
+    }
+
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static String telephone(int numero) {
+        return String.format("06%08d", numero);
+    }
+
+    private static String date(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC).toString();
+    }
+
+    private static String dateHeure(Instant instant) {
+        return DATE_HEURE.format(instant);
+    }
+
+    private static String tuple(Object... valeurs) {
+        StringJoiner joiner = new StringJoiner(", ", "(", ")");
+        for (Object valeur : valeurs) {
+            if (valeur == null) {
+                joiner.add("NULL");
+            } else if (valeur instanceof Number) {
+                joiner.add(valeur.toString());
+            } else {
+                joiner.add("'" + valeur.toString().replace("'", "''") + "'");
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static void ecrireInserts(Writer writer, String table, Table contenu) throws IOException {
+        List<String> lignes = contenu.lignes();
+        for (int debut = 0; debut < lignes.size(); debut += LIGNES_PAR_INSERT) {
+            writer.write("INSERT INTO " + table + " (" + contenu.colonnes() + ")\nVALUES ");
+            writer.write(String.join(",\n       ", lignes.subList(debut, Math.min(debut + LIGNES_PAR_INSERT, lignes.size()))));
+            writer.write(";\n\n");
+        }
+    }
+
+    /**
+     * Initialisation des compteurs dénormalisés, des agrégats et des générateurs d'IDs, reprise de la fin de
+     * {@code data-01-data.sql} pour rester alignée sur le schéma.
+     */
+    private static String agregats() throws IOException {
+        try (InputStream in = SyntheticDatasetGenerator.class.getResourceAsStream("/data-01-data.sql")) {
+            if (in == null) {
+                throw new IllegalStateException("data-01-data.sql introuvable dans le classpath.");
+            }
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            int debut = script.indexOf(DEBUT_AGREGATS);
+            if (debut < 0) {
+                throw new IllegalStateException("Section « " + DEBUT_AGREGATS + " » introuvable dans data-01-data.sql.");
+            }
+            return script.substring(debut);
+        }
+    }
+}
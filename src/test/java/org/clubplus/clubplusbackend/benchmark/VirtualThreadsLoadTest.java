@@ -0,0 +1,164 @@
+package org.clubplus.clubplusbackend.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test de charge comparant deux instances de l'application : l'une lancée normalement (pool de threads de Tomcat),
+ * l'autre avec le profil {@code virtual-threads} sur un JRE 21.
+ * <p>
+ * Chaque instance reçoit la même charge : {@code concurrence} clients qui enchaînent des requêtes authentifiées
+ * sur {@code chemin} pendant {@code duree}. Le débit, les latences p50/p99 et les erreurs sont affichés côte à côte.
+ * Les deux instances doivent utiliser la même base et la même taille de pool de connexions. Sur une même machine,
+ * la seconde instance a besoin de ses propres ports, API et management (ex. {@code SERVER_PORT=8090}
+ * et {@code MANAGEMENT_SERVER_PORT=8091}) : 8081 est le port de management par défaut de la première.
+ * <p>
+ * Lancement : {@code mvn test-compile} puis exécuter {@link #main(String[])} avec le classpath de test, par exemple
+ * {@code --platform=http://localhost:8080 --virtual=http://localhost:8090 --concurrence=400 --duree=30}.
+ * Options : {@code --email}, {@code --password} (compte du jeu de données), {@code --chemin}
+ * ({@code /events/my-clubs/upcoming} par défaut), {@code --duree} en secondes.
+ */
+public class VirtualThreadsLoadTest {
+
+    private record Resultat(String mode, long requetes, long erreurs, double debit, long p50Ms, long p99Ms) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrence = Integer.parseInt(options.getOrDefault("concurrence", "200"));
+        Duration duree = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duree", "30")));
+        String chemin = options.getOrDefault("chemin", "/events/my-clubs/upcoming");
+        String email = options.getOrDefault("email", "bob.membre@email.com");
+        String password = options.getOrDefault("password", "password");
+
+        List<Resultat> resultats = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual")) {
+            String baseUrl = options.get(mode);
+            if (baseUrl == null) {
+                continue;
+            }
+            resultats.add(run(mode, baseUrl, chemin, email, password, concurrence, duree));
+        }
+        if (resultats.isEmpty()) {
+            System.err.println("Aucune instance à tester : préciser --platform=<url> et/ou --virtual=<url>.");
+            return;
+        }
+
+        System.out.printf("%nGET %s, %d clients pendant %ds%n", chemin, concurrence, duree.toSeconds());
+        System.out.printf("%-10s %10s %8s %10s %8s %8s%n", "mode", "requêtes", "erreurs", "req/s", "p50 ms", "p99 ms");
+        for (Resultat r : resultats) {
+            System.out.printf("%-10s %10d %8d %10.1f %8d %8d%n", r.mode(), r.requetes(), r.erreurs(), r.debit(), r.p50Ms(), r.p99Ms());
+        }
+    }
+
+    private static Resultat run(String mode, String baseUrl, String chemin, String email, String password,
+                                int concurrence, Duration duree) throws Exception {
+        // Threads non démons : le pool doit être arrêté pour que la JVM se termine après l'affichage des résultats.
+        ExecutorService executeurHttp = Executors.newFixedThreadPool(Math.max(4, concurrence / 10));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executeurHttp)
+                    .build();
+            String token = login(client, baseUrl, email, password);
+            HttpRequest requete = HttpRequest.newBuilder(URI.create(baseUrl + chemin))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            // Chauffe : quelques secondes de charge réduite, non mesurées.
+            charge(client, requete, Math.min(concurrence, 20), Duration.ofSeconds(5));
+            Mesures mesures = charge(client, requete, concurrence, duree);
+
+            long[] latences = mesures.latences();
+            Arrays.sort(latences);
+            return new Resultat(mode, latences.length, mesures.erreurs(), latences.length * 1000.0 / duree.toMillis(),
+                    percentile(latences, 50), percentile(latences, 99));
+        } finally {
+            executeurHttp.shutdownNow();
+        }
+    }
+
+    private record Mesures(long[] latences, long erreurs) {
+    }
+
+    /**
+     * Lance {@code concurrence} clients qui enchaînent la requête jusqu'à la fin de la durée.
+     */
+    private static Mesures charge(HttpClient client, HttpRequest requete, int concurrence, Duration duree)
+            throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(concurrence);
+        ConcurrentLinkedQueue<long[]> latencesParClient = new ConcurrentLinkedQueue<>();
+        AtomicLong erreurs = new AtomicLong();
+        long fin = System.nanoTime() + duree.toNanos();
+        for (int i = 0; i < concurrence; i++) {
+            clients.execute(() -> {
+                long[] latences = new long[1024];
+                int n = 0;
+                while (System.nanoTime() < fin) {
+                    long debut = System.nanoTime();
+                    try {
+                        HttpResponse<Void> reponse = client.send(requete, HttpResponse.BodyHandlers.discarding());
+                        if (reponse.statusCode() >= 400) {
+                            erreurs.incrementAndGet();
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        erreurs.incrementAndGet();
+                        continue;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    if (n == latences.length) {
+                        latences = Arrays.copyOf(latences, n * 2);
+                    }
+                    latences[n++] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut);
+                }
+                latencesParClient.add(Arrays.copyOf(latences, n));
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duree.toSeconds() + 60, TimeUnit.SECONDS);
+        return new Mesures(latencesParClient.stream().flatMapToLong(Arrays::stream).toArray(), erreurs.get());
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email, String password)
+            throws IOException, InterruptedException {
+        String corps = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> reponse = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/connexion"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corps))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (reponse.statusCode() != 200) {
+            throw new IllegalStateException("Connexion refusée par " + baseUrl + " : HTTP " + reponse.statusCode());
+        }
+        return reponse.body();
+    }
+
+    static long percentile(long[] triees, int p) {
+        if (triees.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * triees.length) - 1;
+        return triees[Math.max(0, index)];
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
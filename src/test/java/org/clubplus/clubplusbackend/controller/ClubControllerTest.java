@@ -3,10 +3,12 @@ package org.clubplus.clubplusbackend.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.clubplus.clubplusbackend.dao.AdhesionDao;
 import org.clubplus.clubplusbackend.dao.ClubDao;
+import org.clubplus.clubplusbackend.dao.EventDao;
 import org.clubplus.clubplusbackend.dao.MembreDao;
 import org.clubplus.clubplusbackend.dto.UpdateClubDto;
 import org.clubplus.clubplusbackend.model.Adhesion;
 import org.clubplus.clubplusbackend.model.Club;
+import org.clubplus.clubplusbackend.model.Event;
 import org.clubplus.clubplusbackend.model.Membre;
 import org.clubplus.clubplusbackend.model.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,17 +21,21 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -75,7 +81,8 @@ class ClubControllerTest {
     private PasswordEncoder passwordEncoder; // Pour encoder les mots de passe des utilisateurs de test.
     @Autowired
     private ObjectMapper objectMapper;    // Pour sérialiser les DTOs en JSON pour les corps de requête.
-    // @Autowired private EventDao eventRepository; // Décommentez si vous testez les endpoints d'événements.
+    @Autowired
+    private EventDao eventRepository;
 
     // --- Entités de test créées dans setUp() et utilisées à travers plusieurs tests ---
     private Club clubTestAlpha;
@@ -409,4 +416,51 @@ class ClubControllerTest {
                 // Si vous créez des événements, ajustez hasSize() en conséquence.
                 .andExpect(jsonPath("$", hasSize(0)));
     }
+
+    /**
+     * Teste la pagination par curseur de l'endpoint {@code GET /clubs/{id}/events}.
+     * Scénario: 3 événements, dont 2 débutant au même instant, lus par pages de 2.
+     * Attente: la première page contient 2 événements et un curseur ; la page suivante contient le dernier
+     * événement, sans curseur.
+     */
+    @Test
+    @WithUserDetails(value = MEMBRE_ALPHA_EMAIL, setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("Pagination par curseur des événements d'un club")
+    void recupererEvenementsClub_parPages_devraitSuivreLeCurseur() throws Exception {
+        Instant debut = Instant.now().plus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        Event premier = eventRepository.save(createEvent("Tournoi A", debut));
+        Event deuxieme = eventRepository.save(createEvent("Tournoi B", debut));
+        Event troisieme = eventRepository.saveAndFlush(createEvent("Tournoi C", debut.plus(1, ChronoUnit.DAYS)));
+
+        MvcResult premierePage = mockMvc.perform(get("/clubs/" + clubTestAlpha.getId() + "/events")
+                        .param("limit", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(premier.getId()))
+                .andExpect(jsonPath("$[1].id").value(deuxieme.getId()))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        mockMvc.perform(get("/clubs/" + clubTestAlpha.getId() + "/events")
+                        .param("limit", "2")
+                        .param("cursor", premierePage.getResponse().getHeader("X-Next-Cursor"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(troisieme.getId()))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    private Event createEvent(String nom, Instant debut) {
+        Event event = new Event();
+        event.setNom(nom);
+        event.setStartTime(debut);
+        event.setEndTime(debut.plus(2, ChronoUnit.HOURS));
+        event.setDescription("Événement de test de la pagination");
+        event.setLocation("Gymnase Alpha");
+        event.setOrganisateur(clubTestAlpha);
+        event.setActif(true);
+        return event;
+    }
 }
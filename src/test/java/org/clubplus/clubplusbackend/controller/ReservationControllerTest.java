@@ -2,6 +2,8 @@ package org.clubplus.clubplusbackend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.clubplus.clubplusbackend.dao.*;
+import org.clubplus.clubplusbackend.metrics.SqlStatementMetricsFilter;
+import org.clubplus.clubplusbackend.metrics.SqlStatements;
 import org.clubplus.clubplusbackend.model.*;
 import org.clubplus.clubplusbackend.service.ReservationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +58,8 @@ class ReservationControllerTest {
     private PasswordEncoder passwordEncoder;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SqlStatementMetricsFilter sqlStatementMetricsFilter;
 
     private Membre membreSimple;
     private Membre gestionnaireReservation;
@@ -71,6 +75,7 @@ class ReservationControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders
                 .webAppContextSetup(context)
+                .addFilters(sqlStatementMetricsFilter)
                 .apply(springSecurity())
                 .build();
 
@@ -142,7 +147,9 @@ class ReservationControllerTest {
                         .with(csrf())
                         .param("eventId", String.valueOf(eventTest.getId()))
                         .param("categorieId", String.valueOf(categorieTest.getId())))
-                .andExpect(status().isCreated());
+                .andExpect(status().isCreated())
+                .andExpect(SqlStatements.withinBudget())
+                .andExpect(SqlStatements.noNPlusOne());
     }
 
     @Test
@@ -165,7 +172,9 @@ class ReservationControllerTest {
     void getMyReservations_ShouldReturnFilteredList() throws Exception {
         mockMvc.perform(get("/reservations/me").param("status", "CONFIRME"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)));
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(SqlStatements.withinBudget())
+                .andExpect(SqlStatements.noNPlusOne());
     }
 
     @Test
@@ -174,7 +183,20 @@ class ReservationControllerTest {
     void getReservationsByCategorie_ShouldReturnList_WhenUserIsManager() throws Exception {
         mockMvc.perform(get("/reservations/categorie/{categorieId}", categorieTest.getId()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)));
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(SqlStatements.withinBudget())
+                .andExpect(SqlStatements.noNPlusOne());
+    }
+
+    @Test
+    @WithUserDetails(value = GESTIONNAIRE_EMAIL, setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("Un gestionnaire doit pouvoir récupérer les réservations d'un événement")
+    void getReservationsByEvent_ShouldReturnList_WhenUserIsManager() throws Exception {
+        mockMvc.perform(get("/reservations/event/{eventId}", eventTest.getId()).param("status", "CONFIRME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(SqlStatements.withinBudget())
+                .andExpect(SqlStatements.noNPlusOne());
     }
 
     @Test
@@ -191,7 +213,9 @@ class ReservationControllerTest {
     void cancelReservation_ShouldReturn204_WhenUserIsOwner() throws Exception {
         mockMvc.perform(put("/reservations/{id}/cancel", reservationExistante.getId())
                         .with(csrf()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(SqlStatements.withinBudget())
+                .andExpect(SqlStatements.noNPlusOne());
     }
 
     @Test
@@ -225,7 +249,9 @@ class ReservationControllerTest {
                         .with(csrf()))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status", is("UTILISE")));
+                .andExpect(jsonPath("$.status", is("UTILISE")))
+                .andExpect(SqlStatements.withinBudget())
+                .andExpect(SqlStatements.noNPlusOne());
     }
 
 
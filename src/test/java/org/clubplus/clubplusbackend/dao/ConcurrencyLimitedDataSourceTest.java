@@ -0,0 +1,77 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    @DisplayName("getConnection - Attend un jeton puis échoue quand la limite est atteinte")
+    void getConnection_ShouldTimeOutWhenLimitReached() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+        Connection premiere = dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertThat(dataSource.getActivePermits()).isEqualTo(1);
+        verify(target, times(1)).getConnection();
+
+        premiere.close();
+        premiere.close();
+        assertThat(dataSource.getActivePermits()).isZero();
+        verify(connection, times(2)).close();
+
+        dataSource.getConnection();
+        assertThat(dataSource.getActivePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getConnection - Rend le jeton si le pool échoue")
+    void getConnection_ShouldReleasePermitOnFailure() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool indisponible"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        // Act & Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertThat(dataSource.getActivePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Connexion - Les autres appels sont transmis à la connexion du pool")
+    void connection_ShouldDelegateOtherCalls() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+
+        // Act
+        Connection limitee = dataSource.getConnection();
+
+        // Assert
+        assertThat(limitee.getAutoCommit()).isFalse();
+        assertThat(limitee).isEqualTo(limitee);
+        verify(connection).getAutoCommit();
+    }
+}
@@ -0,0 +1,231 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.*;
+import org.clubplus.clubplusbackend.service.EventLifecycleWriter;
+import org.clubplus.clubplusbackend.service.RatingRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie les requêtes ensemblistes de clôture et d'archivage des événements, à travers {@link EventLifecycleWriter}.
+ */
+@DataJpaTest
+@Import({EventLifecycleWriter.class, RatingRollupService.class})
+class EventArchiveDaoTest {
+
+    /**
+     * Instant de référence postérieur à la fin de l'événement de test (qui débute demain).
+     */
+    private static final Instant APRES_EVENEMENT = Instant.now().plus(10, ChronoUnit.DAYS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventLifecycleWriter lifecycleWriter;
+
+    @Autowired
+    private RatingRollupService ratingRollupService;
+
+    @Autowired
+    private EventDao eventDao;
+
+    @Autowired
+    private CategorieDao categorieDao;
+
+    @Autowired
+    private EventArchiveDao eventArchiveDao;
+
+    @Autowired
+    private CategorieArchiveDao categorieArchiveDao;
+
+    @Autowired
+    private ReservationArchiveDao reservationArchiveDao;
+
+    @Autowired
+    private NotationArchiveDao notationArchiveDao;
+
+    @Autowired
+    private EventParticipationDao eventParticipationDao;
+
+    @Autowired
+    private ClubRatingRollupDao clubRatingRollupDao;
+
+    private Club club;
+    private Event tournoi;
+    private Categorie categorie;
+    private Reservation reservationUtilisee;
+    private Reservation reservationConfirmee;
+
+    @BeforeEach
+    void setUp() {
+        club = new Club();
+        club.setNom("Club de Test Archivage");
+        club.setCodeClub("ARCH-TEST");
+        club.setActif(true);
+        club.setDate_inscription(LocalDate.now());
+        club.setEmail("archivage.club@test.com");
+        club.setTelephone("0102030405");
+        club.setNumero_voie("1");
+        club.setRue("Rue des Archives");
+        club.setCodepostal("75000");
+        club.setVille("Archiville");
+        club.setDate_creation(LocalDate.now().minusYears(1));
+        entityManager.persist(club);
+
+        Membre alice = createMembre("Alice", "alice@test.com");
+        Membre bruno = createMembre("Bruno", "bruno@test.com");
+
+        tournoi = new Event();
+        tournoi.setNom("Tournoi");
+        tournoi.setStartTime(Instant.now().plus(1, ChronoUnit.DAYS));
+        tournoi.setEndTime(Instant.now().plus(2, ChronoUnit.DAYS));
+        tournoi.setDescription("Événement de test de l'archivage");
+        tournoi.setLocation("Gymnase");
+        tournoi.setOrganisateur(club);
+        tournoi.setActif(true);
+        entityManager.persist(tournoi);
+
+        categorie = new Categorie();
+        categorie.setNom("Standard");
+        categorie.setCapacite(10);
+        categorie.setEvent(tournoi);
+        entityManager.persist(categorie);
+
+        reservationUtilisee = new Reservation(alice, tournoi, categorie);
+        reservationUtilisee.setStatus(ReservationStatus.UTILISE);
+        entityManager.persist(reservationUtilisee);
+        reservationConfirmee = new Reservation(bruno, tournoi, categorie);
+        entityManager.persist(reservationConfirmee);
+        entityManager.persist(new EventParticipation(tournoi.getId(), alice.getId(), 1));
+        entityManager.persist(new EventParticipation(tournoi.getId(), bruno.getId(), 1));
+
+        Notation notation = new Notation();
+        notation.setEvent(tournoi);
+        notation.setMembre(alice);
+        notation.setAmbiance(4);
+        notation.setProprete(5);
+        notation.setOrganisation(3);
+        notation.setFairPlay(4);
+        notation.setNiveauJoueurs(2);
+        entityManager.persist(notation);
+        entityManager.flush();
+
+        // La réservation confirmée occupe une place.
+        categorieDao.reservePlaces(categorie.getId(), 1);
+        eventDao.addPlacesReservees(tournoi.getId(), 1);
+    }
+
+    private Membre createMembre(String prenom, String email) {
+        Membre membre = new Membre();
+        membre.setPrenom(prenom);
+        membre.setNom("Test");
+        membre.setDate_naissance(LocalDate.of(1990, 1, 1));
+        membre.setDate_inscription(LocalDate.now());
+        membre.setTelephone("0102030405");
+        membre.setEmail(email);
+        membre.setPassword("Password123!");
+        membre.setRole(Role.MEMBRE);
+        membre.setActif(true);
+        membre.setVerified(true);
+        return entityManager.persist(membre);
+    }
+
+    @Test
+    @DisplayName("closeFinishedEvents - Les réservations confirmées passent ABSENT et les compteurs sont remis à zéro")
+    void closeFinishedEvents_ShouldMarkNoShowsAndResetCounters() {
+        // Act
+        int avantLaFin = lifecycleWriter.closeFinishedEvents(Instant.now(), 10);
+        int clotures = lifecycleWriter.closeFinishedEvents(APRES_EVENEMENT, 10);
+        int secondPassage = lifecycleWriter.closeFinishedEvents(APRES_EVENEMENT, 10);
+        entityManager.clear();
+
+        // Assert
+        assertThat(avantLaFin).isZero();
+        assertThat(clotures).isEqualTo(1);
+        assertThat(secondPassage).isZero();
+        assertThat(entityManager.find(Reservation.class, reservationConfirmee.getId()).getStatus()).isEqualTo(ReservationStatus.ABSENT);
+        assertThat(entityManager.find(Reservation.class, reservationUtilisee.getId()).getStatus()).isEqualTo(ReservationStatus.UTILISE);
+        assertThat(entityManager.find(Categorie.class, categorie.getId()).getPlaceReserve()).isZero();
+        Event event = entityManager.find(Event.class, tournoi.getId());
+        assertThat(event.isCloture()).isTrue();
+        assertThat(event.getPlaceReserve()).isZero();
+    }
+
+    @Test
+    @DisplayName("closeFinishedEvents - Les réservations confirmées d'un événement annulé passent ANNULE, pas ABSENT")
+    void closeFinishedEvents_ShouldCancelReservationsOfCancelledEvent() {
+        // Arrange
+        tournoi.setActif(false);
+        entityManager.flush();
+
+        // Act
+        int clotures = lifecycleWriter.closeFinishedEvents(APRES_EVENEMENT, 10);
+        entityManager.clear();
+
+        // Assert
+        assertThat(clotures).isEqualTo(1);
+        assertThat(entityManager.find(Reservation.class, reservationConfirmee.getId()).getStatus()).isEqualTo(ReservationStatus.ANNULE);
+        assertThat(entityManager.find(Reservation.class, reservationUtilisee.getId()).getStatus()).isEqualTo(ReservationStatus.UTILISE);
+        assertThat(entityManager.find(Event.class, tournoi.getId()).isCloture()).isTrue();
+        // Seule la participation d'Alice (réservation utilisée) reste dans l'index.
+        assertThat(eventParticipationDao.findAll()).singleElement()
+                .satisfies(participation -> assertThat(participation.getNombreReservations()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("archiveOldEvents - Déplace l'événement clôturé et ses données dans les tables d'archive")
+    void archiveOldEvents_ShouldMoveClosedEvents() {
+        // Act
+        int nonClotures = lifecycleWriter.archiveOldEvents(APRES_EVENEMENT, 10);
+        lifecycleWriter.closeFinishedEvents(APRES_EVENEMENT, 10);
+        int archives = lifecycleWriter.archiveOldEvents(APRES_EVENEMENT, 10);
+        entityManager.clear();
+
+        // Assert
+        assertThat(nonClotures).isZero();
+        assertThat(archives).isEqualTo(1);
+        assertThat(eventDao.findById(tournoi.getId())).isEmpty();
+        assertThat(categorieDao.findById(categorie.getId())).isEmpty();
+        assertThat(entityManager.find(Reservation.class, reservationConfirmee.getId())).isNull();
+        assertThat(eventParticipationDao.count()).isZero();
+
+        EventArchive archive = eventArchiveDao.findById(tournoi.getId()).orElseThrow();
+        assertThat(archive.getNom()).isEqualTo("Tournoi");
+        assertThat(archive.getOrganisateurId()).isEqualTo(club.getId());
+        assertThat(categorieArchiveDao.findById(categorie.getId())).isPresent();
+        assertThat(reservationArchiveDao.findById(reservationConfirmee.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.ABSENT);
+        assertThat(reservationArchiveDao.count()).isEqualTo(2);
+        assertThat(notationArchiveDao.findAll()).singleElement()
+                .satisfies(notation -> assertThat(notation.getClubId()).isEqualTo(club.getId()));
+    }
+
+    @Test
+    @DisplayName("rebuild - Les notations archivées restent comptées dans les agrégats du club")
+    void rebuild_ShouldIncludeArchivedNotations() {
+        // Arrange
+        lifecycleWriter.closeFinishedEvents(APRES_EVENEMENT, 10);
+        lifecycleWriter.archiveOldEvents(APRES_EVENEMENT, 10);
+
+        // Act
+        ratingRollupService.rebuild();
+        entityManager.clear();
+
+        // Assert
+        ClubRatingRollup rollup = clubRatingRollupDao.findById(club.getId()).orElseThrow();
+        assertThat(rollup.getNombreNotations()).isEqualTo(1);
+        assertThat(rollup.getSommeAmbiance()).isEqualTo(4);
+    }
+}
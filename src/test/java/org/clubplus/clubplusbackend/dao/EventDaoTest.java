@@ -0,0 +1,161 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.dto.CategorieSummaryDto;
+import org.clubplus.clubplusbackend.dto.EventCursor;
+import org.clubplus.clubplusbackend.dto.EventSummaryDto;
+import org.clubplus.clubplusbackend.model.Categorie;
+import org.clubplus.clubplusbackend.model.Club;
+import org.clubplus.clubplusbackend.model.Event;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie le nombre d'instructions SQL émises pour les écritures multi-lignes sur {@link Event} et {@link Categorie},
+ * et pour la lecture d'une page de la liste des événements.
+ * <p>
+ * Avec des identifiants réservés par blocs ({@code GenerationType.TABLE}) et {@code hibernate.jdbc.batch_size},
+ * les INSERT et UPDATE d'une même table sont regroupés en un seul lot JDBC, donc une seule instruction préparée.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventDaoTest {
+
+    private static final int NOMBRE_CATEGORIES = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventDao eventRepository;
+
+    @Autowired
+    private CategorieDao categorieRepository;
+
+    private Statistics statistics;
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        club = new Club();
+        club.setNom("Club de Test Lots");
+        club.setCodeClub("LOT-TEST");
+        club.setActif(true);
+        club.setDate_inscription(LocalDate.now());
+        club.setEmail("lots.club@test.com");
+        club.setTelephone("0102030405");
+        club.setNumero_voie("1");
+        club.setRue("Rue des Lots");
+        club.setCodepostal("75000");
+        club.setVille("Lotville");
+        club.setDate_creation(LocalDate.now().minusYears(1));
+        entityManager.persist(club);
+
+        // Réserve un premier bloc d'identifiants pour que les mesures ne comptent pas les accès à la table des générateurs.
+        entityManager.persist(createEvent("Préchauffage", 1));
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Event createEvent(String nom, int nombreCategories) {
+        Event event = new Event();
+        event.setNom(nom);
+        event.setStartTime(Instant.now().plus(1, ChronoUnit.DAYS));
+        event.setEndTime(Instant.now().plus(2, ChronoUnit.DAYS));
+        event.setDescription("Événement de test des écritures par lots");
+        event.setLocation("Gymnase");
+        event.setOrganisateur(club);
+        event.setActif(true);
+        for (int i = 1; i <= nombreCategories; i++) {
+            Categorie categorie = new Categorie();
+            categorie.setNom("Catégorie " + i);
+            categorie.setCapacite(10);
+            categorie.setEvent(event);
+            event.getCategories().add(categorie);
+        }
+        return event;
+    }
+
+    @Test
+    @DisplayName("Création d'un événement avec 10 catégories : un INSERT pour l'événement, un lot pour les catégories")
+    void persistEventWithCategories_ShouldBatchCategoryInserts() {
+        // Act
+        entityManager.persist(createEvent("Tournoi", NOMBRE_CATEGORIES));
+        entityManager.flush();
+
+        // Assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + NOMBRE_CATEGORIES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Modification des 10 catégories d'un événement : un seul lot d'UPDATE")
+    void updateCategories_ShouldBatchUpdates() {
+        // Arrange
+        Event event = createEvent("Tournoi", NOMBRE_CATEGORIES);
+        entityManager.persist(event);
+        entityManager.flush();
+        statistics.clear();
+
+        // Act
+        event.getCategories().forEach(categorie -> categorie.setCapacite(categorie.getCapacite() + 5));
+        entityManager.flush();
+
+        // Assert
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(NOMBRE_CATEGORIES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Page de la liste des événements : deux requêtes en projection, une par association avec les entités")
+    void summaryPage_ShouldUseTwoStatements_WhereEntitiesLoadAssociationsLazily() {
+        // Arrange : 5 événements de 3 catégories, en plus de l'événement de préchauffage
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(createEvent("Tournoi " + i, 3));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Avant : entités sérialisées avec GlobalView.EventView, qui initialise l'organisateur et les catégories
+        List<Event> entities = eventRepository.findAll();
+        entities.forEach(event -> {
+            event.getOrganisateur().getNom();
+            event.getCategories().forEach(Categorie::getPlaceDisponible);
+        });
+        long entityStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+
+        // Après : projections de la page, puis catégories de la page
+        List<EventSummaryDto> page = eventRepository.findSummaryPage(true,
+                EventCursor.FIRST.startTime(), EventCursor.FIRST.id(), Limit.of(10));
+        List<CategorieSummaryDto> categories = categorieRepository.findSummariesByEventIdIn(
+                page.stream().map(EventSummaryDto::id).toList());
+
+        // Assert : page + organisateur (un seul club) + une collection par événement, contre deux requêtes
+        assertThat(entities).hasSize(6);
+        assertThat(entityStatements).isEqualTo(1 + 1 + 6);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page).hasSize(6);
+        assertThat(page.get(0).organisateur().nom()).isEqualTo("Club de Test Lots");
+        assertThat(categories).hasSize(1 + 5 * 3);
+        assertThat(categories.get(0).placeDisponible()).isEqualTo(10);
+    }
+}
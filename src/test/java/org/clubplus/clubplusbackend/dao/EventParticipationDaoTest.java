@@ -0,0 +1,196 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.dto.EventCursor;
+import org.clubplus.clubplusbackend.dto.EventSummaryDto;
+import org.clubplus.clubplusbackend.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * La base de test configurée (H2 en mode MySQL) est conservée : {@link EventParticipationDao#upsertCount} utilise
+ * {@code ON DUPLICATE KEY UPDATE}, que la base embarquée par défaut ne connaît pas.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventParticipationDaoTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventParticipationDao eventParticipationDao;
+
+    @Autowired
+    private EventDao eventDao;
+
+    private Club club;
+    private Membre alice;
+    private Membre bruno;
+    private Event tournoi;
+    private Event gala;
+    private Categorie categorieTournoi;
+    private Categorie categorieGala;
+
+    @BeforeEach
+    void setUp() {
+        club = new Club();
+        club.setNom("Club de Test Participations");
+        club.setCodeClub("PART-TEST");
+        club.setActif(true);
+        club.setDate_inscription(LocalDate.now());
+        club.setEmail("participations.club@test.com");
+        club.setTelephone("0102030405");
+        club.setNumero_voie("1");
+        club.setRue("Rue des Amis");
+        club.setCodepostal("75000");
+        club.setVille("Amiville");
+        club.setDate_creation(LocalDate.now().minusYears(1));
+        entityManager.persist(club);
+
+        alice = createMembre("Alice", "Martin", "alice@test.com");
+        bruno = createMembre("Bruno", "Durand", "bruno@test.com");
+
+        tournoi = createEvent("Tournoi", 1);
+        gala = createEvent("Gala", 2);
+        categorieTournoi = createCategorie(tournoi);
+        categorieGala = createCategorie(gala);
+        entityManager.flush();
+    }
+
+    private Membre createMembre(String prenom, String nom, String email) {
+        Membre membre = new Membre();
+        membre.setPrenom(prenom);
+        membre.setNom(nom);
+        membre.setDate_naissance(LocalDate.of(1990, 1, 1));
+        membre.setDate_inscription(LocalDate.now());
+        membre.setTelephone("0102030405");
+        membre.setEmail(email);
+        membre.setPassword("Password123!");
+        membre.setRole(Role.MEMBRE);
+        membre.setActif(true);
+        membre.setVerified(true);
+        return entityManager.persist(membre);
+    }
+
+    private Event createEvent(String nom, int joursAvantDebut) {
+        Event event = new Event();
+        event.setNom(nom);
+        event.setStartTime(Instant.now().plus(joursAvantDebut, ChronoUnit.DAYS));
+        event.setEndTime(Instant.now().plus(joursAvantDebut + 1, ChronoUnit.DAYS));
+        event.setDescription("Événement de test des participations");
+        event.setLocation("Gymnase");
+        event.setOrganisateur(club);
+        event.setActif(true);
+        return entityManager.persist(event);
+    }
+
+    private Categorie createCategorie(Event event) {
+        Categorie categorie = new Categorie();
+        categorie.setNom("Standard");
+        categorie.setCapacite(10);
+        categorie.setEvent(event);
+        return entityManager.persist(categorie);
+    }
+
+    private void reserve(Membre membre, Event event, Categorie categorie, ReservationStatus status) {
+        Reservation reservation = new Reservation(membre, event, categorie);
+        reservation.setStatus(status);
+        entityManager.persist(reservation);
+    }
+
+    @Test
+    @DisplayName("addToCount et deleteIfEmpty : la participation disparaît avec la dernière réservation")
+    void addToCountAndDeleteIfEmpty_ShouldFollowReservations() {
+        // Arrange
+        entityManager.persist(new EventParticipation(tournoi.getId(), alice.getId(), 1));
+        entityManager.flush();
+
+        // Act & Assert
+        assertThat(eventParticipationDao.addToCount(tournoi.getId(), alice.getId(), 1)).isEqualTo(1);
+        assertThat(eventParticipationDao.addToCount(tournoi.getId(), alice.getId(), -1)).isEqualTo(1);
+        assertThat(eventParticipationDao.deleteIfEmpty(tournoi.getId(), alice.getId())).isZero();
+        assertThat(eventParticipationDao.addToCount(tournoi.getId(), alice.getId(), -1)).isEqualTo(1);
+        assertThat(eventParticipationDao.deleteIfEmpty(tournoi.getId(), alice.getId())).isEqualTo(1);
+        assertThat(eventParticipationDao.addToCount(tournoi.getId(), alice.getId(), -1)).isZero();
+    }
+
+    @Test
+    @DisplayName("upsertCount : crée la participation à la première réservation puis l'incrémente")
+    void upsertCount_ShouldCreateThenIncrement() {
+        // Act
+        eventParticipationDao.upsertCount(tournoi.getId(), alice.getId(), 1);
+        eventParticipationDao.upsertCount(tournoi.getId(), alice.getId(), 2);
+        entityManager.clear();
+
+        // Assert
+        assertThat(eventParticipationDao.findById(new EventParticipation.Key(tournoi.getId(), alice.getId())))
+                .hasValueSatisfying(p -> assertThat(p.getNombreReservations()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("insertFromReservations : une participation par (événement, membre), réservations annulées exclues")
+    void insertFromReservations_ShouldIgnoreCancelledReservations() {
+        // Arrange
+        reserve(alice, tournoi, categorieTournoi, ReservationStatus.CONFIRME);
+        reserve(alice, tournoi, categorieTournoi, ReservationStatus.UTILISE);
+        reserve(bruno, tournoi, categorieTournoi, ReservationStatus.ANNULE);
+        reserve(bruno, gala, categorieGala, ReservationStatus.CONFIRME);
+        entityManager.flush();
+
+        // Act
+        int participations = eventParticipationDao.insertFromReservations(ReservationStatus.ANNULE);
+
+        // Assert
+        assertThat(participations).isEqualTo(2);
+        assertThat(eventParticipationDao.findById(new EventParticipation.Key(tournoi.getId(), alice.getId())))
+                .hasValueSatisfying(p -> assertThat(p.getNombreReservations()).isEqualTo(2));
+        assertThat(eventParticipationDao.findById(new EventParticipation.Key(tournoi.getId(), bruno.getId()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findParticipantNames : noms des amis participants, par événement")
+    void findParticipantNames_ShouldReturnNamesOfGivenMembers() {
+        // Arrange
+        entityManager.persist(new EventParticipation(tournoi.getId(), alice.getId(), 1));
+        entityManager.persist(new EventParticipation(tournoi.getId(), bruno.getId(), 2));
+        entityManager.persist(new EventParticipation(gala.getId(), bruno.getId(), 1));
+        entityManager.flush();
+
+        // Act
+        List<Object[]> rows = eventParticipationDao.findParticipantNames(
+                List.of(tournoi.getId(), gala.getId()), List.of(alice.getId()));
+
+        // Assert
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsExactly(tournoi.getId(), "Alice", "Martin");
+    }
+
+    @Test
+    @DisplayName("findSummaryPageByOrganisateurIdInWithFriends : seuls les événements où participe un ami")
+    void findSummaryPageWithFriends_ShouldUseParticipationIndex() {
+        // Arrange
+        entityManager.persist(new EventParticipation(gala.getId(), bruno.getId(), 1));
+        entityManager.flush();
+
+        // Act
+        List<EventSummaryDto> page = eventDao.findSummaryPageByOrganisateurIdInWithFriends(
+                List.of(club.getId()), true, List.of(alice.getId(), bruno.getId()),
+                EventCursor.FIRST.startTime(), EventCursor.FIRST.id(), Limit.of(10));
+
+        // Assert
+        assertThat(page).extracting(EventSummaryDto::id).containsExactly(gala.getId());
+    }
+}
@@ -0,0 +1,60 @@
+package org.clubplus.clubplusbackend.dao;
+
+import org.clubplus.clubplusbackend.model.EventRatingRollup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie les upserts natifs des agrégats de notations ({@code INSERT ... ON DUPLICATE KEY UPDATE}).
+ * La base de test configurée (H2 en mode MySQL) est conservée : la base embarquée par défaut ne connaît pas cette syntaxe.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventRatingRollupDaoTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRatingRollupDao eventRatingRollupDao;
+
+    @Autowired
+    private ClubRatingRollupDao clubRatingRollupDao;
+
+    @Test
+    @DisplayName("upsertNotation - La première notation crée l'agrégat de l'événement, les suivantes l'incrémentent")
+    void eventUpsertNotation_ShouldCreateThenIncrement() {
+        // Act
+        eventRatingRollupDao.upsertNotation(1, 7, 4, 5, 3, 4, 2);
+        eventRatingRollupDao.upsertNotation(1, 7, 2, 1, 3, 2, 4);
+        entityManager.clear();
+
+        // Assert
+        EventRatingRollup rollup = eventRatingRollupDao.findById(1).orElseThrow();
+        assertThat(rollup.getClubId()).isEqualTo(7);
+        assertThat(rollup.getNombreNotations()).isEqualTo(2);
+        assertThat(rollup.getSommeAmbiance()).isEqualTo(6);
+        assertThat(rollup.getSommeNiveauJoueurs()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("upsertNotation - La première notation crée l'agrégat du club, les suivantes l'incrémentent")
+    void clubUpsertNotation_ShouldCreateThenIncrement() {
+        // Act
+        clubRatingRollupDao.upsertNotation(7, 4, 5, 3, 4, 2);
+        clubRatingRollupDao.upsertNotation(7, 2, 1, 3, 2, 4);
+        entityManager.clear();
+
+        // Assert
+        assertThat(clubRatingRollupDao.findById(7)).hasValueSatisfying(rollup -> {
+            assertThat(rollup.getNombreNotations()).isEqualTo(2);
+            assertThat(rollup.getSommeProprete()).isEqualTo(6);
+        });
+    }
+}
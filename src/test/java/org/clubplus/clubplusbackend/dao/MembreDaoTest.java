@@ -304,4 +304,40 @@ public class MembreDaoTest {
             // Le flush est important ici pour forcer la vérification de la contrainte par la base de données.
         });
     }
+
+    /**
+     * Teste la requête de projection {@code findRoleAndClubIdsById} utilisée pour le contexte d'autorisation.
+     * Vérifie qu'une ligne est retournée par adhésion, avec le rôle du membre.
+     */
+    @Test
+    @DisplayName("Projection rôle/clubs - Membre avec deux adhésions")
+    void quandRechercheRoleEtClubs_avecDeuxAdhesions_alorsRetourneUneLigneParClub() {
+        membre1 = createMembreTemplate("projection.user@example.com", "ProjUser", Role.MEMBRE, "AMIS-PR001");
+        entityManager.persistAndFlush(membre1);
+        entityManager.persistAndFlush(new Adhesion(membre1, club1));
+        entityManager.persistAndFlush(new Adhesion(membre1, club2));
+
+        List<Object[]> rows = membreDao.findRoleAndClubIdsById(membre1.getId());
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allSatisfy(row -> assertThat(row[0]).isEqualTo(Role.MEMBRE));
+        assertThat(rows).extracting(row -> row[1]).containsExactlyInAnyOrder(club1.getId(), club2.getId());
+    }
+
+    /**
+     * Teste la requête de projection {@code findRoleAndClubIdsById} pour un membre sans adhésion.
+     * Une unique ligne avec un ID de club null est attendue.
+     */
+    @Test
+    @DisplayName("Projection rôle/clubs - Membre sans adhésion")
+    void quandRechercheRoleEtClubs_sansAdhesion_alorsRetourneLigneAvecClubNull() {
+        membre1 = createMembreTemplate("projection.solo@example.com", "ProjSolo", Role.MEMBRE, "AMIS-PR002");
+        entityManager.persistAndFlush(membre1);
+
+        List<Object[]> rows = membreDao.findRoleAndClubIdsById(membre1.getId());
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)[0]).isEqualTo(Role.MEMBRE);
+        assertThat(rows.get(0)[1]).isNull();
+    }
 }
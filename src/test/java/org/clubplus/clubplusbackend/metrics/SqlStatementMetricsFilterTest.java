@@ -0,0 +1,123 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlStatementMetricsFilterTest {
+
+    /**
+     * Aucun endpoint ne correspond : le budget par défaut s'applique.
+     */
+    private static final SqlBudgetResolver SANS_BUDGET = new SqlBudgetResolver(request -> null);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * Endpoint de test déclarant un budget d'une requête SQL.
+     */
+    static class EndpointBudgete {
+
+        @SqlBudget(1)
+        public void handle() {
+        }
+    }
+
+    @Test
+    @DisplayName("doFilter - Enregistre le nombre de requêtes SQL par modèle d'URI")
+    void doFilter_ShouldRecordStatementsPerRequest() throws Exception {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter(SqlStatementCounter.Mode.LOG, 50, 5);
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, SANS_BUDGET, registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events/42");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            counter.inspect("select e from events e where e.id=?");
+            counter.inspect("select c from categories c where c.event_id=?");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/events/{id}");
+        });
+
+        // Assert
+        DistributionSummary summary = registry.get(SqlStatementMetricsFilter.METRIQUE)
+                .tag("method", "GET").tag("uri", "/events/{id}").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(request.getAttribute(SqlStatementMetricsFilter.REPORT_ATTRIBUTE))
+                .isEqualTo(new SqlStatementReport(2, 50, Map.of()));
+        // Hors requête, le compteur n'est plus actif.
+        counter.inspect("select 1");
+        assertThat(counter.stop().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("doFilter - Signale les requêtes répétées et le dépassement du budget")
+    void doFilter_ShouldReportNPlusOneAndBudget() throws Exception {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter(SqlStatementCounter.Mode.LOG, 50, 3);
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, SANS_BUDGET, registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservations/me");
+
+        // Act : une requête par réservation, avec des listes IN de tailles différentes.
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            counter.setBudget(2);
+            counter.inspect("select * from reservations r where r.membre_id=?");
+            counter.inspect("select * from events e where e.id in (?)");
+            counter.inspect("select * from events e where e.id in (?, ?)");
+            counter.inspect("select * from events   e where e.id in (?,?,?)");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/reservations/me");
+        });
+
+        // Assert
+        SqlStatementReport report = (SqlStatementReport) request.getAttribute(SqlStatementMetricsFilter.REPORT_ATTRIBUTE);
+        assertThat(report.total()).isEqualTo(4);
+        assertThat(report.overBudget()).isTrue();
+        assertThat(report.repetitions()).containsExactly(Map.entry("select * from events e where e.id in (?)", 3));
+        assertThat(registry.get("clubplus.http.sql.budget.exceeded").counter().count()).isEqualTo(1);
+        assertThat(registry.get("clubplus.http.sql.n-plus-one").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("inspect - En mode FAIL, la requête SQL qui dépasse le budget échoue")
+    void inspect_ShouldFailWhenBudgetExceeded() {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter(SqlStatementCounter.Mode.FAIL, 1, 5);
+        counter.start();
+        counter.inspect("select 1");
+
+        // Act & Assert
+        assertThrows(SqlBudgetExceededException.class, () -> counter.inspect("select 2"));
+        assertThat(counter.stop().total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doFilter - Le budget de l'endpoint s'applique dès le début de la requête, avant la sécurité")
+    void doFilter_ShouldApplyEndpointBudgetBeforeSecurityChain() throws Exception {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter(SqlStatementCounter.Mode.FAIL, 50, 5);
+        HandlerMethod endpoint = new HandlerMethod(new EndpointBudgete(), EndpointBudgete.class.getMethod("handle"));
+        SqlBudgetResolver resolver = new SqlBudgetResolver(request -> new HandlerExecutionChain(endpoint));
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, resolver, registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/budgete");
+
+        // Act & Assert : la deuxième lecture (authentification, avant tout intercepteur MVC) dépasse déjà le budget.
+        assertThrows(SqlBudgetExceededException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> {
+                    counter.inspect("select m from membre m where m.id=?");
+                    counter.inspect("select a from adhesion a where a.membre_id=?");
+                }));
+        SqlStatementReport report = (SqlStatementReport) request.getAttribute(SqlStatementMetricsFilter.REPORT_ATTRIBUTE);
+        assertThat(report.budget()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,54 @@
+package org.clubplus.clubplusbackend.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifications MockMvc sur les requêtes SQL d'une requête HTTP.
+ * <p>
+ * Le {@link SqlStatementMetricsFilter} doit être ajouté au MockMvc
+ * ({@code MockMvcBuilders.webAppContextSetup(context).addFilters(sqlStatementMetricsFilter)}).
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    /**
+     * Vérifie que la requête n'a pas dépassé le budget déclaré par {@link SqlBudget} sur l'endpoint.
+     */
+    public static ResultMatcher withinBudget() {
+        return result -> {
+            SqlStatementReport report = report(result);
+            assertThat(report.total())
+                    .as("Requêtes SQL de %s (budget : %d)", result.getRequest().getRequestURI(), report.budget())
+                    .isLessThanOrEqualTo(report.budget());
+        };
+    }
+
+    /**
+     * Vérifie que la requête a exécuté au plus {@code max} requêtes SQL.
+     */
+    public static ResultMatcher atMost(int max) {
+        return result -> assertThat(report(result).total())
+                .as("Requêtes SQL de %s", result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    /**
+     * Vérifie qu'aucune requête SQL n'a été répétée au point d'évoquer un problème N+1.
+     */
+    public static ResultMatcher noNPlusOne() {
+        return result -> assertThat(report(result).repetitions())
+                .as("Requêtes SQL répétées par %s", result.getRequest().getRequestURI())
+                .isEmpty();
+    }
+
+    private static SqlStatementReport report(MvcResult result) {
+        Object report = result.getRequest().getAttribute(SqlStatementMetricsFilter.REPORT_ATTRIBUTE);
+        assertThat(report).as("SqlStatementMetricsFilter n'est pas installé sur ce MockMvc").isNotNull();
+        return (SqlStatementReport) report;
+    }
+}
@@ -38,7 +38,7 @@ import static org.mockito.Mockito.*;
  * <p>
  * Cette classe utilise Mockito pour créer des simulations (mocks) des dépendances externes
  * de {@code ClubService}, telles que les DAOs ({@link ClubDao}, {@link MembreDao}, etc.)
- * et d'autres services ({@link SecurityService}, {@link EmailService}).
+ * et d'autres services ({@link SecurityService}, {@link EmailOutboxService}).
  * L'objectif est de tester la logique métier de {@code ClubService} de manière isolée,
  * en contrôlant le comportement de ses dépendances.
  * </p>
@@ -87,11 +87,11 @@ class ClubServiceTest {
     private SecurityService securityService;
 
     /**
-     * Mock pour le service d'envoi d'emails.
-     * Utilisé pour simuler l'envoi d'emails de vérification ou de notification.
+     * Mock pour la file d'envoi des emails.
+     * Utilisé pour vérifier la planification des emails de vérification.
      */
     @Mock
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
 
     /**
      * Mock pour le DAO des événements.
@@ -101,6 +101,13 @@ class ClubServiceTest {
     @Mock
     private EventDao eventRepository;
 
+    /**
+     * Mock pour le service des compteurs mensuels d'adhésions.
+     * Utilisé pour vérifier que l'adhésion de l'administrateur est comptabilisée à la création du club.
+     */
+    @Mock
+    private MonthlyAdhesionService monthlyAdhesionService;
+
     /**
      * Instance de {@link ClubService} à tester.
      * Les mocks déclarés ci-dessus seront injectés dans cette instance par Mockito.
@@ -307,6 +314,8 @@ class ClubServiceTest {
         verify(membreRepository).save(any(Membre.class));
         verify(clubRepository, times(1)).save(any(Club.class)); // <<<--- CORRECTION: times(1)
         verify(adhesionRepository).save(any(Adhesion.class));
+        verify(monthlyAdhesionService).recordAdhesion(any(Adhesion.class));
+        verify(emailOutboxService).enqueueVerificationEmail(any(Membre.class));
     }
 
     /**
@@ -0,0 +1,186 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.model.EmailOutboxMessage;
+import org.clubplus.clubplusbackend.model.EmailType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.IContext;
+
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+    @Mock
+    private TemplateEngine templateEngine;
+
+    private FakeMailSender mailSender;
+    private EmailOutboxDispatcher dispatcher;
+    private EmailOutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new FakeMailSender();
+        EmailService emailService = new EmailService(mailSender, new EmailRenderer(templateEngine));
+        ReflectionTestUtils.setField(emailService, "fromEmailAddress", "club.plus@example.com");
+        ReflectionTestUtils.setField(emailService, "backendBaseUrl", "http://localhost:8080");
+        dispatcher = new EmailOutboxDispatcher(emailOutboxService, emailService,
+                true, 10, 3, 1_000, 4_000, 60_000, 86_400_000);
+
+        message = new EmailOutboxMessage(EmailType.VERIFICATION, "jean.dupont@example.com",
+                Map.of("prenom", "Jean", "token", "abc"));
+        message.setId(42L);
+    }
+
+    /**
+     * Les messages sont renvoyés par {@code claim} tels que relus après la réservation (tentative en cours comptée).
+     */
+    private void givenDueMessages(EmailOutboxMessage... messages) {
+        when(emailOutboxService.findDueIds(10)).thenReturn(Arrays.stream(messages).map(EmailOutboxMessage::getId).toList());
+        for (EmailOutboxMessage dueMessage : messages) {
+            when(emailOutboxService.claim(eq(dueMessage.getId()), any(Instant.class))).thenReturn(Optional.of(dueMessage));
+        }
+        doAnswer(invocation -> {
+            invocation.getArgument(2, Writer.class).write("<p>Bonjour</p>");
+            return null;
+        }).when(templateEngine).process(any(TemplateSpec.class), any(IContext.class), any(Writer.class));
+    }
+
+    @Test
+    @DisplayName("dispatchPending - Envoie le message au serveur SMTP et le marque envoyé")
+    void dispatchPending_ShouldSendAndMarkSent() throws Exception {
+        // Arrange
+        givenDueMessages(message);
+
+        // Act
+        int envoyes = dispatcher.dispatchPending();
+
+        // Assert
+        assertThat(envoyes).isEqualTo(1);
+        assertThat(mailSender.getMimeMessages()).hasSize(1);
+        assertThat(mailSender.getMimeMessages().get(0).getAllRecipients()[0].toString()).isEqualTo("jean.dupont@example.com");
+        verify(emailOutboxService).markSent(42L);
+        verify(emailOutboxService, never()).markFailed(anyLong(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    @DisplayName("dispatchPending - Replanifie le message avec un délai exponentiel en cas d'échec SMTP")
+    void dispatchPending_ShouldScheduleRetry_WhenSmtpFails() {
+        // Arrange
+        message.setTentatives(2);
+        givenDueMessages(message);
+        mailSender.failNext(1);
+        Instant avant = Instant.now();
+
+        // Act
+        int envoyes = dispatcher.dispatchPending();
+
+        // Assert
+        assertThat(envoyes).isZero();
+        ArgumentCaptor<Instant> prochaineTentative = ArgumentCaptor.forClass(Instant.class);
+        verify(emailOutboxService).markFailed(eq(42L), eq(false), prochaineTentative.capture(), contains("MailSendException"));
+        // Deuxième échec : 1 s * 2^1.
+        assertThat(prochaineTentative.getValue()).isAfterOrEqualTo(avant.plusMillis(2_000));
+        verify(emailOutboxService, never()).markSent(anyLong());
+    }
+
+    @Test
+    @DisplayName("dispatchPending - Abandonne le message (dead letter) après le nombre maximal de tentatives")
+    void dispatchPending_ShouldDeadLetter_AfterMaxAttempts() {
+        // Arrange
+        message.setTentatives(3);
+        givenDueMessages(message);
+        mailSender.failNext(1);
+
+        // Act
+        dispatcher.dispatchPending();
+
+        // Assert
+        verify(emailOutboxService).markFailed(eq(42L), eq(true), any(), anyString());
+        assertThat(mailSender.getMimeMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("dispatchPending - Abandonne sans le renvoyer un message dont les baux ont expiré au-delà du maximum de tentatives")
+    void dispatchPending_ShouldDeadLetterWithoutSending_WhenLeasesExpiredPastMaxAttempts() {
+        // Arrange : trois réservations précédentes sans résultat (arrêt pendant l'envoi), celle-ci est la quatrième.
+        message.setTentatives(4);
+        when(emailOutboxService.findDueIds(10)).thenReturn(List.of(42L));
+        when(emailOutboxService.claim(eq(42L), any(Instant.class))).thenReturn(Optional.of(message));
+
+        // Act
+        int envoyes = dispatcher.dispatchPending();
+
+        // Assert
+        assertThat(envoyes).isZero();
+        assertThat(mailSender.getMimeMessages()).isEmpty();
+        verify(emailOutboxService).markFailed(eq(42L), eq(true), any(), contains("bail expiré"));
+        verify(emailOutboxService, never()).markSent(anyLong());
+        verifyNoInteractions(templateEngine);
+    }
+
+    @Test
+    @DisplayName("dispatchPending - Génère et envoie ensemble les messages d'un même type")
+    void dispatchPending_ShouldSendSameTypeMessagesTogether() {
+        // Arrange
+        EmailOutboxMessage autre = new EmailOutboxMessage(EmailType.VERIFICATION, "marie.curie@example.com",
+                Map.of("prenom", "Marie", "token", "def"));
+        autre.setId(43L);
+        givenDueMessages(message, autre);
+
+        // Act
+        int envoyes = dispatcher.dispatchPending();
+
+        // Assert
+        assertThat(envoyes).isEqualTo(2);
+        assertThat(mailSender.getSendCalls()).isEqualTo(1);
+        assertThat(mailSender.getMimeMessages()).hasSize(2);
+        verify(emailOutboxService).markSent(42L);
+        verify(emailOutboxService).markSent(43L);
+    }
+
+    @Test
+    @DisplayName("dispatchPending - N'envoie pas un message déjà réservé par un autre dispatcher")
+    void dispatchPending_ShouldSkip_WhenMessageAlreadyClaimed() {
+        // Arrange
+        when(emailOutboxService.findDueIds(10)).thenReturn(List.of(42L));
+        when(emailOutboxService.claim(eq(42L), any(Instant.class))).thenReturn(Optional.empty());
+
+        // Act
+        int envoyes = dispatcher.dispatchPending();
+
+        // Assert
+        assertThat(envoyes).isZero();
+        assertThat(mailSender.getMimeMessages()).isEmpty();
+        verifyNoInteractions(templateEngine);
+    }
+
+    @Test
+    @DisplayName("backoff - Double le délai à chaque tentative, dans la limite du maximum")
+    void backoff_ShouldDoubleUpToMaximum() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofSeconds(4));
+    }
+}
@@ -0,0 +1,49 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailRendererTest {
+
+    private EmailRenderer emailRenderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        // Même moteur qu'en production (expressions SpEL) ; le TemplateEngine de base exigerait OGNL.
+        TemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        emailRenderer = new EmailRenderer(templateEngine);
+        emailRenderer.warmUp();
+    }
+
+    @Test
+    @DisplayName("renderBatch - Génère pour chaque destinataire le même contenu qu'un rendu individuel")
+    void renderBatch_ShouldMatchIndividualRendering() {
+        // Arrange
+        Map<String, String> jean = Map.of("prenom", "Jean", "verificationLink", "http://localhost/verify?token=a");
+        Map<String, String> marie = Map.of("prenom", "Marie", "verificationLink", "http://localhost/verify?token=b");
+
+        // Act
+        List<String> contenus = emailRenderer.renderBatch("verification-email.html", List.of(jean, marie));
+
+        // Assert
+        assertThat(contenus).hasSize(2);
+        assertThat(contenus.get(0)).contains("Jean").contains("token=a").doesNotContain("Marie");
+        assertThat(contenus.get(1)).contains("Marie").contains("token=b").doesNotContain("Jean");
+        assertThat(contenus.get(0)).isEqualTo(emailRenderer.render("verification-email.html", jean));
+        assertThat(contenus.get(1)).isEqualTo(emailRenderer.render("verification-email.html", marie));
+    }
+}
@@ -0,0 +1,58 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventLifecycleServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Mock
+    private EventLifecycleWriter lifecycleWriter;
+
+    @Test
+    @DisplayName("run - Enchaîne les lots tant qu'ils sont pleins, puis archive avant l'horizon")
+    void run_ShouldLoopOverFullBatches() {
+        // Arrange
+        Instant cutoff = NOW.minus(365, ChronoUnit.DAYS);
+        when(lifecycleWriter.closeFinishedEvents(NOW, 2)).thenReturn(2, 2, 1);
+        when(lifecycleWriter.archiveOldEvents(cutoff, 2)).thenReturn(0);
+        EventLifecycleService service = new EventLifecycleService(lifecycleWriter, true, 2, 365);
+
+        // Act
+        service.run(NOW);
+
+        // Assert
+        verify(lifecycleWriter, times(3)).closeFinishedEvents(NOW, 2);
+        verify(lifecycleWriter, times(1)).archiveOldEvents(cutoff, 2);
+    }
+
+    @Test
+    @DisplayName("scheduledRun - Ne fait rien quand la tâche est désactivée")
+    void scheduledRun_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        EventLifecycleService service = new EventLifecycleService(lifecycleWriter, false, 200, 365);
+
+        // Act
+        service.scheduledRun();
+
+        // Assert
+        verifyNoInteractions(lifecycleWriter);
+    }
+
+    @Test
+    @DisplayName("Constructeur - Refuse une taille de lot inférieure à 1")
+    void constructor_ShouldRejectInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EventLifecycleService(lifecycleWriter, true, 0, 365));
+    }
+}
@@ -0,0 +1,82 @@
+package org.clubplus.clubplusbackend.service;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Serveur SMTP factice pour les tests : conserve en mémoire les messages "envoyés"
+ * et peut simuler un nombre donné d'échecs consécutifs.
+ */
+class FakeMailSender implements JavaMailSender {
+
+    private final Session session = Session.getInstance(new Properties());
+    private final List<MimeMessage> mimeMessages = new ArrayList<>();
+    private final List<SimpleMailMessage> simpleMessages = new ArrayList<>();
+    private int failuresRemaining;
+    private int sendCalls;
+
+    /**
+     * Fait échouer les {@code count} prochains envois.
+     */
+    void failNext(int count) {
+        this.failuresRemaining = count;
+    }
+
+    List<MimeMessage> getMimeMessages() {
+        return mimeMessages;
+    }
+
+    /**
+     * @return Le nombre d'appels à {@code send} (une connexion SMTP par appel avec un vrai serveur).
+     */
+    int getSendCalls() {
+        return sendCalls;
+    }
+
+    List<SimpleMailMessage> getSimpleMessages() {
+        return simpleMessages;
+    }
+
+    private void maybeFail() {
+        sendCalls++;
+        if (failuresRemaining > 0) {
+            failuresRemaining--;
+            throw new MailSendException("Serveur SMTP factice indisponible");
+        }
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(session);
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) throws MailException {
+        try {
+            return new MimeMessage(session, contentStream);
+        } catch (Exception e) {
+            throw new MailSendException("Message illisible", e);
+        }
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) throws MailException {
+        maybeFail();
+        this.mimeMessages.addAll(List.of(mimeMessages));
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) throws MailException {
+        maybeFail();
+        this.simpleMessages.addAll(List.of(simpleMessages));
+    }
+}
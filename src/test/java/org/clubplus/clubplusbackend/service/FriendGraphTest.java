@@ -0,0 +1,96 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.DemandeAmiDao;
+import org.clubplus.clubplusbackend.model.Statut;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendGraphTest {
+
+    @Mock
+    private DemandeAmiDao demandeAmiRepository;
+
+    private FriendGraph friendGraph;
+
+    @BeforeEach
+    void setUp() {
+        friendGraph = new FriendGraph(demandeAmiRepository);
+    }
+
+    /**
+     * Amitiés 1-2, 1-3, 2-3, 3-4 (la paire 1-2 apparaît deux fois, dans les deux sens).
+     */
+    private void givenFriendships() {
+        when(demandeAmiRepository.findMemberIdPairsByStatut(Statut.ACCEPTEE)).thenReturn(List.of(
+                new Object[]{1, 3}, new Object[]{2, 1}, new Object[]{3, 2}, new Object[]{4, 3}, new Object[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("Lectures - Liste d'amis triée, test d'amitié et amis communs depuis un seul chargement")
+    void reads_ShouldBeServedFromMemory() {
+        // Arrange
+        givenFriendships();
+
+        // Act & Assert
+        assertThat(friendGraph.getFriendIds(1)).containsExactly(2, 3);
+        assertThat(friendGraph.getFriendIds(3)).containsExactly(1, 2, 4);
+        assertThat(friendGraph.getFriendIds(99)).isEmpty();
+        assertThat(friendGraph.areFriends(4, 3)).isTrue();
+        assertThat(friendGraph.areFriends(1, 4)).isFalse();
+        assertThat(friendGraph.countMutualFriends(1, 2)).isEqualTo(1);
+        assertThat(friendGraph.countMutualFriends(1, 4)).isEqualTo(1);
+        assertThat(friendGraph.countFriends(2)).isEqualTo(2);
+        verify(demandeAmiRepository, times(1)).findMemberIdPairsByStatut(Statut.ACCEPTEE);
+    }
+
+    @Test
+    @DisplayName("Modifications - Ajout et suppression d'amitiés, suppression d'un membre")
+    void edits_ShouldUpdateBothMembers() {
+        // Arrange
+        givenFriendships();
+        friendGraph.warmUp();
+
+        // Act
+        friendGraph.addFriendship(4, 1);
+        friendGraph.removeFriendship(2, 3);
+
+        // Assert
+        assertThat(friendGraph.getFriendIds(1)).containsExactly(2, 3, 4);
+        assertThat(friendGraph.getFriendIds(4)).containsExactly(1, 3);
+        assertThat(friendGraph.areFriends(3, 2)).isFalse();
+
+        // Act
+        friendGraph.removeMember(3);
+
+        // Assert
+        assertThat(friendGraph.getFriendIds(3)).isEmpty();
+        assertThat(friendGraph.getFriendIds(1)).containsExactly(2, 4);
+        assertThat(friendGraph.getFriendIds(4)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("reload - Remplace le graphe par l'état de la base")
+    void reload_ShouldReplaceGraph() {
+        // Arrange
+        givenFriendships();
+        friendGraph.warmUp();
+        when(demandeAmiRepository.findMemberIdPairsByStatut(Statut.ACCEPTEE)).thenReturn(List.<Object[]>of(new Object[]{5, 6}));
+
+        // Act
+        friendGraph.reload();
+
+        // Assert
+        assertThat(friendGraph.getFriendIds(1)).isEmpty();
+        assertThat(friendGraph.areFriends(6, 5)).isTrue();
+    }
+}
@@ -0,0 +1,176 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.AdhesionDao;
+import org.clubplus.clubplusbackend.dao.DemandeAmiDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.dao.ReservationDao;
+import org.clubplus.clubplusbackend.dto.FriendSuggestionDto;
+import org.clubplus.clubplusbackend.model.Membre;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.clubplus.clubplusbackend.model.Role;
+import org.clubplus.clubplusbackend.model.Statut;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendSuggestionServiceTest {
+
+    @Mock
+    private DemandeAmiDao demandeAmiRepository;
+    @Mock
+    private AdhesionDao adhesionRepository;
+    @Mock
+    private ReservationDao reservationRepository;
+    @Mock
+    private MembreDao membreRepository;
+    @Mock
+    private SecurityService securityService;
+
+    private FriendSuggestionService service(int maxGroupSize) {
+        return new FriendSuggestionService(new FriendGraph(demandeAmiRepository),
+                new MemberAffinityIndex(adhesionRepository, reservationRepository),
+                demandeAmiRepository, membreRepository, securityService, maxGroupSize);
+    }
+
+    /**
+     * Le membre 1 est ami avec 2 et 3 ; 4 est ami de 2 et de 3, 5 ami de 2.
+     * Le club 10 réunit 1, 5, 6 et 7 ; 1 et 7 ont participé à l'événement 100.
+     */
+    private void givenNetwork() {
+        when(demandeAmiRepository.findMemberIdPairsByStatut(Statut.ACCEPTEE)).thenReturn(List.of(
+                new Object[]{1, 2}, new Object[]{3, 1}, new Object[]{2, 4}, new Object[]{4, 3}, new Object[]{2, 5}));
+        when(adhesionRepository.findActiveMembreClubIdPairs()).thenReturn(List.of(
+                new Object[]{1, 10}, new Object[]{5, 10}, new Object[]{6, 10}, new Object[]{7, 10}));
+        when(reservationRepository.findDistinctMembreEventIdPairsByStatus(ReservationStatus.UTILISE)).thenReturn(List.of(
+                new Object[]{1, 100}, new Object[]{7, 100}));
+    }
+
+    private static Membre membre(int id, Role role) {
+        Membre membre = new Membre();
+        membre.setId(id);
+        membre.setNom("Nom" + id);
+        membre.setPrenom("Prenom" + id);
+        membre.setCodeAmi(String.format("AMIS-%06d", id));
+        membre.setRole(role);
+        return membre;
+    }
+
+    @Test
+    @DisplayName("getSuggestions - Classe les non-amis par amis, clubs et événements communs")
+    void getSuggestions_ShouldRankCandidates() {
+        // Arrange
+        givenNetwork();
+        when(securityService.getCurrentUserIdOrThrow()).thenReturn(1);
+        when(demandeAmiRepository.findPendingRequestCounterpartIds(1)).thenReturn(List.of(6));
+        when(membreRepository.findAllById(anyIterable())).thenReturn(List.of(
+                membre(7, Role.MEMBRE), membre(4, Role.MEMBRE), membre(5, Role.MEMBRE)));
+
+        // Act
+        List<FriendSuggestionDto> suggestions = service(200).getSuggestions(null);
+
+        // Assert : 6 est exclu (demande en attente), 2 et 3 sont déjà amis.
+        assertThat(suggestions).containsExactly(
+                new FriendSuggestionDto(4, "Nom4", "Prenom4", "AMIS-000004", 2, 0, 0),
+                new FriendSuggestionDto(5, "Nom5", "Prenom5", "AMIS-000005", 1, 1, 0),
+                new FriendSuggestionDto(7, "Nom7", "Prenom7", "AMIS-000007", 0, 1, 1));
+    }
+
+    @Test
+    @DisplayName("getSuggestions - Écarte les gestionnaires, qui ne peuvent pas recevoir de demande")
+    void getSuggestions_ShouldSkipManagers() {
+        // Arrange
+        givenNetwork();
+        when(securityService.getCurrentUserIdOrThrow()).thenReturn(1);
+        when(demandeAmiRepository.findPendingRequestCounterpartIds(1)).thenReturn(List.of());
+        when(membreRepository.findAllById(anyIterable())).thenReturn(List.of(
+                membre(4, Role.ADMIN), membre(5, Role.MEMBRE), membre(6, Role.MEMBRE), membre(7, Role.RESERVATION)));
+
+        // Act
+        List<FriendSuggestionDto> suggestions = service(200).getSuggestions(1);
+
+        // Assert
+        assertThat(suggestions).extracting(FriendSuggestionDto::id).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("getSuggestions - Relit les candidats suivants quand la marge ne suffit pas à remplir la page")
+    void getSuggestions_ShouldRefillPage_WhenManyCandidatesAreSkipped() {
+        // Arrange : le club 10 réunit le membre 1, douze gestionnaires (20 à 31) et un membre (40), tous à égalité.
+        List<Object[]> adhesions = new ArrayList<>();
+        adhesions.add(new Object[]{1, 10});
+        for (int id = 20; id <= 31; id++) {
+            adhesions.add(new Object[]{id, 10});
+        }
+        adhesions.add(new Object[]{40, 10});
+        when(adhesionRepository.findActiveMembreClubIdPairs()).thenReturn(adhesions);
+        when(securityService.getCurrentUserIdOrThrow()).thenReturn(1);
+        when(demandeAmiRepository.findPendingRequestCounterpartIds(1)).thenReturn(List.of());
+        when(membreRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Membre> membres = new ArrayList<>();
+            for (Integer id : invocation.<Iterable<Integer>>getArgument(0)) {
+                membres.add(membre(id, id < 40 ? Role.ADMIN : Role.MEMBRE));
+            }
+            return membres;
+        });
+
+        // Act
+        List<FriendSuggestionDto> suggestions = service(200).getSuggestions(1);
+
+        // Assert : les onze premiers candidats lus sont des gestionnaires, le membre 40 est lu au second tour.
+        assertThat(suggestions).extracting(FriendSuggestionDto::id).containsExactly(40);
+        verify(membreRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("rank - Ne retient que les k meilleurs candidats")
+    void rank_ShouldKeepTopK() {
+        // Arrange
+        givenNetwork();
+
+        // Act
+        List<FriendSuggestionService.Candidat> classement = service(200).rank(1, Set.of(), 2);
+
+        // Assert
+        assertThat(classement).extracting(FriendSuggestionService.Candidat::membreId).containsExactly(4, 5);
+    }
+
+    @Test
+    @DisplayName("rank - Les grands groupes ne génèrent pas de candidats mais comptent dans le score")
+    void rank_ShouldNotExpandLargeGroups() {
+        // Arrange
+        givenNetwork();
+
+        // Act : le club 10 (4 membres) dépasse la limite, l'événement 100 (2 participants) non.
+        List<FriendSuggestionService.Candidat> classement = service(3).rank(1, Set.of(), 10);
+
+        // Assert : 6 n'est relié que par le club ; 5 garde son club commun.
+        assertThat(classement).containsExactly(
+                new FriendSuggestionService.Candidat(4, 2, 0, 0),
+                new FriendSuggestionService.Candidat(5, 1, 1, 0),
+                new FriendSuggestionService.Candidat(7, 0, 1, 1));
+    }
+
+    @Test
+    @DisplayName("getSuggestions - Refuse une limite inférieure à 1")
+    void getSuggestions_ShouldRejectInvalidLimit() {
+        // Arrange
+        when(securityService.getCurrentUserIdOrThrow()).thenReturn(1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service(200).getSuggestions(0));
+        verifyNoInteractions(membreRepository);
+    }
+}
@@ -0,0 +1,73 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dto.HomepageStatsDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HomepageStatsCacheTest {
+
+    @Mock
+    private StatsService statsService;
+
+    @Test
+    @DisplayName("get - Sert l'instantané en mémoire tant qu'il respecte la borne d'ancienneté")
+    void get_ShouldServeSnapshotFromMemory_WhenFresh() {
+        // Arrange
+        HomepageStatsCache cache = new HomepageStatsCache(statsService, 60_000);
+        when(statsService.getHomepageStats()).thenReturn(new HomepageStatsDTO(3, 10, 42));
+
+        // Act
+        HomepageStatsCache.Snapshot first = cache.get();
+        HomepageStatsCache.Snapshot second = cache.get();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(second.stats().getMemberCount()).isEqualTo(42);
+        assertThat(second.etag()).isEqualTo("3-10-42");
+        verify(statsService, times(1)).getHomepageStats();
+    }
+
+    @Test
+    @DisplayName("get - Recalcule l'instantané lorsque la borne d'ancienneté est dépassée")
+    void get_ShouldRecompute_WhenSnapshotIsTooOld() {
+        // Arrange
+        HomepageStatsCache cache = new HomepageStatsCache(statsService, 0);
+        when(statsService.getHomepageStats())
+                .thenReturn(new HomepageStatsDTO(3, 10, 42))
+                .thenReturn(new HomepageStatsDTO(3, 11, 42));
+
+        // Act
+        HomepageStatsCache.Snapshot first = cache.get();
+        HomepageStatsCache.Snapshot second = cache.get();
+
+        // Assert
+        assertThat(first.etag()).isEqualTo("3-10-42");
+        assertThat(second.etag()).isEqualTo("3-11-42");
+        verify(statsService, times(2)).getHomepageStats();
+    }
+
+    @Test
+    @DisplayName("scheduledRefresh - Conserve l'instantané précédent si le rafraîchissement échoue")
+    void scheduledRefresh_ShouldKeepPreviousSnapshot_WhenRefreshFails() {
+        // Arrange
+        HomepageStatsCache cache = new HomepageStatsCache(statsService, 60_000);
+        when(statsService.getHomepageStats())
+                .thenReturn(new HomepageStatsDTO(3, 10, 42))
+                .thenThrow(new IllegalStateException("Base indisponible"));
+        cache.scheduledRefresh();
+
+        // Act
+        cache.scheduledRefresh();
+
+        // Assert
+        assertThat(cache.get().etag()).isEqualTo("3-10-42");
+        verify(statsService, times(2)).getHomepageStats();
+    }
+}
@@ -0,0 +1,179 @@
+package org.clubplus.clubplusbackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.clubplus.clubplusbackend.dao.AdhesionDao;
+import org.clubplus.clubplusbackend.dao.ClubDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.dto.MembreImportResultDto;
+import org.clubplus.clubplusbackend.dto.MembreImportResultDto.StatutLigne;
+import org.clubplus.clubplusbackend.model.Adhesion;
+import org.clubplus.clubplusbackend.model.Club;
+import org.clubplus.clubplusbackend.model.Membre;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MembreImportServiceTest {
+
+    private static final String ENTETE = "nom,prenom,date_naissance,telephone,email,password\n";
+
+    @Mock
+    private MembreDao membreRepository;
+    @Mock
+    private ClubDao clubRepository;
+    @Mock
+    private AdhesionDao adhesionRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private MonthlyAdhesionService monthlyAdhesionService;
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    private MembreImportService importService;
+    private final Integer clubId = 1;
+
+    @BeforeEach
+    void setUp() {
+        MembreImportWriter importWriter = new MembreImportWriter(membreRepository, clubRepository, adhesionRepository, jdbcTemplate,
+                monthlyAdhesionService, emailOutboxService, 50);
+        importService = new MembreImportService(membreRepository, clubRepository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), securityService,
+                importWriter, 100, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    private void givenClub() {
+        when(clubRepository.existsById(clubId)).thenReturn(true);
+    }
+
+    private void givenMembreReferences() {
+        Club club = new Club();
+        club.setId(clubId);
+        when(clubRepository.getReferenceById(clubId)).thenReturn(club);
+        when(membreRepository.getReferenceById(anyInt())).thenAnswer(invocation -> {
+            Membre membre = new Membre();
+            membre.setId(invocation.getArgument(0));
+            return membre;
+        });
+    }
+
+    private static InputStream fichier(String contenu) {
+        return new ByteArrayInputStream(contenu.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("importMembres - Crée les lignes valides et signale doublons et lignes invalides")
+    void importMembres_ShouldReportEachRow() {
+        // Arrange
+        givenClub();
+        String csv = ENTETE
+                + "Dupont,Jean,1990-05-12,0601020304,Jean.Dupont@example.com,Motdepasse1!\n"
+                + "Martin,Paul,1985-01-01,0601020305,pas-un-email,Motdepasse1!\n"
+                + "Dupont,Jeanne,1992-07-08,0601020306,jean.dupont@example.com,Motdepasse1!\n"
+                + "\"Durand, fils\",Luc,1970-02-03,0601020307,luc.durand@example.com,Motdepasse1!\n"
+                + "Curie,Marie,1967-11-07,0601020308,marie.curie@example.com,Motdepasse1!\n";
+        when(membreRepository.findExistingEmails(anyCollection())).thenReturn(List.of("luc.durand@example.com"));
+        when(passwordEncoder.encode("Motdepasse1!")).thenReturn("hash");
+        when(membreRepository.findIdAndEmailByEmailIn(anyCollection())).thenReturn(List.of(
+                new Object[]{10, "jean.dupont@example.com"},
+                new Object[]{11, "marie.curie@example.com"}));
+        givenMembreReferences();
+
+        // Act
+        MembreImportResultDto resultat = importService.importMembres(clubId, fichier(csv), MembreImportService.Format.CSV, true);
+
+        // Assert
+        assertThat(resultat.getTotal()).isEqualTo(5);
+        assertThat(resultat.getCrees()).isEqualTo(2);
+        assertThat(resultat.getDoublons()).isEqualTo(2);
+        assertThat(resultat.getInvalides()).isEqualTo(1);
+        assertThat(resultat.getLignes()).extracting(MembreImportResultDto.LigneResultat::getStatut).containsExactly(
+                StatutLigne.CREE, StatutLigne.INVALIDE, StatutLigne.DOUBLON, StatutLigne.DOUBLON, StatutLigne.CREE);
+        assertThat(resultat.getLignes().get(0).getMembreId()).isEqualTo(10);
+        assertThat(resultat.getLignes().get(2).getMessage()).contains("ligne 2");
+
+        verify(securityService).checkIsActualAdminOfClubOrThrow(clubId);
+        verify(membreRepository, times(1)).findExistingEmails(anyCollection());
+        verify(passwordEncoder, times(2)).encode("Motdepasse1!");
+        ArgumentCaptor<List<Membre>> inseres = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO membre"), inseres.capture(), eq(50), any());
+        assertThat(inseres.getValue()).extracting(Membre::getPassword).containsOnly("hash");
+        ArgumentCaptor<List<Adhesion>> adhesions = ArgumentCaptor.forClass(List.class);
+        verify(adhesionRepository).saveAll(adhesions.capture());
+        assertThat(adhesions.getValue()).extracting(adhesion -> adhesion.getMembre().getId()).containsExactly(10, 11);
+        verify(monthlyAdhesionService).recordAdhesions(eq(clubId), any(YearMonth.class), eq(2L));
+        verify(emailOutboxService).enqueueVerificationEmails(argThat(membres -> membres.size() == 2));
+    }
+
+    @Test
+    @DisplayName("importMembres - Lit un fichier JSON lines")
+    void importMembres_ShouldReadJsonLines() {
+        // Arrange
+        givenClub();
+        String jsonl = "{\"nom\":\"Dupont\",\"prenom\":\"Jean\",\"date_naissance\":\"1990-05-12\","
+                + "\"telephone\":\"0601020304\",\"email\":\"jean.dupont@example.com\",\"password\":\"Motdepasse1!\"}\n"
+                + "{pas du json}\n";
+        when(membreRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode("Motdepasse1!")).thenReturn("hash");
+        when(membreRepository.findIdAndEmailByEmailIn(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{10, "jean.dupont@example.com"}));
+        givenMembreReferences();
+
+        // Act
+        MembreImportResultDto resultat = importService.importMembres(clubId, fichier(jsonl), MembreImportService.Format.JSONL, false);
+
+        // Assert
+        assertThat(resultat.getCrees()).isEqualTo(1);
+        assertThat(resultat.getInvalides()).isEqualTo(1);
+        assertThat(resultat.getLignes().get(1).getMessage()).startsWith("JSON invalide");
+        verifyNoInteractions(emailOutboxService);
+    }
+
+    @Test
+    @DisplayName("importMembres - Doit lancer IllegalArgumentException si une colonne manque dans l'en-tête")
+    void importMembres_ShouldThrowIllegalArgumentException_WhenColumnIsMissing() {
+        givenClub();
+        String csv = "nom,prenom,email\nDupont,Jean,jean.dupont@example.com\n";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.importMembres(clubId, fichier(csv), MembreImportService.Format.CSV, true));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("parseCsvLine - Gère les champs entre guillemets et les guillemets échappés")
+    void parseCsvLine_ShouldHandleQuotedFields() {
+        assertThat(MembreImportService.parseCsvLine("a;\"b;c\";\"d \"\"e\"\"\";", ';'))
+                .containsExactly("a", "b;c", "d \"e\"", "");
+    }
+}
@@ -10,6 +10,7 @@ import org.clubplus.clubplusbackend.model.Club;
 import org.clubplus.clubplusbackend.model.Membre;
 import org.clubplus.clubplusbackend.model.Role;
 import org.clubplus.clubplusbackend.security.SecurityService;
+import org.clubplus.clubplusbackend.security.SecurityVersionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,9 +49,17 @@ class MembreServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
-    private EmailService emailService; // Supposons que ce service existe et est utilisé.
+    private EmailOutboxService emailOutboxService;
     @Mock
     private SecurityService securityService;
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+    @Mock
+    private MonthlyAdhesionService monthlyAdhesionService;
+    @Mock
+    private FriendGraph friendGraph;
+    @Mock
+    private MemberAffinityIndex memberAffinityIndex;
 
     // Injecte les mocks ci-dessus dans une instance réelle de MembreService.
     @InjectMocks
@@ -267,6 +276,8 @@ class MembreServiceTest {
 
         assertEquals("NouveauNom", updatedMembre.getNom(), "Le nom devrait être mis à jour.");
         assertEquals("nouveau@example.com", updatedMembre.getEmail(), "L'email devrait être mis à jour.");
+        assertEquals(1, updatedMembre.getSecurityVersion(), "Le changement d'email devrait invalider les tokens émis.");
+        verify(securityVersionRegistry).record(membreTest.getId(), 1);
         verify(membreRepository, times(1)).save(membreTest); // Vérifie que save a été appelé une fois.
     }
 
@@ -319,7 +330,10 @@ class MembreServiceTest {
         // La logique exacte d'anonymisation dépend de votre implémentation dans MembreService.
         assertTrue(membreTest.getEmail().startsWith("anonymized_") || membreTest.getEmail().contains("@deleted.user"),
                 "L'email devrait être anonymisé.");
+        verify(securityVersionRegistry).record(1, membreTest.getSecurityVersion());
         verify(membreRepository, times(1)).save(membreTest);
+        verify(friendGraph).removeMember(1);
+        verify(memberAffinityIndex).removeMember(1);
     }
 
     /**
@@ -0,0 +1,156 @@
+package org.clubplus.clubplusbackend.service;
+
+import org.clubplus.clubplusbackend.dao.CategorieDao;
+import org.clubplus.clubplusbackend.dao.EventDao;
+import org.clubplus.clubplusbackend.dao.MembreDao;
+import org.clubplus.clubplusbackend.dao.ReservationDao;
+import org.clubplus.clubplusbackend.dto.ReservationTicketDto.StatutTicket;
+import org.clubplus.clubplusbackend.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationDropWriterTest {
+
+    @Mock
+    private CategorieDao categorieRepository;
+    @Mock
+    private EventDao eventRepository;
+    @Mock
+    private ReservationDao reservationRepository;
+    @Mock
+    private MembreDao membreRepository;
+    @Mock
+    private EventParticipationService eventParticipationService;
+
+    @InjectMocks
+    private ReservationDropWriter dropWriter;
+
+    private Event event;
+    private Categorie categorie;
+
+    @BeforeEach
+    void setUp() {
+        Club club = new Club();
+        club.setId(1);
+
+        event = new Event();
+        event.setId(1000);
+        event.setActif(true);
+        event.setDropMode(true);
+        event.setStartTime(Instant.now().plus(10, ChronoUnit.DAYS));
+        event.setOrganisateur(club);
+
+        categorie = new Categorie();
+        categorie.setId(500);
+        categorie.setCapacite(2);
+        categorie.setEvent(event);
+    }
+
+    private Membre membre(int id) {
+        Membre membre = new Membre();
+        membre.setId(id);
+        return membre;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("decide - Accepte les demandes dans l'ordre d'arrivée jusqu'à la capacité")
+    void decide_ShouldAcceptInFifoOrderUpToCapacity() {
+        // Arrange
+        List<ReservationTicket> batch = List.of(
+                new ReservationTicket(1, event.getId(), categorie.getId()),
+                new ReservationTicket(2, event.getId(), categorie.getId()),
+                new ReservationTicket(3, event.getId(), categorie.getId()));
+        when(categorieRepository.findById(categorie.getId())).thenReturn(Optional.of(categorie));
+        when(reservationRepository.countByEventIdAndMembreIdsGroupByMembre(eq(event.getId()), anyCollection(), eq(ReservationStatus.CONFIRME)))
+                .thenReturn(Collections.emptyList());
+        when(categorieRepository.reservePlaces(categorie.getId(), 2)).thenReturn(1);
+        when(membreRepository.getReferenceById(anyInt())).thenAnswer(invocation -> membre(invocation.getArgument(0)));
+
+        // Act
+        dropWriter.decide(categorie.getId(), batch).forEach(ReservationDropWriter.Decision::publish);
+
+        // Assert
+        assertThat(batch.get(0).toDto().getStatut()).isEqualTo(StatutTicket.ACCEPTEE);
+        assertThat(batch.get(1).toDto().getStatut()).isEqualTo(StatutTicket.ACCEPTEE);
+        assertThat(batch.get(2).toDto().getStatut()).isEqualTo(StatutTicket.REFUSEE);
+        assertThat(batch.get(2).toDto().getMessage()).contains("Capacité maximale atteinte");
+        ArgumentCaptor<List<Reservation>> saved = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(2);
+        verify(eventRepository, times(1)).addPlacesReservees(event.getId(), 2);
+        verify(eventParticipationService, times(1)).recordReservations(event.getId(), Map.of(1, 1L, 2, 1L));
+    }
+
+    @Test
+    @DisplayName("decide - Refuse la demande d'un membre ayant atteint la limite de réservations")
+    void decide_ShouldRejectMemberOverLimit() {
+        // Arrange
+        List<ReservationTicket> batch = List.of(new ReservationTicket(1, event.getId(), categorie.getId()));
+        when(categorieRepository.findById(categorie.getId())).thenReturn(Optional.of(categorie));
+        when(reservationRepository.countByEventIdAndMembreIdsGroupByMembre(eq(event.getId()), anyCollection(), eq(ReservationStatus.CONFIRME)))
+                .thenReturn(List.<Object[]>of(new Object[]{1, 2L}));
+
+        // Act
+        dropWriter.decide(categorie.getId(), batch).forEach(ReservationDropWriter.Decision::publish);
+
+        // Assert
+        assertThat(batch.get(0).toDto().getStatut()).isEqualTo(StatutTicket.REFUSEE);
+        assertThat(batch.get(0).toDto().getMessage()).contains("Limite de 2 réservations");
+        verify(categorieRepository, never()).reservePlaces(anyInt(), anyInt());
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("decide - Refuse tout le lot si l'événement est annulé")
+    void decide_ShouldRejectWholeBatch_WhenEventIsCancelled() {
+        // Arrange
+        event.setActif(false);
+        List<ReservationTicket> batch = List.of(
+                new ReservationTicket(1, event.getId(), categorie.getId()),
+                new ReservationTicket(2, event.getId(), categorie.getId()));
+        when(categorieRepository.findById(categorie.getId())).thenReturn(Optional.of(categorie));
+
+        // Act
+        dropWriter.decide(categorie.getId(), batch).forEach(ReservationDropWriter.Decision::publish);
+
+        // Assert
+        assertThat(batch).allSatisfy(ticket -> assertThat(ticket.toDto().getStatut()).isEqualTo(StatutTicket.REFUSEE));
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("decide - Refuse tout le lot si le mode drop a été désactivé entre-temps")
+    void decide_ShouldRejectWholeBatch_WhenDropModeWasDisabled() {
+        // Arrange
+        event.setDropMode(false);
+        List<ReservationTicket> batch = List.of(new ReservationTicket(1, event.getId(), categorie.getId()));
+        when(categorieRepository.findById(categorie.getId())).thenReturn(Optional.of(categorie));
+
+        // Act
+        dropWriter.decide(categorie.getId(), batch).forEach(ReservationDropWriter.Decision::publish);
+
+        // Assert
+        assertThat(batch).allSatisfy(ticket -> assertThat(ticket.toDto().getStatut()).isEqualTo(StatutTicket.REFUSEE));
+        verify(categorieRepository, never()).reservePlaces(anyInt(), anyInt());
+        verify(reservationRepository, never()).saveAll(any());
+    }
+}
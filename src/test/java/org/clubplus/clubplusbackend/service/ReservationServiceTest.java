@@ -2,6 +2,7 @@ package org.clubplus.clubplusbackend.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.clubplus.clubplusbackend.dao.CategorieDao;
+import org.clubplus.clubplusbackend.dao.EventDao;
 import org.clubplus.clubplusbackend.dao.MembreDao;
 import org.clubplus.clubplusbackend.dao.ReservationDao;
 import org.clubplus.clubplusbackend.model.*;
@@ -31,9 +32,15 @@ class ReservationServiceTest {
     @Mock
     private MembreDao membreRepository;
     @Mock
+    private EventDao eventRepository;
+    @Mock
     private CategorieDao categorieRepository;
     @Mock
     private SecurityService securityService;
+    @Mock
+    private EventParticipationService eventParticipationService;
+    @Mock
+    private MemberAffinityIndex memberAffinityIndex;
 
     @InjectMocks
     private ReservationService reservationService;
@@ -74,6 +81,7 @@ class ReservationServiceTest {
         when(mockCategorie.getEvent()).thenReturn(event);
         when(mockCategorie.getPlaceDisponible()).thenReturn(10); // Il y a de la place
         when(categorieRepository.findById(categorie.getId())).thenReturn(Optional.of(mockCategorie));
+        when(categorieRepository.reservePlace(categorie.getId())).thenReturn(1); // La prise de place atomique réussit
 
 
         when(reservationRepository.countByMembreIdAndEventIdAndStatus(membre.getId(), event.getId(), ReservationStatus.CONFIRME)).thenReturn(0L);
@@ -92,6 +100,31 @@ class ReservationServiceTest {
         assertThat(result.getStatus()).isEqualTo(ReservationStatus.CONFIRME);
         assertThat(result.getMembre()).isEqualTo(membre);
         verify(reservationRepository, times(1)).save(any(Reservation.class));
+        verify(eventRepository, times(1)).addPlacesReservees(event.getId(), 1);
+        verify(eventParticipationService, times(1)).recordReservation(event.getId(), membre.getId());
+    }
+
+    @Test
+    @DisplayName("createMyReservation - Doit lancer IllegalStateException si la dernière place est prise en concurrence")
+    void createMyReservation_ShouldThrowIllegalStateException_WhenAtomicSeatUpdateFails() {
+        // Arrange
+        when(securityService.getCurrentUserIdOrThrow()).thenReturn(membre.getId());
+        when(membreRepository.findById(membre.getId())).thenReturn(Optional.of(membre));
+        when(reservationRepository.countByMembreIdAndEventIdAndStatus(anyInt(), anyInt(), any())).thenReturn(0L);
+
+        Categorie mockCategorie = mock(Categorie.class);
+        when(mockCategorie.getEvent()).thenReturn(event);
+        when(mockCategorie.getPlaceDisponible()).thenReturn(1); // Le pré-contrôle voit encore une place
+        when(categorieRepository.findById(categorie.getId())).thenReturn(Optional.of(mockCategorie));
+        when(categorieRepository.reservePlace(categorie.getId())).thenReturn(0); // Mais une autre réservation l'a prise
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            reservationService.createMyReservation(event.getId(), categorie.getId());
+        });
+
+        assertThat(exception.getMessage()).contains("Capacité maximale atteinte");
+        verify(reservationRepository, never()).save(any());
     }
 
     @Test
@@ -186,6 +219,7 @@ class ReservationServiceTest {
 
         when(reservationRepository.findById(1)).thenReturn(Optional.of(reservation));
         doNothing().when(securityService).checkIsOwnerOrManagerOfAssociatedClubOrThrow(reservation);
+        when(categorieRepository.releasePlace(categorie.getId())).thenReturn(1);
 
         // Act
         reservationService.cancelReservationById(1);
@@ -193,6 +227,9 @@ class ReservationServiceTest {
         // Assert
         assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.ANNULE);
         verify(reservationRepository, times(1)).save(reservation);
+        verify(categorieRepository, times(1)).releasePlace(categorie.getId());
+        verify(eventRepository, times(1)).addPlacesReservees(event.getId(), -1);
+        verify(eventParticipationService, times(1)).removeReservation(event.getId(), membre.getId());
     }
 
     @Test
@@ -0,0 +1,157 @@
+package org.clubplus.clubplusbackend.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.clubplus.clubplusbackend.dao.*;
+import org.clubplus.clubplusbackend.dto.DashboardSummaryDto;
+import org.clubplus.clubplusbackend.model.ClubMonthlyAdhesion;
+import org.clubplus.clubplusbackend.model.ClubRatingRollup;
+import org.clubplus.clubplusbackend.model.ReservationStatus;
+import org.clubplus.clubplusbackend.security.SecurityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsServiceTest {
+
+    @Mock
+    private EventDao eventRepository;
+    @Mock
+    private ReservationDao reservationRepository;
+    @Mock
+    private MembreDao membreRepository;
+    @Mock
+    private ClubRatingRollupDao clubRatingRollupRepository;
+    @Mock
+    private ClubDao clubRepository;
+    @Mock
+    private AdhesionDao adhesionRepository;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private ClubMonthlyAdhesionDao clubMonthlyAdhesionRepository;
+
+    private StatsService statsService;
+
+    private final Integer clubId = 1;
+
+    @BeforeEach
+    void setUp() {
+        DashboardSectionRunner runner = new DashboardSectionRunner(2, 10, 5000);
+        statsService = new StatsService(eventRepository, reservationRepository, membreRepository,
+                clubRatingRollupRepository, clubRepository, adhesionRepository, securityService, runner,
+                new MonthlyAdhesionService(clubMonthlyAdhesionRepository));
+    }
+
+    @Test
+    @DisplayName("getDashboardSummary - Vérifie les droits une seule fois et renvoie les durées par section")
+    void getDashboardSummary_ShouldCheckOnceAndReportSectionTimings() {
+        // Arrange
+        when(clubRepository.existsById(clubId)).thenReturn(true);
+        when(eventRepository.countActiveAndActiveBetweenByOrganisateurId(eq(clubId), any(Instant.class), any(Instant.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 2L}));
+        when(eventRepository.findEventStatsForOccupancy(eq(clubId), anyList()))
+                .thenReturn(List.<Object[]>of(new Object[]{10, 5L, 10L}));
+        when(adhesionRepository.countActiveMembersByClubId(clubId)).thenReturn(12L);
+        when(reservationRepository.countByStatusAndEventOrganisateurId(ReservationStatus.UTILISE, clubId)).thenReturn(30L);
+        when(clubRatingRollupRepository.findById(clubId)).thenReturn(Optional.empty());
+
+        // Act
+        DashboardSummaryDto summary = statsService.getDashboardSummary(clubId);
+
+        // Assert
+        assertThat(summary.getTotalEvents()).isEqualTo(7L);
+        assertThat(summary.getUpcomingEventsCount30d()).isEqualTo(2L);
+        assertThat(summary.getAverageEventOccupancyRate()).isEqualTo(50.0);
+        assertThat(summary.getTotalActiveMembers()).isEqualTo(12L);
+        assertThat(summary.getTotalParticipations()).isEqualTo(30L);
+        assertThat(summary.getMonthlyRegistrations()).hasSize(12);
+        assertThat(summary.getAverageEventRatings()).containsEntry("moyenneGenerale", 0.0);
+        assertThat(summary.getMetadata().getSectionsMs())
+                .containsOnlyKeys("evenements", "occupation", "membres", "participations", "adhesionsMensuelles", "notes");
+
+        verify(securityService, times(1)).checkManagerOfClubOrThrow(clubId);
+        verify(clubRepository, times(1)).existsById(clubId);
+    }
+
+    @Test
+    @DisplayName("getClubAverageEventRatings - Calcule les moyennes à partir de l'agrégat du club")
+    void getClubAverageEventRatings_ShouldReadClubRollup() {
+        // Arrange
+        ClubRatingRollup rollup = new ClubRatingRollup(clubId);
+        rollup.setSommeAmbiance(16);
+        rollup.setSommeProprete(14);
+        rollup.setSommeOrganisation(20);
+        rollup.setSommeFairPlay(17);
+        rollup.setSommeNiveauJoueurs(8);
+        rollup.setNombreNotations(4);
+        when(clubRepository.existsById(clubId)).thenReturn(true);
+        when(clubRatingRollupRepository.findById(clubId)).thenReturn(Optional.of(rollup));
+
+        // Act
+        Map<String, Double> ratings = statsService.getClubAverageEventRatings(clubId);
+
+        // Assert
+        assertThat(ratings)
+                .containsEntry("ambiance", 4.0)
+                .containsEntry("proprete", 3.5)
+                .containsEntry("organisation", 5.0)
+                .containsEntry("fairPlay", 4.3)
+                .containsEntry("niveauJoueurs", 2.0)
+                .containsEntry("moyenneGenerale", 3.8);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("getClubMonthlyRegistrations - Renvoie chaque mois de l'intervalle à partir des compteurs mensuels")
+    void getClubMonthlyRegistrations_ShouldFillRangeFromMonthlyBuckets() {
+        // Arrange
+        YearMonth debut = YearMonth.of(2025, 11);
+        YearMonth fin = YearMonth.of(2026, 2);
+        when(clubRepository.existsById(clubId)).thenReturn(true);
+        when(clubMonthlyAdhesionRepository.findByClubIdAndRange(clubId, 202511, 202602))
+                .thenReturn(List.of(new ClubMonthlyAdhesion(clubId, YearMonth.of(2025, 12), 4)));
+
+        // Act
+        List<Map<String, Object>> registrations = statsService.getClubMonthlyRegistrations(clubId, debut, fin);
+
+        // Assert
+        assertThat(registrations).extracting(m -> m.get("monthYear"))
+                .containsExactly("2025-11", "2025-12", "2026-01", "2026-02");
+        assertThat(registrations).extracting(m -> m.get("count"))
+                .containsExactly(0L, 4L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("getClubMonthlyRegistrations - Doit lancer IllegalArgumentException si l'intervalle est inversé")
+    void getClubMonthlyRegistrations_ShouldThrowIllegalArgumentException_WhenRangeIsInverted() {
+        assertThrows(IllegalArgumentException.class,
+                () -> statsService.getClubMonthlyRegistrations(clubId, YearMonth.of(2026, 3), YearMonth.of(2026, 1)));
+        verifyNoInteractions(clubMonthlyAdhesionRepository);
+    }
+
+    @Test
+    @DisplayName("getDashboardSummary - Doit lancer EntityNotFoundException si le club n'existe pas")
+    void getDashboardSummary_ShouldThrowEntityNotFoundException_WhenClubDoesNotExist() {
+        // Arrange
+        when(clubRepository.existsById(clubId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> statsService.getDashboardSummary(clubId));
+        verifyNoInteractions(eventRepository, adhesionRepository, reservationRepository);
+    }
+}